@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator.predicate;
+
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.expression.DSL.count;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.planner.physical.AggregationOperator;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+
+/**
+ * Measures the rows per second of the v2 {@link AggregationOperator} for a count grouped by a long
+ * key, with an increasing number of distinct keys.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class AggregationOperatorBenchmark {
+
+  private static final int ROW_COUNT = 1_000_000;
+
+  @Param({"1000", "100000", "1000000"})
+  private int distinctKeys;
+
+  private List<ExprValue> rows;
+
+  @Setup
+  public void setUp() {
+    rows = new ArrayList<>(ROW_COUNT);
+    for (int i = 0; i < ROW_COUNT; i++) {
+      // Multiplying by a prime spreads the keys instead of feeding them in order
+      long key = (i * 7919L) % distinctKeys;
+      rows.add(ExprValueUtils.tupleValue(Map.of("key", key, "value", (long) i)));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROW_COUNT)
+  public int countByKey() {
+    AggregationOperator aggregation =
+        new AggregationOperator(
+            new ListScan(rows),
+            List.of(named("count", count(ref("value", LONG)))),
+            List.of(named("key", ref("key", LONG))));
+    aggregation.open();
+    int buckets = 0;
+    while (aggregation.hasNext()) {
+      aggregation.next();
+      buckets++;
+    }
+    aggregation.close();
+    return buckets;
+  }
+
+  /** Scan over rows in memory. */
+  private static class ListScan extends PhysicalPlan {
+    private final List<ExprValue> rows;
+    private Iterator<ExprValue> iterator;
+
+    ListScan(List<ExprValue> rows) {
+      this.rows = rows;
+    }
+
+    @Override
+    public void open() {
+      iterator = rows.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    @Override
+    public ExprValue next() {
+      return iterator.next();
+    }
+
+    @Override
+    public List<PhysicalPlan> getChild() {
+      return List.of();
+    }
+
+    @Override
+    public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
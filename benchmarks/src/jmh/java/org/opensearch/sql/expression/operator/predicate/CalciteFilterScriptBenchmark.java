@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator.predicate;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.function.Function1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.search.lookup.SourceLookup;
+import org.opensearch.sql.opensearch.storage.script.CalciteScriptEngine.ScriptDataContext;
+import org.opensearch.sql.opensearch.storage.script.core.CalciteScript;
+
+/**
+ * Measures the per document overhead of evaluating a pushed down Calcite filter script: creating
+ * the data context and the privileged action for every document versus once per leaf.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class CalciteFilterScriptBenchmark {
+
+  private static final int DOC_COUNT = 100_000;
+
+  /** Same shape as the code generated for `age > 30`. */
+  private static final Function1<DataContext, Object[]> FUNCTION =
+      root -> {
+        Object age = root.get("age");
+        return new Object[] {age == null ? null : (Long) age > 30L};
+      };
+
+  private final LongDocValues ageDocValues = new LongDocValues();
+
+  private final Map<String, ScriptDocValues<?>> docProvider = Map.of("age", ageDocValues);
+
+  private final SourceLookup sourceLookup = new SourceLookup();
+
+  private final Map<String, Object> params = Map.of();
+
+  private CalciteScript script;
+
+  @Setup
+  public void setUp() {
+    script = new CalciteScript(FUNCTION, params, docProvider, sourceLookup);
+  }
+
+  @Benchmark
+  public void dataContextPerDocument(Blackhole blackhole) {
+    for (int doc = 0; doc < DOC_COUNT; doc++) {
+      ageDocValues.setNextDocId(doc);
+      Object[] values =
+          AccessController.doPrivileged(
+              (PrivilegedAction<Object[]>)
+                  () -> FUNCTION.apply(new ScriptDataContext(docProvider, sourceLookup, params)));
+      Object result = values[0];
+      blackhole.consume(result != null && (boolean) result);
+    }
+  }
+
+  @Benchmark
+  public void dataContextPerLeaf(Blackhole blackhole) {
+    for (int doc = 0; doc < DOC_COUNT; doc++) {
+      ageDocValues.setNextDocId(doc);
+      script.clearCache();
+      blackhole.consume(script.test());
+    }
+  }
+
+  /** Doc values holding the doc id as the single value of each document. */
+  private static class LongDocValues extends ScriptDocValues<Long> {
+    private long value;
+
+    @Override
+    public void setNextDocId(int docId) {
+      value = docId % 60;
+    }
+
+    @Override
+    public Long get(int index) {
+      return value;
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator.predicate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.utils.RefPathAccessor;
+
+/**
+ * Measures converting index scan hits to Calcite rows, as done by OpenSearchIndexEnumerator, on
+ * documents of different width. Half of the fields are nested one level under an object.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class IndexScanFieldAccessBenchmark {
+
+  private static final int DOC_COUNT = 1000;
+
+  @Param({"10", "100", "500"})
+  private int width;
+
+  private List<ExprValue> docs;
+
+  private List<String> fields;
+
+  private RefPathAccessor[] accessors;
+
+  @Setup
+  public void setUp() {
+    fields = new ArrayList<>(width);
+    for (int i = 0; i < width; i++) {
+      fields.add(i % 2 == 0 ? "field" + i : "object" + i + ".value");
+    }
+    accessors = fields.stream().map(RefPathAccessor::of).toArray(RefPathAccessor[]::new);
+    docs = new ArrayList<>(DOC_COUNT);
+    for (int doc = 0; doc < DOC_COUNT; doc++) {
+      Map<String, Object> source = new LinkedHashMap<>();
+      for (int i = 0; i < width; i++) {
+        if (i % 2 == 0) {
+          source.put("field" + i, "value" + doc);
+        } else {
+          source.put("object" + i, Map.of("value", (long) doc * i));
+        }
+      }
+      docs.add(ExprValueUtils.tupleValue(source));
+    }
+  }
+
+  @Benchmark
+  public void splitPathPerRow(Blackhole blackhole) {
+    for (ExprValue doc : docs) {
+      blackhole.consume(
+          fields.stream()
+              .map(
+                  field ->
+                      ExprValueUtils.resolveRefPaths(doc, List.of(field.split("\\.")))
+                          .valueForCalcite())
+              .toArray());
+    }
+  }
+
+  @Benchmark
+  public void precompiledAccessors(Blackhole blackhole) {
+    for (ExprValue doc : docs) {
+      Object[] row = new Object[accessors.length];
+      for (int i = 0; i < accessors.length; i++) {
+        row[i] = accessors[i].resolve(doc).valueForCalcite();
+      }
+      blackhole.consume(row);
+    }
+  }
+}
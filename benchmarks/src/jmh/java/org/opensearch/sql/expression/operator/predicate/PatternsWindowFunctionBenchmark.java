@@ -12,6 +12,9 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -20,6 +23,7 @@ import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.opensearch.sql.common.patterns.BrainLogParser;
@@ -56,13 +60,31 @@ public class PatternsWindowFunctionBenchmark {
           + " \\\"-\\\" \\\"Mozilla/5.0 (X11; Linux i686) AppleWebKit/534.24 (KHTML, like Gecko)"
           + " Chrome/11.0.696.50 Safari/534.24\\\"";
 
+  private static final int LOG_COUNT = 100_000;
+
   private PeekingIterator<ExprValue> tuples;
+  private List<String> logMessages;
   private final BufferPatternRowsWindowFrame bufferWindowFrame =
       new BufferPatternRowsWindowFrame(
           new WindowDefinition(ImmutableList.of(), ImmutableList.of()),
           new BrainLogParser(),
           new NamedArgumentExpression("message", new ReferenceExpression("message", STRING)));
 
+  @Setup
+  public void setUp() {
+    String[] templates = {
+      "PacketResponder %d for block blk_%d terminating",
+      "Received block blk_%d of size %d from /10.250.%d.7",
+      "Verification succeeded for blk_%d on attempt %d",
+      "BLOCK* NameSystem.addStoredBlock: blockMap updated: 10.251.%d.85:50010 is added to blk_%d"
+    };
+    logMessages = new ArrayList<>(LOG_COUNT);
+    for (int i = 0; i < LOG_COUNT; i++) {
+      logMessages.add(
+          String.format(Locale.ROOT, templates[i % templates.length], i % 7, i * 31L, i % 251));
+    }
+  }
+
   @Benchmark
   public void testSimplePattern() {
     CurrentRowWindowFrame windowFrame =
@@ -84,6 +106,11 @@ public class PatternsWindowFunctionBenchmark {
     run(windowFrame, DSL.brain(DSL.ref("message", STRING)));
   }
 
+  @Benchmark
+  public Object testBrainParseAllLogPatterns() {
+    return new BrainLogParser().parseAllLogPatterns(logMessages, 10);
+  }
+
   private void run(WindowFrame windowFrame, Expression windowFunction) {
     tuples =
         Iterators.peekingIterator(
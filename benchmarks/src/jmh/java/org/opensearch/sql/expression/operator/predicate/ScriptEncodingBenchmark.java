@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator.predicate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.volcano.VolcanoPlanner;
+import org.apache.calcite.rel.externalize.RelJson;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rel.type.StructKind;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.JsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.calcite.utils.OpenSearchTypeFactory;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.PPLFuncImpTable;
+import org.opensearch.sql.opensearch.storage.serde.ExtendedRelJson;
+import org.opensearch.sql.opensearch.storage.serde.RelJsonSerializer;
+
+/**
+ * Compares the binary script format of {@link RelJsonSerializer} with the legacy format, which Java
+ * serializes the whole envelope, on a disjunction of {@code upper(field) != literal} over a number
+ * of fields.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class ScriptEncodingBenchmark {
+
+  @Param({"1", "10", "50"})
+  private int fieldCount;
+
+  private RelJsonSerializer serializer;
+
+  private RelDataType rowType;
+
+  private RexNode rexNode;
+
+  private Map<String, ExprType> fieldTypes;
+
+  private String binaryScript;
+
+  private String legacyScript;
+
+  @Setup
+  public void setUp() throws IOException {
+    RexBuilder rexBuilder = new RexBuilder(OpenSearchTypeFactory.TYPE_FACTORY);
+    RelOptCluster cluster = RelOptCluster.create(new VolcanoPlanner(), rexBuilder);
+    serializer = new RelJsonSerializer(cluster);
+    RelJsonSerializer.setCompactFormat(true);
+
+    RelDataTypeFactory.Builder rowTypeBuilder =
+        rexBuilder.getTypeFactory().builder().kind(StructKind.FULLY_QUALIFIED);
+    for (int i = 0; i < fieldCount; i++) {
+      rowTypeBuilder.add(
+          "field" + i, rexBuilder.getTypeFactory().createSqlType(SqlTypeName.VARCHAR));
+    }
+    rowType = rowTypeBuilder.build();
+
+    List<RexNode> predicates = new ArrayList<>();
+    for (int i = 0; i < fieldCount; i++) {
+      RexNode rexUpper =
+          PPLFuncImpTable.INSTANCE.resolve(
+              rexBuilder,
+              BuiltinFunctionName.UPPER,
+              rexBuilder.makeInputRef(rowType.getFieldList().get(i).getType(), i));
+      predicates.add(
+          rexBuilder.makeCall(
+              SqlStdOperatorTable.NOT_EQUALS, rexUpper, rexBuilder.makeLiteral("ABOUT" + i)));
+    }
+    rexNode =
+        predicates.size() == 1
+            ? predicates.get(0)
+            : rexBuilder.makeCall(SqlStdOperatorTable.OR, predicates);
+    fieldTypes = new HashMap<>();
+    for (int i = 0; i < fieldCount; i++) {
+      fieldTypes.put("field" + i, ExprCoreType.STRING);
+    }
+
+    binaryScript = serializer.serialize(rexNode, rowType, fieldTypes);
+    legacyScript = legacySerialize();
+  }
+
+  @Benchmark
+  public String serializeBinary() {
+    return serializer.serialize(rexNode, rowType, fieldTypes);
+  }
+
+  @Benchmark
+  public String serializeLegacy() throws IOException {
+    return legacySerialize();
+  }
+
+  @Benchmark
+  public Map<String, Object> deserializeBinary() {
+    return serializer.deserialize(binaryScript);
+  }
+
+  @Benchmark
+  public Map<String, Object> deserializeLegacy() {
+    return serializer.deserialize(legacyScript);
+  }
+
+  /** Encoding of the legacy format, which the serializer still decodes. */
+  private String legacySerialize() throws IOException {
+    JsonBuilder jsonBuilder = new JsonBuilder();
+    RelJson relJson = ExtendedRelJson.create(jsonBuilder);
+    Map<String, Object> envelope =
+        Map.of(
+            RelJsonSerializer.EXPR,
+            jsonBuilder.toJsonString(relJson.toJson(rexNode)),
+            RelJsonSerializer.FIELD_TYPES,
+            new HashMap<>(fieldTypes),
+            RelJsonSerializer.ROW_TYPE,
+            jsonBuilder.toJsonString(relJson.toJson(rowType)));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+      objectOutput.writeObject(envelope);
+    }
+    return Base64.getEncoder().encodeToString(output.toByteArray());
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator.predicate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.utils.SourceProjection;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+
+/**
+ * Measures decoding the _source of a wide nested log document into an {@link ExprValue}, either
+ * the whole document or only a few projected fields of it.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class SourceDecodeBenchmark {
+
+  /** Number of objects in the document, each with a few nested fields. */
+  @Param({"10", "100"})
+  private int objectCount;
+
+  private OpenSearchExprValueFactory factory;
+
+  private String source;
+
+  private SourceProjection projection;
+
+  @Setup
+  public void setUp() {
+    Map<String, OpenSearchDataType> mapping = new HashMap<>();
+    StringBuilder json = new StringBuilder("{\"@timestamp\":\"2024-01-01 00:00:00\"");
+    mapping.put("@timestamp", OpenSearchDataType.of(ExprCoreType.STRING));
+    for (int i = 0; i < objectCount; i++) {
+      String name = "attr" + i;
+      mapping.put(name, OpenSearchDataType.of(ExprCoreType.STRUCT));
+      mapping.put(name + ".id", OpenSearchDataType.of(ExprCoreType.LONG));
+      mapping.put(name + ".message", OpenSearchDataType.of(ExprCoreType.STRING));
+      mapping.put(name + ".detail", OpenSearchDataType.of(ExprCoreType.STRUCT));
+      mapping.put(name + ".detail.code", OpenSearchDataType.of(ExprCoreType.INTEGER));
+      mapping.put(name + ".detail.host", OpenSearchDataType.of(ExprCoreType.STRING));
+      json.append(",\"")
+          .append(name)
+          .append("\":{\"id\":")
+          .append(i)
+          .append(",\"message\":\"GET /index.html HTTP/1.1\"")
+          .append(",\"detail\":{\"code\":200,\"host\":\"host-")
+          .append(i)
+          .append("\"}}");
+    }
+    source = json.append('}').toString();
+    factory = new OpenSearchExprValueFactory(mapping, false);
+
+    List<String> includes = new ArrayList<>();
+    includes.add("@timestamp");
+    includes.add("attr0.detail.code");
+    includes.add("attr" + (objectCount - 1) + ".message");
+    projection = SourceProjection.of(includes);
+  }
+
+  @Benchmark
+  public ExprValue decodeAllFields() {
+    return factory.construct(source, false);
+  }
+
+  @Benchmark
+  public ExprValue decodeProjectedFields() {
+    return factory.construct(source, false, projection);
+  }
+}
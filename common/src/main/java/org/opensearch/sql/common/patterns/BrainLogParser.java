@@ -5,9 +5,9 @@
 
 package org.opensearch.sql.common.patterns;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -15,11 +15,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.OptionalLong;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import lombok.Getter;
 
 /** Log parser Brain algorithm implementation. See: https://ieeexplore.ieee.org/document/10109145 */
@@ -69,26 +67,30 @@ public class BrainLogParser {
    */
   public static final float DEFAULT_FREQUENCY_THRESHOLD_PERCENTAGE = 0.3f;
 
-  /**
-   * -- GETTER -- Get token histogram
-   *
-   * @return map of token per position key and its frequency
+  /*
+   * Tokens are interned into a dictionary once, so that the histograms below are keyed by the
+   * token position and id packed into a long instead of by formatted strings.
    */
-  @Getter private final Map<String, Long> tokenFreqMap;
+  private final Map<String, Integer> tokenIds;
+  private final List<String> tokenDictionary;
 
-  /**
-   * -- GETTER -- Get group per length per position to its token set map
-   *
-   * @return map of pattern group per length per position key and its token set
-   */
-  @Getter private final Map<String, Set<String>> groupTokenSetMap;
+  // Frequency per token position and token id
+  private final LongLongHashMap tokenFrequencies;
 
-  /**
-   * -- GETTER -- Get logId to its group candidate map
-   *
-   * @return map of logId and group candidate
-   */
-  @Getter private final Map<String, String> logIdGroupCandidateMap;
+  // Group of tokens length per log message and word combination candidate, indexed by group id
+  private final Map<Group, Integer> groupIds;
+  private final List<Group> groups;
+  private final Map<String, Integer> logIdGroupIds;
+
+  // Id + 1 per group id and token position
+  private final LongLongHashMap groupPositionIds;
+  // Group id and token position, and the number of distinct tokens, per group position id
+  private long[] groupPositions;
+  private int[] groupPositionTokenCounts;
+  private int groupPositionCount;
+
+  // Distinct tokens per group position id and token id
+  private final LongLongHashMap groupPositionTokens;
 
   @Getter private int variableCountThreshold;
   @Getter private float thresholdPercentage;
@@ -155,9 +157,17 @@ public class BrainLogParser {
     if (thresholdPercentage < 0.0f || thresholdPercentage > 1.0f) {
       throw new IllegalArgumentException("Threshold percentage must be between 0.0 and 1.0");
     }
-    this.tokenFreqMap = new HashMap<>();
-    this.groupTokenSetMap = new HashMap<>();
-    this.logIdGroupCandidateMap = new HashMap<>();
+    this.tokenIds = new HashMap<>();
+    this.tokenDictionary = new ArrayList<>();
+    this.tokenFrequencies = new LongLongHashMap();
+    this.groupIds = new HashMap<>();
+    this.groups = new ArrayList<>();
+    this.logIdGroupIds = new HashMap<>();
+    this.groupPositionIds = new LongLongHashMap();
+    this.groupPositions = new long[16];
+    this.groupPositionTokenCounts = new int[16];
+    this.groupPositionCount = 0;
+    this.groupPositionTokens = new LongLongHashMap();
     this.variableCountThreshold = variableCountThreshold;
     this.thresholdPercentage = thresholdPercentage;
     this.filterPatternVariableMap = filterPatternVariableMap;
@@ -214,11 +224,66 @@ public class BrainLogParser {
   public void processTokenHistogram(List<String> tokens) {
     // Ignore last element since it's designed to be appended logId
     for (int i = 0; i < tokens.size() - 1; i++) {
-      String tokenKey = String.format(Locale.ROOT, POSITIONED_TOKEN_KEY_FORMAT, i, tokens.get(i));
-      tokenFreqMap.compute(tokenKey, (k, v) -> v == null ? 1 : v + 1);
+      tokenFrequencies.addTo(pack(i, internToken(tokens.get(i))), 1L);
     }
   }
 
+  /**
+   * Get token histogram, built from the interned tokens on each call
+   *
+   * @return map of token per position key and its frequency
+   */
+  public Map<String, Long> getTokenFreqMap() {
+    Map<String, Long> tokenFreqMap = new HashMap<>(tokenFrequencies.size());
+    tokenFrequencies.forEach(
+        (key, freq) ->
+            tokenFreqMap.put(
+                String.format(
+                    Locale.ROOT,
+                    POSITIONED_TOKEN_KEY_FORMAT,
+                    high(key),
+                    tokenDictionary.get(low(key))),
+                freq));
+    return tokenFreqMap;
+  }
+
+  /**
+   * Get group per length per position to its token set map, built on each call
+   *
+   * @return map of pattern group per length per position key and its token set
+   */
+  public Map<String, Set<String>> getGroupTokenSetMap() {
+    Map<String, Set<String>> groupTokenSetMap = new HashMap<>();
+    groupPositionTokens.forEach(
+        (key, present) -> {
+          long groupPosition = groupPositions[high(key)];
+          Group group = groups.get(high(groupPosition));
+          String groupTokenKey =
+              String.format(
+                  Locale.ROOT,
+                  GROUP_TOKEN_SET_KEY_FORMAT,
+                  group.tokenCount(),
+                  group.candidate(),
+                  low(groupPosition));
+          groupTokenSetMap
+              .computeIfAbsent(groupTokenKey, k -> new HashSet<>())
+              .add(tokenDictionary.get(low(key)));
+        });
+    return groupTokenSetMap;
+  }
+
+  /**
+   * Get logId to its group candidate map, built on each call
+   *
+   * @return map of logId and group candidate
+   */
+  public Map<String, String> getLogIdGroupCandidateMap() {
+    Map<String, String> logIdGroupCandidateMap = new HashMap<>(logIdGroupIds.size());
+    logIdGroupIds.forEach(
+        (logId, groupId) -> logIdGroupCandidateMap.put(logId, groups.get(groupId).candidate()));
+    return logIdGroupCandidateMap;
+  }
+
   /**
    * Preprocess all lines of log messages with logId list. Empty logId list is allowed as the index
    * within the list will be logId by default
@@ -253,19 +318,64 @@ public class BrainLogParser {
    * @param preprocessedLogs preprocessed list of log messages
    */
   void calculateGroupTokenFreq(List<List<String>> preprocessedLogs) {
+    calculateGroupTokenFreq(preprocessedLogs, this);
+  }
+
+  /**
+   * Calculate the groups of tokens with the token histogram of another parser, which is only read.
+   */
+  private void calculateGroupTokenFreq(
+      List<List<String>> preprocessedLogs, BrainLogParser histogram) {
     for (List<String> tokens : preprocessedLogs) {
-      Map<Long, Integer> wordOccurrences = this.getWordOccurrences(tokens);
-      List<WordCombination> sortedWordCombinations =
-          wordOccurrences.entrySet().stream()
-              .map(entry -> new WordCombination(entry.getKey(), entry.getValue()))
-              .sorted()
-              .collect(Collectors.toList());
-      WordCombination candidate = this.findCandidate(sortedWordCombinations);
-      String groupCandidateStr =
-          String.format(Locale.ROOT, "%d,%d", candidate.wordFreq(), candidate.sameFreqCount());
-      this.logIdGroupCandidateMap.put(tokens.get(tokens.size() - 1), groupCandidateStr);
-      this.updateGroupTokenFreqMap(tokens, groupCandidateStr);
+      int tokenCount = Math.max(0, tokens.size() - 1);
+      long[] tokenFreqs = new long[tokenCount];
+      for (int i = 0; i < tokenCount; i++) {
+        tokenFreqs[i] = histogram.getTokenFreq(i, tokens.get(i));
+      }
+      WordCombination candidate = this.findCandidate(this.getSortedWordCombinations(tokenFreqs));
+      int groupId =
+          this.internGroup(new Group(tokenCount, candidate.wordFreq(), candidate.sameFreqCount()));
+      this.logIdGroupIds.put(tokens.get(tokens.size() - 1), groupId);
+      for (int i = 0; i < tokenCount; i++) {
+        this.addGroupPositionToken(internGroupPosition(groupId, i), internToken(tokens.get(i)));
+      }
+    }
+  }
+
+  /**
+   * Merge the token histogram of another parser into this one. The histograms of disjoint
+   * partitions of log messages merge into the histogram of all the messages.
+   *
+   * @param other parser which processed the token histogram of another partition
+   */
+  public void mergeTokenHistogram(BrainLogParser other) {
+    other.tokenFrequencies.forEach(
+        (key, freq) ->
+            tokenFrequencies.addTo(
+                pack(high(key), internToken(other.tokenDictionary.get(low(key)))), freq));
+  }
+
+  /**
+   * Merge the groups and group token sets of another parser into this one. Both have to be
+   * calculated with the same merged token histogram for the groups to match, and logIds have to be
+   * unique across partitions.
+   *
+   * @param other parser which calculated the groups of another partition
+   */
+  public void mergeGroupTokenSets(BrainLogParser other) {
+    int[] groupIdMapping = new int[other.groups.size()];
+    for (int i = 0; i < groupIdMapping.length; i++) {
+      groupIdMapping[i] = internGroup(other.groups.get(i));
     }
+    other.groupPositionTokens.forEach(
+        (key, present) -> {
+          long groupPosition = other.groupPositions[high(key)];
+          addGroupPositionToken(
+              internGroupPosition(groupIdMapping[high(groupPosition)], low(groupPosition)),
+              internToken(other.tokenDictionary.get(low(key))));
+        });
+    other.logIdGroupIds.forEach(
+        (logId, groupId) -> logIdGroupIds.put(logId, groupIdMapping[groupId]));
   }
 
   /**
@@ -276,69 +386,46 @@ public class BrainLogParser {
    * @return parsed log pattern that is a list of string
    */
   public List<String> parseLogPattern(List<String> tokens) {
-    return parseLogPattern(
-        tokens,
-        this.tokenFreqMap,
-        this.groupTokenSetMap,
-        this.logIdGroupCandidateMap,
-        this.variableCountThreshold);
-  }
-
-  public static List<String> parseLogPattern(
-      List<String> tokens,
-      Map<String, Long> tokenFreqMap,
-      Map<String, Set<String>> groupTokenSetMap,
-      Map<String, String> logIdGroupCandidateMap,
-      int variableCountThreshold) {
     String logId = tokens.get(tokens.size() - 1);
-    String groupCandidateStr = logIdGroupCandidateMap.get(logId);
-    String[] groupCandidate = groupCandidateStr.split(",");
-    Long repFreq = Long.parseLong(groupCandidate[0]); // representative frequency of the group
+    int groupId = logIdGroupIds.get(logId);
+    long repFreq = groups.get(groupId).wordFreq(); // representative frequency of the group
     int tokenCapacity = Math.max(0, tokens.size() - 1);
-    return IntStream.range(0, tokenCapacity)
-        .mapToObj(i -> new AbstractMap.SimpleEntry<>(i, tokens.get(i)))
-        .map(
-            entry -> {
-              int index = entry.getKey();
-              String token = entry.getValue();
-              String tokenKey =
-                  String.format(Locale.ROOT, POSITIONED_TOKEN_KEY_FORMAT, index, token);
-              assert tokenFreqMap.get(tokenKey) != null
-                  : String.format(Locale.ROOT, "Not found token: %s on position %d", token, index);
-
-              boolean isHigherFrequency = tokenFreqMap.get(tokenKey) > repFreq;
-              boolean isLowerFrequency = tokenFreqMap.get(tokenKey) < repFreq;
-              String groupTokenKey =
-                  String.format(
-                      Locale.ROOT,
-                      GROUP_TOKEN_SET_KEY_FORMAT,
-                      tokens.size() - 1,
-                      groupCandidateStr,
-                      index);
-              assert groupTokenSetMap.get(groupTokenKey) != null
-                  : String.format(Locale.ROOT, "Not found any token in group: %s", groupTokenKey);
-
-              if (isHigherFrequency) {
-                // For higher frequency token that doesn't belong to word combination, it's likely
-                // to be constant token only if
-                // it's unique token on that position within the group
-                boolean isUniqueToken = groupTokenSetMap.get(groupTokenKey).size() == 1;
-                if (!isUniqueToken) {
-                  return VARIABLE_DENOTER;
-                }
-              } else if (isLowerFrequency) {
-                // For lower frequency token that doesn't belong to word combination, it's likely to
-                // be constant token only if
-                // it doesn't exceed the preset variable count threshold. For example, some variable
-                // are limited number of enums,
-                // and sometimes they could be treated as constant tokens.
-                if (groupTokenSetMap.get(groupTokenKey).size() >= variableCountThreshold) {
-                  return VARIABLE_DENOTER;
-                }
-              }
-              return token;
-            })
-        .collect(Collectors.toCollection(() -> new ArrayList<>(tokenCapacity)));
+    List<String> logPattern = new ArrayList<>(tokenCapacity);
+    for (int index = 0; index < tokenCapacity; index++) {
+      String token = tokens.get(index);
+      long tokenFreq = getTokenFreq(index, token);
+      assert tokenFreq > 0
+          : String.format(Locale.ROOT, "Not found token: %s on position %d", token, index);
+
+      boolean isHigherFrequency = tokenFreq > repFreq;
+      boolean isLowerFrequency = tokenFreq < repFreq;
+      int groupPositionId = (int) groupPositionIds.get(pack(groupId, index)) - 1;
+      assert groupPositionId >= 0
+          : String.format(
+              Locale.ROOT, "Not found any token in group %d on position %d", groupId, index);
+      int groupTokenCount = groupPositionTokenCounts[groupPositionId];
+
+      if (isHigherFrequency) {
+        // For higher frequency token that doesn't belong to word combination, it's likely
+        // to be constant token only if
+        // it's unique token on that position within the group
+        boolean isUniqueToken = groupTokenCount == 1;
+        if (!isUniqueToken) {
+          token = VARIABLE_DENOTER;
+        }
+      } else if (isLowerFrequency) {
+        // For lower frequency token that doesn't belong to word combination, it's likely to
+        // be constant token only if
+        // it doesn't exceed the preset variable count threshold. For example, some variable
+        // are limited number of enums,
+        // and sometimes they could be treated as constant tokens.
+        if (groupTokenCount >= variableCountThreshold) {
+          token = VARIABLE_DENOTER;
+        }
+      }
+      logPattern.add(token);
+    }
+    return logPattern;
   }
 
   /**
@@ -353,39 +440,106 @@ public class BrainLogParser {
 
     Map<String, Map<String, Object>> logPatternMap = new HashMap<>();
     for (int i = 0; i < processedMessages.size(); i++) {
-      List<String> logPattern =
-          this.parseLogPattern(processedMessages.get(i)).stream()
-              .map(BrainLogParser::collapseContinuousWildcards)
-              .collect(Collectors.toList());
-      String patternKey = String.join(" ", logPattern);
-      String sampleLog = logMessages.get(i);
-      logPatternMap.compute(
-          patternKey,
-          (key, stats) -> {
-            if (stats == null) {
-              Map<String, Object> newStats = new HashMap<>();
-              newStats.put(PatternUtils.PATTERN, key);
-              newStats.put(PatternUtils.PATTERN_COUNT, 1L);
-              List<String> samples = new ArrayList<>();
-              if (sampleLog != null && samples.size() < maxSampleCount) {
-                samples.add(sampleLog);
-              }
-              newStats.put(PatternUtils.SAMPLE_LOGS, samples);
-              return newStats;
-            } else {
-              stats.put(
-                  PatternUtils.PATTERN_COUNT, ((Long) stats.get(PatternUtils.PATTERN_COUNT)) + 1);
-              List<String> samples = (List<String>) stats.get(PatternUtils.SAMPLE_LOGS);
-              if (sampleLog != null && samples.size() < maxSampleCount) {
-                samples.add(sampleLog);
-              }
-              return stats;
-            }
-          });
+      this.addLogPattern(
+          logPatternMap, processedMessages.get(i), logMessages.get(i), maxSampleCount);
+    }
+    return logPatternMap;
+  }
+
+  /**
+   * Parse all lines of log messages to generate the log pattern map, with the same result as {@link
+   * #parseAllLogPatterns(List, int)}. The messages are split into partitions, whose partial token
+   * histograms are merged before the groups are calculated, and whose partial group token sets are
+   * merged before the log patterns are parsed. The partitions are processed one after another on
+   * the calling thread, so this only pays off for callers merging the partial states of partitions
+   * mined elsewhere, otherwise {@link #parseAllLogPatterns(List, int)} is cheaper.
+   *
+   * @param logMessages all lines of log messages
+   * @param maxSampleCount max number of sample logs per pattern
+   * @param partitionSize number of log messages per partition
+   * @return log pattern map with log pattern string as key, grouped logIds as value
+   */
+  public Map<String, Map<String, Object>> parseAllLogPatterns(
+      List<String> logMessages, int maxSampleCount, int partitionSize) {
+    if (partitionSize <= 0 || logMessages.size() <= partitionSize) {
+      return parseAllLogPatterns(logMessages, maxSampleCount);
+    }
+    int partitionCount = (logMessages.size() + partitionSize - 1) / partitionSize;
+
+    // Preprocess and count tokens per partition, logId is still the index within all messages
+    List<Partition> partitions = new ArrayList<>(partitionCount);
+    for (int from = 0; from < logMessages.size(); from += partitionSize) {
+      BrainLogParser partial = this.newPartialParser();
+      int to = Math.min(from + partitionSize, logMessages.size());
+      List<List<String>> tokensList = new ArrayList<>(to - from);
+      for (int i = from; i < to; i++) {
+        List<String> tokens = partial.preprocess(logMessages.get(i), String.valueOf(i));
+        tokensList.add(tokens);
+        partial.processTokenHistogram(tokens);
+      }
+      partitions.add(new Partition(from, tokensList, partial));
+    }
+    partitions.forEach(partition -> this.mergeTokenHistogram(partition.parser()));
+
+    // Calculate groups per partition with the merged histogram
+    for (Partition partition : partitions) {
+      BrainLogParser partial = this.newPartialParser();
+      partial.calculateGroupTokenFreq(partition.tokensList(), this);
+      this.mergeGroupTokenSets(partial);
+    }
+
+    // Parse log patterns per partition with the merged groups, merged in order of partitions
+    Map<String, Map<String, Object>> logPatternMap = new HashMap<>();
+    for (Partition partition : partitions) {
+      Map<String, Map<String, Object>> partialPatternMap = new HashMap<>();
+      for (int i = 0; i < partition.tokensList().size(); i++) {
+        this.addLogPattern(
+            partialPatternMap,
+            partition.tokensList().get(i),
+            logMessages.get(partition.from() + i),
+            maxSampleCount);
+      }
+      logPatternMap =
+          PatternUtils.mergePatternGroups(logPatternMap, partialPatternMap, maxSampleCount);
     }
     return logPatternMap;
   }
 
+  private void addLogPattern(
+      Map<String, Map<String, Object>> logPatternMap,
+      List<String> tokens,
+      String sampleLog,
+      int maxSampleCount) {
+    List<String> logPattern =
+        this.parseLogPattern(tokens).stream()
+            .map(BrainLogParser::collapseContinuousWildcards)
+            .collect(Collectors.toList());
+    String patternKey = String.join(" ", logPattern);
+    logPatternMap.compute(
+        patternKey,
+        (key, stats) -> {
+          if (stats == null) {
+            Map<String, Object> newStats = new HashMap<>();
+            newStats.put(PatternUtils.PATTERN, key);
+            newStats.put(PatternUtils.PATTERN_COUNT, 1L);
+            List<String> samples = new ArrayList<>();
+            if (sampleLog != null && samples.size() < maxSampleCount) {
+              samples.add(sampleLog);
+            }
+            newStats.put(PatternUtils.SAMPLE_LOGS, samples);
+            return newStats;
+          } else {
+            stats.put(
+                PatternUtils.PATTERN_COUNT, ((Long) stats.get(PatternUtils.PATTERN_COUNT)) + 1);
+            List<String> samples = (List<String>) stats.get(PatternUtils.SAMPLE_LOGS);
+            if (sampleLog != null && samples.size() < maxSampleCount) {
+              samples.add(sampleLog);
+            }
+            return stats;
+          }
+        });
+  }
+
   static String collapseContinuousWildcards(String part) {
     // The minimum of continuous wildcards are 6 characters: <*><*>
     if (part == null || part.length() < 6) {
@@ -409,23 +563,30 @@ public class BrainLogParser {
     return sb.toString();
   }
 
-  private Map<Long, Integer> getWordOccurrences(List<String> tokens) {
-    Map<Long, Integer> occurrences = new HashMap<>();
-    for (int i = 0; i < tokens.size() - 1; i++) {
-      String tokenKey = String.format(Locale.ROOT, POSITIONED_TOKEN_KEY_FORMAT, i, tokens.get(i));
-      Long tokenFreq = tokenFreqMap.get(tokenKey);
-      occurrences.compute(tokenFreq, (k, v) -> v == null ? 1 : v + 1);
+  /** Word combinations of the same token frequency, sorted by their preference as candidate. */
+  private List<WordCombination> getSortedWordCombinations(long[] tokenFreqs) {
+    long[] sortedFreqs = tokenFreqs.clone();
+    Arrays.sort(sortedFreqs);
+    List<WordCombination> wordCombinations = new ArrayList<>();
+    int start = 0;
+    for (int i = 1; i <= sortedFreqs.length; i++) {
+      if (i == sortedFreqs.length || sortedFreqs[i] != sortedFreqs[start]) {
+        wordCombinations.add(new WordCombination(sortedFreqs[start], i - start));
+        start = i;
+      }
     }
-    return occurrences;
+    Collections.sort(wordCombinations);
+    return wordCombinations;
   }
 
   private WordCombination findCandidate(List<WordCombination> sortedWordCombinations) {
     if (sortedWordCombinations.isEmpty()) {
       throw new IllegalArgumentException("Sorted word combinations must be non empty");
     }
-    OptionalLong maxFreqOptional =
-        sortedWordCombinations.stream().mapToLong(WordCombination::wordFreq).max();
-    long maxFreq = maxFreqOptional.getAsLong();
+    long maxFreq = Long.MIN_VALUE;
+    for (WordCombination wordCombination : sortedWordCombinations) {
+      maxFreq = Math.max(maxFreq, wordCombination.wordFreq());
+    }
     float threshold = maxFreq * this.thresholdPercentage;
     for (WordCombination wordCombination : sortedWordCombinations) {
       if (wordCombination.wordFreq() > threshold) {
@@ -435,17 +596,66 @@ public class BrainLogParser {
     return sortedWordCombinations.get(0);
   }
 
-  private void updateGroupTokenFreqMap(List<String> tokens, String groupCandidateStr) {
-    int tokensLen = tokens.size() - 1;
-    for (int i = 0; i < tokensLen; i++) {
-      String groupTokenFreqKey =
-          String.format(Locale.ROOT, GROUP_TOKEN_SET_KEY_FORMAT, tokensLen, groupCandidateStr, i);
-      this.groupTokenSetMap
-          .computeIfAbsent(groupTokenFreqKey, k -> new HashSet<>())
-          .add(tokens.get(i));
+  private long getTokenFreq(int position, String token) {
+    Integer tokenId = tokenIds.get(token);
+    return tokenId == null ? 0L : tokenFrequencies.get(pack(position, tokenId));
+  }
+
+  private void addGroupPositionToken(int groupPositionId, int tokenId) {
+    if (groupPositionTokens.addTo(pack(groupPositionId, tokenId), 1L) == 1L) {
+      groupPositionTokenCounts[groupPositionId]++;
     }
   }
 
+  private BrainLogParser newPartialParser() {
+    return new BrainLogParser(
+        variableCountThreshold, thresholdPercentage, filterPatternVariableMap, delimiters);
+  }
+
+  private int internToken(String token) {
+    return tokenIds.computeIfAbsent(
+        token,
+        t -> {
+          tokenDictionary.add(t);
+          return tokenDictionary.size() - 1;
+        });
+  }
+
+  private int internGroup(Group group) {
+    return groupIds.computeIfAbsent(
+        group,
+        g -> {
+          groups.add(g);
+          return groups.size() - 1;
+        });
+  }
+
+  private int internGroupPosition(int groupId, int position) {
+    long groupPosition = pack(groupId, position);
+    int groupPositionId =
+        (int) groupPositionIds.putIfAbsent(groupPosition, groupPositionCount + 1L) - 1;
+    if (groupPositionId == groupPositionCount) {
+      if (groupPositionCount == groupPositions.length) {
+        groupPositions = Arrays.copyOf(groupPositions, groupPositionCount * 2);
+        groupPositionTokenCounts = Arrays.copyOf(groupPositionTokenCounts, groupPositionCount * 2);
+      }
+      groupPositions[groupPositionCount++] = groupPosition;
+    }
+    return groupPositionId;
+  }
+
+  private static long pack(int high, int low) {
+    return ((long) high << 32) | low;
+  }
+
+  private static int high(long key) {
+    return (int) (key >>> 32);
+  }
+
+  private static int low(long key) {
+    return (int) key;
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (this == obj) {
@@ -467,50 +677,25 @@ public class BrainLogParser {
         variableCountThreshold, thresholdPercentage, filterPatternVariableMap, delimiters);
   }
 
-  private static final class WordCombination implements Comparable<WordCombination> {
-    private final Long wordFreq;
-    private final Integer sameFreqCount;
-
-    public WordCombination(Long wordFreq, Integer sameFreqCount) {
-      this.wordFreq = wordFreq;
-      this.sameFreqCount = sameFreqCount;
-    }
+  private record Partition(int from, List<List<String>> tokensList, BrainLogParser parser) {}
 
-    public Long wordFreq() {
-      return this.wordFreq;
-    }
-
-    public Integer sameFreqCount() {
-      return this.sameFreqCount;
+  private record Group(int tokenCount, long wordFreq, int sameFreqCount) {
+    String candidate() {
+      return wordFreq + "," + sameFreqCount;
     }
+  }
 
+  private record WordCombination(long wordFreq, int sameFreqCount)
+      implements Comparable<WordCombination> {
     @Override
     public int compareTo(WordCombination other) {
       // Compare by same frequency count in descending order
-      int wordFreqComparison = other.sameFreqCount.compareTo(this.sameFreqCount);
+      int wordFreqComparison = Integer.compare(other.sameFreqCount, this.sameFreqCount);
       if (wordFreqComparison != 0) {
         return wordFreqComparison;
       }
       // If sameFreqCount are the same, compare by wordFreq in descending order
-      return other.wordFreq.compareTo(this.wordFreq);
-    }
-
-    @Override
-    public boolean equals(Object obj) {
-      if (this == obj) {
-        return true;
-      }
-      if (obj == null || getClass() != obj.getClass()) {
-        return false;
-      }
-      WordCombination other = (WordCombination) obj;
-      return Objects.equals(wordFreq, other.wordFreq)
-          && Objects.equals(sameFreqCount, other.sameFreqCount);
-    }
-
-    @Override
-    public int hashCode() {
-      return Objects.hash(wordFreq, sameFreqCount);
+      return Long.compare(other.wordFreq, this.wordFreq);
     }
   }
 }
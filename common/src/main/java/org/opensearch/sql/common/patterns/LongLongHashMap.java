@@ -0,0 +1,134 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.patterns;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from a non negative long key to a long value, without boxing either of
+ * them. Absent keys have the value 0.
+ */
+final class LongLongHashMap {
+
+  private static final long EMPTY = -1L;
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private long[] keys;
+
+  private long[] values;
+
+  private int size = 0;
+
+  LongLongHashMap() {
+    keys = new long[INITIAL_CAPACITY];
+    values = new long[INITIAL_CAPACITY];
+    Arrays.fill(keys, EMPTY);
+  }
+
+  /** Visitor of the entries of the map. */
+  @FunctionalInterface
+  interface EntryVisitor {
+    void visit(long key, long value);
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Get the value of a key.
+   *
+   * @param key non negative key
+   * @return value of the key, or 0 if the key is absent
+   */
+  long get(long key) {
+    int slot = find(key);
+    return keys[slot] == EMPTY ? 0L : values[slot];
+  }
+
+  /**
+   * Add a delta to the value of a key, the key is inserted with the delta if absent.
+   *
+   * @param key non negative key
+   * @param delta delta to add
+   * @return value of the key after the addition
+   */
+  long addTo(long key, long delta) {
+    int slot = find(key);
+    if (keys[slot] == EMPTY) {
+      insert(slot, key, delta);
+      return delta;
+    }
+    values[slot] += delta;
+    return values[slot];
+  }
+
+  /**
+   * Put the value of a key unless the key is present.
+   *
+   * @param key non negative key
+   * @param value value to put
+   * @return value of the key, which is the given value if the key was absent
+   */
+  long putIfAbsent(long key, long value) {
+    int slot = find(key);
+    if (keys[slot] == EMPTY) {
+      insert(slot, key, value);
+      return value;
+    }
+    return values[slot];
+  }
+
+  /** Visit all the entries, in no particular order. */
+  void forEach(EntryVisitor visitor) {
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != EMPTY) {
+        visitor.visit(keys[i], values[i]);
+      }
+    }
+  }
+
+  /** Slot of the key, or the empty slot where the key would be inserted. */
+  private int find(long key) {
+    int mask = keys.length - 1;
+    int slot = spread(key) & mask;
+    while (keys[slot] != EMPTY && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void insert(int slot, long key, long value) {
+    keys[slot] = key;
+    values[slot] = value;
+    size++;
+    // Keep the load factor under 0.75 for short probe sequences
+    if (size * 4 >= keys.length * 3) {
+      resize(keys.length * 2);
+    }
+  }
+
+  private void resize(int capacity) {
+    long[] oldKeys = keys;
+    long[] oldValues = values;
+    keys = new long[capacity];
+    values = new long[capacity];
+    Arrays.fill(keys, EMPTY);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != EMPTY) {
+        int slot = find(oldKeys[i]);
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  /** Fibonacci hashing, so that keys packed from small ids don't fill consecutive slots. */
+  private static int spread(long key) {
+    return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+  }
+}
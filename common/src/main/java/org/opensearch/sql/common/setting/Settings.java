@@ -35,6 +35,7 @@ public abstract class Settings {
     PPL_SYNTAX_LEGACY_PREFERRED("plugins.ppl.syntax.legacy.preferred"),
     PPL_SUBSEARCH_MAXOUT("plugins.ppl.subsearch.maxout"),
     PPL_JOIN_SUBSEARCH_MAXOUT("plugins.ppl.join.subsearch_maxout"),
+    PPL_RESPONSE_CHUNK_SIZE("plugins.ppl.response.chunk_size"),
 
     /** Enable Calcite as execution engine */
     CALCITE_ENGINE_ENABLED("plugins.calcite.enabled"),
@@ -43,9 +44,16 @@ public abstract class Settings {
     CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR(
         "plugins.calcite.pushdown.rowcount.estimation.factor"),
     CALCITE_SUPPORT_ALL_JOIN_TYPES("plugins.calcite.all_join_types.allowed"),
+    CALCITE_PLAN_CACHE_SIZE("plugins.calcite.plan_cache.size"),
+    CALCITE_SCRIPT_CACHE_SIZE("plugins.calcite.script_cache.size"),
+    CALCITE_SCRIPT_COMPACT_FORMAT_ENABLED("plugins.calcite.script.compact_format.enabled"),
+    CALCITE_SCAN_PREFETCH_ENABLED("plugins.calcite.scan_prefetch.enabled"),
+    CALCITE_COMPOSITE_PAGING_ENABLED("plugins.calcite.composite_paging.enabled"),
+    CALCITE_JOIN_RUNTIME_FILTER_ENABLED("plugins.calcite.join.runtime_filter.enabled"),
 
     /** Query Settings. */
     FIELD_TYPE_TOLERANCE("plugins.query.field_type_tolerance"),
+    MAPPING_CACHE_MAX_FIELDS("plugins.query.mapping_cache.max_fields"),
 
     /** Common Settings for SQL and PPL. */
     QUERY_MEMORY_LIMIT("plugins.query.memory_limit"),
@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongFunction;
+import lombok.Getter;
+
+/**
+ * Node level cache whose capacity follows a dynamic setting. A Guava cache can't be resized in
+ * place, so {@link #resize(long)} replaces it and drops the cached entries, while the hit, miss and
+ * eviction counts stay cumulative since node start. A capacity of 0 disables the cache, values are
+ * then loaded for every lookup.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class ResizableCache<K, V> {
+
+  /** Builds a cache recording its stats, bounded by the given capacity which is at least 1. */
+  private final LongFunction<Cache<K, V>> builder;
+
+  /** Message of the exception thrown when a value fails to load with a checked exception. */
+  private final String failureMessage;
+
+  private volatile Cache<K, V> cache;
+
+  @Getter private volatile long capacity;
+
+  /** Stats of caches discarded by {@link #resize(long)}. */
+  private CacheStats retiredStats = new CacheStats(0, 0, 0, 0, 0, 0);
+
+  /**
+   * Create a cache bounded by the number of its entries.
+   *
+   * @param maximumSize maximum number of entries
+   * @param failureMessage message of the exception thrown when a value fails to load
+   */
+  public ResizableCache(long maximumSize, String failureMessage) {
+    this(
+        maximumSize,
+        size -> CacheBuilder.newBuilder().maximumSize(size).recordStats().build(),
+        failureMessage);
+  }
+
+  /**
+   * Create a cache.
+   *
+   * @param capacity initial capacity
+   * @param builder builds a cache recording its stats, bounded by a capacity of at least 1
+   * @param failureMessage message of the exception thrown when a value fails to load
+   */
+  public ResizableCache(long capacity, LongFunction<Cache<K, V>> builder, String failureMessage) {
+    this.builder = builder;
+    this.failureMessage = failureMessage;
+    this.capacity = capacity;
+    this.cache = build(capacity);
+  }
+
+  public boolean isEnabled() {
+    return capacity > 0;
+  }
+
+  /**
+   * Change the capacity of the cache, dropping the cached entries if it changed.
+   *
+   * @param capacity new capacity
+   * @return true if the capacity changed
+   */
+  public synchronized boolean resize(long capacity) {
+    if (capacity == this.capacity) {
+      return false;
+    }
+    retiredStats = retiredStats.plus(cache.stats());
+    cache.invalidateAll();
+    this.cache = build(capacity);
+    this.capacity = capacity;
+    return true;
+  }
+
+  public synchronized void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /** Cumulative hit, miss and eviction counts since node start. */
+  public synchronized CacheStats stats() {
+    return retiredStats.plus(cache.stats());
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  /** Live view of the cached entries, e.g. to drop the entries of some keys. */
+  public Map<K, V> asMap() {
+    return cache.asMap();
+  }
+
+  /**
+   * Return the cached value of a key, loading it only if it's not cached or the cache is disabled.
+   * Runtime exceptions of the loader are rethrown as is.
+   *
+   * @param key key
+   * @param loader loads the value if it's not cached
+   * @return value
+   */
+  public V get(K key, Callable<V> loader) {
+    if (!isEnabled()) {
+      try {
+        return loader.call();
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IllegalStateException(failureMessage, e);
+      }
+    }
+    try {
+      return cache.get(key, loader);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(failureMessage, e.getCause());
+    }
+  }
+
+  private Cache<K, V> build(long capacity) {
+    // Caches can't be built with a capacity of 0, they aren't used when disabled anyway
+    return builder.apply(Math.max(1, capacity));
+  }
+}
@@ -260,6 +260,29 @@ public class BrainLogParserTest {
     assertEquals(expectedResult, collectPatternByCountMap(logPatternMap));
   }
 
+  @Test
+  public void testParseAllLogPatternsInPartitions() {
+    BrainLogParser partitionedParser = new BrainLogParser();
+    Map<String, Map<String, Object>> logPatternMap =
+        partitionedParser.parseAllLogPatterns(TEST_HDFS_LOGS, 2, 3);
+
+    assertEquals(parser.parseAllLogPatterns(TEST_HDFS_LOGS, 2), logPatternMap);
+    assertEquals(parser.getTokenFreqMap(), partitionedParser.getTokenFreqMap());
+    assertEquals(parser.getGroupTokenSetMap(), partitionedParser.getGroupTokenSetMap());
+    assertEquals(
+        parser.getLogIdGroupCandidateMap(), partitionedParser.getLogIdGroupCandidateMap());
+  }
+
+  @Test
+  public void testMergeTokenHistogram() {
+    BrainLogParser other = new BrainLogParser();
+    parser.processTokenHistogram(Arrays.asList("something", "up", "0"));
+    other.processTokenHistogram(Arrays.asList("something", "down", "1"));
+    parser.mergeTokenHistogram(other);
+
+    assertEquals(Map.of("0-something", 2L, "1-up", 1L, "1-down", 1L), parser.getTokenFreqMap());
+  }
+
   @Test
   public void testParseLogPatternWhenLowerFrequencyTokenIsVariable() {
     int testVariableCountThreshold = 3;
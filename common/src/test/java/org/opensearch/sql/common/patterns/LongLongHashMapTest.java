@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.patterns;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class LongLongHashMapTest {
+
+  @Test
+  public void testAddTo() {
+    LongLongHashMap map = new LongLongHashMap();
+    assertEquals(0L, map.get(1L));
+    assertEquals(1L, map.addTo(1L, 1L));
+    assertEquals(3L, map.addTo(1L, 2L));
+    assertEquals(3L, map.get(1L));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  public void testPutIfAbsent() {
+    LongLongHashMap map = new LongLongHashMap();
+    assertEquals(5L, map.putIfAbsent(0L, 5L));
+    assertEquals(5L, map.putIfAbsent(0L, 6L));
+    assertEquals(5L, map.get(0L));
+  }
+
+  @Test
+  public void testGrowWithPackedKeys() {
+    LongLongHashMap map = new LongLongHashMap();
+    Map<Long, Long> expected = new HashMap<>();
+    for (int high = 0; high < 100; high++) {
+      for (int low = 0; low < 100; low++) {
+        long key = ((long) high << 32) | low;
+        map.addTo(key, high + low);
+        expected.put(key, (long) high + low);
+      }
+    }
+
+    Map<Long, Long> actual = new HashMap<>();
+    map.forEach(actual::put);
+    assertEquals(10_000, map.size());
+    assertEquals(expected, actual);
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ResizableCacheTest {
+
+  @Test
+  void resizeKeepsCumulativeStats() {
+    ResizableCache<String, String> cache = new ResizableCache<>(10, "Failed to load");
+    cache.get("key", () -> "value");
+    cache.get("key", () -> "value");
+
+    assertFalse(cache.resize(10));
+    assertTrue(cache.resize(5));
+    assertEquals(5, cache.getCapacity());
+    assertEquals(0, cache.size());
+    assertEquals(1, cache.stats().hitCount());
+    assertEquals(1, cache.stats().missCount());
+  }
+
+  @Test
+  void loadEveryTimeWhenDisabled() {
+    ResizableCache<String, String> cache = new ResizableCache<>(0, "Failed to load");
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.get("key", () -> "value" + loads.incrementAndGet());
+    cache.get("key", () -> "value" + loads.incrementAndGet());
+
+    assertFalse(cache.isEnabled());
+    assertEquals(2, loads.get());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void boundByCustomWeight() {
+    ResizableCache<String, String> cache =
+        new ResizableCache<>(
+            4,
+            weight ->
+                CacheBuilder.newBuilder()
+                    .maximumWeight(weight)
+                    .<String, String>weigher((key, value) -> value.length())
+                    .recordStats()
+                    .build(),
+            "Failed to load");
+    cache.get("a", () -> "abc");
+    cache.get("b", () -> "abc");
+
+    assertEquals(1, cache.size());
+    assertEquals(1, cache.stats().evictionCount());
+  }
+}
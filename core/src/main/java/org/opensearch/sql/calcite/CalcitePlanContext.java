@@ -14,6 +14,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Stack;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.calcite.rex.RexCorrelVariable;
@@ -48,6 +49,13 @@ public class CalcitePlanContext {
   @Getter @Setter private boolean isResolvingSubquery = false;
   @Getter @Setter private boolean inCoalesceFunction = false;
 
+  /**
+   * Handles a failure of the query reported after planning returned, e.g. once it waited for
+   * admission to run, the same way as a failure thrown during planning. If it's not set, the
+   * failure is reported to the response listener.
+   */
+  @Getter @Setter private Consumer<Exception> failureHandler;
+
   /**
    * The flag used to determine whether we do metadata field projection for user 1. If a project is
    * never visited, we will do metadata field projection for user 2. Else not because user may
@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import lombok.Getter;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.linq4j.tree.Types;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+
+/**
+ * Physical operator on the build side of a hash join, which passes the rows through and collects
+ * their join key into a {@link RuntimeJoinFilter}.
+ */
+@Getter
+public class EnumerableRuntimeFilterCollector extends SingleRel implements EnumerableRel {
+
+  private static final Method COLLECT =
+      Types.lookupMethod(RuntimeJoinFilter.class, "collect", Enumerable.class, Function1.class);
+
+  private final int keyIndex;
+
+  private final RuntimeJoinFilter filter;
+
+  private EnumerableRuntimeFilterCollector(
+      RelOptCluster cluster,
+      RelTraitSet traitSet,
+      RelNode input,
+      int keyIndex,
+      RuntimeJoinFilter filter) {
+    super(cluster, traitSet, input);
+    this.keyIndex = keyIndex;
+    this.filter = filter;
+  }
+
+  public static EnumerableRuntimeFilterCollector create(
+      RelNode input, int keyIndex, RuntimeJoinFilter filter) {
+    return new EnumerableRuntimeFilterCollector(
+        input.getCluster(), input.getTraitSet(), input, keyIndex, filter);
+  }
+
+  @Override
+  public RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
+    return new EnumerableRuntimeFilterCollector(
+        getCluster(), traitSet, sole(inputs), keyIndex, filter);
+  }
+
+  @Override
+  public RelWriter explainTerms(RelWriter pw) {
+    return super.explainTerms(pw).item("key", keyIndex);
+  }
+
+  @Override
+  public Result implement(EnumerableRelImplementor implementor, Prefer pref) {
+    BlockBuilder builder = new BlockBuilder();
+    Result result = implementor.visitChild(this, 0, (EnumerableRel) getInput(), pref);
+    Expression input = builder.append("input", result.block);
+    Expression filterExpression = implementor.stash(filter, RuntimeJoinFilter.class);
+    builder.add(
+        Expressions.return_(
+            null,
+            Expressions.call(
+                filterExpression,
+                COLLECT,
+                input,
+                result.physType.generateAccessor(List.of(keyIndex)))));
+    return implementor.result(result.physType, builder.toBlock());
+  }
+}
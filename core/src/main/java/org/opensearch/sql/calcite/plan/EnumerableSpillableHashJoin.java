@@ -0,0 +1,211 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.function.Function2;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.linq4j.tree.ParameterExpression;
+import org.apache.calcite.linq4j.tree.Types;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelHomogeneousShuttle;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.CorrelationId;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.hint.RelHint;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.opensearch.sql.planner.physical.spill.SpillableHashJoin;
+
+/**
+ * Physical equi hash join executed by {@link SpillableHashJoin}, which spills both inputs to disk
+ * by partition when the hash table of its right input outgrows the memory budget of a join, rather
+ * than holding it all in the heap of the coordinating node as {@link EnumerableHashJoin} does.
+ */
+public class EnumerableSpillableHashJoin extends Join implements EnumerableRel {
+
+  private static final Method HASH_JOIN =
+      Types.lookupMethod(
+          SpillableHashJoin.class,
+          "hashJoin",
+          Enumerable.class,
+          Enumerable.class,
+          Function1.class,
+          Function1.class,
+          Function2.class,
+          boolean.class,
+          boolean.class);
+
+  private static final Method SEMI_JOIN =
+      Types.lookupMethod(
+          SpillableHashJoin.class,
+          "semiJoin",
+          Enumerable.class,
+          Enumerable.class,
+          Function1.class,
+          Function1.class,
+          boolean.class);
+
+  private EnumerableSpillableHashJoin(
+      RelOptCluster cluster,
+      RelTraitSet traitSet,
+      List<RelHint> hints,
+      RelNode left,
+      RelNode right,
+      RexNode condition,
+      Set<CorrelationId> variablesSet,
+      JoinRelType joinType) {
+    super(cluster, traitSet, hints, left, right, condition, variablesSet, joinType);
+  }
+
+  /**
+   * Replace the hash joins of a physical plan which can be executed by {@link SpillableHashJoin}.
+   * It's applied right before the code of the plan is generated, so the explained plan remains the
+   * one chosen by the planner. A memory budget of 0 keeps Calcite's hash joins.
+   *
+   * @param rel root of the enumerable plan
+   * @return plan with spillable hash joins, or the same plan if no join is supported
+   */
+  public static RelNode replaceHashJoins(RelNode rel) {
+    if (SpillableHashJoin.getMemoryBudget() <= 0) {
+      return rel;
+    }
+    return rel.accept(
+        new RelHomogeneousShuttle() {
+          @Override
+          public RelNode visit(RelNode other) {
+            RelNode visited = super.visit(other);
+            if (visited instanceof EnumerableHashJoin join && isSupported(join)) {
+              return new EnumerableSpillableHashJoin(
+                  join.getCluster(),
+                  join.getTraitSet(),
+                  join.getHints(),
+                  join.getLeft(),
+                  join.getRight(),
+                  join.getCondition(),
+                  join.getVariablesSet(),
+                  join.getJoinType());
+            }
+            return visited;
+          }
+        });
+  }
+
+  /**
+   * Only plain equality keys are supported, and a join whose output is expected to be sorted is
+   * left alone since the order of the outer input isn't kept once spilled.
+   */
+  private static boolean isSupported(EnumerableHashJoin join) {
+    JoinInfo joinInfo = join.analyzeCondition();
+    RelCollation collation = join.getTraitSet().getCollation();
+    return joinInfo.isEqui()
+        && !joinInfo.leftKeys.isEmpty()
+        && join.getVariablesSet().isEmpty()
+        && (collation == null || collation.getFieldCollations().isEmpty())
+        && RexUtil.findOperatorCall(SqlStdOperatorTable.IS_NOT_DISTINCT_FROM, join.getCondition())
+            == null;
+  }
+
+  @Override
+  public Join copy(
+      RelTraitSet traitSet,
+      RexNode condition,
+      RelNode left,
+      RelNode right,
+      JoinRelType joinType,
+      boolean semiJoinDone) {
+    return new EnumerableSpillableHashJoin(
+        getCluster(), traitSet, getHints(), left, right, condition, variablesSet, joinType);
+  }
+
+  @Override
+  public Result implement(EnumerableRelImplementor implementor, Prefer pref) {
+    BlockBuilder builder = new BlockBuilder();
+    Result leftResult = implementor.visitChild(this, 0, (EnumerableRel) getLeft(), pref);
+    Expression leftExpression = builder.append("left", leftResult.block);
+    Result rightResult = implementor.visitChild(this, 1, (EnumerableRel) getRight(), pref);
+    Expression rightExpression = builder.append("right", rightResult.block);
+    JoinInfo joinInfo = analyzeCondition();
+    Expression leftKeySelector = leftResult.physType.generateAccessor(joinInfo.leftKeys);
+    Expression rightKeySelector = rightResult.physType.generateAccessor(joinInfo.rightKeys);
+    if (!joinType.projectsRight()) {
+      builder.add(
+          Expressions.return_(
+              null,
+              Expressions.call(
+                  SEMI_JOIN,
+                  leftExpression,
+                  rightExpression,
+                  leftKeySelector,
+                  rightKeySelector,
+                  Expressions.constant(joinType == JoinRelType.ANTI))));
+      return implementor.result(leftResult.physType, builder.toBlock());
+    }
+    PhysType physType =
+        PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), pref.preferArray());
+    builder.add(
+        Expressions.return_(
+            null,
+            Expressions.call(
+                HASH_JOIN,
+                leftExpression,
+                rightExpression,
+                leftKeySelector,
+                rightKeySelector,
+                resultSelector(physType, leftResult.physType, rightResult.physType),
+                Expressions.constant(joinType.generatesNullsOnLeft()),
+                Expressions.constant(joinType.generatesNullsOnRight()))));
+    return implementor.result(physType, builder.toBlock());
+  }
+
+  /** Function which concatenates the fields of a left and a right row, either being null. */
+  private Expression resultSelector(
+      PhysType physType, PhysType leftPhysType, PhysType rightPhysType) {
+    ParameterExpression left = Expressions.parameter(leftPhysType.getJavaRowType(), "left");
+    ParameterExpression right = Expressions.parameter(rightPhysType.getJavaRowType(), "right");
+    List<Expression> fields = new ArrayList<>();
+    addFields(fields, physType, leftPhysType, left, joinType.generatesNullsOnLeft());
+    addFields(fields, physType, rightPhysType, right, joinType.generatesNullsOnRight());
+    return Expressions.lambda(Function2.class, physType.record(fields), left, right);
+  }
+
+  private static void addFields(
+      List<Expression> fields,
+      PhysType physType,
+      PhysType inputPhysType,
+      ParameterExpression row,
+      boolean nullable) {
+    for (int i = 0; i < inputPhysType.getRowType().getFieldCount(); i++) {
+      Expression field =
+          inputPhysType.fieldReference(row, i, physType.getJavaFieldType(fields.size()));
+      if (nullable) {
+        field =
+            Expressions.condition(
+                Expressions.equal(row, Expressions.constant(null)),
+                Expressions.constant(null),
+                field);
+      }
+      fields.add(field);
+    }
+  }
+}
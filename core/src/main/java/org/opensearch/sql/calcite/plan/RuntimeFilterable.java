@@ -0,0 +1,26 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import org.apache.calcite.rel.RelNode;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The customized table scan is implemented in OpenSearch module, to let {@link
+ * RuntimeJoinFilterInjector} in core module narrow it by the keys of a join, we add this interface.
+ * Now the only implementation is CalciteEnumerableIndexScan.
+ */
+public interface RuntimeFilterable {
+
+  /**
+   * Copy the scan so that it only reads the rows whose field is among the keys of a join.
+   *
+   * @param fieldIndex index of the field in the row type of the scan
+   * @param filter keys of the build side of the join, complete once the scan starts
+   * @return the scan applying the filter, or null if the scan can't filter by the field
+   */
+  @Nullable RelNode withRuntimeFilter(int fieldIndex, RuntimeJoinFilter filter);
+}
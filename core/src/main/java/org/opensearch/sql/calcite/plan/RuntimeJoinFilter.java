@@ -0,0 +1,169 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Getter;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.function.Function1;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Join keys of the build side of a hash join, collected while the join builds its hash table, so
+ * that the scan of the probe side, which starts once the hash table is built, only reads the rows
+ * whose key may match.
+ *
+ * <p>The keys are only usable once the build side was enumerated to its end. Up to {@link
+ * #MAX_VALUES} distinct keys are kept, beyond which only the range of numeric keys is. Null keys
+ * never match an equi-join, so they are not collected.
+ */
+public class RuntimeJoinFilter {
+
+  /** Maximum number of distinct keys, well below the default terms count limit of an index. */
+  public static final int MAX_VALUES = 10_000;
+
+  private final int maxValues;
+
+  /** Distinct keys, null once there are too many of them. */
+  private @Nullable Set<Object> values;
+
+  /** Whether all the keys are numbers, so that their range can stand for them. */
+  private boolean numeric;
+
+  /** Smallest numeric key, null if there is none or if some key isn't a number. */
+  @Getter private @Nullable Number min;
+
+  /** Largest numeric key, null if there is none or if some key isn't a number. */
+  @Getter private @Nullable Number max;
+
+  /** Whether a key of a type a scan can't filter by was seen. */
+  private boolean unsupported;
+
+  /** Whether the build side was enumerated to its end since it started. */
+  private boolean exhausted;
+
+  public RuntimeJoinFilter() {
+    this(MAX_VALUES);
+  }
+
+  @VisibleForTesting
+  RuntimeJoinFilter(int maxValues) {
+    this.maxValues = maxValues;
+    reset();
+  }
+
+  /**
+   * Collect the keys of the rows of the build side while they are enumerated.
+   *
+   * @param input rows of the build side
+   * @param keySelector extracts the join key from a row
+   * @return the same rows
+   */
+  public <T> Enumerable<T> collect(Enumerable<T> input, Function1<T, Object> keySelector) {
+    return new AbstractEnumerable<>() {
+      @Override
+      public Enumerator<T> enumerator() {
+        RuntimeJoinFilter.this.reset();
+        Enumerator<T> delegate = input.enumerator();
+        return new Enumerator<>() {
+          @Override
+          public T current() {
+            return delegate.current();
+          }
+
+          @Override
+          public boolean moveNext() {
+            if (delegate.moveNext()) {
+              add(keySelector.apply(delegate.current()));
+              return true;
+            }
+            exhausted = true;
+            return false;
+          }
+
+          @Override
+          public void reset() {
+            delegate.reset();
+            RuntimeJoinFilter.this.reset();
+          }
+
+          @Override
+          public void close() {
+            delegate.close();
+          }
+        };
+      }
+    };
+  }
+
+  /** Whether all the keys of the build side were collected, and a scan can filter by them. */
+  public boolean isComplete() {
+    return exhausted && !unsupported;
+  }
+
+  /** Distinct keys of the build side, or null if there are too many of them. */
+  public @Nullable Set<Object> getValues() {
+    return values == null ? null : Collections.unmodifiableSet(values);
+  }
+
+  private void reset() {
+    values = new HashSet<>();
+    numeric = true;
+    min = null;
+    max = null;
+    unsupported = false;
+    exhausted = false;
+  }
+
+  private void add(@Nullable Object key) {
+    if (key == null || unsupported) {
+      return;
+    }
+    if (key instanceof Number number) {
+      if (!isIntegral(number) && !(number instanceof Double || number instanceof Float)) {
+        // Decimals and other numbers aren't serialized the same way by every query
+        unsupported = true;
+        return;
+      }
+      if (numeric) {
+        min = min == null || compare(number, min) < 0 ? number : min;
+        max = max == null || compare(number, max) > 0 ? number : max;
+      }
+    } else if (key instanceof String || key instanceof Boolean) {
+      numeric = false;
+      min = null;
+      max = null;
+    } else {
+      unsupported = true;
+      return;
+    }
+    if (values != null) {
+      values.add(key);
+      if (values.size() > maxValues) {
+        values = null;
+      }
+    }
+  }
+
+  private static boolean isIntegral(Number number) {
+    return number instanceof Integer
+        || number instanceof Long
+        || number instanceof Short
+        || number instanceof Byte;
+  }
+
+  private static int compare(Number left, Number right) {
+    if (isIntegral(left) && isIntegral(right)) {
+      return Long.compare(left.longValue(), right.longValue());
+    }
+    return Double.compare(left.doubleValue(), right.doubleValue());
+  }
+}
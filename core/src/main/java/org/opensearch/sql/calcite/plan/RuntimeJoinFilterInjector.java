@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import java.util.List;
+import java.util.Set;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.rel.RelHomogeneousShuttle;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Calc;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexProgram;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Inject {@link RuntimeJoinFilter}s into an enumerable plan. A hash join enumerates its right
+ * input to build its hash table before it starts to enumerate its left input, so the join keys of
+ * the right input are known by the time the scan under the left input sends its request. The right
+ * input is wrapped by an {@link EnumerableRuntimeFilterCollector}, and the scan under the left
+ * input is replaced by one which filters by the collected keys.
+ *
+ * <p>Only joins which drop the rows of the left input without a match are eligible, i.e. inner,
+ * semi and right joins with plain equality keys. The key has to reach the scan through projections
+ * of plain field references.
+ */
+public class RuntimeJoinFilterInjector extends RelHomogeneousShuttle {
+
+  private static final Set<JoinRelType> ELIGIBLE_JOIN_TYPES =
+      Set.of(JoinRelType.INNER, JoinRelType.SEMI, JoinRelType.RIGHT);
+
+  /**
+   * Inject runtime join filters into a physical plan. It's applied right before the code of the
+   * plan is generated, so the explained plan remains the one chosen by the planner.
+   *
+   * @param rel root of the enumerable plan
+   * @return plan with runtime join filters, or the same plan if no join is eligible
+   */
+  public static RelNode inject(RelNode rel) {
+    return rel.accept(new RuntimeJoinFilterInjector());
+  }
+
+  @Override
+  public RelNode visit(RelNode other) {
+    RelNode visited = super.visit(other);
+    if (visited instanceof EnumerableHashJoin join) {
+      return injectInto(join);
+    }
+    return visited;
+  }
+
+  private static RelNode injectInto(EnumerableHashJoin join) {
+    if (!ELIGIBLE_JOIN_TYPES.contains(join.getJoinType())
+        || RexUtil.findOperatorCall(SqlStdOperatorTable.IS_NOT_DISTINCT_FROM, join.getCondition())
+            != null) {
+      return join;
+    }
+    JoinInfo joinInfo = join.analyzeCondition();
+    for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+      RuntimeJoinFilter filter = new RuntimeJoinFilter();
+      RelNode probe = withRuntimeFilter(join.getLeft(), joinInfo.leftKeys.get(i), filter);
+      if (probe != null) {
+        RelNode build =
+            EnumerableRuntimeFilterCollector.create(
+                join.getRight(), joinInfo.rightKeys.get(i), filter);
+        return join.copy(join.getTraitSet(), List.of(probe, build));
+      }
+    }
+    return join;
+  }
+
+  /** Apply the filter to the scan which the field comes from, or return null if there is none. */
+  private static @Nullable RelNode withRuntimeFilter(
+      RelNode node, int fieldIndex, RuntimeJoinFilter filter) {
+    if (node instanceof RuntimeFilterable scan) {
+      return scan.withRuntimeFilter(fieldIndex, filter);
+    }
+    RexNode field = null;
+    if (node instanceof Calc calc) {
+      RexProgram program = calc.getProgram();
+      field = program.expandLocalRef(program.getProjectList().get(fieldIndex));
+    } else if (node instanceof Project project) {
+      field = project.getProjects().get(fieldIndex);
+    }
+    if (field instanceof RexInputRef ref) {
+      RelNode input = withRuntimeFilter(node.getInput(0), ref.getIndex(), filter);
+      return input == null ? null : node.copy(node.getTraitSet(), List.of(input));
+    }
+    return null;
+  }
+}
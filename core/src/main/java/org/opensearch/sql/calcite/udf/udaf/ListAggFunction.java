@@ -8,6 +8,7 @@ package org.opensearch.sql.calcite.udf.udaf;
 import java.util.ArrayList;
 import java.util.List;
 import org.opensearch.sql.calcite.udf.UserDefinedAggFunction;
+import org.opensearch.sql.monitor.QueryMemoryAccountant;
 
 /**
  * List aggregation function that collects values into an array preserving duplicates.
@@ -59,9 +60,11 @@ public class ListAggFunction implements UserDefinedAggFunction<ListAggFunction.L
 
   public static class ListAccumulator implements Accumulator {
     private final List<String> values;
+    private final QueryMemoryAccountant accountant;
 
     public ListAccumulator() {
       this.values = new ArrayList<>();
+      this.accountant = QueryMemoryAccountant.current();
     }
 
     @Override
@@ -70,6 +73,7 @@ public class ListAggFunction implements UserDefinedAggFunction<ListAggFunction.L
     }
 
     public void add(String value) {
+      accountant.reserve(estimateSize(value), "list aggregation");
       values.add(value);
     }
 
@@ -77,4 +81,9 @@ public class ListAggFunction implements UserDefinedAggFunction<ListAggFunction.L
       return values.size();
     }
   }
+
+  /** Rough estimation of the heap used by a string and the reference to it. */
+  static long estimateSize(String value) {
+    return 48L + 2L * value.length();
+  }
 }
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Set;
 import java.util.TreeSet;
 import org.opensearch.sql.calcite.udf.UserDefinedAggFunction;
+import org.opensearch.sql.monitor.QueryMemoryAccountant;
 
 /**
  * VALUES aggregate function implementation. Returns distinct values from a field in lexicographical
@@ -65,9 +66,11 @@ public class ValuesAggFunction
 
   public static class ValuesAccumulator implements Accumulator {
     private final Set<String> values;
+    private final QueryMemoryAccountant accountant;
 
     public ValuesAccumulator() {
       this.values = new TreeSet<>(); // TreeSet maintains sorted order and uniqueness
+      this.accountant = QueryMemoryAccountant.current();
     }
 
     @Override
@@ -76,8 +79,9 @@ public class ValuesAggFunction
     }
 
     public void add(String value, int limit) {
-      if (limit == 0 || values.size() < limit) {
-        values.add(value);
+      if ((limit == 0 || values.size() < limit) && values.add(value)) {
+        // A tree set entry takes about as much as the string it holds
+        accountant.reserve(2 * ListAggFunction.estimateSize(value), "values aggregation");
       }
     }
 
@@ -35,8 +35,11 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.function.Consumer;
+import org.apache.calcite.adapter.enumerable.EnumerableCalc;
 import org.apache.calcite.adapter.enumerable.EnumerableConvention;
 import org.apache.calcite.adapter.enumerable.EnumerableRel;
 import org.apache.calcite.adapter.java.JavaTypeFactory;
@@ -73,8 +76,10 @@ import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rel.type.RelDataTypeSystem;
 import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexProgram;
 import org.apache.calcite.runtime.Bindable;
 import org.apache.calcite.runtime.Hook;
+import org.apache.calcite.runtime.Typed;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.server.CalciteServerStatement;
 import org.apache.calcite.sql.SqlKind;
@@ -85,9 +90,12 @@ import org.apache.calcite.tools.Frameworks;
 import org.apache.calcite.tools.RelBuilder;
 import org.apache.calcite.tools.RelRunner;
 import org.apache.calcite.util.Holder;
+import org.apache.calcite.util.Pair;
 import org.apache.calcite.util.Util;
 import org.opensearch.sql.calcite.CalcitePlanContext;
+import org.opensearch.sql.calcite.plan.EnumerableSpillableHashJoin;
 import org.opensearch.sql.calcite.plan.OpenSearchRules;
+import org.opensearch.sql.calcite.plan.RuntimeJoinFilterInjector;
 import org.opensearch.sql.calcite.plan.Scannable;
 import org.opensearch.sql.expression.function.PPLBuiltinOperators;
 
@@ -264,11 +272,15 @@ public class CalciteToolsHelper {
 
   /**
    * Similar to {@link CalcitePrepareImpl.CalcitePreparingStmt}. Customize the logic to convert an
-   * EnumerableTableScan to BindableTableScan.
+   * EnumerableTableScan to BindableTableScan, and reuse the compiled code of enumerable plans
+   * through {@link CompiledPlanCache}.
    */
   public static class OpenSearchCalcitePreparingStmt
       extends CalcitePrepareImpl.CalcitePreparingStmt {
 
+    /** Same with the private one in super class, which is needed for code generation. */
+    private final EnumerableRel.Prefer prefer;
+
     public OpenSearchCalcitePreparingStmt(
         CalcitePrepareImpl prepare,
         CalcitePrepare.Context context,
@@ -289,11 +301,15 @@ public class CalciteToolsHelper {
           cluster,
           resultConvention,
           convertletTable);
+      this.prefer = prefer;
     }
 
     @Override
     protected PreparedResult implement(RelRoot root) {
       Hook.PLAN_BEFORE_IMPLEMENTATION.run(root);
+      // After the hook, so that explain shows the plan chosen by the planner
+      root = root.withRel(RuntimeJoinFilterInjector.inject(root.rel));
+      root = root.withRel(EnumerableSpillableHashJoin.replaceHashJoins(root.rel));
       RelDataType resultType = root.rel.getRowType();
       boolean isDml = root.kind.belongsTo(SqlKind.DML);
       if (root.rel instanceof Scannable scannable) {
@@ -325,8 +341,69 @@ public class CalciteToolsHelper {
           }
         };
       }
+      if (resultConvention == EnumerableConvention.INSTANCE
+          && CompiledPlanCache.getInstance().isEnabled()) {
+        return implementWithPlanCache(root);
+      }
       return super.implement(root);
     }
+
+    /**
+     * Similar to the enumerable branch of {@link
+     * CalcitePrepareImpl.CalcitePreparingStmt#implement(RelRoot)}, but looks up the compiled code
+     * in {@link CompiledPlanCache} instead of always running Janino.
+     */
+    private PreparedResult implementWithPlanCache(RelRoot root) {
+      RelDataType resultType = root.rel.getRowType();
+      boolean isDml = root.kind.belongsTo(SqlKind.DML);
+      EnumerableRel enumerable = (EnumerableRel) root.rel;
+      if (!root.isRefTrivial()) {
+        final List<RexNode> projects = new ArrayList<>();
+        final RexBuilder rexBuilder = enumerable.getCluster().getRexBuilder();
+        for (int field : Pair.left(root.fields)) {
+          projects.add(rexBuilder.makeInputRef(enumerable, field));
+        }
+        RexProgram program =
+            RexProgram.create(
+                enumerable.getRowType(), projects, null, root.validatedRowType, rexBuilder);
+        enumerable = EnumerableCalc.create(enumerable, program);
+      }
+      final Bindable bindable;
+      try {
+        CatalogReader.THREAD_LOCAL.set(catalogReader);
+        bindable =
+            CompiledPlanCache.getInstance()
+                .toBindable(enumerable, prefer, context.config().conformance());
+      } finally {
+        CatalogReader.THREAD_LOCAL.remove();
+      }
+
+      return new PreparedResultImpl(
+          resultType,
+          requireNonNull(parameterRowType, "parameterRowType"),
+          requireNonNull(fieldOrigins, "fieldOrigins"),
+          root.collation.getFieldCollations().isEmpty()
+              ? ImmutableList.of()
+              : ImmutableList.of(root.collation),
+          root.rel,
+          mapTableModOp(isDml, root.kind),
+          isDml) {
+        @Override
+        public String getCode() {
+          throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Bindable getBindable(Meta.CursorFactory cursorFactory) {
+          return bindable;
+        }
+
+        @Override
+        public Type getElementType() {
+          return ((Typed) bindable).getElementType();
+        }
+      };
+    }
   }
 
   public static class OpenSearchRelRunners {
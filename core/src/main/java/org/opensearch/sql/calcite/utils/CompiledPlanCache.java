@@ -0,0 +1,178 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.utils;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.java.JavaTypeFactory;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.QueryProvider;
+import org.apache.calcite.linq4j.tree.ClassDeclaration;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.linq4j.tree.FieldDeclaration;
+import org.apache.calcite.linq4j.tree.VisitorImpl;
+import org.apache.calcite.runtime.Bindable;
+import org.apache.calcite.runtime.Hook;
+import org.apache.calcite.runtime.Typed;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.sql.validate.SqlConformance;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.opensearch.sql.common.utils.ResizableCache;
+
+/**
+ * Node level cache of Janino compiled {@link Bindable}s.
+ *
+ * <p>The key is the Java source generated for an {@link EnumerableRel} plan. The generated code
+ * never embeds the index scans: they are stashed into the {@link DataContext} as parameters (see
+ * {@link EnumerableRelImplementor#stash}), so pushed down filters, sorts and limits, including
+ * their literals, don't contribute to the code. Queries of the same shape therefore share one
+ * compiled class and only pay for code generation, while the stashed parameters of each query are
+ * bound through {@link StashedBindable}.
+ */
+public class CompiledPlanCache extends ResizableCache<String, Bindable> {
+
+  /** Default maximum number of compiled plans, see plugins.calcite.plan_cache.size. */
+  public static final int DEFAULT_MAXIMUM_SIZE = 200;
+
+  private static final CompiledPlanCache INSTANCE = new CompiledPlanCache(DEFAULT_MAXIMUM_SIZE);
+
+  /** Same with the one which Calcite puts into the internal parameters before code generation. */
+  private static final String CONFORMANCE_PARAMETER = "_conformance";
+
+  @VisibleForTesting
+  CompiledPlanCache(int maximumSize) {
+    super(maximumSize, "Failed to compile generated code");
+  }
+
+  public static CompiledPlanCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Generate code for the plan and return a compiled {@link Bindable}, compiling it only if no plan
+   * with the same code is cached.
+   *
+   * @param rel root of the enumerable plan
+   * @param prefer preferred physical row format
+   * @param conformance SQL conformance of the connection
+   * @return bindable bound to the parameters stashed for this plan
+   */
+  public Bindable toBindable(
+      EnumerableRel rel, EnumerableRel.Prefer prefer, SqlConformance conformance) {
+    Map<String, Object> parameters = newParameters(conformance);
+    EnumerableRelImplementor implementor =
+        new EnumerableRelImplementor(rel.getCluster().getRexBuilder(), parameters);
+    ClassDeclaration expr = implementor.implementRoot(rel, prefer);
+    if (!isEnabled() || containsStaticField(expr)) {
+      // Static fields may hold state initialized for this query only, don't share the class.
+      Map<String, Object> uncached = newParameters(conformance);
+      return new StashedBindable(
+          EnumerableInterpretable.toBindable(uncached, null, rel, prefer), uncached);
+    }
+    String code = Expressions.toString(expr.memberDeclarations, "\n", false);
+    // Compile with freshly stashed parameters. Their names only depend on the registration order,
+    // which is the same for the code generated above.
+    AtomicBoolean compiled = new AtomicBoolean(false);
+    Bindable bindable =
+        getOrCompile(
+            code,
+            () -> {
+              compiled.set(true);
+              return EnumerableInterpretable.toBindable(
+                  newParameters(conformance), null, rel, prefer);
+            });
+    if (!compiled.get()) {
+      // Keep the hook behavior of a regular compilation, e.g. explain extended relies on it.
+      Hook.JAVA_PLAN.run(code);
+    }
+    return new StashedBindable(bindable, parameters);
+  }
+
+  @VisibleForTesting
+  Bindable getOrCompile(String code, Callable<Bindable> compiler) {
+    return get(code, compiler);
+  }
+
+  private static Map<String, Object> newParameters(SqlConformance conformance) {
+    Map<String, Object> parameters = new LinkedHashMap<>();
+    parameters.put(CONFORMANCE_PARAMETER, conformance);
+    return parameters;
+  }
+
+  private static boolean containsStaticField(ClassDeclaration expr) {
+    StaticFieldDetector detector = new StaticFieldDetector();
+    expr.accept(detector);
+    return detector.containsStaticField;
+  }
+
+  /** Same with the detector used by Calcite's own bindable cache. */
+  private static class StaticFieldDetector extends VisitorImpl<@Nullable Void> {
+    private boolean containsStaticField = false;
+
+    @Override
+    public Void visit(FieldDeclaration fieldDeclaration) {
+      containsStaticField = (fieldDeclaration.modifier & Modifier.STATIC) != 0;
+      return containsStaticField ? null : super.visit(fieldDeclaration);
+    }
+  }
+
+  /**
+   * A compiled {@link Bindable} together with the parameters stashed while generating its code.
+   * Stashed parameters are looked up before the ones of the query's own {@link DataContext}.
+   */
+  @RequiredArgsConstructor
+  static class StashedBindable implements Bindable<Object>, Typed {
+    private final Bindable delegate;
+    private final Map<String, Object> parameters;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Enumerable<Object> bind(DataContext dataContext) {
+      return delegate.bind(new StashedDataContext(dataContext, parameters));
+    }
+
+    @Override
+    public Type getElementType() {
+      return ((Typed) delegate).getElementType();
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class StashedDataContext implements DataContext {
+    private final DataContext delegate;
+    private final Map<String, Object> parameters;
+
+    @Override
+    public @Nullable SchemaPlus getRootSchema() {
+      return delegate.getRootSchema();
+    }
+
+    @Override
+    public JavaTypeFactory getTypeFactory() {
+      return delegate.getTypeFactory();
+    }
+
+    @Override
+    public QueryProvider getQueryProvider() {
+      return delegate.getQueryProvider();
+    }
+
+    @Override
+    public @Nullable Object get(String name) {
+      return parameters.containsKey(name) ? parameters.get(name) : delegate.get(name);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.utils;
+
+import java.util.Arrays;
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprCoreType;
+
+/**
+ * Accessor of a field path which is parsed once and then resolved against many values, e.g. every
+ * hit of an index scan. It follows the same rules as {@link ExprValueUtils#resolveRefPaths}, but
+ * the path is split and the joined sub paths are computed up front instead of for every value.
+ */
+public class RefPathAccessor {
+
+  @Getter private final String rawPath;
+
+  private final String[] segments;
+
+  /** Sub path starting from each segment, e.g. "a.b.c", "b.c" and "c" for "a.b.c". */
+  private final String[] subPaths;
+
+  private RefPathAccessor(String rawPath) {
+    this.rawPath = rawPath;
+    this.segments = rawPath.split("\\.");
+    this.subPaths = new String[segments.length];
+    for (int i = 0; i < segments.length; i++) {
+      subPaths[i] = String.join(".", Arrays.asList(segments).subList(i, segments.length));
+    }
+  }
+
+  public static RefPathAccessor of(String rawPath) {
+    return new RefPathAccessor(rawPath);
+  }
+
+  /**
+   * Resolve the path against a value.
+   *
+   * @param value root value, usually a tuple
+   * @return value of the path, or missing if the path doesn't exist
+   */
+  public ExprValue resolve(ExprValue value) {
+    for (int i = 0; ; i++) {
+      ExprValue wholePathValue = value.keyValue(subPaths[i]);
+      // For array types only first index currently supported.
+      if (value.type().equals(ExprCoreType.ARRAY)) {
+        wholePathValue = value.collectionValue().getFirst().keyValue(segments[i]);
+      }
+      if (!wholePathValue.isMissing() || i == segments.length - 1) {
+        return wholePathValue;
+      }
+      value = value.keyValue(segments[i]);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return rawPath;
+  }
+}
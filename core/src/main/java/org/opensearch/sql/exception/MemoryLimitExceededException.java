@@ -0,0 +1,14 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.exception;
+
+/** Query rejected because the node doesn't have the memory it needs. */
+public class MemoryLimitExceededException extends NonFallbackCalciteException {
+
+  public MemoryLimitExceededException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import java.util.List;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.pagination.Cursor;
+
+/**
+ * {@link ResponseListener} which accepts query results chunk by chunk while they are produced,
+ * instead of one {@link ExecutionEngine.QueryResponse} holding all rows. Chunks are delivered
+ * synchronously on the execution thread, so the engine doesn't fetch the next rows until the
+ * previous chunk is consumed, and at most one chunk of rows is alive at a time.
+ *
+ * <p>Execution engines which don't support chunked delivery still call {@link
+ * #onResponse(Object)} with the complete response, so implementations must handle both.
+ */
+public interface ChunkedResponseListener
+    extends ResponseListener<ExecutionEngine.QueryResponse> {
+
+  /**
+   * Maximum number of rows in a chunk.
+   *
+   * @return chunk size
+   */
+  int getChunkSize();
+
+  /**
+   * Handle a chunk of rows. The listener must not keep a reference to the rows after return.
+   *
+   * @param schema schema of the result, which is the same for every chunk
+   * @param rows rows of the chunk
+   */
+  void onChunk(ExecutionEngine.Schema schema, List<ExprValue> rows);
+
+  /**
+   * Handle the end of the result after the last chunk, if any, is delivered.
+   *
+   * @param schema schema of the result
+   * @param cursor cursor of the next page, or null if there is none
+   */
+  void onComplete(ExecutionEngine.Schema schema, Cursor cursor);
+}
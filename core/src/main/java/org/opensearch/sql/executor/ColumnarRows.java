@@ -0,0 +1,367 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+
+/**
+ * Query result rows stored column by column. Values of primitive columns are kept in primitive
+ * arrays and the column names are shared by all rows, so no {@link ExprValue} or tuple is created
+ * per row unless a consumer asks for it through {@link #get(int)}. Response formatters read the
+ * raw values of a row directly through {@link #rowValues(int)}.
+ *
+ * <p>Rows are built by appending exactly one value to each column and then calling {@link
+ * #endRow()}. The container can be {@link #clear() cleared} and refilled, e.g. for the next chunk
+ * of a {@link ChunkedResponseListener}.
+ */
+public class ColumnarRows extends AbstractList<ExprValue> {
+
+  @Getter private final List<String> columnNames;
+
+  private final ColumnVector[] columns;
+
+  private int size = 0;
+
+  public ColumnarRows(List<String> columnNames, List<? extends ColumnVector> columns) {
+    if (columnNames.size() != columns.size()) {
+      throw new IllegalArgumentException(
+          "Column names and vectors mismatch: "
+              + columnNames.size()
+              + " names, "
+              + columns.size()
+              + " vectors");
+    }
+    this.columnNames = List.copyOf(columnNames);
+    this.columns = columns.toArray(new ColumnVector[0]);
+  }
+
+  public int getColumnCount() {
+    return columns.length;
+  }
+
+  public ColumnVector getColumn(int column) {
+    return columns[column];
+  }
+
+  /** Complete the current row after one value has been appended to every column. */
+  public void endRow() {
+    size++;
+    modCount++;
+  }
+
+  /**
+   * Value of a single cell.
+   *
+   * @param row row index
+   * @param column column index
+   * @return cell value
+   */
+  public ExprValue getValue(int row, int column) {
+    Objects.checkIndex(row, size);
+    return columns[column].exprValue(row);
+  }
+
+  /**
+   * Raw values of a row, the same as {@link ExprValue#value()} of each cell.
+   *
+   * @param row row index
+   * @return values in column order
+   */
+  public Object[] rowValues(int row) {
+    Objects.checkIndex(row, size);
+    Object[] values = new Object[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      values[i] = columns[i].value(row);
+    }
+    return values;
+  }
+
+  /** Materialize a row as tuple for consumers which are not aware of the columnar layout. */
+  @Override
+  public ExprValue get(int row) {
+    Objects.checkIndex(row, size);
+    Map<String, ExprValue> tuple = new LinkedHashMap<>();
+    for (int i = 0; i < columns.length; i++) {
+      tuple.put(columnNames.get(i), columns[i].exprValue(row));
+    }
+    return ExprTupleValue.fromExprValueMap(tuple);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /** Remove all rows while keeping the allocated column arrays for reuse. */
+  @Override
+  public void clear() {
+    for (ColumnVector column : columns) {
+      column.reset();
+    }
+    size = 0;
+    modCount++;
+  }
+
+  /** Values of one column. Nulls are tracked separately from the values. */
+  public abstract static class ColumnVector {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final BitSet nulls = new BitSet();
+
+    protected int size = 0;
+
+    public void appendNull() {
+      ensureCapacity(size + 1);
+      nulls.set(size++);
+    }
+
+    public boolean isNull(int row) {
+      return nulls.get(row);
+    }
+
+    /** Raw value of a cell, null for a null cell. */
+    public Object value(int row) {
+      return isNull(row) ? null : nonNullValue(row);
+    }
+
+    /** Value of a cell as {@link ExprValue}. */
+    public ExprValue exprValue(int row) {
+      return isNull(row) ? ExprNullValue.of() : nonNullExprValue(row);
+    }
+
+    protected abstract Object nonNullValue(int row);
+
+    protected abstract ExprValue nonNullExprValue(int row);
+
+    /** Make sure the value array can hold the given number of values. */
+    protected abstract void ensureCapacity(int capacity);
+
+    void reset() {
+      nulls.clear();
+      size = 0;
+    }
+
+    protected static int newLength(int length, int capacity) {
+      return Math.max(capacity, Math.max(INITIAL_CAPACITY, length * 2));
+    }
+  }
+
+  public static class IntVector extends ColumnVector {
+    private int[] values = new int[0];
+
+    public void append(int value) {
+      ensureCapacity(size + 1);
+      values[size++] = value;
+    }
+
+    @Override
+    protected Object nonNullValue(int row) {
+      return values[row];
+    }
+
+    @Override
+    protected ExprValue nonNullExprValue(int row) {
+      return ExprValueUtils.integerValue(values[row]);
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+      if (capacity > values.length) {
+        values = Arrays.copyOf(values, newLength(values.length, capacity));
+      }
+    }
+  }
+
+  public static class LongVector extends ColumnVector {
+    private long[] values = new long[0];
+
+    public void append(long value) {
+      ensureCapacity(size + 1);
+      values[size++] = value;
+    }
+
+    @Override
+    protected Object nonNullValue(int row) {
+      return values[row];
+    }
+
+    @Override
+    protected ExprValue nonNullExprValue(int row) {
+      return ExprValueUtils.longValue(values[row]);
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+      if (capacity > values.length) {
+        values = Arrays.copyOf(values, newLength(values.length, capacity));
+      }
+    }
+  }
+
+  public static class FloatVector extends ColumnVector {
+    private float[] values = new float[0];
+
+    public void append(float value) {
+      ensureCapacity(size + 1);
+      values[size++] = value;
+    }
+
+    @Override
+    protected Object nonNullValue(int row) {
+      return values[row];
+    }
+
+    @Override
+    protected ExprValue nonNullExprValue(int row) {
+      return ExprValueUtils.floatValue(values[row]);
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+      if (capacity > values.length) {
+        values = Arrays.copyOf(values, newLength(values.length, capacity));
+      }
+    }
+  }
+
+  public static class DoubleVector extends ColumnVector {
+    private double[] values = new double[0];
+
+    public void append(double value) {
+      ensureCapacity(size + 1);
+      values[size++] = value;
+    }
+
+    @Override
+    protected Object nonNullValue(int row) {
+      return values[row];
+    }
+
+    @Override
+    protected ExprValue nonNullExprValue(int row) {
+      return ExprValueUtils.doubleValue(values[row]);
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+      if (capacity > values.length) {
+        values = Arrays.copyOf(values, newLength(values.length, capacity));
+      }
+    }
+  }
+
+  public static class BooleanVector extends ColumnVector {
+    private boolean[] values = new boolean[0];
+
+    public void append(boolean value) {
+      ensureCapacity(size + 1);
+      values[size++] = value;
+    }
+
+    @Override
+    protected Object nonNullValue(int row) {
+      return values[row];
+    }
+
+    @Override
+    protected ExprValue nonNullExprValue(int row) {
+      return ExprValueUtils.booleanValue(values[row]);
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+      if (capacity > values.length) {
+        values = Arrays.copyOf(values, newLength(values.length, capacity));
+      }
+    }
+  }
+
+  public static class StringVector extends ColumnVector {
+    private String[] values = new String[0];
+
+    public void append(String value) {
+      if (value == null) {
+        appendNull();
+        return;
+      }
+      ensureCapacity(size + 1);
+      values[size++] = value;
+    }
+
+    @Override
+    protected Object nonNullValue(int row) {
+      return values[row];
+    }
+
+    @Override
+    protected ExprValue nonNullExprValue(int row) {
+      return ExprValueUtils.stringValue(values[row]);
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+      if (capacity > values.length) {
+        values = Arrays.copyOf(values, newLength(values.length, capacity));
+      }
+    }
+
+    @Override
+    void reset() {
+      Arrays.fill(values, 0, size, null);
+      super.reset();
+    }
+  }
+
+  /** Column of values without a primitive representation, e.g. date, struct or array. */
+  public static class ValueVector extends ColumnVector {
+    private ExprValue[] values = new ExprValue[0];
+
+    public void append(ExprValue value) {
+      ensureCapacity(size + 1);
+      values[size++] = value;
+    }
+
+    /** Nulls are stored as {@link ExprNullValue} since the values are kept as they are. */
+    @Override
+    public void appendNull() {
+      append(ExprNullValue.of());
+    }
+
+    @Override
+    protected Object nonNullValue(int row) {
+      return values[row].value();
+    }
+
+    @Override
+    protected ExprValue nonNullExprValue(int row) {
+      return values[row];
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+      if (capacity > values.length) {
+        values = Arrays.copyOf(values, newLength(values.length, capacity));
+      }
+    }
+
+    @Override
+    void reset() {
+      Arrays.fill(values, 0, size, null);
+      super.reset();
+    }
+  }
+}
@@ -99,6 +99,8 @@ public class QueryService {
                       CalcitePlanContext context =
                           CalcitePlanContext.create(
                               buildFrameworkConfig(), SysLimit.fromSettings(settings), queryType);
+                      context.setFailureHandler(
+                          e -> onCalciteFailure(e, plan, queryType, listener));
                       RelNode relNode = analyze(plan, context);
                       RelNode optimized = optimize(relNode, context);
                       RelNode calcitePlan = convertToCalcitePlan(optimized);
@@ -106,25 +108,34 @@ public class QueryService {
                       return null;
                     });
           } catch (Throwable t) {
-            if (isCalciteFallbackAllowed(t) && !(t instanceof NonFallbackCalciteException)) {
-              log.warn("Fallback to V2 query engine since got exception", t);
-              executeWithLegacy(plan, queryType, listener, Optional.of(t));
-            } else {
-              if (t instanceof Exception) {
-                listener.onFailure((Exception) t);
-              } else if (t instanceof VirtualMachineError) {
-                // throw and fast fail the VM errors such as OOM (same with v2).
-                throw t;
-              } else {
-                // Calcite may throw AssertError during query execution.
-                listener.onFailure(new CalciteUnsupportedException(t.getMessage(), t));
-              }
-            }
+            onCalciteFailure(t, plan, queryType, listener);
           }
         },
         settings);
   }
 
+  /** Fall back to the v2 engine if allowed, otherwise report the failure of Calcite. */
+  private void onCalciteFailure(
+      Throwable t,
+      UnresolvedPlan plan,
+      QueryType queryType,
+      ResponseListener<ExecutionEngine.QueryResponse> listener) {
+    if (isCalciteFallbackAllowed(t) && !(t instanceof NonFallbackCalciteException)) {
+      log.warn("Fallback to V2 query engine since got exception", t);
+      executeWithLegacy(plan, queryType, listener, Optional.of(t));
+    } else {
+      if (t instanceof Exception) {
+        listener.onFailure((Exception) t);
+      } else if (t instanceof VirtualMachineError) {
+        // throw and fast fail the VM errors such as OOM (same with v2).
+        throw (VirtualMachineError) t;
+      } else {
+        // Calcite may throw AssertError during query execution.
+        listener.onFailure(new CalciteUnsupportedException(t.getMessage(), t));
+      }
+    }
+  }
+
   public void explainWithCalcite(
       UnresolvedPlan plan,
       QueryType queryType,
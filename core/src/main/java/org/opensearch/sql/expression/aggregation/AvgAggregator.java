@@ -14,13 +14,11 @@ import java.util.List;
 import java.util.Locale;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprDoubleValue;
-import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprTimeValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
-import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 
@@ -68,37 +66,41 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
     return String.format(Locale.ROOT, "avg(%s)", format(getArguments()));
   }
 
-  /** Average State. */
+  /** Average State. The count and total are kept unboxed, each type adds its own value. */
   protected abstract static class AvgState implements AggregationState {
-    protected ExprValue count;
-    protected ExprValue total;
+    protected long count;
+    protected double total;
 
     AvgState() {
-      this.count = new ExprIntegerValue(0);
-      this.total = new ExprDoubleValue(0D);
+      this.count = 0;
+      this.total = 0D;
     }
 
     @Override
     public abstract ExprValue result();
 
     protected AvgState iterate(ExprValue value) {
-      count = DSL.add(DSL.literal(count), DSL.literal(1)).valueOf();
+      count++;
       return this;
     }
+
+    protected double average() {
+      return total / count;
+    }
   }
 
   protected static class DoubleAvgState extends AvgState {
     @Override
     public ExprValue result() {
-      if (0 == count.integerValue()) {
+      if (0 == count) {
         return ExprNullValue.of();
       }
-      return DSL.divide(DSL.literal(total), DSL.literal(count)).valueOf();
+      return new ExprDoubleValue(average());
     }
 
     @Override
     protected AvgState iterate(ExprValue value) {
-      total = DSL.add(DSL.literal(total), DSL.literal(value)).valueOf();
+      total += value.doubleValue();
       return super.iterate(value);
     }
   }
@@ -106,21 +108,17 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
   protected static class DateAvgState extends AvgState {
     @Override
     public ExprValue result() {
-      if (0 == count.integerValue()) {
+      if (0 == count) {
         return ExprNullValue.of();
       }
 
       return new ExprDateValue(
-          new ExprTimestampValue(
-                  Instant.ofEpochMilli(
-                      DSL.divide(DSL.literal(total), DSL.literal(count)).valueOf().longValue()))
-              .dateValue());
+          new ExprTimestampValue(Instant.ofEpochMilli((long) average())).dateValue());
     }
 
     @Override
     protected AvgState iterate(ExprValue value) {
-      total =
-          DSL.add(DSL.literal(total), DSL.literal(value.timestampValue().toEpochMilli())).valueOf();
+      total += value.timestampValue().toEpochMilli();
       return super.iterate(value);
     }
   }
@@ -128,19 +126,16 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
   protected static class TimestampAvgState extends AvgState {
     @Override
     public ExprValue result() {
-      if (0 == count.integerValue()) {
+      if (0 == count) {
         return ExprNullValue.of();
       }
 
-      return new ExprTimestampValue(
-          Instant.ofEpochMilli(
-              DSL.divide(DSL.literal(total), DSL.literal(count)).valueOf().longValue()));
+      return new ExprTimestampValue(Instant.ofEpochMilli((long) average()));
     }
 
     @Override
     protected AvgState iterate(ExprValue value) {
-      total =
-          DSL.add(DSL.literal(total), DSL.literal(value.timestampValue().toEpochMilli())).valueOf();
+      total += value.timestampValue().toEpochMilli();
       return super.iterate(value);
     }
   }
@@ -148,20 +143,16 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
   protected static class TimeAvgState extends AvgState {
     @Override
     public ExprValue result() {
-      if (0 == count.integerValue()) {
+      if (0 == count) {
         return ExprNullValue.of();
       }
 
-      return new ExprTimeValue(
-          LocalTime.MIN.plus(
-              DSL.divide(DSL.literal(total), DSL.literal(count)).valueOf().longValue(), MILLIS));
+      return new ExprTimeValue(LocalTime.MIN.plus((long) average(), MILLIS));
     }
 
     @Override
     protected AvgState iterate(ExprValue value) {
-      total =
-          DSL.add(DSL.literal(total), DSL.literal(MILLIS.between(LocalTime.MIN, value.timeValue())))
-              .valueOf();
+      total += MILLIS.between(LocalTime.MIN, value.timeValue());
       return super.iterate(value);
     }
   }
@@ -8,9 +8,7 @@ package org.opensearch.sql.expression.aggregation;
 import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
 import static org.opensearch.sql.utils.ExpressionUtils.format;
 
-import java.util.ArrayList;
 import java.util.List;
-import org.apache.commons.math3.stat.descriptive.moment.StandardDeviation;
 import org.opensearch.sql.common.utils.StringUtils;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprValue;
@@ -70,25 +68,16 @@ public class StdDevAggregator extends Aggregator<StdDevAggregator.StdDevState> {
         "%s(%s)", isSampleStdDev ? "stddev_samp" : "stddev_pop", format(getArguments()));
   }
 
-  protected static class StdDevState implements AggregationState {
-
-    private final StandardDeviation standardDeviation;
-
-    private final List<Double> values = new ArrayList<>();
+  /** StandardDeviation State, the square root of the variance. */
+  protected static class StdDevState extends VarianceAggregator.VarianceState {
 
     public StdDevState(boolean isSampleStdDev) {
-      this.standardDeviation = new StandardDeviation(isSampleStdDev);
-    }
-
-    public void evaluate(ExprValue value) {
-      values.add(value.doubleValue());
+      super(isSampleStdDev);
     }
 
     @Override
     public ExprValue result() {
-      return values.size() == 0
-          ? ExprNullValue.of()
-          : doubleValue(standardDeviation.evaluate(values.stream().mapToDouble(d -> d).toArray()));
+      return isEmpty() ? ExprNullValue.of() : doubleValue(Math.sqrt(variance()));
     }
   }
 }
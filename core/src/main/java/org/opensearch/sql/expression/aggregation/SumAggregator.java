@@ -7,10 +7,6 @@ package org.opensearch.sql.expression.aggregation;
 
 import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.floatValue;
-import static org.opensearch.sql.data.model.ExprValueUtils.getDoubleValue;
-import static org.opensearch.sql.data.model.ExprValueUtils.getFloatValue;
-import static org.opensearch.sql.data.model.ExprValueUtils.getIntegerValue;
-import static org.opensearch.sql.data.model.ExprValueUtils.getLongValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
 import static org.opensearch.sql.utils.ExpressionUtils.format;
@@ -19,7 +15,6 @@ import java.util.List;
 import java.util.Locale;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprValue;
-import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.exception.ExpressionEvaluationException;
 import org.opensearch.sql.expression.Expression;
@@ -38,7 +33,18 @@ public class SumAggregator extends Aggregator<SumState> {
 
   @Override
   public SumState create() {
-    return new SumState(returnType);
+    switch (returnType) {
+      case INTEGER:
+        return new IntegerSumState();
+      case LONG:
+        return new LongSumState();
+      case FLOAT:
+        return new FloatSumState();
+      case DOUBLE:
+        return new DoubleSumState();
+      default:
+        return new SumState(returnType);
+    }
   }
 
   @Override
@@ -53,43 +59,105 @@ public class SumAggregator extends Aggregator<SumState> {
     return String.format(Locale.ROOT, "sum(%s)", format(getArguments()));
   }
 
-  /** Sum State. */
+  /**
+   * Sum State. The sum is kept unboxed by the state of each type, this one only fails on a type
+   * which can't be summed.
+   */
   protected static class SumState implements AggregationState {
 
     private final ExprCoreType type;
-    private ExprValue sumResult;
     private boolean isEmptyCollection;
 
     SumState(ExprCoreType type) {
       this.type = type;
-      sumResult = ExprValueUtils.integerValue(0);
       isEmptyCollection = true;
     }
 
     /** Add value to current sumResult. */
     public void add(ExprValue value) {
-      switch (type) {
-        case INTEGER:
-          sumResult = integerValue(getIntegerValue(sumResult) + getIntegerValue(value));
-          break;
-        case LONG:
-          sumResult = longValue(getLongValue(sumResult) + getLongValue(value));
-          break;
-        case FLOAT:
-          sumResult = floatValue(getFloatValue(sumResult) + getFloatValue(value));
-          break;
-        case DOUBLE:
-          sumResult = doubleValue(getDoubleValue(sumResult) + getDoubleValue(value));
-          break;
-        default:
-          throw new ExpressionEvaluationException(
-              String.format("unexpected type [%s] in sum aggregation", type));
-      }
+      throw new ExpressionEvaluationException(
+          String.format("unexpected type [%s] in sum aggregation", type));
+    }
+
+    protected ExprValue sumResult() {
+      return integerValue(0);
     }
 
     @Override
     public ExprValue result() {
-      return isEmptyCollection ? ExprNullValue.of() : sumResult;
+      return isEmptyCollection ? ExprNullValue.of() : sumResult();
+    }
+  }
+
+  protected static class IntegerSumState extends SumState {
+    private int sum = 0;
+
+    IntegerSumState() {
+      super(ExprCoreType.INTEGER);
+    }
+
+    @Override
+    public void add(ExprValue value) {
+      sum += value.integerValue();
+    }
+
+    @Override
+    protected ExprValue sumResult() {
+      return integerValue(sum);
+    }
+  }
+
+  protected static class LongSumState extends SumState {
+    private long sum = 0L;
+
+    LongSumState() {
+      super(ExprCoreType.LONG);
+    }
+
+    @Override
+    public void add(ExprValue value) {
+      sum += value.longValue();
+    }
+
+    @Override
+    protected ExprValue sumResult() {
+      return longValue(sum);
+    }
+  }
+
+  protected static class FloatSumState extends SumState {
+    private float sum = 0F;
+
+    FloatSumState() {
+      super(ExprCoreType.FLOAT);
+    }
+
+    @Override
+    public void add(ExprValue value) {
+      sum += value.floatValue();
+    }
+
+    @Override
+    protected ExprValue sumResult() {
+      return floatValue(sum);
+    }
+  }
+
+  protected static class DoubleSumState extends SumState {
+    private double sum = 0D;
+
+    DoubleSumState() {
+      super(ExprCoreType.DOUBLE);
+    }
+
+    @Override
+    public void add(ExprValue value) {
+      sum += value.doubleValue();
+    }
+
+    @Override
+    protected ExprValue sumResult() {
+      return doubleValue(sum);
     }
   }
 }
@@ -8,9 +8,7 @@ package org.opensearch.sql.expression.aggregation;
 import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
 import static org.opensearch.sql.utils.ExpressionUtils.format;
 
-import java.util.ArrayList;
 import java.util.List;
-import org.apache.commons.math3.stat.descriptive.moment.Variance;
 import org.opensearch.sql.common.utils.StringUtils;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprValue;
@@ -69,25 +67,46 @@ public class VarianceAggregator extends Aggregator<VarianceAggregator.VarianceSt
         "%s(%s)", isSampleVariance ? "var_samp" : "var_pop", format(getArguments()));
   }
 
+  /**
+   * Variance State. The count, mean and sum of squared differences from the mean are updated per
+   * value with Welford's algorithm, instead of keeping all the values until the result.
+   */
   protected static class VarianceState implements AggregationState {
 
-    private final Variance variance;
+    private final boolean isSampleVariance;
+
+    private long count = 0;
+
+    private double mean = 0D;
 
-    private final List<Double> values = new ArrayList<>();
+    private double squaredDifferences = 0D;
 
     public VarianceState(boolean isSampleVariance) {
-      this.variance = new Variance(isSampleVariance);
+      this.isSampleVariance = isSampleVariance;
     }
 
     public void evaluate(ExprValue value) {
-      values.add(value.doubleValue());
+      double doubleValue = value.doubleValue();
+      count++;
+      double delta = doubleValue - mean;
+      mean += delta / count;
+      squaredDifferences += delta * (doubleValue - mean);
+    }
+
+    protected boolean isEmpty() {
+      return count == 0;
+    }
+
+    protected double variance() {
+      if (isSampleVariance) {
+        return count == 1 ? 0D : squaredDifferences / (count - 1);
+      }
+      return squaredDifferences / count;
     }
 
     @Override
     public ExprValue result() {
-      return values.size() == 0
-          ? ExprNullValue.of()
-          : doubleValue(variance.evaluate(values.stream().mapToDouble(d -> d).toArray()));
+      return isEmpty() ? ExprNullValue.of() : doubleValue(variance());
     }
   }
 }
@@ -30,7 +30,9 @@ import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.function.ImplementorUDF;
 import org.opensearch.sql.expression.function.UDFOperandMetadata;
+import org.opensearch.sql.expression.parse.GrokExpression;
 import org.opensearch.sql.expression.parse.ParseExpression;
+import org.opensearch.sql.expression.parse.RegexCommonUtils;
 import org.opensearch.sql.utils.ParseUtils;
 
 public final class ParseFunction extends ImplementorUDF {
@@ -69,6 +71,28 @@ public final class ParseFunction extends ImplementorUDF {
       if (input == null) {
         return namedFields.stream().collect(Collectors.toMap(element -> element, element -> ""));
       }
+      // Match once per row for all the derived fields
+      Map<String, String> values;
+      switch (method) {
+        case REGEX:
+          values =
+              RegexCommonUtils.extractNamedGroups(
+                  input, RegexCommonUtils.getCompiledPattern(regex), namedFields);
+          break;
+        case GROK:
+          values =
+              GrokExpression.extractNamedGroups(
+                  input, GrokExpression.getCompiledGrok(regex), namedFields);
+          break;
+        default:
+          return parseEachField(input, regex, method, namedFields);
+      }
+      values.replaceAll((namedField, value) -> value == null ? "" : value);
+      return values;
+    }
+
+    private static Map<String, String> parseEachField(
+        String input, String regex, ParseMethod method, List<String> namedFields) {
       LiteralExpression inputExpr = DSL.literal(input);
       LiteralExpression regexExpr = DSL.literal(regex);
       return namedFields.stream()
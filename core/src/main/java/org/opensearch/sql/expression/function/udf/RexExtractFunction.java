@@ -6,8 +6,6 @@
 package org.opensearch.sql.expression.function.udf;
 
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import org.apache.calcite.adapter.enumerable.NotNullImplementor;
 import org.apache.calcite.adapter.enumerable.NullPolicy;
@@ -20,6 +18,7 @@ import org.apache.calcite.sql.type.SqlReturnTypeInference;
 import org.opensearch.sql.calcite.utils.PPLOperandTypes;
 import org.opensearch.sql.expression.function.ImplementorUDF;
 import org.opensearch.sql.expression.function.UDFOperandMetadata;
+import org.opensearch.sql.expression.parse.RegexCommonUtils;
 
 /** Custom REX_EXTRACT function for extracting regex named capture groups. */
 public final class RexExtractFunction extends ImplementorUDF {
@@ -53,11 +52,11 @@ public final class RexExtractFunction extends ImplementorUDF {
 
   public static String extractGroup(String text, String pattern, int groupIndex) {
     try {
-      Pattern compiledPattern = Pattern.compile(pattern);
-      Matcher matcher = compiledPattern.matcher(text);
+      // Each named group is extracted by a separate call on the same row, which reuses the match
+      String[] groups = RegexCommonUtils.findGroups(text, pattern);
 
-      if (matcher.find() && groupIndex > 0 && groupIndex <= matcher.groupCount()) {
-        return matcher.group(groupIndex);
+      if (groups != null && groupIndex > 0 && groupIndex < groups.length) {
+        return groups[groupIndex];
       }
       return null;
     } catch (PatternSyntaxException e) {
@@ -20,10 +20,13 @@ import org.apache.calcite.sql.type.SqlReturnTypeInference;
 import org.opensearch.sql.calcite.utils.PPLOperandTypes;
 import org.opensearch.sql.expression.function.ImplementorUDF;
 import org.opensearch.sql.expression.function.UDFOperandMetadata;
+import org.opensearch.sql.expression.parse.RegexCommonUtils;
 
 /** Custom REX_OFFSET function for calculating regex match positions. */
 public final class RexOffsetFunction extends ImplementorUDF {
 
+  private static final Pattern NAMED_GROUP_PATTERN = Pattern.compile("\\(\\?<([^>]+)>");
+
   public RexOffsetFunction() {
     super(new RexOffsetImplementor(), NullPolicy.ARG0);
   }
@@ -56,7 +59,7 @@ public final class RexOffsetFunction extends ImplementorUDF {
     }
 
     try {
-      Pattern pattern = Pattern.compile(patternStr);
+      Pattern pattern = RegexCommonUtils.getCompiledPattern(patternStr);
       Matcher matcher = pattern.matcher(text);
 
       if (!matcher.find()) {
@@ -65,8 +68,7 @@ public final class RexOffsetFunction extends ImplementorUDF {
 
       List<String> offsetPairs = new java.util.ArrayList<>();
 
-      Pattern namedGroupPattern = Pattern.compile("\\(\\?<([^>]+)>");
-      Matcher namedGroupMatcher = namedGroupPattern.matcher(patternStr);
+      Matcher namedGroupMatcher = NAMED_GROUP_PATTERN.matcher(patternStr);
 
       int groupIndex = 1;
 
@@ -5,6 +5,9 @@
 
 package org.opensearch.sql.expression.parse;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -26,6 +29,14 @@ import org.opensearch.sql.expression.Expression;
 public class GrokExpression extends ParseExpression {
   private static final Logger log = LogManager.getLogger(GrokExpression.class);
   private static final GrokCompiler grokCompiler = GrokCompiler.newInstance();
+  private static final int MAX_CACHE_SIZE = 1000;
+
+  // Compiled groks shared by the expressions and the Calcite parse function, keyed by pattern
+  private static final Cache<String, Grok> grokCache =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHE_SIZE).build();
+
+  private static final Cache<String, List<String>> namedGroupCache =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHE_SIZE).build();
 
   static {
     grokCompiler.registerDefaultPatterns();
@@ -42,7 +53,7 @@ public class GrokExpression extends ParseExpression {
    */
   public GrokExpression(Expression sourceField, Expression pattern, Expression identifier) {
     super("grok", sourceField, pattern, identifier);
-    this.grok = grokCompiler.compile(pattern.valueOf().stringValue());
+    this.grok = getCompiledGrok(pattern.valueOf().stringValue());
   }
 
   @Override
@@ -65,10 +76,50 @@ public class GrokExpression extends ParseExpression {
    * @return list of names of the derived fields
    */
   public static List<String> getNamedGroupCandidates(String pattern) {
-    Grok grok = grokCompiler.compile(pattern);
-    return grok.namedGroups.stream()
-        .map(grok::getNamedRegexCollectionById)
-        .filter(group -> !group.equals("UNWANTED"))
-        .collect(Collectors.toUnmodifiableList());
+    List<String> namedGroups = namedGroupCache.getIfPresent(pattern);
+    if (namedGroups == null) {
+      Grok grok = getCompiledGrok(pattern);
+      namedGroups =
+          grok.namedGroups.stream()
+              .map(grok::getNamedRegexCollectionById)
+              .filter(group -> !group.equals("UNWANTED"))
+              .collect(Collectors.toUnmodifiableList());
+      namedGroupCache.put(pattern, namedGroups);
+    }
+    return namedGroups;
+  }
+
+  /**
+   * Get compiled grok from cache or compile and cache it.
+   *
+   * @param pattern grok pattern
+   * @return compiled grok
+   */
+  public static Grok getCompiledGrok(String pattern) {
+    Grok grok = grokCache.getIfPresent(pattern);
+    if (grok == null) {
+      grok = grokCompiler.compile(pattern);
+      grokCache.put(pattern, grok);
+    }
+    return grok;
+  }
+
+  /**
+   * Extract all the named groups from text with a single match.
+   *
+   * @param text text to extract from
+   * @param grok compiled grok
+   * @param groupNames names of the groups to extract
+   * @return map of group name to the extracted value, or null if not found
+   */
+  public static Map<String, String> extractNamedGroups(
+      String text, Grok grok, List<String> groupNames) {
+    Map<String, Object> capture = grok.match(text).capture();
+    Map<String, String> values = HashMap.newHashMap(groupNames.size());
+    for (String groupName : groupNames) {
+      Object match = capture.get(groupName);
+      values.put(groupName, match == null ? null : match.toString());
+    }
+    return values;
   }
 }
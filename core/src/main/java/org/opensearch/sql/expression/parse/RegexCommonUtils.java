@@ -5,9 +5,10 @@
 
 package org.opensearch.sql.expression.parse;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -27,14 +28,15 @@ public class RegexCommonUtils {
 
   private static final int MAX_CACHE_SIZE = 1000;
 
-  private static final Map<String, Pattern> patternCache =
-      Collections.synchronizedMap(
-          new LinkedHashMap<>(MAX_CACHE_SIZE + 1, 0.75f, true) {
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
-              return size() > MAX_CACHE_SIZE;
-            }
-          });
+  // Cache hits don't take any lock, unlike an access ordered LinkedHashMap behind a global lock
+  private static final Cache<String, Pattern> patternCache =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHE_SIZE).build();
+
+  private static final Cache<String, List<String>> namedGroupCache =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHE_SIZE).build();
+
+  /** Groups of the last match per thread, rex extracts each group of the same row separately. */
+  private static final ThreadLocal<LastMatch> lastMatch = new ThreadLocal<>();
 
   /**
    * Get compiled pattern from cache or compile and cache it.
@@ -44,8 +46,9 @@ public class RegexCommonUtils {
    * @throws PatternSyntaxException if the regex is invalid
    */
   public static Pattern getCompiledPattern(String regex) {
-    Pattern pattern = patternCache.get(regex);
+    Pattern pattern = patternCache.getIfPresent(regex);
     if (pattern == null) {
+      // Compiled outside of the cache loader, so that PatternSyntaxException isn't wrapped
       pattern = Pattern.compile(regex);
       patternCache.put(regex, pattern);
     }
@@ -62,6 +65,16 @@ public class RegexCommonUtils {
    * @throws IllegalArgumentException if any named groups contain invalid characters
    */
   public static List<String> getNamedGroupCandidates(String pattern) {
+    List<String> cached = namedGroupCache.getIfPresent(pattern);
+    if (cached != null) {
+      return cached;
+    }
+    List<String> namedGroups = parseNamedGroupCandidates(pattern);
+    namedGroupCache.put(pattern, namedGroups);
+    return namedGroups;
+  }
+
+  private static List<String> parseNamedGroupCandidates(String pattern) {
     ImmutableList.Builder<String> namedGroups = ImmutableList.builder();
 
     Matcher anyGroupMatcher = ANY_NAMED_GROUP_PATTERN.matcher(pattern);
@@ -140,4 +153,60 @@ public class RegexCommonUtils {
 
     return null;
   }
+
+  /**
+   * Extract all the named groups from text with a single match. Used by parse command regex method
+   * to emit all the derived fields of a row together.
+   *
+   * @param text The text to extract from
+   * @param pattern The compiled pattern with named groups
+   * @param groupNames The names of the groups to extract
+   * @return map of group name to the extracted value, or null if not found
+   */
+  public static Map<String, String> extractNamedGroups(
+      String text, Pattern pattern, List<String> groupNames) {
+    Map<String, String> values = HashMap.newHashMap(groupNames.size());
+    Matcher matcher = text == null || pattern == null ? null : pattern.matcher(text);
+    boolean matched = matcher != null && matcher.matches();
+    for (String groupName : groupNames) {
+      String value = null;
+      if (matched) {
+        try {
+          value = matcher.group(groupName);
+        } catch (IllegalArgumentException e) {
+          // Not a group of the pattern
+        }
+      }
+      values.put(groupName, value);
+    }
+    return values;
+  }
+
+  /**
+   * Find the first match of the pattern in text and return all its groups. The groups of the last
+   * match are kept per thread, so extracting several groups of the same text matches only once.
+   *
+   * @param text The text to match against
+   * @param regex The pattern string
+   * @return groups of the match indexed by group number, or null if the pattern is not found
+   * @throws PatternSyntaxException if the regex is invalid
+   */
+  public static String[] findGroups(String text, String regex) {
+    LastMatch last = lastMatch.get();
+    if (last != null && last.text().equals(text) && last.regex().equals(regex)) {
+      return last.groups();
+    }
+    Matcher matcher = getCompiledPattern(regex).matcher(text);
+    String[] groups = null;
+    if (matcher.find()) {
+      groups = new String[matcher.groupCount() + 1];
+      for (int i = 0; i < groups.length; i++) {
+        groups[i] = matcher.group(i);
+      }
+    }
+    lastMatch.set(new LastMatch(text, regex, groups));
+    return groups;
+  }
+
+  private record LastMatch(String text, String regex, String[] groups) {}
 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.parse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Extracts the literal substrings which every match of a regex contains, so that a regex filter
+ * can be narrowed by an index query before the regex runs. The extraction is conservative: any
+ * construct it doesn't understand ends the current literal, and constructs which change the meaning
+ * of the literals, such as alternation at the top level or inline flags, yield no literal at all.
+ */
+public final class RegexLiteralExtractor {
+
+  private RegexLiteralExtractor() {}
+
+  /**
+   * Get the literals which every match of the regex contains.
+   *
+   * @param regex Java regex
+   * @return required literals in order of appearance, or an empty list if there are none
+   */
+  public static List<String> getRequiredLiterals(String regex) {
+    try {
+      RegexCommonUtils.getCompiledPattern(regex);
+    } catch (PatternSyntaxException e) {
+      return List.of();
+    }
+    if (regex.contains("\\Q")) {
+      // Quoted sections would have to be tracked through groups and classes as well
+      return List.of();
+    }
+    List<String> literals = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    int i = 0;
+    while (i < regex.length()) {
+      char c = regex.charAt(i);
+      // Whether the atom is a single literal char appended to the current literal
+      boolean literalAtom = false;
+      switch (c) {
+        case '\\':
+          if (i + 1 >= regex.length()) {
+            return List.of();
+          }
+          char escaped = regex.charAt(i + 1);
+          if (Character.isLetterOrDigit(escaped)) {
+            // Character classes, anchors, back references and escaped code points
+            if (Character.isDigit(escaped)) {
+              return List.of();
+            }
+            i = skipEscape(regex, i);
+            flush(current, literals);
+            continue;
+          }
+          current.append(escaped);
+          literalAtom = true;
+          i += 2;
+          break;
+        case '[':
+          i = skipCharClass(regex, i);
+          flush(current, literals);
+          break;
+        case '(':
+          if (regex.startsWith("(?", i) && !isGroupWithoutFlags(regex, i)) {
+            return List.of();
+          }
+          i = skipGroup(regex, i);
+          flush(current, literals);
+          break;
+        case '|':
+        case ')':
+          return List.of();
+        case '.':
+        case '^':
+        case '$':
+          i++;
+          flush(current, literals);
+          break;
+        case '*':
+        case '+':
+        case '?':
+        case '{':
+          // Quantifier without a literal before it, the atom was already flushed
+          i = skipQuantifier(regex, i);
+          if (i < 0) {
+            return List.of();
+          }
+          continue;
+        default:
+          current.append(c);
+          literalAtom = true;
+          i++;
+      }
+      if (literalAtom && i < regex.length() && isQuantifierStart(regex.charAt(i))) {
+        int minRepeat = minRepeat(regex, i);
+        i = skipQuantifier(regex, i);
+        if (i < 0) {
+          return List.of();
+        }
+        // The quantified char may repeat, so the literal can't go on past it
+        if (minRepeat == 0) {
+          current.setLength(current.length() - 1);
+        }
+        flush(current, literals);
+      } else if (!literalAtom) {
+        i = skipQuantifierIfAny(regex, i);
+      }
+    }
+    flush(current, literals);
+    return literals;
+  }
+
+  private static void flush(StringBuilder current, List<String> literals) {
+    if (!current.isEmpty()) {
+      literals.add(current.toString());
+      current.setLength(0);
+    }
+  }
+
+  private static boolean isQuantifierStart(char c) {
+    return c == '*' || c == '+' || c == '?' || c == '{';
+  }
+
+  /** Non capturing, named and plain groups are fine, lookarounds and inline flags are not. */
+  private static boolean isGroupWithoutFlags(String regex, int start) {
+    if (regex.startsWith("(?:", start)) {
+      return true;
+    }
+    return regex.startsWith("(?<", start)
+        && start + 3 < regex.length()
+        && Character.isLetter(regex.charAt(start + 3));
+  }
+
+  private static int minRepeat(String regex, int start) {
+    char c = regex.charAt(start);
+    if (c == '+') {
+      return 1;
+    } else if (c == '{') {
+      int end = regex.indexOf('}', start);
+      String bounds = regex.substring(start + 1, end);
+      int comma = bounds.indexOf(',');
+      return Integer.parseInt(comma < 0 ? bounds : bounds.substring(0, comma));
+    }
+    return 0;
+  }
+
+  /** Index after the quantifier and its lazy or possessive suffix, or -1 if it isn't valid. */
+  private static int skipQuantifier(String regex, int start) {
+    char c = regex.charAt(start);
+    int i = start + 1;
+    if (c == '{') {
+      int end = regex.indexOf('}', start);
+      if (end < 0) {
+        return -1;
+      }
+      i = end + 1;
+    }
+    if (i < regex.length() && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+      i++;
+    }
+    return i;
+  }
+
+  private static int skipQuantifierIfAny(String regex, int start) {
+    return start < regex.length() && isQuantifierStart(regex.charAt(start))
+        ? skipQuantifier(regex, start)
+        : start;
+  }
+
+  /** Index after an escape made of a backslash and a letter, with its braces if any. */
+  private static int skipEscape(String regex, int start) {
+    char escaped = regex.charAt(start + 1);
+    int i = start + 2;
+    switch (escaped) {
+      case 'p':
+      case 'P':
+      case 'x':
+      case 'N':
+        if (i < regex.length() && regex.charAt(i) == '{') {
+          return regex.indexOf('}', i) + 1;
+        }
+        return escaped == 'x' ? i + 2 : i + 1;
+      case 'u':
+        return i + 4;
+      case 'c':
+        return i + 1;
+      case 'k':
+        return regex.indexOf('>', i) + 1;
+      default:
+        return i;
+    }
+  }
+
+  /** Index after the character class starting at start, nested classes included. */
+  private static int skipCharClass(String regex, int start) {
+    int depth = 0;
+    int i = start;
+    while (i < regex.length()) {
+      char c = regex.charAt(i);
+      if (c == '\\') {
+        i += 2;
+        continue;
+      }
+      if (c == '[') {
+        depth++;
+        // A closing bracket right after the opening one, or its negation, is a literal
+        if (regex.startsWith("^]", i + 1)) {
+          i += 2;
+        } else if (regex.startsWith("]", i + 1)) {
+          i++;
+        }
+      } else if (c == ']' && --depth == 0) {
+        return i + 1;
+      }
+      i++;
+    }
+    return i;
+  }
+
+  /** Index after the group starting at start, nested groups and classes included. */
+  private static int skipGroup(String regex, int start) {
+    int depth = 0;
+    int i = start;
+    while (i < regex.length()) {
+      char c = regex.charAt(i);
+      if (c == '\\') {
+        i += 2;
+        continue;
+      }
+      if (c == '[') {
+        i = skipCharClass(regex, i);
+        continue;
+      }
+      if (c == '(') {
+        depth++;
+      } else if (c == ')' && --depth == 0) {
+        return i + 1;
+      }
+      i++;
+    }
+    return i;
+  }
+}
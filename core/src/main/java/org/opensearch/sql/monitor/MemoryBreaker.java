@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+/** Memory breaker of the node, which the memory reserved by all the running queries adds up in. */
+public interface MemoryBreaker {
+
+  /** Breaker which never rejects a reservation. */
+  MemoryBreaker NONE =
+      new MemoryBreaker() {
+        @Override
+        public boolean tryReserve(long bytes, String label) {
+          return true;
+        }
+
+        @Override
+        public void release(long bytes) {}
+      };
+
+  /**
+   * Reserve memory, unless the node is short of it.
+   *
+   * @param bytes bytes to reserve
+   * @param label what the memory is reserved for
+   * @return false if the reservation is rejected
+   */
+  boolean tryReserve(long bytes, String label);
+
+  /**
+   * Release memory reserved before.
+   *
+   * @param bytes bytes to release
+   */
+  void release(long bytes);
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.opensearch.sql.exception.MemoryLimitExceededException;
+
+/**
+ * Accounts the memory held by the operators and aggregation states of one query. Reservations are
+ * reported to the {@link MemoryBreaker} of the node, which rejects them when the node is short of
+ * memory, and everything still reserved is released when the query closes its accountant.
+ *
+ * <p>The accountant of the query running on a thread is found with {@link #current()}, so that the
+ * states created by generated code can report into it without a reference to the query.
+ */
+public class QueryMemoryAccountant implements AutoCloseable {
+
+  /** Accountant of threads which don't run a query, it doesn't account anything. */
+  private static final QueryMemoryAccountant UNTRACKED = new QueryMemoryAccountant(null);
+
+  private static final ThreadLocal<QueryMemoryAccountant> current = new ThreadLocal<>();
+
+  private static volatile MemoryBreaker nodeBreaker = MemoryBreaker.NONE;
+
+  /** Breaker of the node, null if the accountant doesn't account anything. */
+  private final MemoryBreaker breaker;
+
+  private final AtomicLong reservedBytes = new AtomicLong();
+
+  private volatile boolean closed = false;
+
+  private QueryMemoryAccountant(MemoryBreaker breaker) {
+    this.breaker = breaker;
+  }
+
+  /** Set the breaker of the node, which the accountants opened afterwards report to. */
+  public static void setNodeBreaker(MemoryBreaker breaker) {
+    nodeBreaker = breaker;
+  }
+
+  /**
+   * Open the accountant of a query which runs on the current thread.
+   *
+   * @return accountant, which must be closed when the query is done
+   */
+  public static QueryMemoryAccountant open() {
+    QueryMemoryAccountant accountant = new QueryMemoryAccountant(nodeBreaker);
+    current.set(accountant);
+    return accountant;
+  }
+
+  /**
+   * Accountant of the query running on the current thread.
+   *
+   * @return accountant of the query, or one which doesn't account anything if there is no query
+   */
+  public static QueryMemoryAccountant current() {
+    QueryMemoryAccountant accountant = current.get();
+    return accountant == null ? UNTRACKED : accountant;
+  }
+
+  /**
+   * Reserve memory for the query.
+   *
+   * @param bytes bytes to reserve
+   * @param label what the memory is reserved for
+   * @throws MemoryLimitExceededException if the node is short of memory
+   */
+  public void reserve(long bytes, String label) {
+    if (!tryReserve(bytes, label)) {
+      throw new MemoryLimitExceededException(
+          String.format(
+              "insufficient memory to run the query, [%s] would use more memory than the circuit"
+                  + " breaker allows, quit.",
+              label));
+    }
+  }
+
+  /**
+   * Reserve memory for the query, unless the node is short of it.
+   *
+   * @param bytes bytes to reserve
+   * @param label what the memory is reserved for
+   * @return false if the reservation is rejected, so that the caller can spill instead
+   */
+  public boolean tryReserve(long bytes, String label) {
+    if (breaker == null || closed) {
+      return true;
+    }
+    if (!breaker.tryReserve(bytes, label)) {
+      return false;
+    }
+    reservedBytes.addAndGet(bytes);
+    return true;
+  }
+
+  /**
+   * Release memory reserved by the query before.
+   *
+   * @param bytes bytes to release
+   */
+  public void release(long bytes) {
+    if (breaker == null || closed) {
+      return;
+    }
+    reservedBytes.addAndGet(-bytes);
+    breaker.release(bytes);
+  }
+
+  /** Memory reserved by the query and not released yet. */
+  public long getReservedBytes() {
+    return reservedBytes.get();
+  }
+
+  /** Release all the memory still reserved by the query. */
+  @Override
+  public void close() {
+    if (breaker == null || closed) {
+      return;
+    }
+    closed = true;
+    breaker.release(reservedBytes.getAndSet(0));
+    if (current.get() == this) {
+      current.remove();
+    }
+  }
+}
@@ -16,4 +16,13 @@ public abstract class ResourceMonitor {
    * @return true for healthy, otherwise false.
    */
   public abstract boolean isHealthy();
+
+  /**
+   * Memory an operator may buffer rows in before spilling them to disk.
+   *
+   * @return budget in bytes, {@link Long#MAX_VALUE} if unlimited.
+   */
+  public long getMemoryBudget() {
+    return Long.MAX_VALUE;
+  }
 }
@@ -9,7 +9,6 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
-import java.util.PriorityQueue;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -17,11 +16,13 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.physical.spill.ExternalSorter;
 
 /**
  * Sort Operator.The input data is sorted by the sort fields in the {@link SortOperator#sortList}.
  * The sort field is specified by the {@link Expression} with {@link SortOption}. The count indicate
- * how many sorted result should been return.
+ * how many sorted result should been return. Once the buffered rows exceed the memory budget, they
+ * are spilled to disk as sorted runs which are merged when the rows are returned.
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
@@ -30,6 +31,8 @@ public class SortOperator extends PhysicalPlan {
 
   @Getter private final List<Pair<SortOption, Expression>> sortList;
   @EqualsAndHashCode.Exclude private final Comparator<ExprValue> sorter;
+  @EqualsAndHashCode.Exclude private final long memoryBudget;
+  @EqualsAndHashCode.Exclude @ToString.Exclude private ExternalSorter externalSorter;
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
 
   /**
@@ -40,9 +43,23 @@ public class SortOperator extends PhysicalPlan {
    *     with {@link SortOption}
    */
   public SortOperator(PhysicalPlan input, List<Pair<SortOption, Expression>> sortList) {
+    this(input, sortList, Long.MAX_VALUE);
+  }
+
+  /**
+   * Sort Operator Constructor.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field. The sort field is specified by the {@link Expression}
+   *     with {@link SortOption}
+   * @param memoryBudget estimated bytes of rows to sort in memory before spilling them to disk
+   */
+  public SortOperator(
+      PhysicalPlan input, List<Pair<SortOption, Expression>> sortList, long memoryBudget) {
     this.input = input;
     this.sortList = sortList;
     this.sorter = SortHelper.constructExprComparator(sortList);
+    this.memoryBudget = memoryBudget;
   }
 
   @Override
@@ -53,12 +70,21 @@ public class SortOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    PriorityQueue<ExprValue> sorted = new PriorityQueue<>(1, sorter::compare);
+    externalSorter = new ExternalSorter(sorter, memoryBudget);
     while (input.hasNext()) {
-      sorted.add(input.next());
+      externalSorter.add(input.next());
     }
 
-    iterator = iterator(sorted);
+    iterator = externalSorter.sorted();
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    if (externalSorter != null) {
+      externalSorter.close();
+      externalSorter = null;
+    }
   }
 
   @Override
@@ -75,18 +101,4 @@ public class SortOperator extends PhysicalPlan {
   public ExprValue next() {
     return iterator.next();
   }
-
-  private Iterator<ExprValue> iterator(PriorityQueue<ExprValue> result) {
-    return new Iterator<ExprValue>() {
-      @Override
-      public boolean hasNext() {
-        return !result.isEmpty();
-      }
-
-      @Override
-      public ExprValue next() {
-        return result.poll();
-      }
-    };
-  }
 }
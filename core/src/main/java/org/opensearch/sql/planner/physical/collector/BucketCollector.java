@@ -11,7 +11,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.TreeMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -19,12 +18,17 @@ import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.monitor.QueryMemoryAccountant;
+import org.opensearch.sql.planner.physical.spill.ExprValueCodec;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /** Collect Bucket from {@link BindingTuple}. */
 @RequiredArgsConstructor
 public class BucketCollector implements Collector {
 
+  /** Rough estimation of the heap used by a bucket besides its key. */
+  private static final long BUCKET_OVERHEAD = 128;
+
   /** Bucket Expression. */
   private final NamedExpression bucketExpr;
 
@@ -32,10 +36,10 @@ public class BucketCollector implements Collector {
   private final Supplier<Collector> supplier;
 
   /**
-   * Map from bucketKey to nested collector sorted by key to make sure final result is in order
-   * after traversal.
+   * Hash table from bucketKey to nested collector, sorted by key only when the results are built to
+   * make sure final result is in order after traversal.
    */
-  private final Map<ExprValue, Collector> collectorMap = new TreeMap<>();
+  private final BucketTable collectorTable = new BucketTable();
 
   /** Bucket Index. */
   private int bucketIndex = 0;
@@ -49,9 +53,13 @@ public class BucketCollector implements Collector {
    */
   @Override
   public void collect(BindingTuple input) {
-    ExprValue bucketKey = bucketKey(input);
-    collectorMap.putIfAbsent(bucketKey, supplier.get());
-    collectorMap.get(bucketKey).collect(input);
+    ExprValue key = bucketKey(input);
+    int size = collectorTable.size();
+    collectorTable.computeIfAbsent(key, supplier).collect(input);
+    if (collectorTable.size() > size) {
+      QueryMemoryAccountant.current()
+          .reserve(BUCKET_OVERHEAD + ExprValueCodec.estimateSize(key), "aggregation buckets");
+    }
   }
 
   /**
@@ -72,13 +80,16 @@ public class BucketCollector implements Collector {
   @Override
   public List<ExprValue> results() {
     ExprValue[] buckets = allocateBuckets();
-    for (Map.Entry<ExprValue, Collector> entry : collectorMap.entrySet()) {
+    String bucketName = bucketExpr.getNameOrAlias();
+    for (Map.Entry<ExprValue, Collector> entry : collectorTable.sortedEntries()) {
       ImmutableList.Builder<ExprValue> builder = new ImmutableList.Builder<>();
       for (ExprValue tuple : entry.getValue().results()) {
-        LinkedHashMap<String, ExprValue> tmp = new LinkedHashMap<>();
-        tmp.put(bucketExpr.getNameOrAlias(), entry.getKey());
-        tmp.putAll(tuple.tupleValue());
-        builder.add(ExprTupleValue.fromExprValueMap(tmp));
+        Map<String, ExprValue> values = tuple.tupleValue();
+        // Sized up front and owned by the new tuple, so it is not copied again
+        LinkedHashMap<String, ExprValue> tmp = LinkedHashMap.newLinkedHashMap(values.size() + 1);
+        tmp.put(bucketName, entry.getKey());
+        tmp.putAll(values);
+        builder.add(new ExprTupleValue(tmp));
       }
       buckets[locateBucket(entry.getKey())] = new ExprCollectionValue(builder.build());
     }
@@ -94,7 +105,7 @@ public class BucketCollector implements Collector {
    * @return buckets.
    */
   protected ExprValue[] allocateBuckets() {
-    return new ExprValue[collectorMap.size()];
+    return new ExprValue[collectorTable.size()];
   }
 
   /**
@@ -0,0 +1,210 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Open addressing hash table from bucket key to the {@link Collector} of the bucket. While all the
+ * keys have the same integral, floating point or string type, they are hashed and compared on their
+ * primitive value, and sorted only once when the buckets are returned. Keys of any other type, or
+ * of mixed types, fall back to a {@link TreeMap} since {@link ExprValue} equality is defined by
+ * {@link ExprValue#compareTo(Object)} and not every type has a consistent hash code.
+ */
+class BucketTable {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private enum KeyKind {
+    EMPTY,
+    LONG,
+    DOUBLE,
+    STRING,
+    GENERIC
+  }
+
+  private KeyKind kind = KeyKind.EMPTY;
+
+  /** Exact class of all the keys, unless the kind is generic. */
+  private Class<?> keyClass;
+
+  private ExprValue[] keys = new ExprValue[INITIAL_CAPACITY];
+
+  /** Long value or double bits of the keys of a primitive kind. */
+  private long[] primitiveKeys = new long[INITIAL_CAPACITY];
+
+  private int[] hashes = new int[INITIAL_CAPACITY];
+
+  private Collector[] collectors = new Collector[INITIAL_CAPACITY];
+
+  private int size = 0;
+
+  /** Buckets of generic keys, null until the first generic key. */
+  private TreeMap<ExprValue, Collector> genericCollectors;
+
+  /** Number of buckets. */
+  int size() {
+    return kind == KeyKind.GENERIC ? genericCollectors.size() : size;
+  }
+
+  /**
+   * Collector of the bucket, created if the bucket doesn't exist yet.
+   *
+   * @param key bucket key
+   * @param supplier supplier of the collector of a new bucket
+   * @return collector of the bucket
+   */
+  Collector computeIfAbsent(ExprValue key, Supplier<Collector> supplier) {
+    if (kind == KeyKind.EMPTY) {
+      kind = kindOf(key);
+      keyClass = key.getClass();
+      if (kind == KeyKind.GENERIC) {
+        genericCollectors = new TreeMap<>();
+      }
+    } else if (kind != KeyKind.GENERIC && key.getClass() != keyClass) {
+      toGeneric();
+    }
+    if (kind == KeyKind.GENERIC) {
+      return genericCollectors.computeIfAbsent(key, k -> supplier.get());
+    }
+    long primitive = primitiveOf(key);
+    int hash = hashOf(key, primitive);
+    int mask = keys.length - 1;
+    int slot = hash & mask;
+    while (keys[slot] != null) {
+      if (hashes[slot] == hash && matches(slot, key, primitive)) {
+        return collectors[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+    Collector collector = supplier.get();
+    keys[slot] = key;
+    primitiveKeys[slot] = primitive;
+    hashes[slot] = hash;
+    collectors[slot] = collector;
+    size++;
+    // Keep the load factor under 0.75 for short probe sequences
+    if (size * 4 >= keys.length * 3) {
+      rehash(keys.length * 2);
+    }
+    return collector;
+  }
+
+  /**
+   * All the buckets sorted by key.
+   *
+   * @return entries of bucket key and collector
+   */
+  List<Map.Entry<ExprValue, Collector>> sortedEntries() {
+    if (kind == KeyKind.GENERIC) {
+      return new ArrayList<>(genericCollectors.entrySet());
+    }
+    List<Map.Entry<ExprValue, Collector>> entries = new ArrayList<>(size);
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null) {
+        entries.add(new AbstractMap.SimpleImmutableEntry<>(keys[i], collectors[i]));
+      }
+    }
+    entries.sort(Map.Entry.comparingByKey());
+    return entries;
+  }
+
+  private static KeyKind kindOf(ExprValue key) {
+    Class<?> type = key.getClass();
+    if (type == ExprLongValue.class
+        || type == ExprIntegerValue.class
+        || type == ExprShortValue.class
+        || type == ExprByteValue.class) {
+      return KeyKind.LONG;
+    } else if (type == ExprDoubleValue.class || type == ExprFloatValue.class) {
+      return KeyKind.DOUBLE;
+    } else if (type == ExprStringValue.class) {
+      return KeyKind.STRING;
+    } else {
+      return KeyKind.GENERIC;
+    }
+  }
+
+  private long primitiveOf(ExprValue key) {
+    switch (kind) {
+      case LONG:
+        return key.longValue();
+      case DOUBLE:
+        // Same bits for the values which Double.compare considers equal
+        return Double.doubleToLongBits(key.doubleValue());
+      default:
+        return 0L;
+    }
+  }
+
+  private int hashOf(ExprValue key, long primitive) {
+    return kind == KeyKind.STRING ? spread(key.stringValue().hashCode()) : spread(primitive);
+  }
+
+  private boolean matches(int slot, ExprValue key, long primitive) {
+    return kind == KeyKind.STRING
+        ? keys[slot].stringValue().equals(key.stringValue())
+        : primitiveKeys[slot] == primitive;
+  }
+
+  /** Fibonacci hashing, so that sequential keys don't fill consecutive slots. */
+  private static int spread(long value) {
+    return (int) ((value * 0x9E3779B97F4A7C15L) >>> 32);
+  }
+
+  /** Fall back to generic keys once a key of another type shows up. */
+  private void toGeneric() {
+    kind = KeyKind.GENERIC;
+    genericCollectors = new TreeMap<>();
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null) {
+        genericCollectors.put(keys[i], collectors[i]);
+      }
+    }
+    keys = null;
+    primitiveKeys = null;
+    hashes = null;
+    collectors = null;
+  }
+
+  private void rehash(int capacity) {
+    ExprValue[] oldKeys = keys;
+    long[] oldPrimitiveKeys = primitiveKeys;
+    int[] oldHashes = hashes;
+    Collector[] oldCollectors = collectors;
+    keys = new ExprValue[capacity];
+    primitiveKeys = new long[capacity];
+    hashes = new int[capacity];
+    collectors = new Collector[capacity];
+    int mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] == null) {
+        continue;
+      }
+      int slot = oldHashes[i] & mask;
+      while (keys[slot] != null) {
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = oldKeys[i];
+      primitiveKeys[slot] = oldPrimitiveKeys[i];
+      hashes[slot] = oldHashes[i];
+      collectors[slot] = oldCollectors[i];
+    }
+  }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+
+/**
+ * Compact binary format of {@link ExprValue} rows spilled to disk. Values of the core types are
+ * written as a type tag followed by their primitive content, any other value falls back to Java
+ * serialization.
+ */
+@UtilityClass
+public class ExprValueCodec {
+
+  private static final byte NULL = 0;
+  private static final byte MISSING = 1;
+  private static final byte BOOLEAN = 2;
+  private static final byte BYTE = 3;
+  private static final byte SHORT = 4;
+  private static final byte INTEGER = 5;
+  private static final byte LONG = 6;
+  private static final byte FLOAT = 7;
+  private static final byte DOUBLE = 8;
+  private static final byte STRING = 9;
+  private static final byte DATE = 10;
+  private static final byte TIME = 11;
+  private static final byte TIMESTAMP = 12;
+  private static final byte TUPLE = 13;
+  private static final byte COLLECTION = 14;
+  private static final byte SERIALIZED = 15;
+
+  /**
+   * Write a value.
+   *
+   * @param out output to write to
+   * @param value value to write
+   */
+  public static void write(DataOutput out, ExprValue value) throws IOException {
+    // Exact classes only, subclasses may carry more state than their core type
+    Class<?> type = value.getClass();
+    if (type == ExprNullValue.class) {
+      out.writeByte(NULL);
+    } else if (type == ExprMissingValue.class) {
+      out.writeByte(MISSING);
+    } else if (type == ExprBooleanValue.class) {
+      out.writeByte(BOOLEAN);
+      out.writeBoolean(value.booleanValue());
+    } else if (type == ExprByteValue.class) {
+      out.writeByte(BYTE);
+      out.writeByte(value.byteValue());
+    } else if (type == ExprShortValue.class) {
+      out.writeByte(SHORT);
+      out.writeShort(value.shortValue());
+    } else if (type == ExprIntegerValue.class) {
+      out.writeByte(INTEGER);
+      out.writeInt(value.integerValue());
+    } else if (type == ExprLongValue.class) {
+      out.writeByte(LONG);
+      out.writeLong(value.longValue());
+    } else if (type == ExprFloatValue.class) {
+      out.writeByte(FLOAT);
+      out.writeFloat(value.floatValue());
+    } else if (type == ExprDoubleValue.class) {
+      out.writeByte(DOUBLE);
+      out.writeDouble(value.doubleValue());
+    } else if (type == ExprStringValue.class) {
+      out.writeByte(STRING);
+      writeString(out, value.stringValue());
+    } else if (type == ExprDateValue.class) {
+      out.writeByte(DATE);
+      out.writeLong(value.dateValue().toEpochDay());
+    } else if (type == ExprTimeValue.class) {
+      out.writeByte(TIME);
+      out.writeLong(value.timeValue().toNanoOfDay());
+    } else if (type == ExprTimestampValue.class) {
+      out.writeByte(TIMESTAMP);
+      out.writeLong(value.timestampValue().getEpochSecond());
+      out.writeInt(value.timestampValue().getNano());
+    } else if (type == ExprTupleValue.class) {
+      out.writeByte(TUPLE);
+      Map<String, ExprValue> tuple = value.tupleValue();
+      out.writeInt(tuple.size());
+      for (Map.Entry<String, ExprValue> entry : tuple.entrySet()) {
+        writeString(out, entry.getKey());
+        write(out, entry.getValue());
+      }
+    } else if (type == ExprCollectionValue.class) {
+      out.writeByte(COLLECTION);
+      List<ExprValue> collection = value.collectionValue();
+      out.writeInt(collection.size());
+      for (ExprValue element : collection) {
+        write(out, element);
+      }
+    } else {
+      out.writeByte(SERIALIZED);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+        objectOutput.writeObject(value);
+      }
+      out.writeInt(bytes.size());
+      out.write(bytes.toByteArray());
+    }
+  }
+
+  /**
+   * Read a value written by {@link #write(DataOutput, ExprValue)}.
+   *
+   * @param in input to read from
+   * @return value read
+   */
+  public static ExprValue read(DataInput in) throws IOException {
+    byte tag = in.readByte();
+    switch (tag) {
+      case NULL:
+        return ExprNullValue.of();
+      case MISSING:
+        return ExprMissingValue.of();
+      case BOOLEAN:
+        return ExprBooleanValue.of(in.readBoolean());
+      case BYTE:
+        return ExprValueUtils.byteValue(in.readByte());
+      case SHORT:
+        return ExprValueUtils.shortValue(in.readShort());
+      case INTEGER:
+        return ExprValueUtils.integerValue(in.readInt());
+      case LONG:
+        return ExprValueUtils.longValue(in.readLong());
+      case FLOAT:
+        return ExprValueUtils.floatValue(in.readFloat());
+      case DOUBLE:
+        return ExprValueUtils.doubleValue(in.readDouble());
+      case STRING:
+        return new ExprStringValue(readString(in));
+      case DATE:
+        return new ExprDateValue(LocalDate.ofEpochDay(in.readLong()));
+      case TIME:
+        return new ExprTimeValue(LocalTime.ofNanoOfDay(in.readLong()));
+      case TIMESTAMP:
+        return new ExprTimestampValue(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+      case TUPLE:
+        int size = in.readInt();
+        LinkedHashMap<String, ExprValue> tuple = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+          String key = readString(in);
+          tuple.put(key, read(in));
+        }
+        return new ExprTupleValue(tuple);
+      case COLLECTION:
+        int length = in.readInt();
+        List<ExprValue> collection = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+          collection.add(read(in));
+        }
+        return new ExprCollectionValue(collection);
+      case SERIALIZED:
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        try (ObjectInputStream objectInput =
+            new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+          return (ExprValue) objectInput.readObject();
+        } catch (ClassNotFoundException e) {
+          throw new IOException("failed to read spilled value", e);
+        }
+      default:
+        throw new IOException(String.format("unknown spilled value type: %d", tag));
+    }
+  }
+
+  /**
+   * Rough estimation of the heap used by a value, to decide when buffered rows are spilled.
+   *
+   * @param value value
+   * @return estimated size in bytes
+   */
+  public static long estimateSize(ExprValue value) {
+    Class<?> type = value.getClass();
+    if (type == ExprNullValue.class || type == ExprMissingValue.class) {
+      return 8;
+    } else if (type == ExprStringValue.class) {
+      return 64 + value.stringValue().length();
+    } else if (type == ExprTupleValue.class) {
+      long size = 64;
+      for (Map.Entry<String, ExprValue> entry : value.tupleValue().entrySet()) {
+        size += 48 + entry.getKey().length() + estimateSize(entry.getValue());
+      }
+      return size;
+    } else if (type == ExprCollectionValue.class) {
+      long size = 48;
+      for (ExprValue element : value.collectionValue()) {
+        size += 8 + estimateSize(element);
+      }
+      return size;
+    } else {
+      return 48;
+    }
+  }
+
+  static void writeString(DataOutput out, String value) throws IOException {
+    // Not writeUTF, which is limited to 64KB
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  static String readString(DataInput in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
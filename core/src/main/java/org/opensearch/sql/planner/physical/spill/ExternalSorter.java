@@ -0,0 +1,255 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.monitor.QueryMemoryAccountant;
+
+/**
+ * Sorts rows in memory until their estimated size reaches the memory budget, then spills the
+ * buffered rows as a sorted run to a temporary file. The sorted rows are the k-way merge of the
+ * runs and the rows still buffered, or the buffered rows alone if nothing was spilled. The buffered
+ * rows are also reserved in the {@link QueryMemoryAccountant} of the query, and spilled early if
+ * the node is short of memory.
+ */
+public class ExternalSorter implements AutoCloseable {
+
+  private static final String RUN_FILE_PREFIX = "opensearch-sql-sort-";
+
+  private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+  private static final String MEMORY_LABEL = "sort buffer";
+
+  private final Comparator<ExprValue> comparator;
+
+  private final long memoryBudget;
+
+  private PriorityQueue<ExprValue> buffer;
+
+  private long bufferedSize = 0;
+
+  private final List<Path> runs = new ArrayList<>();
+
+  private final List<DataInputStream> readers = new ArrayList<>();
+
+  private final QueryMemoryAccountant accountant;
+
+  /**
+   * Constructor.
+   *
+   * @param comparator row comparator
+   * @param memoryBudget estimated bytes of rows buffered before they are spilled
+   */
+  public ExternalSorter(Comparator<ExprValue> comparator, long memoryBudget) {
+    this.comparator = comparator;
+    this.memoryBudget = memoryBudget;
+    this.buffer = new PriorityQueue<>(1, comparator);
+    this.accountant = QueryMemoryAccountant.current();
+  }
+
+  /** Add a row, spilling the buffered rows if they exceed the memory budget. */
+  public void add(ExprValue row) {
+    long size = ExprValueCodec.estimateSize(row);
+    if (!accountant.tryReserve(size, MEMORY_LABEL)) {
+      // Make room for the row by spilling the rows buffered so far
+      if (!buffer.isEmpty()) {
+        spill();
+      }
+      accountant.reserve(size, MEMORY_LABEL);
+    }
+    buffer.add(row);
+    bufferedSize += size;
+    if (bufferedSize >= memoryBudget) {
+      spill();
+    }
+  }
+
+  /** Files of the runs spilled to disk. */
+  public List<Path> getSpilledRuns() {
+    return List.copyOf(runs);
+  }
+
+  /**
+   * Iterator of all the rows added, in order. Rows mustn't be added after this is called.
+   *
+   * @return sorted rows
+   */
+  public Iterator<ExprValue> sorted() {
+    if (runs.isEmpty()) {
+      return new BufferIterator(buffer);
+    }
+    List<Iterator<ExprValue>> sources = new ArrayList<>(runs.size() + 1);
+    for (Path run : runs) {
+      sources.add(new RunIterator(open(run)));
+    }
+    sources.add(new BufferIterator(buffer));
+    return new MergeIterator(sources);
+  }
+
+  private void spill() {
+    try {
+      Path run = Files.createTempFile(RUN_FILE_PREFIX, ".run");
+      runs.add(run);
+      try (DataOutputStream out =
+          new DataOutputStream(
+              new BufferedOutputStream(Files.newOutputStream(run), IO_BUFFER_SIZE))) {
+        while (!buffer.isEmpty()) {
+          out.writeBoolean(true);
+          ExprValueCodec.write(out, buffer.poll());
+        }
+        out.writeBoolean(false);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("failed to spill sorted rows to disk", e);
+    }
+    // Start over with a small queue rather than keeping the grown one
+    buffer = new PriorityQueue<>(1, comparator);
+    accountant.release(bufferedSize);
+    bufferedSize = 0;
+  }
+
+  private DataInputStream open(Path run) {
+    try {
+      DataInputStream in =
+          new DataInputStream(new BufferedInputStream(Files.newInputStream(run), IO_BUFFER_SIZE));
+      readers.add(in);
+      return in;
+    } catch (IOException e) {
+      throw new UncheckedIOException("failed to read spilled rows", e);
+    }
+  }
+
+  /** Delete the spilled runs. */
+  @Override
+  public void close() {
+    for (DataInputStream reader : readers) {
+      try {
+        reader.close();
+      } catch (IOException e) {
+        // The run is deleted below anyway.
+      }
+    }
+    readers.clear();
+    for (Path run : runs) {
+      try {
+        Files.deleteIfExists(run);
+      } catch (IOException e) {
+        run.toFile().deleteOnExit();
+      }
+    }
+    runs.clear();
+    buffer.clear();
+    accountant.release(bufferedSize);
+    bufferedSize = 0;
+  }
+
+  /** Rows buffered in memory, polled in order. */
+  private static class BufferIterator implements Iterator<ExprValue> {
+    private final PriorityQueue<ExprValue> buffer;
+
+    BufferIterator(PriorityQueue<ExprValue> buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !buffer.isEmpty();
+    }
+
+    @Override
+    public ExprValue next() {
+      if (buffer.isEmpty()) {
+        throw new NoSuchElementException();
+      }
+      return buffer.poll();
+    }
+  }
+
+  /** Rows of a sorted run, read one at a time. */
+  private static class RunIterator implements Iterator<ExprValue> {
+    private final DataInputStream in;
+    private ExprValue next;
+
+    RunIterator(DataInputStream in) {
+      this.in = in;
+      this.next = readNext();
+    }
+
+    private ExprValue readNext() {
+      try {
+        return in.readBoolean() ? ExprValueCodec.read(in) : null;
+      } catch (IOException e) {
+        throw new UncheckedIOException("failed to read spilled rows", e);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public ExprValue next() {
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+      ExprValue current = next;
+      next = readNext();
+      return current;
+    }
+  }
+
+  /** K-way merge of sorted sources, ties are taken from the earlier source to keep runs order. */
+  private class MergeIterator implements Iterator<ExprValue> {
+    private final PriorityQueue<Head> heads;
+
+    MergeIterator(List<Iterator<ExprValue>> sources) {
+      heads =
+          new PriorityQueue<>(
+              sources.size(),
+              Comparator.comparing(Head::value, comparator).thenComparingInt(Head::source));
+      for (int i = 0; i < sources.size(); i++) {
+        Iterator<ExprValue> source = sources.get(i);
+        if (source.hasNext()) {
+          heads.add(new Head(i, source, source.next()));
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !heads.isEmpty();
+    }
+
+    @Override
+    public ExprValue next() {
+      Head head = heads.poll();
+      if (head == null) {
+        throw new NoSuchElementException();
+      }
+      if (head.iterator().hasNext()) {
+        heads.add(new Head(head.source(), head.iterator(), head.iterator().next()));
+      }
+      return head.value();
+    }
+  }
+
+  private record Head(int source, Iterator<ExprValue> iterator, ExprValue value) {}
+}
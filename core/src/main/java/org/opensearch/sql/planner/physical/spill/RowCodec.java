@@ -0,0 +1,224 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Compact binary format of the rows of Calcite enumerables spilled to disk, which are arrays of
+ * Java values, or a single value for a row of one field. Values of the common Java types are
+ * written as a type tag followed by their primitive content, {@link ExprValue}s as written by
+ * {@link ExprValueCodec}, and any other serializable value falls back to Java serialization.
+ */
+@UtilityClass
+public class RowCodec {
+
+  private static final byte NULL = 0;
+  private static final byte BOOLEAN = 1;
+  private static final byte BYTE = 2;
+  private static final byte SHORT = 3;
+  private static final byte INTEGER = 4;
+  private static final byte LONG = 5;
+  private static final byte FLOAT = 6;
+  private static final byte DOUBLE = 7;
+  private static final byte STRING = 8;
+  private static final byte DECIMAL = 9;
+  private static final byte ARRAY = 10;
+  private static final byte LIST = 11;
+  private static final byte MAP = 12;
+  private static final byte EXPR_VALUE = 13;
+  private static final byte SERIALIZED = 14;
+
+  /**
+   * Write a row or a value of a row.
+   *
+   * @param out output to write to
+   * @param value value to write
+   * @throws NotSerializableException if the value is of no known type and isn't serializable
+   */
+  public static void write(DataOutput out, Object value) throws IOException {
+    if (value == null) {
+      out.writeByte(NULL);
+    } else if (value instanceof Boolean booleanValue) {
+      out.writeByte(BOOLEAN);
+      out.writeBoolean(booleanValue);
+    } else if (value instanceof Byte byteValue) {
+      out.writeByte(BYTE);
+      out.writeByte(byteValue);
+    } else if (value instanceof Short shortValue) {
+      out.writeByte(SHORT);
+      out.writeShort(shortValue);
+    } else if (value instanceof Integer intValue) {
+      out.writeByte(INTEGER);
+      out.writeInt(intValue);
+    } else if (value instanceof Long longValue) {
+      out.writeByte(LONG);
+      out.writeLong(longValue);
+    } else if (value instanceof Float floatValue) {
+      out.writeByte(FLOAT);
+      out.writeFloat(floatValue);
+    } else if (value instanceof Double doubleValue) {
+      out.writeByte(DOUBLE);
+      out.writeDouble(doubleValue);
+    } else if (value instanceof String stringValue) {
+      out.writeByte(STRING);
+      ExprValueCodec.writeString(out, stringValue);
+    } else if (value instanceof BigDecimal decimalValue) {
+      out.writeByte(DECIMAL);
+      ExprValueCodec.writeString(out, decimalValue.toString());
+    } else if (value instanceof Object[] array) {
+      out.writeByte(ARRAY);
+      out.writeInt(array.length);
+      for (Object element : array) {
+        write(out, element);
+      }
+    } else if (value instanceof List<?> list) {
+      out.writeByte(LIST);
+      out.writeInt(list.size());
+      for (Object element : list) {
+        write(out, element);
+      }
+    } else if (value instanceof Map<?, ?> map) {
+      out.writeByte(MAP);
+      out.writeInt(map.size());
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        write(out, entry.getKey());
+        write(out, entry.getValue());
+      }
+    } else if (value instanceof ExprValue exprValue) {
+      out.writeByte(EXPR_VALUE);
+      ExprValueCodec.write(out, exprValue);
+    } else if (value instanceof Serializable) {
+      out.writeByte(SERIALIZED);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+        objectOutput.writeObject(value);
+      }
+      out.writeInt(bytes.size());
+      out.write(bytes.toByteArray());
+    } else {
+      throw new NotSerializableException(value.getClass().getName());
+    }
+  }
+
+  /**
+   * Read a row or a value written by {@link #write(DataOutput, Object)}. Lists and maps are read
+   * back as {@link ArrayList} and {@link LinkedHashMap}.
+   *
+   * @param in input to read from
+   * @return value read
+   */
+  public static Object read(DataInput in) throws IOException {
+    byte tag = in.readByte();
+    switch (tag) {
+      case NULL:
+        return null;
+      case BOOLEAN:
+        return in.readBoolean();
+      case BYTE:
+        return in.readByte();
+      case SHORT:
+        return in.readShort();
+      case INTEGER:
+        return in.readInt();
+      case LONG:
+        return in.readLong();
+      case FLOAT:
+        return in.readFloat();
+      case DOUBLE:
+        return in.readDouble();
+      case STRING:
+        return ExprValueCodec.readString(in);
+      case DECIMAL:
+        return new BigDecimal(ExprValueCodec.readString(in));
+      case ARRAY:
+        Object[] array = new Object[in.readInt()];
+        for (int i = 0; i < array.length; i++) {
+          array[i] = read(in);
+        }
+        return array;
+      case LIST:
+        int length = in.readInt();
+        List<Object> list = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+          list.add(read(in));
+        }
+        return list;
+      case MAP:
+        int size = in.readInt();
+        Map<Object, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+          Object key = read(in);
+          map.put(key, read(in));
+        }
+        return map;
+      case EXPR_VALUE:
+        return ExprValueCodec.read(in);
+      case SERIALIZED:
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        try (ObjectInputStream objectInput =
+            new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+          return objectInput.readObject();
+        } catch (ClassNotFoundException e) {
+          throw new IOException("failed to read spilled value", e);
+        }
+      default:
+        throw new IOException(String.format("unknown spilled value type: %d", tag));
+    }
+  }
+
+  /**
+   * Rough estimation of the heap used by a row or a value, to decide when rows are spilled.
+   *
+   * @param value value
+   * @return estimated size in bytes
+   */
+  public static long estimateSize(Object value) {
+    if (value == null) {
+      return 8;
+    } else if (value instanceof String stringValue) {
+      return 48 + stringValue.length();
+    } else if (value instanceof Object[] array) {
+      long size = 16;
+      for (Object element : array) {
+        size += 8 + estimateSize(element);
+      }
+      return size;
+    } else if (value instanceof List<?> list) {
+      long size = 48;
+      for (Object element : list) {
+        size += 8 + estimateSize(element);
+      }
+      return size;
+    } else if (value instanceof Map<?, ?> map) {
+      long size = 64;
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        size += 48 + estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+      }
+      return size;
+    } else if (value instanceof ExprValue exprValue) {
+      return ExprValueCodec.estimateSize(exprValue);
+    } else {
+      return 24;
+    }
+  }
+}
@@ -0,0 +1,677 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.function.Function2;
+import org.opensearch.sql.monitor.QueryMemoryAccountant;
+
+/**
+ * Equi hash join of Calcite enumerables which spills to disk when its hash table outgrows its
+ * memory budget, in the way of a grace hash join.
+ *
+ * <p>The inner input is built into a hash table until the estimated size of its rows reaches the
+ * budget, or the {@link QueryMemoryAccountant} of the query rejects them. From then on the rows of
+ * both inputs are written to {@link #PARTITIONS} temporary files each by the hash of their key, and
+ * the partitions are joined one at a time, partitioning them again by another hash if they still
+ * don't fit. Keys too skewed to be split after {@link #MAX_DEPTH} levels are held in memory as long
+ * as the node allows it.
+ *
+ * <p>The inner input is fully enumerated before the outer input is opened. As long as nothing is
+ * spilled, rows are returned in the order of the outer input, followed by the unmatched rows of the
+ * inner input for the joins which return them. A key which is null or contains a null never
+ * matches.
+ */
+public class SpillableHashJoin {
+
+  private static final int PARTITION_BITS = 4;
+
+  private static final int PARTITIONS = 1 << PARTITION_BITS;
+
+  private static final int MAX_DEPTH = 3;
+
+  /** Estimated heap of a hash table entry besides the row itself. */
+  private static final long ENTRY_SIZE = 64;
+
+  private static final String FILE_PREFIX = "opensearch-sql-join-";
+
+  /** Smaller than for sort runs, since up to twice as many files are written at once. */
+  private static final int IO_BUFFER_SIZE = 16 * 1024;
+
+  private static final String MEMORY_LABEL = "join hash table";
+
+  /** Default of plugins.calcite.join.memory_budget, in percent of the heap. */
+  public static final int DEFAULT_MEMORY_BUDGET_PERCENT = 5;
+
+  /** Memory budget of a join, kept in sync with plugins.calcite.join.memory_budget. */
+  private static volatile long memoryBudget =
+      Runtime.getRuntime().maxMemory() / 100 * DEFAULT_MEMORY_BUDGET_PERCENT;
+
+  private final Function1<Object, Object> outerKeySelector;
+
+  private final Function1<Object, Object> innerKeySelector;
+
+  /** Combines an outer and an inner row, either being null if unmatched. Null for semi joins. */
+  private final Function2<Object, Object, Object> resultSelector;
+
+  private final Mode mode;
+
+  private final boolean generateNullsOnLeft;
+
+  private final boolean generateNullsOnRight;
+
+  private final long budget;
+
+  private final QueryMemoryAccountant accountant;
+
+  private final List<SpillFile> files = new ArrayList<>();
+
+  private final List<AutoCloseable> resources = new ArrayList<>();
+
+  /** Rows of the inner input with a null key, kept for the joins which return them unmatched. */
+  private SpillFile nullKeyInnerRows;
+
+  private long reservedSize = 0;
+
+  @VisibleForTesting
+  SpillableHashJoin(
+      Function1<Object, Object> outerKeySelector,
+      Function1<Object, Object> innerKeySelector,
+      Function2<Object, Object, Object> resultSelector,
+      Mode mode,
+      boolean generateNullsOnLeft,
+      boolean generateNullsOnRight,
+      long budget) {
+    this.outerKeySelector = outerKeySelector;
+    this.innerKeySelector = innerKeySelector;
+    this.resultSelector = resultSelector;
+    this.mode = mode;
+    this.generateNullsOnLeft = generateNullsOnLeft;
+    this.generateNullsOnRight = generateNullsOnRight;
+    this.budget = budget;
+    this.accountant = QueryMemoryAccountant.current();
+  }
+
+  /** Set the memory budget of the joins started afterwards. */
+  public static void setMemoryBudget(long bytes) {
+    memoryBudget = bytes;
+  }
+
+  public static long getMemoryBudget() {
+    return memoryBudget;
+  }
+
+  /**
+   * Join two inputs, with the same semantics as Calcite's hash join.
+   *
+   * @param outer left input
+   * @param inner right input, which the hash table is built from
+   * @param outerKeySelector key of a left row
+   * @param innerKeySelector key of a right row
+   * @param resultSelector combines a left and a right row, either being null if unmatched
+   * @param generateNullsOnLeft whether unmatched right rows are returned
+   * @param generateNullsOnRight whether unmatched left rows are returned
+   * @return joined rows
+   */
+  @SuppressWarnings("unchecked")
+  public static <L, R, K, T> Enumerable<T> hashJoin(
+      Enumerable<L> outer,
+      Enumerable<R> inner,
+      Function1<L, K> outerKeySelector,
+      Function1<R, K> innerKeySelector,
+      Function2<L, R, T> resultSelector,
+      boolean generateNullsOnLeft,
+      boolean generateNullsOnRight) {
+    return new AbstractEnumerable<>() {
+      @Override
+      public Enumerator<T> enumerator() {
+        return (Enumerator<T>)
+            new SpillableHashJoin(
+                    (Function1<Object, Object>) (Function1<?, ?>) outerKeySelector,
+                    (Function1<Object, Object>) (Function1<?, ?>) innerKeySelector,
+                    (Function2<Object, Object, Object>) (Function2<?, ?, ?>) resultSelector,
+                    Mode.JOIN,
+                    generateNullsOnLeft,
+                    generateNullsOnRight,
+                    memoryBudget)
+                .enumerator((Enumerable<Object>) outer, (Enumerable<Object>) inner);
+      }
+    };
+  }
+
+  /**
+   * Semi or anti join two inputs, returning the left rows with or without a match.
+   *
+   * @param outer left input
+   * @param inner right input, which the hash table is built from
+   * @param outerKeySelector key of a left row
+   * @param innerKeySelector key of a right row
+   * @param anti whether the left rows without a match are returned instead
+   * @return left rows
+   */
+  @SuppressWarnings("unchecked")
+  public static <L, R, K> Enumerable<L> semiJoin(
+      Enumerable<L> outer,
+      Enumerable<R> inner,
+      Function1<L, K> outerKeySelector,
+      Function1<R, K> innerKeySelector,
+      boolean anti) {
+    return new AbstractEnumerable<>() {
+      @Override
+      public Enumerator<L> enumerator() {
+        return (Enumerator<L>)
+            new SpillableHashJoin(
+                    (Function1<Object, Object>) (Function1<?, ?>) outerKeySelector,
+                    (Function1<Object, Object>) (Function1<?, ?>) innerKeySelector,
+                    null,
+                    anti ? Mode.ANTI : Mode.SEMI,
+                    false,
+                    false,
+                    memoryBudget)
+                .enumerator((Enumerable<Object>) outer, (Enumerable<Object>) inner);
+      }
+    };
+  }
+
+  /** Temporary files written so far and not deleted yet. */
+  @VisibleForTesting
+  List<Path> getSpilledFiles() {
+    return files.stream().map(file -> file.path).toList();
+  }
+
+  /**
+   * Build the hash table of the inner input, then return the joined rows as the outer input is
+   * enumerated. Like Calcite's hash join, a reset enumerates both inputs again.
+   */
+  @VisibleForTesting
+  Enumerator<Object> enumerator(Enumerable<Object> outer, Enumerable<Object> inner) {
+    Iterator<Object> start = start(outer, inner);
+    return new Enumerator<>() {
+      private Iterator<Object> output = start;
+
+      private Object current;
+
+      @Override
+      public Object current() {
+        return current;
+      }
+
+      @Override
+      public boolean moveNext() {
+        if (output.hasNext()) {
+          current = output.next();
+          return true;
+        }
+        return false;
+      }
+
+      @Override
+      public void reset() {
+        SpillableHashJoin.this.close();
+        current = null;
+        output = start(outer, inner);
+      }
+
+      @Override
+      public void close() {
+        SpillableHashJoin.this.close();
+      }
+    };
+  }
+
+  private Iterator<Object> start(Enumerable<Object> outer, Enumerable<Object> inner) {
+    try {
+      Table table;
+      try (Enumerator<Object> innerRows = inner.enumerator()) {
+        table = build(iterator(innerRows), 0);
+      }
+      return concat(
+          List.of(
+              () -> table.probe(open(outer)),
+              () -> nullKeyInnerRows == null ? Collections.emptyIterator() : unmatchedInner()));
+    } catch (RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /** Close the outer input, delete the spilled files and release the memory still reserved. */
+  private void close() {
+    for (AutoCloseable resource : resources) {
+      try {
+        resource.close();
+      } catch (Exception e) {
+        // The files are deleted below anyway.
+      }
+    }
+    resources.clear();
+    for (SpillFile file : files) {
+      file.delete();
+    }
+    files.clear();
+    nullKeyInnerRows = null;
+    accountant.release(reservedSize);
+    reservedSize = 0;
+  }
+
+  private Table build(Iterator<Object> innerRows, int depth) {
+    Table table = new Table(depth);
+    while (innerRows.hasNext()) {
+      table.add(innerRows.next());
+    }
+    return table;
+  }
+
+  private Iterator<Object> open(Enumerable<Object> outer) {
+    Enumerator<Object> outerRows = outer.enumerator();
+    resources.add(outerRows);
+    return iterator(outerRows);
+  }
+
+  private Iterator<Object> unmatchedInner() {
+    Iterator<Object> rows = nullKeyInnerRows.read();
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return rows.hasNext();
+      }
+
+      @Override
+      public Object next() {
+        return resultSelector.apply(null, rows.next());
+      }
+    };
+  }
+
+  private static boolean isNullKey(Object key) {
+    return key == null || (key instanceof List<?> list && list.contains(null));
+  }
+
+  /** Partition of a key, by a hash which differs at each depth. */
+  private static int partition(Object key, int depth) {
+    int hash = (key.hashCode() ^ (depth * 0x85EBCA6B)) * 0x9E3779B9;
+    return hash >>> (Integer.SIZE - PARTITION_BITS);
+  }
+
+  /** Hash table of the inner input, or of one of its partitions. */
+  private class Table {
+    private final int depth;
+
+    private Map<Object, Bucket> buckets = new HashMap<>();
+
+    private long size = 0;
+
+    /** Files of the partitioned rows of the inner input, null until the table is spilled. */
+    private SpillFile[] partitions;
+
+    Table(int depth) {
+      this.depth = depth;
+    }
+
+    void add(Object row) {
+      Object key = innerKeySelector.apply(row);
+      if (isNullKey(key)) {
+        if (generateNullsOnLeft) {
+          if (nullKeyInnerRows == null) {
+            nullKeyInnerRows = new SpillFile();
+          }
+          nullKeyInnerRows.write(row);
+        }
+        return;
+      }
+      if (partitions != null) {
+        partitionFile(partitions, key).write(row);
+        return;
+      }
+      long rowSize = ENTRY_SIZE + RowCodec.estimateSize(row);
+      if (depth < MAX_DEPTH) {
+        if (size + rowSize > budget || !accountant.tryReserve(rowSize, MEMORY_LABEL)) {
+          spill();
+          partitionFile(partitions, key).write(row);
+          return;
+        }
+      } else {
+        // The keys couldn't be split any further, hold them in memory as long as the node allows
+        accountant.reserve(rowSize, MEMORY_LABEL);
+      }
+      buckets.computeIfAbsent(key, k -> new Bucket()).rows.add(row);
+      size += rowSize;
+      reservedSize += rowSize;
+    }
+
+    /** Outer rows probed against the table, followed by the unmatched rows of the table. */
+    Iterator<Object> probe(Iterator<Object> outerRows) {
+      if (partitions != null) {
+        return probeSpilled(outerRows);
+      }
+      return concat(
+          List.of(
+              () -> new ProbeIterator(outerRows, this, null),
+              () -> generateNullsOnLeft ? unmatched() : Collections.emptyIterator(),
+              () -> {
+                free();
+                return Collections.emptyIterator();
+              }));
+    }
+
+    /** Partition the outer rows as the table, then join the partitions one at a time. */
+    private Iterator<Object> probeSpilled(Iterator<Object> outerRows) {
+      SpillFile[] outerPartitions = new SpillFile[PARTITIONS];
+      List<Supplier<Iterator<Object>>> stages = new ArrayList<>(PARTITIONS + 1);
+      // Outer rows with a null key have no partition, they are returned as unmatched right away
+      stages.add(() -> new ProbeIterator(outerRows, this, outerPartitions));
+      for (int i = 0; i < PARTITIONS; i++) {
+        int partition = i;
+        stages.add(() -> joinPartition(partitions[partition], outerPartitions[partition]));
+      }
+      return concat(stages);
+    }
+
+    private Iterator<Object> joinPartition(SpillFile inner, SpillFile outer) {
+      boolean returnsUnmatchedOuter = mode == Mode.ANTI || generateNullsOnRight;
+      if ((inner == null && (outer == null || !returnsUnmatchedOuter))
+          || (outer == null && !generateNullsOnLeft)) {
+        return Collections.emptyIterator();
+      }
+      Table table = build(inner == null ? Collections.emptyIterator() : inner.read(), depth + 1);
+      return table.probe(outer == null ? Collections.emptyIterator() : outer.read());
+    }
+
+    private Iterator<Object> unmatched() {
+      return buckets.values().stream()
+          .filter(bucket -> !bucket.matched)
+          .flatMap(bucket -> bucket.rows.stream())
+          .map(row -> resultSelector.apply(null, row))
+          .iterator();
+    }
+
+    private SpillFile partitionFile(SpillFile[] files, Object key) {
+      int partition = partition(key, depth);
+      if (files[partition] == null) {
+        files[partition] = new SpillFile();
+      }
+      return files[partition];
+    }
+
+    private void spill() {
+      partitions = new SpillFile[PARTITIONS];
+      for (Map.Entry<Object, Bucket> entry : buckets.entrySet()) {
+        SpillFile file = partitionFile(partitions, entry.getKey());
+        for (Object row : entry.getValue().rows) {
+          file.write(row);
+        }
+      }
+      free();
+    }
+
+    private void free() {
+      buckets = Map.of();
+      accountant.release(size);
+      reservedSize -= size;
+      size = 0;
+    }
+  }
+
+  /** Rows of the inner input with the same key. */
+  private static class Bucket {
+    private final List<Object> rows = new ArrayList<>(1);
+    private boolean matched = false;
+  }
+
+  /**
+   * Joined rows of outer rows probed against a table. If the table is spilled, the outer rows are
+   * written to the given partitions instead, except the ones with a null key.
+   */
+  private class ProbeIterator implements Iterator<Object> {
+    private final Iterator<Object> outerRows;
+    private final Table table;
+    private final SpillFile[] outerPartitions;
+    private Object outerRow;
+    private List<Object> matches = List.of();
+    private int index = 0;
+    private Object next;
+    private boolean hasNextRow = false;
+
+    ProbeIterator(Iterator<Object> outerRows, Table table, SpillFile[] outerPartitions) {
+      this.outerRows = outerRows;
+      this.table = table;
+      this.outerPartitions = outerPartitions;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!hasNextRow) {
+        if (index < matches.size()) {
+          setNext(resultSelector.apply(outerRow, matches.get(index++)));
+        } else if (outerRows.hasNext()) {
+          probe(outerRows.next());
+        } else {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public Object next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      hasNextRow = false;
+      return next;
+    }
+
+    private void probe(Object row) {
+      outerRow = row;
+      matches = List.of();
+      index = 0;
+      Object key = outerKeySelector.apply(row);
+      Bucket bucket = null;
+      if (!isNullKey(key)) {
+        if (outerPartitions != null) {
+          table.partitionFile(outerPartitions, key).write(row);
+          return;
+        }
+        bucket = table.buckets.get(key);
+      }
+      switch (mode) {
+        case JOIN:
+          if (bucket != null) {
+            bucket.matched = true;
+            matches = bucket.rows;
+          } else if (generateNullsOnRight) {
+            setNext(resultSelector.apply(row, null));
+          }
+          break;
+        case SEMI:
+          if (bucket != null) {
+            setNext(row);
+          }
+          break;
+        case ANTI:
+          if (bucket == null) {
+            setNext(row);
+          }
+          break;
+        default:
+          throw new IllegalStateException("unexpected join mode: " + mode);
+      }
+    }
+
+    private void setNext(Object row) {
+      next = row;
+      hasNextRow = true;
+    }
+  }
+
+  /** Rows of one input written to a temporary file, then read back once. */
+  private class SpillFile {
+    private final Path path;
+    private DataOutputStream out;
+    private DataInputStream in;
+
+    SpillFile() {
+      try {
+        path = Files.createTempFile(FILE_PREFIX, ".part");
+        files.add(this);
+        out =
+            new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path), IO_BUFFER_SIZE));
+      } catch (IOException e) {
+        throw new UncheckedIOException("failed to spill join rows to disk", e);
+      }
+    }
+
+    void write(Object row) {
+      try {
+        out.writeBoolean(true);
+        RowCodec.write(out, row);
+      } catch (IOException e) {
+        throw new UncheckedIOException("failed to spill join rows to disk", e);
+      }
+    }
+
+    Iterator<Object> read() {
+      try {
+        out.writeBoolean(false);
+        out.close();
+        out = null;
+        in =
+            new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path), IO_BUFFER_SIZE));
+      } catch (IOException e) {
+        throw new UncheckedIOException("failed to read spilled join rows", e);
+      }
+      return new Iterator<>() {
+        private boolean hasNextRow = readMarker();
+
+        @Override
+        public boolean hasNext() {
+          return hasNextRow;
+        }
+
+        @Override
+        public Object next() {
+          if (!hasNextRow) {
+            throw new NoSuchElementException();
+          }
+          try {
+            Object row = RowCodec.read(in);
+            hasNextRow = readMarker();
+            return row;
+          } catch (IOException e) {
+            throw new UncheckedIOException("failed to read spilled join rows", e);
+          }
+        }
+
+        private boolean readMarker() {
+          try {
+            return in.readBoolean();
+          } catch (IOException e) {
+            throw new UncheckedIOException("failed to read spilled join rows", e);
+          }
+        }
+      };
+    }
+
+    void delete() {
+      try {
+        if (out != null) {
+          out.close();
+        }
+        if (in != null) {
+          in.close();
+        }
+      } catch (IOException e) {
+        // The file is deleted below anyway.
+      }
+      try {
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        path.toFile().deleteOnExit();
+      }
+    }
+  }
+
+  @VisibleForTesting
+  enum Mode {
+    JOIN,
+    SEMI,
+    ANTI
+  }
+
+  private static Iterator<Object> iterator(Enumerator<Object> enumerator) {
+    return new Iterator<>() {
+      private boolean advanced = false;
+      private boolean hasNextRow = false;
+
+      @Override
+      public boolean hasNext() {
+        if (!advanced) {
+          hasNextRow = enumerator.moveNext();
+          advanced = true;
+        }
+        return hasNextRow;
+      }
+
+      @Override
+      public Object next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        advanced = false;
+        return enumerator.current();
+      }
+    };
+  }
+
+  /** Rows of each stage in turn, a stage being only started once the previous one is done. */
+  private static Iterator<Object> concat(List<Supplier<Iterator<Object>>> stages) {
+    return new Iterator<>() {
+      private int stage = 0;
+      private Iterator<Object> current = Collections.emptyIterator();
+
+      @Override
+      public boolean hasNext() {
+        while (!current.hasNext()) {
+          if (stage == stages.size()) {
+            return false;
+          }
+          current = stages.get(stage++).get();
+        }
+        return true;
+      }
+
+      @Override
+      public Object next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return current.next();
+      }
+    };
+  }
+}
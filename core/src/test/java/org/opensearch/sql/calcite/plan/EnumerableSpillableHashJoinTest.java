@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.opensearch.sql.calcite.utils.OpenSearchTypeFactory.TYPE_FACTORY;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Set;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.adapter.enumerable.EnumerableValues;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.volcano.VolcanoPlanner;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.planner.physical.spill.SpillableHashJoin;
+
+class EnumerableSpillableHashJoinTest {
+
+  private final RexBuilder rexBuilder = new RexBuilder(TYPE_FACTORY);
+
+  private final RelOptCluster cluster = RelOptCluster.create(new VolcanoPlanner(), rexBuilder);
+
+  private final RelDataType rowType =
+      TYPE_FACTORY.builder().add("id", SqlTypeName.BIGINT).add("name", SqlTypeName.VARCHAR).build();
+
+  @Test
+  void replaceEquiHashJoin() {
+    RelNode plan = EnumerableSpillableHashJoin.replaceHashJoins(hashJoin());
+
+    assertInstanceOf(EnumerableSpillableHashJoin.class, plan);
+  }
+
+  @Test
+  void keepHashJoinWithoutMemoryBudget() {
+    long budget = SpillableHashJoin.getMemoryBudget();
+    SpillableHashJoin.setMemoryBudget(0);
+    try {
+      RelNode join = hashJoin();
+
+      assertSame(join, EnumerableSpillableHashJoin.replaceHashJoins(join));
+    } finally {
+      SpillableHashJoin.setMemoryBudget(budget);
+    }
+  }
+
+  private RelNode hashJoin() {
+    RelNode left = EnumerableValues.create(cluster, rowType, ImmutableList.of());
+    RelNode right = EnumerableValues.create(cluster, rowType, ImmutableList.of());
+    return EnumerableHashJoin.create(
+        left,
+        right,
+        rexBuilder.makeCall(
+            SqlStdOperatorTable.EQUALS,
+            rexBuilder.makeInputRef(left, 0),
+            rexBuilder.makeInputRef(rowType.getFieldList().get(0).getType(), 2)),
+        Set.of(),
+        JoinRelType.INNER);
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.opensearch.sql.calcite.utils.OpenSearchTypeFactory.TYPE_FACTORY;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Set;
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.adapter.enumerable.EnumerableValues;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.volcano.VolcanoPlanner;
+import org.apache.calcite.rel.AbstractRelNode;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class RuntimeJoinFilterInjectorTest {
+
+  private final RexBuilder rexBuilder = new RexBuilder(TYPE_FACTORY);
+
+  private final RelOptCluster cluster = RelOptCluster.create(new VolcanoPlanner(), rexBuilder);
+
+  private final RelDataType rowType =
+      TYPE_FACTORY.builder().add("id", SqlTypeName.BIGINT).add("name", SqlTypeName.VARCHAR).build();
+
+  @ParameterizedTest
+  @EnumSource(
+      value = JoinRelType.class,
+      names = {"INNER", "SEMI", "RIGHT"})
+  void injectIntoJoinsDroppingUnmatchedLeftRows(JoinRelType joinType) {
+    RelNode plan = RuntimeJoinFilterInjector.inject(hashJoin(new FilterableScan(true), joinType));
+
+    EnumerableHashJoin join = assertInstanceOf(EnumerableHashJoin.class, plan);
+    assertEquals(joinType, join.getJoinType());
+    FilterableScan probe = assertInstanceOf(FilterableScan.class, join.getLeft());
+    EnumerableRuntimeFilterCollector build =
+        assertInstanceOf(EnumerableRuntimeFilterCollector.class, join.getRight());
+    assertEquals(1, probe.filteredField);
+    assertEquals(1, build.getKeyIndex());
+    assertSame(probe.filter, build.getFilter());
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = JoinRelType.class,
+      names = {"LEFT", "ANTI", "FULL"})
+  void skipJoinsKeepingUnmatchedLeftRows(JoinRelType joinType) {
+    RelNode join = hashJoin(new FilterableScan(true), joinType);
+
+    assertSame(join, RuntimeJoinFilterInjector.inject(join));
+  }
+
+  @Test
+  void skipScanNotFilterableByKey() {
+    RelNode join = hashJoin(new FilterableScan(false), JoinRelType.INNER);
+
+    assertSame(join, RuntimeJoinFilterInjector.inject(join));
+  }
+
+  /** Hash join on the name of both inputs. */
+  private RelNode hashJoin(RelNode left, JoinRelType joinType) {
+    RelNode right = EnumerableValues.create(cluster, rowType, ImmutableList.of());
+    return EnumerableHashJoin.create(
+        left,
+        right,
+        rexBuilder.makeCall(
+            SqlStdOperatorTable.EQUALS,
+            rexBuilder.makeInputRef(left, 1),
+            rexBuilder.makeInputRef(rowType.getFieldList().get(1).getType(), 3)),
+        Set.of(),
+        joinType);
+  }
+
+  /** Scan which records the runtime filter applied to it. */
+  private class FilterableScan extends AbstractRelNode implements RuntimeFilterable {
+
+    private final boolean filterable;
+
+    private final int filteredField;
+
+    private final RuntimeJoinFilter filter;
+
+    FilterableScan(boolean filterable) {
+      this(filterable, -1, null);
+    }
+
+    private FilterableScan(boolean filterable, int filteredField, RuntimeJoinFilter filter) {
+      super(cluster, cluster.traitSetOf(EnumerableConvention.INSTANCE));
+      this.filterable = filterable;
+      this.filteredField = filteredField;
+      this.filter = filter;
+    }
+
+    @Override
+    protected RelDataType deriveRowType() {
+      return rowType;
+    }
+
+    @Override
+    public @Nullable RelNode withRuntimeFilter(int fieldIndex, RuntimeJoinFilter filter) {
+      return filterable ? new FilterableScan(true, fieldIndex, filter) : null;
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.Test;
+
+class RuntimeJoinFilterTest {
+
+  @Test
+  void completeOnceBuildSideIsExhausted() {
+    RuntimeJoinFilter filter = new RuntimeJoinFilter();
+    Enumerable<Object[]> rows =
+        filter.collect(
+            Linq4j.asEnumerable(
+                List.of(
+                    new Object[] {1, "a"},
+                    new Object[] {2, "b"},
+                    new Object[] {1, "c"},
+                    new Object[] {null, "d"})),
+            row -> row[0]);
+
+    try (Enumerator<Object[]> enumerator = rows.enumerator()) {
+      assertTrue(enumerator.moveNext());
+      assertEquals("a", enumerator.current()[1]);
+      assertFalse(filter.isComplete());
+      while (enumerator.moveNext()) {
+        assertFalse(filter.isComplete());
+      }
+    }
+    assertTrue(filter.isComplete());
+    assertEquals(Set.of(1, 2), filter.getValues());
+    assertEquals(1, filter.getMin());
+    assertEquals(2, filter.getMax());
+  }
+
+  @Test
+  void keepOnlyRangeBeyondMaxValues() {
+    RuntimeJoinFilter filter = new RuntimeJoinFilter(2);
+    enumerateAll(filter.collect(Linq4j.asEnumerable(List.of(5L, 1L, 9L)), key -> key));
+
+    assertTrue(filter.isComplete());
+    assertNull(filter.getValues());
+    assertEquals(1L, filter.getMin());
+    assertEquals(9L, filter.getMax());
+  }
+
+  @Test
+  void noRangeOfStringKeys() {
+    RuntimeJoinFilter filter = new RuntimeJoinFilter();
+    enumerateAll(filter.collect(Linq4j.asEnumerable(Arrays.asList("b", null, "a")), key -> key));
+
+    assertTrue(filter.isComplete());
+    assertEquals(Set.of("a", "b"), filter.getValues());
+    assertNull(filter.getMin());
+    assertNull(filter.getMax());
+  }
+
+  @Test
+  void compareMixedNumbers() {
+    RuntimeJoinFilter filter = new RuntimeJoinFilter();
+    enumerateAll(filter.collect(Linq4j.asEnumerable(List.<Number>of(3, 2.5, 7L)), key -> key));
+
+    assertEquals(2.5, filter.getMin());
+    assertEquals(7L, filter.getMax());
+  }
+
+  @Test
+  void incompleteWithUnsupportedKey() {
+    RuntimeJoinFilter filter = new RuntimeJoinFilter();
+    enumerateAll(filter.collect(Linq4j.asEnumerable(List.of(1, BigDecimal.TEN)), key -> key));
+
+    assertFalse(filter.isComplete());
+  }
+
+  @Test
+  void restartWhenBuildSideIsEnumeratedAgain() {
+    RuntimeJoinFilter filter = new RuntimeJoinFilter();
+    Enumerable<String> rows = filter.collect(Linq4j.asEnumerable(List.of("a", "b")), key -> key);
+    enumerateAll(rows);
+    assertTrue(filter.isComplete());
+
+    try (Enumerator<String> enumerator = rows.enumerator()) {
+      assertTrue(enumerator.moveNext());
+      assertFalse(filter.isComplete());
+      assertEquals(Set.of("a"), filter.getValues());
+    }
+  }
+
+  private static <T> void enumerateAll(Enumerable<T> rows) {
+    try (Enumerator<T> enumerator = rows.enumerator()) {
+      while (enumerator.moveNext()) {
+        enumerator.current();
+      }
+    }
+  }
+}
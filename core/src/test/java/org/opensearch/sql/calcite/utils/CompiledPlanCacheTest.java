@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.runtime.ArrayBindable;
+import org.apache.calcite.runtime.Bindable;
+import org.junit.jupiter.api.Test;
+
+class CompiledPlanCacheTest {
+
+  @Test
+  void reuseCompiledBindableForSameCode() {
+    CompiledPlanCache cache = new CompiledPlanCache(10);
+    AtomicInteger compilations = new AtomicInteger();
+    Bindable bindable = mock(Bindable.class);
+
+    Bindable first =
+        cache.getOrCompile(
+            "code",
+            () -> {
+              compilations.incrementAndGet();
+              return bindable;
+            });
+    Bindable second =
+        cache.getOrCompile(
+            "code",
+            () -> {
+              compilations.incrementAndGet();
+              return mock(Bindable.class);
+            });
+
+    assertSame(bindable, first);
+    assertSame(bindable, second);
+    assertEquals(1, compilations.get());
+    assertEquals(1, cache.stats().hitCount());
+    assertEquals(1, cache.stats().missCount());
+  }
+
+  @Test
+  void evictWhenExceedMaximumSize() {
+    CompiledPlanCache cache = new CompiledPlanCache(1);
+    cache.getOrCompile("code1", () -> mock(Bindable.class));
+    cache.getOrCompile("code2", () -> mock(Bindable.class));
+
+    assertEquals(1, cache.size());
+    assertEquals(1, cache.stats().evictionCount());
+  }
+
+  @Test
+  void resizeKeepsCumulativeStats() {
+    CompiledPlanCache cache = new CompiledPlanCache(10);
+    cache.getOrCompile("code", () -> mock(Bindable.class));
+    cache.getOrCompile("code", () -> mock(Bindable.class));
+
+    cache.resize(0);
+    assertFalse(cache.isEnabled());
+    assertEquals(0, cache.size());
+    assertEquals(1, cache.stats().hitCount());
+    assertEquals(1, cache.stats().missCount());
+
+    cache.resize(5);
+    assertTrue(cache.isEnabled());
+    assertEquals(5, cache.getCapacity());
+  }
+
+  @Test
+  void propagateCompilationFailure() {
+    CompiledPlanCache cache = new CompiledPlanCache(10);
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            cache.getOrCompile(
+                "code",
+                () -> {
+                  throw new IllegalArgumentException("bad code");
+                }));
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            cache.getOrCompile(
+                "code",
+                () -> {
+                  throw new Exception("checked");
+                }));
+  }
+
+  @Test
+  void stashedParametersTakePrecedenceOverDataContext() {
+    ArrayBindable compiled = mock(ArrayBindable.class);
+    when(compiled.getElementType()).thenReturn(Object[].class);
+    when(compiled.bind(any()))
+        .thenAnswer(
+            invocation -> {
+              DataContext root = invocation.getArgument(0);
+              return Linq4j.asEnumerable(
+                  new Object[][] {{root.get("v0"), root.get("currentTimestamp")}});
+            });
+    DataContext dataContext = mock(DataContext.class);
+    when(dataContext.get("v0")).thenReturn("from data context");
+    when(dataContext.get("currentTimestamp")).thenReturn(1L);
+
+    CompiledPlanCache.StashedBindable bindable =
+        new CompiledPlanCache.StashedBindable(compiled, Map.of("v0", "stashed"));
+
+    Object[] row = (Object[]) bindable.bind(dataContext).first();
+    assertEquals("stashed", row[0]);
+    assertEquals(1L, row[1]);
+    assertEquals(Object[].class, bindable.getElementType());
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+
+class RefPathAccessorTest {
+
+  private final ExprValue value =
+      tupleValue(
+          Map.of(
+              "name",
+              "bob smith",
+              "project.year",
+              1990,
+              "project",
+              Map.of("year", 2020),
+              "address",
+              Map.of("state", "WA", "project.year", 1990),
+              "address.local",
+              Map.of("state", "WA"),
+              "employees",
+              List.of(Map.of("name", "alice"), Map.of("name", "carol"))));
+
+  @Test
+  void resolveTopLevelField() {
+    assertEquals(stringValue("bob smith"), RefPathAccessor.of("name").resolve(value));
+  }
+
+  @Test
+  void resolveFlattenedFieldBeforeNestedOne() {
+    assertEquals(integerValue(1990), RefPathAccessor.of("project.year").resolve(value));
+    assertEquals(integerValue(1990), RefPathAccessor.of("address.project.year").resolve(value));
+  }
+
+  @Test
+  void resolveFirstElementOfArray() {
+    assertEquals(stringValue("alice"), RefPathAccessor.of("employees.name").resolve(value));
+  }
+
+  @Test
+  void resolveMissingField() {
+    assertTrue(RefPathAccessor.of("address.local.state").resolve(value).isMissing());
+    assertTrue(RefPathAccessor.of("unknown.field").resolve(value).isMissing());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "name",
+        "project",
+        "project.year",
+        "address.state",
+        "address.project.year",
+        "address.local.state",
+        "employees.name",
+        "unknown.field"
+      })
+  void sameAsResolveRefPaths(String path) {
+    assertEquals(
+        ExprValueUtils.resolveRefPaths(value, Arrays.asList(path.split("\\."))),
+        RefPathAccessor.of(path).resolve(value));
+  }
+}
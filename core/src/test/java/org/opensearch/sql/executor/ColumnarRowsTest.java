@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.booleanValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.collectionValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.floatValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+class ColumnarRowsTest {
+
+  private final ColumnarRows.IntVector ints = new ColumnarRows.IntVector();
+  private final ColumnarRows.LongVector longs = new ColumnarRows.LongVector();
+  private final ColumnarRows.FloatVector floats = new ColumnarRows.FloatVector();
+  private final ColumnarRows.DoubleVector doubles = new ColumnarRows.DoubleVector();
+  private final ColumnarRows.BooleanVector booleans = new ColumnarRows.BooleanVector();
+  private final ColumnarRows.StringVector strings = new ColumnarRows.StringVector();
+  private final ColumnarRows.ValueVector values = new ColumnarRows.ValueVector();
+
+  private final ColumnarRows rows =
+      new ColumnarRows(
+          List.of("i", "l", "f", "d", "b", "s", "v"),
+          List.of(ints, longs, floats, doubles, booleans, strings, values));
+
+  @Test
+  void rowValuesAreSameAsExprValues() {
+    appendRow();
+
+    assertEquals(1, rows.size());
+    assertArrayEquals(
+        new Object[] {1, 2L, 3.0f, 4.0d, true, "five", List.of("six")}, rows.rowValues(0));
+
+    Map<String, ExprValue> expected = new LinkedHashMap<>();
+    expected.put("i", integerValue(1));
+    expected.put("l", longValue(2L));
+    expected.put("f", floatValue(3.0f));
+    expected.put("d", doubleValue(4.0d));
+    expected.put("b", booleanValue(true));
+    expected.put("s", stringValue("five"));
+    expected.put("v", collectionValue(List.of("six")));
+    assertEquals(ExprTupleValue.fromExprValueMap(expected), rows.get(0));
+    assertEquals(longValue(2L), rows.getValue(0, 1));
+  }
+
+  @Test
+  void nullValues() {
+    ints.appendNull();
+    longs.appendNull();
+    floats.appendNull();
+    doubles.appendNull();
+    booleans.appendNull();
+    strings.append(null);
+    values.append(ExprNullValue.of());
+    rows.endRow();
+
+    assertArrayEquals(new Object[7], rows.rowValues(0));
+    rows.get(0).tupleValue().values().forEach(value -> assertTrue(value.isNull()));
+  }
+
+  @Test
+  void growBeyondInitialCapacity() {
+    for (int i = 0; i < 100; i++) {
+      appendRow();
+    }
+    assertEquals(100, rows.size());
+    assertEquals(integerValue(1), rows.getValue(99, 0));
+  }
+
+  @Test
+  void clearAndReuse() {
+    appendRow();
+    rows.clear();
+    assertEquals(0, rows.size());
+    assertThrows(IndexOutOfBoundsException.class, () -> rows.get(0));
+
+    ints.appendNull();
+    longs.append(7L);
+    floats.append(7.0f);
+    doubles.append(7.0d);
+    booleans.append(false);
+    strings.append("seven");
+    values.append(stringValue("seven"));
+    rows.endRow();
+    assertArrayEquals(
+        new Object[] {null, 7L, 7.0f, 7.0d, false, "seven", "seven"}, rows.rowValues(0));
+  }
+
+  @Test
+  void mismatchedColumns() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new ColumnarRows(List.of("a", "b"), List.of(ints)));
+  }
+
+  private void appendRow() {
+    ints.append(1);
+    longs.append(2L);
+    floats.append(3.0f);
+    doubles.append(4.0d);
+    booleans.append(true);
+    strings.append("five");
+    values.append(collectionValue(List.of("six")));
+    rows.endRow();
+  }
+}
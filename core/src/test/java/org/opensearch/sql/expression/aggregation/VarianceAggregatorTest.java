@@ -114,6 +114,18 @@ public class VarianceAggregatorTest extends AggregationTest {
     assertEquals(0.25, result.value());
   }
 
+  @Test
+  public void variance_sample_with_single_value() {
+    ExprValue result = varianceSample(doubleValue(3d), nullValue());
+    assertEquals(0d, result.value());
+  }
+
+  @Test
+  public void variance_pop_with_large_offset() {
+    ExprValue result = variancePop(doubleValue(1e9 + 3d), doubleValue(1e9 + 4d));
+    assertEquals(0.25, result.value());
+  }
+
   @Test
   public void variance_sample_with_all_missing_or_null() {
     ExprValue result = varianceSample(missingValue(), nullValue());
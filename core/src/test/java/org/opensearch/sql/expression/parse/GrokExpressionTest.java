@@ -6,6 +6,8 @@
 package org.opensearch.sql.expression.parse;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.config.TestConfig.STRING_TYPE_MISSING_VALUE_FIELD;
@@ -132,4 +134,21 @@ class GrokExpressionTest extends ExpressionTestBase {
                     DSL.literal("request"))
                 .valueOf(valueEnv()));
   }
+
+  @Test
+  public void extract_all_named_groups_with_cached_grok() {
+    String pattern = "%{IPV4:ip} %{WORD:method}";
+    assertSame(GrokExpression.getCompiledGrok(pattern), GrokExpression.getCompiledGrok(pattern));
+
+    Map<String, String> values =
+        GrokExpression.extractNamedGroups(
+            "1.2.3.4 GET", GrokExpression.getCompiledGrok(pattern), List.of("ip", "method"));
+    assertEquals(Map.of("ip", "1.2.3.4", "method", "GET"), values);
+
+    values =
+        GrokExpression.extractNamedGroups(
+            "no match", GrokExpression.getCompiledGrok(pattern), List.of("ip", "method"));
+    assertEquals(2, values.size());
+    assertNull(values.get("ip"));
+  }
 }
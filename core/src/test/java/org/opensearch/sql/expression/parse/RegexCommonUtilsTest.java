@@ -8,6 +8,7 @@ package org.opensearch.sql.expression.parse;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import org.junit.jupiter.api.Test;
@@ -310,4 +311,32 @@ public class RegexCommonUtilsTest {
             () -> RegexCommonUtils.getNamedGroupCandidates(patternWithMixed));
     assertTrue(exception.getMessage().contains("Invalid capture group name 'invalid_name'"));
   }
+
+  @Test
+  public void testExtractNamedGroups() {
+    Pattern pattern = RegexCommonUtils.getCompiledPattern("(?<user>\\w+)@(?<domain>\\w+\\.com)");
+
+    Map<String, String> values =
+        RegexCommonUtils.extractNamedGroups(
+            "john@example.com", pattern, List.of("user", "domain", "missing"));
+    assertEquals("john", values.get("user"));
+    assertEquals("example.com", values.get("domain"));
+    assertNull(values.get("missing"));
+
+    values = RegexCommonUtils.extractNamedGroups("no match", pattern, List.of("user", "domain"));
+    assertEquals(2, values.size());
+    assertNull(values.get("user"));
+    assertNull(values.get("domain"));
+  }
+
+  @Test
+  public void testFindGroups() {
+    String regex = "(?<key>\\w+)=(?<value>\\d+)";
+
+    String[] groups = RegexCommonUtils.findGroups("a b=12 c=3", regex);
+    assertArrayEquals(new String[] {"b=12", "b", "12"}, groups);
+    assertSame(groups, RegexCommonUtils.findGroups("a b=12 c=3", regex), "Should reuse last match");
+    assertArrayEquals(new String[] {"c=3", "c", "3"}, RegexCommonUtils.findGroups("c=3", regex));
+    assertNull(RegexCommonUtils.findGroups("no match", regex));
+  }
 }
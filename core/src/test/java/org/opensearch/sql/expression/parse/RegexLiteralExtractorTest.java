@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.parse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class RegexLiteralExtractorTest {
+
+  @Test
+  public void testPlainLiterals() {
+    assertEquals(List.of("error"), RegexLiteralExtractor.getRequiredLiterals("error"));
+    assertEquals(List.of("abc"), RegexLiteralExtractor.getRequiredLiterals("^abc$"));
+    assertEquals(List.of("foo", "bar"), RegexLiteralExtractor.getRequiredLiterals("foo.*bar[0-9]"));
+  }
+
+  @Test
+  public void testEscapedLiterals() {
+    assertEquals(
+        List.of("@example.com"),
+        RegexLiteralExtractor.getRequiredLiterals("(?<user>\\w+)@example\\.com"));
+    assertEquals(List.of("\\server"), RegexLiteralExtractor.getRequiredLiterals("\\\\server"));
+    assertEquals(List.of("code "), RegexLiteralExtractor.getRequiredLiterals("code \\d+"));
+  }
+
+  @Test
+  public void testQuantifiedLiterals() {
+    assertEquals(List.of("ab", "d"), RegexLiteralExtractor.getRequiredLiterals("abc?d"));
+    assertEquals(List.of("ab", "c"), RegexLiteralExtractor.getRequiredLiterals("ab+c"));
+    assertEquals(List.of("ab", "c"), RegexLiteralExtractor.getRequiredLiterals("ab{2,}c"));
+    assertEquals(List.of("bc"), RegexLiteralExtractor.getRequiredLiterals("a{0}bc"));
+  }
+
+  @Test
+  public void testNoRequiredLiterals() {
+    assertEquals(List.of(), RegexLiteralExtractor.getRequiredLiterals("error|warn"));
+    assertEquals(List.of(), RegexLiteralExtractor.getRequiredLiterals("(?i)error"));
+    assertEquals(List.of(), RegexLiteralExtractor.getRequiredLiterals("(?=a)abc"));
+    assertEquals(List.of(), RegexLiteralExtractor.getRequiredLiterals("(a)\\1"));
+    assertEquals(List.of(), RegexLiteralExtractor.getRequiredLiterals("\\Qa.b\\E"));
+    assertEquals(List.of(), RegexLiteralExtractor.getRequiredLiterals("\\d+[a-z]*"));
+    assertEquals(List.of(), RegexLiteralExtractor.getRequiredLiterals("[invalid"));
+  }
+}
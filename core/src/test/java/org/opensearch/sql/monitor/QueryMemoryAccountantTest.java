@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.exception.MemoryLimitExceededException;
+
+class QueryMemoryAccountantTest {
+
+  private final LimitedBreaker breaker = new LimitedBreaker(100);
+
+  @BeforeEach
+  void setUp() {
+    QueryMemoryAccountant.setNodeBreaker(breaker);
+  }
+
+  @AfterEach
+  void tearDown() {
+    QueryMemoryAccountant.setNodeBreaker(MemoryBreaker.NONE);
+  }
+
+  @Test
+  void reserveAndRelease() {
+    try (QueryMemoryAccountant accountant = QueryMemoryAccountant.open()) {
+      accountant.reserve(60, "test");
+      assertEquals(60, accountant.getReservedBytes());
+      assertEquals(60, breaker.used);
+
+      accountant.release(20);
+      assertEquals(40, accountant.getReservedBytes());
+      assertEquals(40, breaker.used);
+    }
+  }
+
+  @Test
+  void rejectOverLimit() {
+    try (QueryMemoryAccountant accountant = QueryMemoryAccountant.open()) {
+      accountant.reserve(60, "test");
+
+      assertFalse(accountant.tryReserve(60, "test"));
+      MemoryLimitExceededException exception =
+          assertThrows(MemoryLimitExceededException.class, () -> accountant.reserve(60, "buckets"));
+      assertTrue(exception.getMessage().contains("[buckets]"));
+      assertEquals(60, accountant.getReservedBytes());
+    }
+  }
+
+  @Test
+  void releaseAllOnClose() {
+    QueryMemoryAccountant accountant = QueryMemoryAccountant.open();
+    assertSame(accountant, QueryMemoryAccountant.current());
+    accountant.reserve(30, "test");
+    accountant.reserve(50, "test");
+
+    accountant.close();
+
+    assertEquals(0, breaker.used);
+    assertEquals(0, accountant.getReservedBytes());
+    assertTrue(QueryMemoryAccountant.current().tryReserve(1000, "test"));
+    assertEquals(0, breaker.used);
+  }
+
+  @Test
+  void untrackedOutsideQuery() {
+    QueryMemoryAccountant accountant = QueryMemoryAccountant.current();
+
+    assertTrue(accountant.tryReserve(1000, "test"));
+    accountant.release(1000);
+    assertEquals(0, accountant.getReservedBytes());
+    assertEquals(0, breaker.used);
+  }
+
+  /** Breaker with a fixed limit. */
+  static class LimitedBreaker implements MemoryBreaker {
+    private final long limit;
+
+    long used = 0;
+
+    LimitedBreaker(long limit) {
+      this.limit = limit;
+    }
+
+    @Override
+    public boolean tryReserve(long bytes, String label) {
+      if (used + bytes > limit) {
+        return false;
+      }
+      used += bytes;
+      return true;
+    }
+
+    @Override
+    public void release(long bytes) {
+      used -= bytes;
+    }
+  }
+}
@@ -16,6 +16,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
@@ -256,6 +257,33 @@ class SortOperatorTest extends PhysicalPlanTestBase {
             tupleValue(ImmutableMap.of("size", 320, "response", 200))));
   }
 
+  @Test
+  public void sort_multiple_fields_with_spilled_runs() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)))
+        .thenReturn(tupleValue(NULL_MAP));
+
+    // Budget of a single byte spills every row to its own run
+    assertThat(
+        execute(
+            new SortOperator(
+                inputPlan,
+                List.of(
+                    Pair.of(SortOption.DEFAULT_DESC, ref("size", INTEGER)),
+                    Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))),
+                1)),
+        contains(
+            tupleValue(ImmutableMap.of("size", 499, "response", 404)),
+            tupleValue(NULL_MAP),
+            tupleValue(ImmutableMap.of("size", 399, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 399, "response", 503)),
+            tupleValue(ImmutableMap.of("size", 320, "response", 200))));
+  }
+
   @Test
   public void sort_one_field_without_input() {
     when(inputPlan.hasNext()).thenReturn(false);
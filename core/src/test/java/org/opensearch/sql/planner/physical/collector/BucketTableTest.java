@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+
+class BucketTableTest {
+
+  private final Supplier<Collector> supplier = () -> mock(Collector.class);
+
+  @Test
+  void sameCollectorForEqualLongKeys() {
+    BucketTable table = new BucketTable();
+    Collector collector = table.computeIfAbsent(ExprValueUtils.longValue(1L), supplier);
+
+    assertSame(collector, table.computeIfAbsent(ExprValueUtils.longValue(1L), supplier));
+    assertNotSame(collector, table.computeIfAbsent(ExprValueUtils.longValue(2L), supplier));
+    assertEquals(2, table.size());
+  }
+
+  @Test
+  void sameCollectorForEqualDoubleAndStringKeys() {
+    BucketTable doubles = new BucketTable();
+    Collector collector = doubles.computeIfAbsent(ExprValueUtils.doubleValue(1.5), supplier);
+    assertSame(collector, doubles.computeIfAbsent(ExprValueUtils.doubleValue(1.5), supplier));
+
+    BucketTable strings = new BucketTable();
+    collector = strings.computeIfAbsent(ExprValueUtils.stringValue("a"), supplier);
+    assertSame(collector, strings.computeIfAbsent(ExprValueUtils.stringValue("a"), supplier));
+    assertNotSame(collector, strings.computeIfAbsent(ExprValueUtils.stringValue("b"), supplier));
+  }
+
+  @Test
+  void growAndSortKeys() {
+    BucketTable table = new BucketTable();
+    for (int i = 9_999; i >= 0; i--) {
+      table.computeIfAbsent(ExprValueUtils.integerValue(i), supplier);
+    }
+    for (int i = 0; i < 10_000; i++) {
+      table.computeIfAbsent(ExprValueUtils.integerValue(i), supplier);
+    }
+
+    List<Map.Entry<ExprValue, Collector>> entries = table.sortedEntries();
+    assertEquals(10_000, entries.size());
+    for (int i = 0; i < entries.size(); i++) {
+      assertEquals(ExprValueUtils.integerValue(i), entries.get(i).getKey());
+    }
+  }
+
+  @Test
+  void fallBackToGenericKeysOnMixedTypes() {
+    BucketTable table = new BucketTable();
+    Collector one = table.computeIfAbsent(ExprValueUtils.integerValue(1), supplier);
+    Collector two = table.computeIfAbsent(ExprValueUtils.longValue(2L), supplier);
+
+    // Keys of different number types are compared by value, like the keys of a TreeMap
+    assertSame(one, table.computeIfAbsent(ExprValueUtils.longValue(1L), supplier));
+    assertSame(two, table.computeIfAbsent(ExprValueUtils.integerValue(2), supplier));
+    assertEquals(2, table.size());
+    assertEquals(
+        List.of(ExprValueUtils.integerValue(1), ExprValueUtils.longValue(2L)),
+        table.sortedEntries().stream().map(Map.Entry::getKey).toList());
+  }
+
+  @Test
+  void genericKeys() {
+    BucketTable table = new BucketTable();
+    Collector tuple = table.computeIfAbsent(ExprValueUtils.tupleValue(Map.of("a", 1)), supplier);
+
+    assertSame(tuple, table.computeIfAbsent(ExprValueUtils.tupleValue(Map.of("a", 1)), supplier));
+    assertEquals(1, table.size());
+  }
+}
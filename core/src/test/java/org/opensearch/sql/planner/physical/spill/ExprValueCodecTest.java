@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+
+class ExprValueCodecTest {
+
+  private static Stream<ExprValue> values() {
+    Map<String, Object> nested = new LinkedHashMap<>();
+    nested.put("name", "a".repeat(70_000));
+    nested.put("missing", null);
+    nested.put("tags", List.of(1L, 2L));
+    return Stream.of(
+        ExprValueUtils.nullValue(),
+        ExprValueUtils.missingValue(),
+        ExprValueUtils.booleanValue(true),
+        ExprValueUtils.byteValue((byte) 1),
+        ExprValueUtils.shortValue((short) 2),
+        ExprValueUtils.integerValue(3),
+        ExprValueUtils.longValue(4L),
+        ExprValueUtils.floatValue(5.5f),
+        ExprValueUtils.doubleValue(6.5d),
+        ExprValueUtils.stringValue("héllo"),
+        ExprValueUtils.dateValue(LocalDate.of(2024, 1, 31)),
+        ExprValueUtils.timeValue(LocalTime.of(12, 30, 15, 123_456_789)),
+        ExprValueUtils.timestampValue(Instant.ofEpochSecond(1_700_000_000L, 987_654_321)),
+        ExprValueUtils.intervalValue(Duration.ofHours(1)),
+        ExprValueUtils.collectionValue(Arrays.asList(1, "two", null)),
+        ExprValueUtils.tupleValue(Map.of("outer", nested)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("values")
+  void roundTrip(ExprValue value) throws IOException {
+    ExprValue decoded = decode(encode(value));
+    assertEquals(value, decoded);
+    assertEquals(value.type(), decoded.type());
+  }
+
+  @Test
+  void unknownTypeTag() {
+    assertThrows(IOException.class, () -> decode(new byte[] {127}));
+  }
+
+  private static byte[] encode(ExprValue value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      ExprValueCodec.write(out, value);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static ExprValue decode(byte[] bytes) throws IOException {
+    return ExprValueCodec.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+  }
+}
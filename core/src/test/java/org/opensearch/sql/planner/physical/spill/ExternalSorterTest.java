@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.monitor.MemoryBreaker;
+import org.opensearch.sql.monitor.QueryMemoryAccountant;
+
+class ExternalSorterTest {
+
+  private static final Comparator<ExprValue> BY_KEY =
+      Comparator.comparing(row -> row.keyValue("key").integerValue());
+
+  @Test
+  void sortInMemoryWithinBudget() {
+    try (ExternalSorter sorter = new ExternalSorter(BY_KEY, Long.MAX_VALUE)) {
+      List<ExprValue> rows = shuffledRows(100);
+      rows.forEach(sorter::add);
+
+      assertEquals(0, sorter.getSpilledRuns().size());
+      assertSorted(sorter.sorted(), 100);
+    }
+  }
+
+  @Test
+  void mergeSpilledRuns() {
+    List<ExprValue> rows = shuffledRows(1000);
+    long rowSize = ExprValueCodec.estimateSize(rows.get(0));
+    try (ExternalSorter sorter = new ExternalSorter(BY_KEY, rowSize * 64)) {
+      rows.forEach(sorter::add);
+
+      assertEquals(1000 / 64, sorter.getSpilledRuns().size());
+      assertSorted(sorter.sorted(), 1000);
+    }
+  }
+
+  @Test
+  void keepOrderOfEqualRowsAcrossRuns() {
+    List<ExprValue> rows = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      rows.add(ExprValueUtils.tupleValue(Map.of("key", 1, "seq", i)));
+    }
+    try (ExternalSorter sorter = new ExternalSorter(BY_KEY, 1)) {
+      rows.forEach(sorter::add);
+
+      List<ExprValue> sorted = new ArrayList<>();
+      sorter.sorted().forEachRemaining(sorted::add);
+      assertEquals(rows, sorted);
+    }
+  }
+
+  @Test
+  void deleteRunsOnClose() {
+    ExternalSorter sorter = new ExternalSorter(BY_KEY, 1);
+    shuffledRows(3).forEach(sorter::add);
+    sorter.sorted().next();
+    List<Path> runs = sorter.getSpilledRuns();
+    assertEquals(3, runs.size());
+    assertTrue(runs.stream().allMatch(Files::exists));
+
+    sorter.close();
+
+    assertTrue(runs.stream().noneMatch(Files::exists));
+    assertTrue(sorter.getSpilledRuns().isEmpty());
+  }
+
+  @Test
+  void spillWhenBreakerRejects() {
+    List<ExprValue> rows = shuffledRows(100);
+    long limit = ExprValueCodec.estimateSize(rows.get(0)) * 10;
+    long[] used = new long[1];
+    QueryMemoryAccountant.setNodeBreaker(
+        new MemoryBreaker() {
+          @Override
+          public boolean tryReserve(long bytes, String label) {
+            if (used[0] + bytes > limit) {
+              return false;
+            }
+            used[0] += bytes;
+            return true;
+          }
+
+          @Override
+          public void release(long bytes) {
+            used[0] -= bytes;
+          }
+        });
+    try (QueryMemoryAccountant accountant = QueryMemoryAccountant.open();
+        ExternalSorter sorter = new ExternalSorter(BY_KEY, Long.MAX_VALUE)) {
+      rows.forEach(sorter::add);
+
+      assertEquals(9, sorter.getSpilledRuns().size());
+      assertSorted(sorter.sorted(), 100);
+    } finally {
+      QueryMemoryAccountant.setNodeBreaker(MemoryBreaker.NONE);
+    }
+    assertEquals(0, used[0]);
+  }
+
+  private static List<ExprValue> shuffledRows(int count) {
+    List<ExprValue> rows = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      rows.add(ExprValueUtils.tupleValue(Map.of("key", i, "name", String.format("row-%04d", i))));
+    }
+    Collections.shuffle(rows, new Random(42));
+    return rows;
+  }
+
+  private static void assertSorted(Iterator<ExprValue> sorted, int count) {
+    for (int i = 0; i < count; i++) {
+      assertEquals(i, sorted.next().keyValue("key").integerValue());
+    }
+    assertFalse(sorted.hasNext());
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValueUtils;
+
+class RowCodecTest {
+
+  @Test
+  void roundTripRow() throws IOException {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("name", "héllo");
+    map.put("missing", null);
+    Object[] row = {
+      null,
+      true,
+      (byte) 1,
+      (short) 2,
+      3,
+      4L,
+      5.5f,
+      6.5d,
+      "a".repeat(70_000),
+      new BigDecimal("12345678901234567890.123"),
+      new Object[] {1, "nested"},
+      Arrays.asList(1L, null),
+      map,
+      ExprValueUtils.integerValue(7),
+      LocalDate.of(2024, 1, 31)
+    };
+
+    assertArrayEquals(row, (Object[]) roundTrip(row));
+  }
+
+  @Test
+  void roundTripSingleValueRow() throws IOException {
+    assertEquals("value", roundTrip("value"));
+    assertEquals(List.of(1, 2), roundTrip(List.of(1, 2)));
+  }
+
+  @Test
+  void rejectValueWhichCannotBeSerialized() {
+    assertThrows(
+        NotSerializableException.class,
+        () -> RowCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new Object()));
+  }
+
+  private static Object roundTrip(Object row) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      RowCodec.write(out, row);
+    }
+    return RowCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+  }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.function.Function2;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.monitor.MemoryBreaker;
+import org.opensearch.sql.monitor.QueryMemoryAccountant;
+import org.opensearch.sql.planner.physical.spill.SpillableHashJoin.Mode;
+
+class SpillableHashJoinTest {
+
+  private static final Function1<Object, Object> KEY = row -> ((Object[]) row)[0];
+
+  private static final Function2<Object, Object, Object> NAMES =
+      (left, right) -> Arrays.asList(name(left), name(right));
+
+  private final List<Object> outer = rows("left", 500, 7, 120);
+
+  private final List<Object> inner = rows("right", 300, 11, 150);
+
+  private static Stream<Arguments> joinTypes() {
+    return Stream.of(
+        Arguments.of(Mode.JOIN, false, false),
+        Arguments.of(Mode.JOIN, false, true),
+        Arguments.of(Mode.JOIN, true, false),
+        Arguments.of(Mode.JOIN, true, true),
+        Arguments.of(Mode.SEMI, false, false),
+        Arguments.of(Mode.ANTI, false, false));
+  }
+
+  @Test
+  void joinInMemoryInOrderOfOuterRows() {
+    SpillableHashJoin join = join(Mode.JOIN, false, true, Long.MAX_VALUE);
+    Enumerator<Object> rows =
+        join.enumerator(Linq4j.asEnumerable(outer), Linq4j.asEnumerable(inner));
+
+    assertEquals(expected(Mode.JOIN, false, true), collect(rows));
+    assertTrue(join.getSpilledFiles().isEmpty());
+  }
+
+  @ParameterizedTest
+  @MethodSource("joinTypes")
+  void joinSpilledPartitions(Mode mode, boolean generateNullsOnLeft, boolean generateNullsOnRight) {
+    SpillableHashJoin join = join(mode, generateNullsOnLeft, generateNullsOnRight, 2_000);
+    Enumerator<Object> rows =
+        join.enumerator(Linq4j.asEnumerable(outer), Linq4j.asEnumerable(inner));
+
+    List<Object> joined = collect(rows);
+    assertFalse(join.getSpilledFiles().isEmpty());
+    assertEquals(
+        sorted(expected(mode, generateNullsOnLeft, generateNullsOnRight)), sorted(joined));
+  }
+
+  @Test
+  void holdSkewedKeysInMemoryAfterMaxDepth() {
+    List<Object> skewed = rows("right", 300, 11, 2);
+    SpillableHashJoin join = join(Mode.JOIN, true, true, 1);
+    Enumerator<Object> rows =
+        join.enumerator(Linq4j.asEnumerable(outer), Linq4j.asEnumerable(skewed));
+
+    List<Object> expected = new ArrayList<>();
+    for (Object left : outer) {
+      boolean matched = false;
+      for (Object right : skewed) {
+        if (matches(left, right)) {
+          expected.add(NAMES.apply(left, right));
+          matched = true;
+        }
+      }
+      if (!matched) {
+        expected.add(NAMES.apply(left, null));
+      }
+    }
+    for (Object right : skewed) {
+      if (outer.stream().noneMatch(left -> matches(left, right))) {
+        expected.add(NAMES.apply(null, right));
+      }
+    }
+    assertEquals(sorted(expected), sorted(collect(rows)));
+  }
+
+  @Test
+  void neverMatchCompositeKeyWithNull() {
+    Function1<Object, Object> compositeKey =
+        row -> Arrays.asList(((Object[]) row)[0], ((Object[]) row)[0]);
+    SpillableHashJoin join =
+        new SpillableHashJoin(
+            compositeKey, compositeKey, NAMES, Mode.JOIN, false, false, Long.MAX_VALUE);
+    Enumerator<Object> rows =
+        join.enumerator(
+            Linq4j.asEnumerable(List.<Object>of(row(null, "a"), row(1, "b"))),
+            Linq4j.asEnumerable(List.<Object>of(row(null, "c"), row(1, "d"))));
+
+    assertEquals(List.of(List.of("b", "d")), collect(rows));
+  }
+
+  @Test
+  void deleteFilesOnClose() {
+    SpillableHashJoin join = join(Mode.JOIN, true, true, 1);
+    Enumerator<Object> rows =
+        join.enumerator(Linq4j.asEnumerable(outer), Linq4j.asEnumerable(inner));
+    rows.moveNext();
+    List<Path> files = join.getSpilledFiles();
+    assertFalse(files.isEmpty());
+    assertTrue(files.stream().allMatch(Files::exists));
+
+    rows.close();
+
+    assertTrue(files.stream().noneMatch(Files::exists));
+    assertTrue(join.getSpilledFiles().isEmpty());
+  }
+
+  @Test
+  void joinAgainAfterReset() {
+    SpillableHashJoin join = join(Mode.JOIN, true, true, 2_000);
+    Enumerator<Object> rows =
+        join.enumerator(Linq4j.asEnumerable(outer), Linq4j.asEnumerable(inner));
+    rows.moveNext();
+    List<Path> files = join.getSpilledFiles();
+    assertFalse(files.isEmpty());
+
+    rows.reset();
+
+    assertTrue(files.stream().noneMatch(Files::exists));
+    assertEquals(sorted(expected(Mode.JOIN, true, true)), sorted(collect(rows)));
+    rows.close();
+    assertTrue(join.getSpilledFiles().isEmpty());
+  }
+
+  @Test
+  void spillWhenBreakerRejects() {
+    long limit = RowCodec.estimateSize(inner.get(0)) * 50;
+    long[] used = new long[1];
+    QueryMemoryAccountant.setNodeBreaker(
+        new MemoryBreaker() {
+          @Override
+          public boolean tryReserve(long bytes, String label) {
+            if (used[0] + bytes > limit) {
+              return false;
+            }
+            used[0] += bytes;
+            return true;
+          }
+
+          @Override
+          public void release(long bytes) {
+            used[0] -= bytes;
+          }
+        });
+    try (QueryMemoryAccountant accountant = QueryMemoryAccountant.open()) {
+      SpillableHashJoin join = join(Mode.JOIN, false, false, Long.MAX_VALUE);
+      Enumerator<Object> rows =
+          join.enumerator(Linq4j.asEnumerable(outer), Linq4j.asEnumerable(inner));
+
+      List<Object> joined = collect(rows);
+      assertFalse(join.getSpilledFiles().isEmpty());
+      assertEquals(sorted(expected(Mode.JOIN, false, false)), sorted(joined));
+      rows.close();
+      assertEquals(0, accountant.getReservedBytes());
+    } finally {
+      QueryMemoryAccountant.setNodeBreaker(MemoryBreaker.NONE);
+    }
+    assertEquals(0, used[0]);
+  }
+
+  private static SpillableHashJoin join(
+      Mode mode, boolean generateNullsOnLeft, boolean generateNullsOnRight, long budget) {
+    return new SpillableHashJoin(
+        KEY,
+        KEY,
+        mode == Mode.JOIN ? NAMES : null,
+        mode,
+        generateNullsOnLeft,
+        generateNullsOnRight,
+        budget);
+  }
+
+  /** Rows named by their side and position, with a null key every nullEvery rows. */
+  private static List<Object> rows(String side, int count, int nullEvery, int distinctKeys) {
+    List<Object> rows = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      rows.add(row(i % nullEvery == 0 ? null : i % distinctKeys, side + "-" + i));
+    }
+    return rows;
+  }
+
+  private static Object[] row(Integer key, String name) {
+    return new Object[] {key, name};
+  }
+
+  private static String name(Object row) {
+    return row == null ? null : (String) ((Object[]) row)[1];
+  }
+
+  private static boolean matches(Object left, Object right) {
+    Object key = KEY.apply(left);
+    return key != null && key.equals(KEY.apply(right));
+  }
+
+  /** Result of a nested loop join of the test rows, in the order of the outer rows. */
+  private List<Object> expected(
+      Mode mode, boolean generateNullsOnLeft, boolean generateNullsOnRight) {
+    List<Object> expected = new ArrayList<>();
+    for (Object left : outer) {
+      List<Object> matched = inner.stream().filter(right -> matches(left, right)).toList();
+      if ((mode == Mode.SEMI && !matched.isEmpty()) || (mode == Mode.ANTI && matched.isEmpty())) {
+        expected.add(name(left));
+      } else if (mode == Mode.JOIN) {
+        matched.forEach(right -> expected.add(NAMES.apply(left, right)));
+        if (matched.isEmpty() && generateNullsOnRight) {
+          expected.add(NAMES.apply(left, null));
+        }
+      }
+    }
+    if (generateNullsOnLeft) {
+      for (Object right : inner) {
+        if (outer.stream().noneMatch(left -> matches(left, right))) {
+          expected.add(NAMES.apply(null, right));
+        }
+      }
+    }
+    return expected;
+  }
+
+  /** Joined rows, semi joined rows being replaced by their name. */
+  private static List<Object> collect(Enumerator<Object> rows) {
+    List<Object> collected = new ArrayList<>();
+    while (rows.moveNext()) {
+      Object row = rows.current();
+      collected.add(row instanceof Object[] ? name(row) : row);
+    }
+    return collected;
+  }
+
+  private static List<Object> sorted(List<Object> rows) {
+    return rows.stream().sorted(Comparator.comparing(Objects::toString)).toList();
+  }
+}
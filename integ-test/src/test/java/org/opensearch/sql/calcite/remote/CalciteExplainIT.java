@@ -1249,8 +1249,8 @@ public class CalciteExplainIT extends ExplainIT {
         expected,
         explainQueryYaml(
             String.format(
-                "source=%s | stats COUNT() by age, gender | join left=L right=R ON L.gender ="
-                    + " R.gender [source=%s | stats COUNT() as overall_cnt by gender]",
+                "source=%s | stats COUNT() by age, gender | join left=L right=R ON L.age = R.age"
+                    + " [source=%s | stats COUNT() as overall_cnt by age]",
                 TEST_INDEX_ACCOUNT, TEST_INDEX_ACCOUNT)));
     resetJoinSubsearchMaxOut();
   }
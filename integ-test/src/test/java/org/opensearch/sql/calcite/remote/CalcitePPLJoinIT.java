@@ -20,6 +20,7 @@ import java.io.IOException;
 import org.json.JSONObject;
 import org.junit.Test;
 import org.opensearch.client.Request;
+import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.legacy.TestsConstants;
 import org.opensearch.sql.ppl.PPLIntegTestCase;
 
@@ -956,4 +957,26 @@ public class CalcitePPLJoinIT extends PPLIntegTestCase {
                 TEST_INDEX_STATE_COUNTRY, TEST_INDEX_OCCUPATION));
     verifyNumOfRows(actual, 15);
   }
+
+  @Test
+  public void testJoinWithRuntimeFilter() throws IOException {
+    String query =
+        String.format(
+            "source=%s | inner join left=a, right=b ON a.name = b.name [ source = %s | where salary"
+                + " > 80000 ] | sort a.name, b.occupation | fields a.name, a.age, b.occupation",
+            TEST_INDEX_STATE_COUNTRY, TEST_INDEX_OCCUPATION);
+    JSONObject filtered = executeQuery(query);
+    verifyNumOfRows(filtered, 4);
+
+    updateClusterSettings(
+        new ClusterSetting(
+            PERSISTENT, Settings.Key.CALCITE_JOIN_RUNTIME_FILTER_ENABLED.getKeyValue(), "false"));
+    try {
+      assertJsonEquals(executeQuery(query).toString(), filtered.toString());
+    } finally {
+      updateClusterSettings(
+          new ClusterSetting(
+              PERSISTENT, Settings.Key.CALCITE_JOIN_RUNTIME_FILTER_ENABLED.getKeyValue(), null));
+    }
+  }
 }
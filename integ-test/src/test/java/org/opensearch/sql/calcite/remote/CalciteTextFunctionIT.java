@@ -11,6 +11,7 @@ import static org.opensearch.sql.util.MatcherUtils.*;
 import java.io.IOException;
 import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
+import org.opensearch.client.Request;
 import org.opensearch.sql.ppl.TextFunctionIT;
 
 public class CalciteTextFunctionIT extends TextFunctionIT {
@@ -151,4 +152,23 @@ public class CalciteTextFunctionIT extends TextFunctionIT {
         rows("world", false, true),
         rows("helloworld", true, true));
   }
+
+  @Test
+  public void testRegexMatchWithValueLongerThanIgnoreAbove() throws IOException {
+    // Dynamic mapping indexes the keyword subfield of a text field with ignore_above 256, so the
+    // long value below is only in the text field and must still be matched by the regex
+    String index = "test_regex_ignore_above";
+    String message = "x".repeat(300) + " error code 42";
+    Request request = new Request("PUT", "/" + index + "/_doc/1?refresh=true");
+    request.setJsonEntity(String.format("{\"message\": \"%s\"}", message));
+    client().performRequest(request);
+
+    JSONObject result =
+        executeQuery(
+            String.format(
+                "source=%s | where regex_match(message, 'error code [0-9]+') | fields message",
+                index));
+    verifySchema(result, schema("message", null, "string"));
+    verifyDataRows(result, rows(message));
+  }
 }
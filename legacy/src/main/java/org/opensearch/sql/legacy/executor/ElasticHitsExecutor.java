@@ -14,8 +14,11 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.search.SearchRequestBuilder;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.sql.legacy.domain.Select;
 import org.opensearch.sql.legacy.exception.SqlParseException;
@@ -63,21 +66,38 @@ public abstract class ElasticHitsExecutor {
     request.setSize(size);
     SearchResponse responseWithHits;
 
-    // Set sort field for search_after
+    // Set sort field for search_after, once for all the pages of the request
     boolean ordered = select.isOrderdSelect();
-    if (!ordered) {
+    if (!ordered && !isSortedBy(request, DOC_FIELD_NAME)) {
       request.addSort(DOC_FIELD_NAME, ASC);
+    }
+    // Break ties by _id, otherwise search_after skips the hits tied with the last hit of a page
+    if (!isSortedBy(request, METADATA_FIELD_ID)) {
       request.addSort(METADATA_FIELD_ID, SortOrder.ASC);
     }
     // Set PIT
     request.setPointInTime(new PointInTimeBuilder(pit.getPitId()));
     // from and size is alternate method to paginate result.
-    // If select has from clause, search after is not required.
-    if (previousResponse != null && select.getFrom().isEmpty()) {
-      request.searchAfter(previousResponse.getHits().getSortFields());
+    // If select has an offset, search after is not required.
+    if (previousResponse != null && select.getOffset() == 0) {
+      SearchHit[] previousHits = previousResponse.getHits().getHits();
+      if (previousHits.length > 0) {
+        request.searchAfter(previousHits[previousHits.length - 1].getSortValues());
+      }
     }
     responseWithHits = request.get();
 
     return responseWithHits;
   }
+
+  private static boolean isSortedBy(SearchRequestBuilder request, String fieldName) {
+    SearchSourceBuilder source = request.request().source();
+    return source != null
+        && source.sorts() != null
+        && source.sorts().stream()
+            .anyMatch(
+                sort ->
+                    sort instanceof FieldSortBuilder fieldSort
+                        && fieldSort.getFieldName().equals(fieldName));
+  }
 }
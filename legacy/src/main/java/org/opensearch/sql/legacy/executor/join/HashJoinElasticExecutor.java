@@ -6,9 +6,9 @@
 package org.opensearch.sql.legacy.executor.join;
 
 import com.alibaba.druid.sql.ast.statement.SQLJoinTableSource;
+import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -16,17 +16,18 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import org.opensearch.action.search.SearchRequestBuilder;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.common.document.DocumentField;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.legacy.domain.Field;
 import org.opensearch.sql.legacy.domain.Select;
 import org.opensearch.sql.legacy.domain.Where;
 import org.opensearch.sql.legacy.exception.SqlParseException;
+import org.opensearch.sql.legacy.query.join.BackOffRetryStrategy;
 import org.opensearch.sql.legacy.query.join.HashJoinElasticRequestBuilder;
 import org.opensearch.sql.legacy.query.join.TableInJoinRequestBuilder;
 import org.opensearch.sql.legacy.query.maker.QueryMaker;
@@ -37,8 +38,18 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
   private final HashJoinElasticRequestBuilder requestBuilder;
   private boolean useQueryTermsFilterOptimization = false;
   private final int MAX_RESULTS_FOR_FIRST_TABLE = 100000;
-  final HashJoinComparisonStructure hashJoinComparisonStructure;
+  HashJoinComparisonStructure hashJoinComparisonStructure;
   private final Set<String> alreadyMatched;
+  private SearchResponse firstTableResponse;
+  private int fetchedSoFarFromFirstTable = 0;
+  private boolean finishedWithFirstTable = false;
+
+  /**
+   * Number of hits of the first table joined at once. A block is a page when the second table is
+   * probed with a terms filter of the block keys, and up to MAX_RESULTS_FOR_FIRST_TABLE hits
+   * otherwise since the second table is searched in full for each block.
+   */
+  private int blockSize;
 
   public HashJoinElasticExecutor(Client client, HashJoinElasticRequestBuilder requestBuilder) {
     super(client, requestBuilder);
@@ -47,49 +58,77 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
     this.hashJoinComparisonStructure =
         new HashJoinComparisonStructure(requestBuilder.getT1ToT2FieldsComparison());
     this.alreadyMatched = new HashSet<>();
+    this.blockSize =
+        useQueryTermsFilterOptimization ? MAX_RESULTS_ON_ONE_FETCH : MAX_RESULTS_FOR_FIRST_TABLE;
   }
 
-  public List<SearchHit> innerRun() throws IOException, SqlParseException {
-    Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure =
-        initOptimizationStructure();
+  @VisibleForTesting
+  public void setBlockSize(int blockSize) {
+    this.blockSize = blockSize;
+  }
 
+  /**
+   * Join the tables block by block. Each block of hits of the first table, paged with PIT and
+   * search_after, is hashed by its join keys, then the second table is probed with a PIT search
+   * filtered by the terms of the block keys when HASH_WITH_TERMS_FILTER is hinted. Only a block of
+   * the first table and a page of the second table are held besides the result, and the first table
+   * isn't read any further once the total limit is reached.
+   */
+  public List<SearchHit> innerRun() throws IOException, SqlParseException {
     updateFirstTableLimitIfNeeded();
     TableInJoinRequestBuilder firstTableRequest = requestBuilder.getFirstTable();
-    createKeyToResultsAndFillOptimizationStructure(
-        optimizationTermsFilterStructure, firstTableRequest);
-
     TableInJoinRequestBuilder secondTableRequest = requestBuilder.getSecondTable();
-    if (needToOptimize(optimizationTermsFilterStructure)) {
-      updateRequestWithTermsFilter(optimizationTermsFilterStructure, secondTableRequest);
-    }
+    SearchSourceBuilder secondTableSource =
+        secondTableRequest.getRequestBuilder().request().source();
+    int totalLimit = requestBuilder.getTotalLimit();
+    List<SearchHit> combinedResult = new ArrayList<>();
 
-    List<SearchHit> combinedResult = createCombinedResults(secondTableRequest);
+    while (combinedResult.size() < totalLimit && !finishedWithFirstTable) {
+      if (!BackOffRetryStrategy.isHealthy()) {
+        throw new IllegalStateException("Memory circuit is broken");
+      }
+      List<SearchHit> firstTableHits = fetchNextBlock(firstTableRequest);
+      if (firstTableHits.isEmpty()) {
+        break;
+      }
 
-    int currentNumOfResults = combinedResult.size();
-    int totalLimit = requestBuilder.getTotalLimit();
-    if (requestBuilder.getJoinType() == SQLJoinTableSource.JoinType.LEFT_OUTER_JOIN
-        && currentNumOfResults < totalLimit) {
-      String t1Alias = requestBuilder.getFirstTable().getAlias();
-      String t2Alias = requestBuilder.getSecondTable().getAlias();
-      // todo: for each till Limit
-      addUnmatchedResults(
-          combinedResult,
-          this.hashJoinComparisonStructure.getAllSearchHits(),
-          requestBuilder.getSecondTable().getReturnedFields(),
-          currentNumOfResults,
-          totalLimit,
-          t1Alias,
-          t2Alias);
-    }
-    if (firstTableRequest.getOriginalSelect().isOrderdSelect()) {
-      Collections.sort(
-          combinedResult,
-          new Comparator<SearchHit>() {
-            @Override
-            public int compare(SearchHit o1, SearchHit o2) {
-              return o1.docId() - o2.docId();
-            }
-          });
+      this.hashJoinComparisonStructure =
+          new HashJoinComparisonStructure(requestBuilder.getT1ToT2FieldsComparison());
+      this.alreadyMatched.clear();
+      Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure =
+          initOptimizationStructure();
+      createKeyToResultsAndFillOptimizationStructure(
+          optimizationTermsFilterStructure, firstTableRequest, firstTableHits);
+
+      // the second table is searched from its first hit again for this block, with the original
+      // query and without the search_after of the previous block
+      secondTableRequest.getRequestBuilder().request().source(secondTableSource.shallowCopy());
+      if (needToOptimize(optimizationTermsFilterStructure)) {
+        updateRequestWithTermsFilter(optimizationTermsFilterStructure, secondTableRequest);
+      }
+
+      int blockLimit = totalLimit - combinedResult.size();
+      List<SearchHit> blockResult = createCombinedResults(secondTableRequest, blockLimit);
+
+      int currentNumOfResults = blockResult.size();
+      if (requestBuilder.getJoinType() == SQLJoinTableSource.JoinType.LEFT_OUTER_JOIN
+          && currentNumOfResults < blockLimit) {
+        String t1Alias = requestBuilder.getFirstTable().getAlias();
+        String t2Alias = requestBuilder.getSecondTable().getAlias();
+        addUnmatchedResults(
+            blockResult,
+            this.hashJoinComparisonStructure.getAllSearchHits(),
+            requestBuilder.getSecondTable().getReturnedFields(),
+            currentNumOfResults,
+            blockLimit,
+            t1Alias,
+            t2Alias);
+      }
+      // blocks follow the order of the first table, so sorting a block keeps the result in order
+      if (firstTableRequest.getOriginalSelect().isOrderdSelect()) {
+        blockResult.sort(Comparator.comparingInt(SearchHit::docId));
+      }
+      combinedResult.addAll(blockResult);
     }
     return combinedResult;
   }
@@ -112,10 +151,10 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
     }
   }
 
-  private List<SearchHit> createCombinedResults(TableInJoinRequestBuilder secondTableRequest) {
+  private List<SearchHit> createCombinedResults(
+      TableInJoinRequestBuilder secondTableRequest, int totalLimit) {
     List<SearchHit> combinedResult = new ArrayList<>();
     int resultIds = 0;
-    int totalLimit = this.requestBuilder.getTotalLimit();
     Integer hintLimit = secondTableRequest.getHintLimit();
     SearchResponse searchResponse;
     boolean finishedScrolling;
@@ -224,8 +263,8 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
 
   private void createKeyToResultsAndFillOptimizationStructure(
       Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure,
-      TableInJoinRequestBuilder firstTableRequest) {
-    List<SearchHit> firstTableHits = fetchAllHits(firstTableRequest);
+      TableInJoinRequestBuilder firstTableRequest,
+      List<SearchHit> firstTableHits) {
 
     int resultIds = 1;
     for (SearchHit hit : firstTableHits) {
@@ -265,44 +304,28 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
     }
   }
 
-  private List<SearchHit> fetchAllHits(TableInJoinRequestBuilder tableInJoinRequest) {
-    Integer hintLimit = tableInJoinRequest.getHintLimit();
-    SearchRequestBuilder requestBuilder = tableInJoinRequest.getRequestBuilder();
-    if (hintLimit != null && hintLimit < MAX_RESULTS_ON_ONE_FETCH) {
-      requestBuilder.setSize(hintLimit);
-      SearchResponse searchResponse = requestBuilder.get();
-      updateMetaSearchResults(searchResponse);
-      return Arrays.asList(searchResponse.getHits().getHits());
-    }
-    return scrollTillLimit(tableInJoinRequest, hintLimit);
-  }
-
-  private List<SearchHit> scrollTillLimit(
-      TableInJoinRequestBuilder tableInJoinRequest, Integer hintLimit) {
-    SearchResponse response =
-        getResponseWithHits(tableInJoinRequest, MAX_RESULTS_ON_ONE_FETCH, null);
-
-    updateMetaSearchResults(response);
-    List<SearchHit> hitsWithScan = new ArrayList<>();
-    int curentNumOfResults = 0;
-    SearchHit[] hits = response.getHits().getHits();
-
-    if (hintLimit == null) {
-      hintLimit = MAX_RESULTS_FOR_FIRST_TABLE;
-    }
+  /** Fetch the next block of hits of the first table. */
+  private List<SearchHit> fetchNextBlock(TableInJoinRequestBuilder firstTableRequest) {
+    Integer hintLimit = firstTableRequest.getHintLimit();
+    List<SearchHit> block = new ArrayList<>();
+    while (!finishedWithFirstTable && block.size() < blockSize) {
+      if (hintLimit != null && hintLimit < MAX_RESULTS_ON_ONE_FETCH) {
+        firstTableResponse = firstTableRequest.getRequestBuilder().setSize(hintLimit).get();
+        finishedWithFirstTable = true;
+      } else {
+        int pageSize = Math.min(MAX_RESULTS_ON_ONE_FETCH, blockSize - block.size());
+        firstTableResponse = getResponseWithHits(firstTableRequest, pageSize, firstTableResponse);
+      }
+      updateMetaSearchResults(firstTableResponse);
 
-    while (hits.length != 0 && curentNumOfResults < hintLimit) {
-      curentNumOfResults += hits.length;
-      Collections.addAll(hitsWithScan, hits);
-      if (curentNumOfResults >= MAX_RESULTS_FOR_FIRST_TABLE) {
-        // todo: log or exception?
-        System.out.println("too many results for first table, stoping at:" + curentNumOfResults);
-        break;
+      SearchHit[] hits = firstTableResponse.getHits().getHits();
+      fetchedSoFarFromFirstTable += hits.length;
+      Collections.addAll(block, hits);
+      if (hits.length == 0 || (hintLimit != null && fetchedSoFarFromFirstTable >= hintLimit)) {
+        finishedWithFirstTable = true;
       }
-      response = getResponseWithHits(tableInJoinRequest, MAX_RESULTS_FOR_FIRST_TABLE, response);
-      hits = response.getHits().getHits();
     }
-    return hitsWithScan;
+    return block;
   }
 
   private boolean needToOptimize(
@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.unittest.executor;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.TotalHits.Relation;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.action.search.SearchAction;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchRequestBuilder;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.action.ActionFuture;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.sql.legacy.domain.Select;
+import org.opensearch.sql.legacy.executor.ElasticHitsExecutor;
+import org.opensearch.sql.legacy.pit.PointInTimeHandler;
+import org.opensearch.transport.client.Client;
+
+/** Sorts and search_after of the PIT pages requested by {@link ElasticHitsExecutor}. */
+public class ElasticHitsExecutorTest {
+
+  private final ElasticHitsExecutor executor =
+      new ElasticHitsExecutor() {
+        @Override
+        protected void run() {}
+
+        @Override
+        protected SearchHits getHits() {
+          return null;
+        }
+      };
+
+  private final Select select = mock(Select.class);
+
+  private final PointInTimeHandler pit = mock(PointInTimeHandler.class);
+
+  private SearchRequestBuilder request;
+
+  @Before
+  public void init() {
+    Client client = mock(Client.class);
+    when(client.execute(eq(SearchAction.INSTANCE), any(SearchRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              ActionFuture<SearchResponse> future = mock(ActionFuture.class);
+              when(future.actionGet()).thenReturn(mock(SearchResponse.class));
+              return future;
+            });
+    when(pit.getPitId()).thenReturn("pit");
+    request = new SearchRequestBuilder(client, SearchAction.INSTANCE);
+  }
+
+  @Test
+  public void unorderedSelectSortedByDocAndId() {
+    when(select.isOrderdSelect()).thenReturn(false);
+
+    executor.getResponseWithHits(request, select, 2, null, pit);
+    executor.getResponseWithHits(request, select, 2, page(hit("a", 0, 0, "a")), pit);
+
+    assertEquals(
+        List.of(sort("_doc", SortOrder.ASC), sort("_id", SortOrder.ASC)),
+        request.request().source().sorts());
+  }
+
+  @Test
+  public void orderedSelectBreaksTiesById() {
+    when(select.isOrderdSelect()).thenReturn(true);
+    request.addSort("age", SortOrder.DESC);
+
+    executor.getResponseWithHits(request, select, 2, null, pit);
+    assertNull(request.request().source().searchAfter());
+    executor.getResponseWithHits(
+        request, select, 2, page(hit("a", 0, 32, "a"), hit("b", 1, 30, "b")), pit);
+
+    assertEquals(
+        List.of(sort("age", SortOrder.DESC), sort("_id", SortOrder.ASC)),
+        request.request().source().sorts());
+    // The next page starts after the last hit of the previous one, even if tied on age
+    assertArrayEquals(new Object[] {30, "b"}, request.request().source().searchAfter());
+  }
+
+  private static SortBuilder<?> sort(String field, SortOrder order) {
+    return new FieldSortBuilder(field).order(order);
+  }
+
+  private static SearchResponse page(SearchHit... hits) {
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getHits())
+        .thenReturn(new SearchHits(hits, new TotalHits(hits.length, Relation.EQUAL_TO), 0));
+    return response;
+  }
+
+  private static SearchHit hit(String id, int docId, Object... sortValues) {
+    SearchHit hit = new SearchHit(docId, id, Map.of(), Map.of());
+    DocValueFormat[] formats = new DocValueFormat[sortValues.length];
+    Arrays.fill(formats, DocValueFormat.RAW);
+    hit.sortValues(sortValues, formats);
+    return hit;
+  }
+}
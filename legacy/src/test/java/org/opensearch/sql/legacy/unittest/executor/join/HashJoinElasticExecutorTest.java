@@ -0,0 +1,282 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.unittest.executor.join;
+
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import com.alibaba.druid.sql.ast.expr.SQLQueryExpr;
+import com.alibaba.druid.sql.parser.SQLExprParser;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.TotalHits.Relation;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.opensearch.action.search.CreatePitAction;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitAction;
+import org.opensearch.action.search.DeletePitResponse;
+import org.opensearch.action.search.SearchAction;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.common.action.ActionFuture;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.legacy.domain.JoinSelect;
+import org.opensearch.sql.legacy.esdomain.LocalClusterState;
+import org.opensearch.sql.legacy.executor.join.ElasticJoinExecutor;
+import org.opensearch.sql.legacy.executor.join.HashJoinElasticExecutor;
+import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.legacy.parser.ElasticSqlExprParser;
+import org.opensearch.sql.legacy.parser.SqlParser;
+import org.opensearch.sql.legacy.query.QueryAction;
+import org.opensearch.sql.legacy.query.SqlElasticRequestBuilder;
+import org.opensearch.sql.legacy.query.join.BackOffRetryStrategy;
+import org.opensearch.sql.legacy.query.join.OpenSearchJoinQueryActionFactory;
+import org.opensearch.sql.legacy.request.SqlRequest;
+import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
+import org.opensearch.transport.client.Client;
+
+/** Legacy hash join run block by block over the PIT pages of the first table. */
+public class HashJoinElasticExecutorTest {
+
+  private static final int BLOCK_SIZE = 2;
+
+  private final List<SearchHit> employees =
+      List.of(
+          employee(1, "Alice", "1"),
+          employee(2, "Hank", "2"),
+          employee(3, "Bob", "1"),
+          employee(4, "Allen", "3"),
+          employee(5, "Carol", "2"));
+
+  private final List<SearchHit> departments =
+      List.of(department(1, "1", "AWS"), department(2, "2", "Retail"));
+
+  private Client client;
+
+  private int employeeSearches;
+
+  /** Searches of the second table starting from its first hit, one per block. */
+  private final List<SearchSourceBuilder> departmentProbes = new ArrayList<>();
+
+  private final Set<Integer> departmentSortCounts = new HashSet<>();
+
+  @Before
+  public void init() throws Exception {
+    ClusterSettings clusterSettings = mock(ClusterSettings.class);
+    when(clusterSettings.get(ClusterName.CLUSTER_NAME_SETTING)).thenReturn(ClusterName.DEFAULT);
+    OpenSearchSettings settings = spy(new OpenSearchSettings(clusterSettings));
+    doReturn(emptyList()).when(settings).getSettings();
+    LocalClusterState.state().setPluginSettings(settings);
+    Metrics.getInstance().registerDefaultMetrics();
+
+    client = mock(Client.class);
+    when(client.execute(eq(SearchAction.INSTANCE), any()))
+        .thenAnswer(
+            invocation -> {
+              ActionFuture<SearchResponse> future = mock(ActionFuture.class);
+              SearchResponse response = search(invocation.getArgument(1, SearchRequest.class));
+              when(future.actionGet()).thenReturn(response);
+              return future;
+            });
+    mockPit();
+  }
+
+  @Test
+  public void innerJoinInBlocks() {
+    List<String> rows = join("", "");
+
+    assertEquals(Set.of("Alice|AWS", "Hank|Retail", "Bob|AWS", "Carol|Retail"), Set.copyOf(rows));
+    assertEquals(4, rows.size());
+    assertEquals(3, departmentProbes.size());
+    assertEquals(Set.of(2), departmentSortCounts);
+  }
+
+  @Test
+  public void innerJoinInBlocksWithTermsFilter() {
+    List<String> rows = join("/*! HASH_WITH_TERMS_FILTER*/ ", "");
+
+    assertEquals(Set.of("Alice|AWS", "Hank|Retail", "Bob|AWS", "Carol|Retail"), Set.copyOf(rows));
+    assertEquals(4, rows.size());
+    assertEquals(3, departmentProbes.size());
+    departmentProbes.forEach(source -> assertTrue(source.query().toString().contains("\"terms\"")));
+    assertEquals(Set.of(2), departmentSortCounts);
+  }
+
+  @Test
+  public void leftJoinKeepsUnmatchedRowsOfEachBlock() {
+    List<String> rows = leftJoin("");
+
+    assertEquals(
+        List.of("Alice|AWS", "Hank|Retail", "Bob|AWS", "Allen|null", "Carol|Retail"), rows);
+    assertEquals(3, departmentProbes.size());
+  }
+
+  @Test
+  public void leftJoinKeepsUnmatchedRowsOfEachBlockWithTermsFilter() {
+    List<String> rows = leftJoin("/*! HASH_WITH_TERMS_FILTER*/ ");
+
+    assertEquals(
+        List.of("Alice|AWS", "Hank|Retail", "Bob|AWS", "Allen|null", "Carol|Retail"), rows);
+    assertEquals(3, departmentProbes.size());
+  }
+
+  @Test
+  public void stopReadingFirstTableAtTotalLimit() {
+    List<String> rows = join("", "LIMIT 3");
+
+    assertEquals(3, rows.size());
+    assertEquals(2, employeeSearches);
+    assertEquals(2, departmentProbes.size());
+  }
+
+  @Test
+  public void stopReadingFirstTableAtTotalLimitWithTermsFilter() {
+    List<String> rows = join("/*! HASH_WITH_TERMS_FILTER*/ ", "LIMIT 3");
+
+    assertEquals(3, rows.size());
+    assertEquals(2, employeeSearches);
+    assertEquals(2, departmentProbes.size());
+  }
+
+  private List<String> join(String hint, String limit) {
+    return run(
+        "SELECT /*! JOIN_ALGORITHM_USE_LEGACY */ "
+            + hint
+            + "e.lastname, d.name FROM employee e "
+            + "JOIN department d ON d.id = e.departmentId "
+            + limit);
+  }
+
+  /** Left join limited so that the first table is paged rather than fetched at once. */
+  private List<String> leftJoin(String hint) {
+    return run(
+        "SELECT /*! JOIN_ALGORITHM_USE_LEGACY */ "
+            + hint
+            + "e.lastname, d.name FROM employee e "
+            + "LEFT JOIN department d ON d.id = e.departmentId "
+            + "LIMIT 10000");
+  }
+
+  /** Run the join and return its rows as lastname|department name. */
+  private List<String> run(String sql) {
+    try (MockedStatic<BackOffRetryStrategy> backOffRetryStrategy =
+        Mockito.mockStatic(BackOffRetryStrategy.class)) {
+      backOffRetryStrategy.when(BackOffRetryStrategy::isHealthy).thenReturn(true);
+
+      HashJoinElasticExecutor executor =
+          (HashJoinElasticExecutor) ElasticJoinExecutor.createJoinExecutor(client, explain(sql));
+      executor.setBlockSize(BLOCK_SIZE);
+      executor.run();
+
+      List<String> rows = new ArrayList<>();
+      for (SearchHit hit : executor.getHits().getHits()) {
+        Map<String, Object> source = hit.getSourceAsMap();
+        rows.add(source.get("e.lastname") + "|" + source.get("d.name"));
+      }
+      return rows;
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private SqlElasticRequestBuilder explain(String sql) throws Exception {
+    SQLExprParser parser = new ElasticSqlExprParser(sql);
+    JoinSelect joinSelect = new SqlParser().parseJoinSelect((SQLQueryExpr) parser.expr());
+    QueryAction queryAction = OpenSearchJoinQueryActionFactory.createJoinAction(client, joinSelect);
+    queryAction.setSqlRequest(new SqlRequest(sql, null));
+    return queryAction.explain();
+  }
+
+  /** Page the hits of an index by the size and search_after of the request, unfiltered. */
+  private SearchResponse search(SearchRequest request) {
+    SearchSourceBuilder source = request.source();
+    List<SearchHit> hits;
+    if (request.indices()[0].equals("employee")) {
+      employeeSearches++;
+      hits = employees;
+    } else {
+      if (source.searchAfter() == null) {
+        departmentProbes.add(source);
+      }
+      departmentSortCounts.add(source.sorts() == null ? 0 : source.sorts().size());
+      hits = departments;
+    }
+
+    int from = 0;
+    if (source.searchAfter() != null) {
+      Object lastDocId = source.searchAfter()[0];
+      while (from < hits.size() && !lastDocId.equals(hits.get(from).docId())) {
+        from++;
+      }
+      from++;
+    }
+    int to = source.size() < 0 ? hits.size() : Math.min(hits.size(), from + source.size());
+    SearchHit[] page =
+        from < to ? hits.subList(from, to).toArray(new SearchHit[0]) : new SearchHit[0];
+
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getTotalShards()).thenReturn(1);
+    when(response.getHits())
+        .thenReturn(new SearchHits(page, new TotalHits(hits.size(), Relation.EQUAL_TO), 0));
+    return response;
+  }
+
+  private void mockPit() throws Exception {
+    ActionFuture<CreatePitResponse> createFuture = mock(ActionFuture.class);
+    CreatePitResponse createPitResponse = mock(CreatePitResponse.class);
+    when(createPitResponse.getId()).thenReturn("pit");
+    when(createFuture.get()).thenReturn(createPitResponse);
+    when(client.execute(eq(CreatePitAction.INSTANCE), any())).thenReturn(createFuture);
+
+    ActionFuture<DeletePitResponse> deleteFuture = mock(ActionFuture.class);
+    DeletePitResponse deletePitResponse = mock(DeletePitResponse.class);
+    RestStatus restStatus = mock(RestStatus.class);
+    when(restStatus.getStatus()).thenReturn(200);
+    when(deletePitResponse.status()).thenReturn(restStatus);
+    when(deleteFuture.get()).thenReturn(deletePitResponse);
+    when(client.execute(eq(DeletePitAction.INSTANCE), any())).thenReturn(deleteFuture);
+  }
+
+  private static SearchHit employee(int docId, String lastname, String departmentId) {
+    return hit(
+        docId,
+        "e" + docId,
+        "{\"lastname\":\"" + lastname + "\",\"departmentId\":\"" + departmentId + "\"}");
+  }
+
+  private static SearchHit department(int docId, String id, String name) {
+    return hit(docId, "d" + docId, "{\"id\":\"" + id + "\",\"name\":\"" + name + "\"}");
+  }
+
+  private static SearchHit hit(int docId, String id, String source) {
+    SearchHit hit = new SearchHit(docId, id, Map.of(), Map.of());
+    hit.sourceRef(new BytesArray(source));
+    hit.sortValues(
+        new Object[] {docId, id}, new DocValueFormat[] {DocValueFormat.RAW, DocValueFormat.RAW});
+    return hit;
+  }
+}
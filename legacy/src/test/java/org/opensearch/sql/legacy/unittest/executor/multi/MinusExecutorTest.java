@@ -0,0 +1,185 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.unittest.executor.multi;
+
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import com.alibaba.druid.sql.ast.expr.SQLQueryExpr;
+import com.alibaba.druid.sql.ast.statement.SQLUnionQuery;
+import com.alibaba.druid.sql.parser.SQLExprParser;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.TotalHits.Relation;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.action.search.CreatePitAction;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitAction;
+import org.opensearch.action.search.DeletePitResponse;
+import org.opensearch.action.search.SearchAction;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.common.action.ActionFuture;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.sql.legacy.esdomain.LocalClusterState;
+import org.opensearch.sql.legacy.executor.multi.MinusExecutor;
+import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.legacy.parser.ElasticSqlExprParser;
+import org.opensearch.sql.legacy.parser.SqlParser;
+import org.opensearch.sql.legacy.query.multi.MultiQueryAction;
+import org.opensearch.sql.legacy.query.multi.MultiQueryRequestBuilder;
+import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
+import org.opensearch.transport.client.Client;
+
+/** Legacy MINUS with scrolling, which reads both tables in PIT pages with search_after. */
+public class MinusExecutorTest {
+
+  private final List<SearchHit> employees =
+      List.of(
+          employee(1, "Alice"),
+          employee(2, "Hank"),
+          employee(3, "Bob"),
+          employee(4, "Allen"),
+          employee(5, "Carol"));
+
+  private final List<SearchHit> retirees =
+      List.of(retiree(1, "Hank"), retiree(2, "Allen"), retiree(3, "Dave"));
+
+  private Client client;
+
+  private int searches;
+
+  /** Last sort of each search, which breaks the ties of the sorts before it. */
+  private final Set<String> tiebreakers = new HashSet<>();
+
+  @Before
+  public void init() throws Exception {
+    ClusterSettings clusterSettings = mock(ClusterSettings.class);
+    when(clusterSettings.get(ClusterName.CLUSTER_NAME_SETTING)).thenReturn(ClusterName.DEFAULT);
+    OpenSearchSettings settings = spy(new OpenSearchSettings(clusterSettings));
+    doReturn(emptyList()).when(settings).getSettings();
+    LocalClusterState.state().setPluginSettings(settings);
+    Metrics.getInstance().registerDefaultMetrics();
+
+    client = mock(Client.class);
+    when(client.execute(eq(SearchAction.INSTANCE), any()))
+        .thenAnswer(
+            invocation -> {
+              ActionFuture<SearchResponse> future = mock(ActionFuture.class);
+              SearchResponse response = search(invocation.getArgument(1, SearchRequest.class));
+              when(future.actionGet()).thenReturn(response);
+              return future;
+            });
+    mockPit();
+  }
+
+  @Test
+  public void minusOverSeveralPages() throws Exception {
+    Set<String> lastnames =
+        minus(
+            "SELECT /*! MINUS_SCROLL_FETCH_AND_RESULT_LIMITS(1000, 50, 2) */ lastname "
+                + "FROM employee MINUS SELECT lastname FROM retiree");
+
+    assertEquals(Set.of("Alice", "Bob", "Carol"), lastnames);
+    // 3 pages of employees and 2 of retirees, each followed by an empty page
+    assertEquals(7, searches);
+    assertEquals(Set.of("_id"), tiebreakers);
+  }
+
+  /** Run the MINUS query and return the lastnames of its hits. */
+  private Set<String> minus(String sql) throws Exception {
+    SQLExprParser parser = new ElasticSqlExprParser(sql);
+    SQLUnionQuery query = (SQLUnionQuery) ((SQLQueryExpr) parser.expr()).getSubQuery().getQuery();
+    MultiQueryAction queryAction =
+        new MultiQueryAction(client, new SqlParser().parseMultiSelect(query));
+    MinusExecutor executor =
+        new MinusExecutor(client, (MultiQueryRequestBuilder) queryAction.explain());
+    executor.run();
+
+    Set<String> lastnames = new HashSet<>();
+    for (SearchHit hit : executor.getHits().getHits()) {
+      lastnames.add((String) hit.getSourceAsMap().get("lastname"));
+    }
+    return lastnames;
+  }
+
+  /** Page the hits of an index by the size and search_after of the request, unfiltered. */
+  private SearchResponse search(SearchRequest request) {
+    searches++;
+    SearchSourceBuilder source = request.source();
+    List<SearchHit> hits = request.indices()[0].equals("employee") ? employees : retirees;
+    List<SortBuilder<?>> sorts = source.sorts();
+    tiebreakers.add(((FieldSortBuilder) sorts.get(sorts.size() - 1)).getFieldName());
+
+    int from = 0;
+    if (source.searchAfter() != null) {
+      Object lastId = source.searchAfter()[source.searchAfter().length - 1];
+      while (from < hits.size() && !lastId.equals(hits.get(from).getId())) {
+        from++;
+      }
+      from++;
+    }
+    int to = Math.min(hits.size(), from + source.size());
+    SearchHit[] page =
+        from < to ? hits.subList(from, to).toArray(new SearchHit[0]) : new SearchHit[0];
+
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getHits())
+        .thenReturn(new SearchHits(page, new TotalHits(hits.size(), Relation.EQUAL_TO), 0));
+    return response;
+  }
+
+  private void mockPit() throws Exception {
+    ActionFuture<CreatePitResponse> createFuture = mock(ActionFuture.class);
+    CreatePitResponse createPitResponse = mock(CreatePitResponse.class);
+    when(createPitResponse.getId()).thenReturn("pit");
+    when(createFuture.get()).thenReturn(createPitResponse);
+    when(client.execute(eq(CreatePitAction.INSTANCE), any())).thenReturn(createFuture);
+
+    ActionFuture<DeletePitResponse> deleteFuture = mock(ActionFuture.class);
+    DeletePitResponse deletePitResponse = mock(DeletePitResponse.class);
+    RestStatus restStatus = mock(RestStatus.class);
+    when(restStatus.getStatus()).thenReturn(200);
+    when(deletePitResponse.status()).thenReturn(restStatus);
+    when(deleteFuture.get()).thenReturn(deletePitResponse);
+    when(client.execute(eq(DeletePitAction.INSTANCE), any())).thenReturn(deleteFuture);
+  }
+
+  private static SearchHit employee(int docId, String lastname) {
+    return hit(docId, "e" + docId, lastname);
+  }
+
+  private static SearchHit retiree(int docId, String lastname) {
+    return hit(docId, "r" + docId, lastname);
+  }
+
+  private static SearchHit hit(int docId, String id, String lastname) {
+    SearchHit hit = new SearchHit(docId, id, Map.of(), Map.of());
+    hit.sourceRef(new BytesArray("{\"lastname\":\"" + lastname + "\"}"));
+    hit.sortValues(
+        new Object[] {docId, id}, new DocValueFormat[] {DocValueFormat.RAW, DocValueFormat.RAW});
+    return hit;
+  }
+}
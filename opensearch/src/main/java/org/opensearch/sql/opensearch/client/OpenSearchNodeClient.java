@@ -30,6 +30,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -95,7 +96,10 @@ public class OpenSearchNodeClient implements OpenSearchClient {
       return mappingsResponse.mappings().entrySet().stream()
           .collect(
               Collectors.toUnmodifiableMap(
-                  Map.Entry::getKey, cursor -> new IndexMapping(cursor.getValue())));
+                  Map.Entry::getKey,
+                  cursor ->
+                      IndexMappingCache.getInstance()
+                          .getOrParse(cursor.getKey(), cursor.getValue())));
     } catch (IndexNotFoundException | OpenSearchSecurityException e) {
       // Re-throw directly to be treated as client error finally
       throw e;
@@ -65,6 +65,21 @@ public class OpenSearchDataType implements ExprType, Serializable {
   // resolved ExprCoreType
   @Getter protected ExprCoreType exprCoreType;
 
+  // Whether a keyword field doesn't index some values as they are, because its mapping has
+  // ignore_above or normalizer
+  @EqualsAndHashCode.Exclude protected boolean lossyKeyword = false;
+
+  /**
+   * Whether this is a keyword field which indexes every value as it is, i.e. its mapping has
+   * neither {@code ignore_above} nor {@code normalizer}. Term level queries on such a field match
+   * exactly the values which a script reading the field compares.
+   *
+   * @return true if this is a lossless keyword field.
+   */
+  public boolean isLosslessKeyword() {
+    return mappingType == MappingType.Keyword && !lossyKeyword;
+  }
+
   /**
    * Get a simplified type {@link ExprCoreType} if possible. To avoid returning `UNKNOWN` for
    * `OpenSearch*Type`s, e.g. for IP, returns itself. If the `exprCoreType` is {@link
@@ -179,6 +194,13 @@ public class OpenSearchDataType implements ExprType, Serializable {
         Map<String, OpenSearchDataType> fields =
             parseMapping((Map<String, Object>) innerMap.getOrDefault("fields", Map.of()));
         return (!fields.isEmpty()) ? OpenSearchTextType.of(fields) : OpenSearchTextType.of();
+      case Keyword:
+        if (innerMap.containsKey("ignore_above") || innerMap.containsKey("normalizer")) {
+          OpenSearchDataType keywordDataType = res.cloneEmpty();
+          keywordDataType.lossyKeyword = true;
+          return keywordDataType;
+        }
+        return res;
       case GeoPoint:
         return OpenSearchGeoPointType.of();
       case Binary:
@@ -268,9 +290,24 @@ public class OpenSearchDataType implements ExprType, Serializable {
    * @return A cloned object.
    */
   protected OpenSearchDataType cloneEmpty() {
-    return this.mappingType == null
-        ? new OpenSearchDataType(this.exprCoreType)
-        : new OpenSearchDataType(this.mappingType);
+    OpenSearchDataType clone =
+        this.mappingType == null
+            ? new OpenSearchDataType(this.exprCoreType)
+            : new OpenSearchDataType(this.mappingType);
+    clone.lossyKeyword = this.lossyKeyword;
+    return clone;
+  }
+
+  /**
+   * Clone type object with other {@link #properties}, the type object itself is left unchanged.
+   *
+   * @param properties properties of the clone
+   * @return A cloned object.
+   */
+  public OpenSearchDataType cloneWithProperties(Map<String, OpenSearchDataType> properties) {
+    OpenSearchDataType clone = cloneEmpty();
+    clone.properties = properties;
+    return clone;
   }
 
   /**
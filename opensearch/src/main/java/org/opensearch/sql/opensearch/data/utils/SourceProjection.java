@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.data.utils;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Fields of the _source to decode from a search hit, derived from the source includes of the
+ * request. A path is decoded if it's included, is inside an included object, or is an object on
+ * the way to an included path. Everything else is skipped without being parsed into values.
+ */
+@EqualsAndHashCode
+@ToString
+public class SourceProjection {
+
+  /** Projection decoding the whole source, used when the request has no includes. */
+  public static final SourceProjection ALL = new SourceProjection(Set.of(), Set.of());
+
+  private final Set<String> includes;
+
+  /** Object paths which are proper prefixes of the includes, e.g. "a" and "a.b" for "a.b.c". */
+  private final Set<String> parents;
+
+  private SourceProjection(Set<String> includes, Set<String> parents) {
+    this.includes = includes;
+    this.parents = parents;
+  }
+
+  /**
+   * Create the projection of the source includes of a request.
+   *
+   * @param includes source includes, empty means the whole source
+   * @return source projection
+   */
+  public static SourceProjection of(Collection<String> includes) {
+    // Wildcard patterns are resolved by OpenSearch, so keep the whole source for them
+    if (includes == null
+        || includes.isEmpty()
+        || includes.stream().anyMatch(include -> include.contains("*"))) {
+      return ALL;
+    }
+    Set<String> parents = new HashSet<>();
+    for (String include : includes) {
+      for (int i = include.indexOf('.'); i > 0; i = include.indexOf('.', i + 1)) {
+        parents.add(include.substring(0, i));
+      }
+    }
+    return new SourceProjection(Set.copyOf(includes), parents);
+  }
+
+  /** Whether the whole source is decoded. */
+  public boolean isAll() {
+    return includes.isEmpty();
+  }
+
+  /** Whether the path and everything inside it is decoded. */
+  public boolean includes(String path) {
+    return isAll() || includes.contains(path);
+  }
+
+  /** Whether the path is an object containing some included paths. */
+  public boolean isParentOfIncluded(String path) {
+    return parents.contains(path);
+  }
+}
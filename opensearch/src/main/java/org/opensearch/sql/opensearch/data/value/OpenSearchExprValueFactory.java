@@ -20,10 +20,13 @@ import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_HOUR_MINUTE_SECOND_FORMATTER;
 import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_YEAR_MONTH_DAY_FORMATTER;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -68,6 +71,7 @@ import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.utils.Content;
 import org.opensearch.sql.opensearch.data.utils.ObjectContent;
 import org.opensearch.sql.opensearch.data.utils.OpenSearchJsonContent;
+import org.opensearch.sql.opensearch.data.utils.SourceProjection;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 
 /** Construct ExprValue from OpenSearch response. */
@@ -157,13 +161,36 @@ public class OpenSearchExprValueFactory {
    *  </pre>
    */
   public ExprValue construct(String jsonString, boolean supportArrays) {
-    try {
-      return parse(
-          new OpenSearchJsonContent(OBJECT_MAPPER.readTree(jsonString)),
+    return construct(jsonString, supportArrays, SourceProjection.ALL);
+  }
+
+  /**
+   * Construct ExprValue of the projected fields from the JSON source of a hit. The source is
+   * decoded from the token stream: objects are read field by field without building the JSON tree
+   * of the document, fields out of the projection are skipped and other values are converted by
+   * their mapping type.
+   *
+   * @param jsonString JSON source of the hit
+   * @param supportArrays whether to parse the whole array
+   * @param projection fields of the source to decode
+   * @return tuple value of the projected fields
+   */
+  public ExprValue construct(
+      String jsonString, boolean supportArrays, SourceProjection projection) {
+    try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(jsonString)) {
+      JsonToken token = parser.nextToken();
+      if (token == null) {
+        return ExprTupleValue.empty();
+      }
+      return parseValue(
+          parser,
+          token,
           TOP_PATH,
           Optional.of(STRUCT),
+          projection,
+          projection.isAll(),
           fieldTypeTolerance || supportArrays);
-    } catch (JsonProcessingException e) {
+    } catch (IOException e) {
       throw new IllegalStateException(String.format("invalid json: %s.", jsonString), e);
     }
   }
@@ -357,9 +384,9 @@ public class OpenSearchExprValueFactory {
         .map()
         .forEachRemaining(
             entry ->
-                populateValueRecursive(
+                populateValue(
                     result,
-                    new JsonPath(entry.getKey()),
+                    entry.getKey(),
                     parse(
                         entry.getValue(),
                         makeField(prefix, entry.getKey()),
@@ -368,6 +395,77 @@ public class OpenSearchExprValueFactory {
     return result;
   }
 
+  /**
+   * Parse the value at the current token of the parser. Objects of struct type are parsed from the
+   * token stream field by field, other values are read into a JSON node and parsed as content.
+   */
+  private ExprValue parseValue(
+      JsonParser parser,
+      JsonToken token,
+      String field,
+      Optional<ExprType> fieldType,
+      SourceProjection projection,
+      boolean projectAll,
+      boolean supportArrays)
+      throws IOException {
+    if (token == JsonToken.START_OBJECT && fieldType.isPresent() && isStruct(fieldType.get())) {
+      return parseStruct(parser, field, projection, projectAll, supportArrays);
+    }
+    JsonNode node = OBJECT_MAPPER.readTree(parser);
+    return parse(new OpenSearchJsonContent(node), field, fieldType, supportArrays);
+  }
+
+  /**
+   * Parse struct from the token stream, skipping the fields out of projection.
+   *
+   * @param parser parser at the start of the object
+   * @param prefix Prefix for Level of object depth to parse.
+   * @param projection fields of the source to decode
+   * @param projectAll whether all fields of the object are in the projection
+   * @param supportArrays Parsing the whole array if array is type nested.
+   * @return Value parsed from the object.
+   */
+  private ExprValue parseStruct(
+      JsonParser parser,
+      String prefix,
+      SourceProjection projection,
+      boolean projectAll,
+      boolean supportArrays)
+      throws IOException {
+    ExprTupleValue result = ExprTupleValue.empty();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String key = parser.currentName();
+      String field = makeField(prefix, key);
+      JsonToken token = parser.nextToken();
+      boolean projectField = projectAll || projection.includes(field);
+      if (!projectField && !projection.isParentOfIncluded(field)) {
+        parser.skipChildren();
+        continue;
+      }
+      populateValue(
+          result,
+          key,
+          parseValue(
+              parser, token, field, type(field), projection, projectField, supportArrays));
+    }
+    return result;
+  }
+
+  private static boolean isStruct(ExprType type) {
+    return type.equals(OpenSearchDataType.of(OpenSearchDataType.MappingType.Object))
+        || type == STRUCT;
+  }
+
+  /** Populate the value of the key, which only needs a JsonPath if the key has dots. */
+  private static void populateValue(ExprTupleValue result, String key, ExprValue value) {
+    if (key.indexOf('.') < 0) {
+      result.tupleValue().computeIfPresent(key, (k, oldValue) -> value.mergeTo(oldValue));
+      result.tupleValue().putIfAbsent(key, value);
+    } else {
+      populateValueRecursive(result, new JsonPath(key), value);
+    }
+  }
+
   /**
    * Populate the current ExprTupleValue recursively.
    *
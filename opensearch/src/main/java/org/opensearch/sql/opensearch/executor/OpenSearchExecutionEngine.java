@@ -14,15 +14,21 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelRoot;
+import org.apache.calcite.rel.RelVisitor;
+import org.apache.calcite.rel.core.Correlate;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.SetOp;
+import org.apache.calcite.rel.core.Window;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexOver;
 import org.apache.calcite.runtime.Hook;
 import org.apache.calcite.sql.SqlExplainLevel;
 import org.apache.calcite.sql.type.ReturnTypes;
@@ -37,10 +43,11 @@ import org.opensearch.sql.calcite.utils.CalciteToolsHelper.OpenSearchRelRunners;
 import org.opensearch.sql.calcite.utils.OpenSearchTypeFactory;
 import org.opensearch.sql.calcite.utils.UserDefinedFunctionUtils;
 import org.opensearch.sql.common.response.ResponseListener;
-import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.executor.ChunkedResponseListener;
+import org.opensearch.sql.executor.ColumnarRows;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.Schema.Column;
@@ -48,12 +55,13 @@ import org.opensearch.sql.executor.Explain;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.PPLFuncImpTable;
+import org.opensearch.sql.monitor.QueryMemoryAccountant;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
 import org.opensearch.sql.opensearch.functions.DistinctCountApproxAggFunction;
 import org.opensearch.sql.opensearch.functions.GeoIpFunction;
-import org.opensearch.sql.opensearch.util.JdbcOpenSearchDataTypeConvertor;
+import org.opensearch.sql.opensearch.util.JdbcColumnarReader;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.TableScanOperator;
 
@@ -61,6 +69,12 @@ import org.opensearch.sql.storage.TableScanOperator;
 public class OpenSearchExecutionEngine implements ExecutionEngine {
   private static final Logger logger = LogManager.getLogger(OpenSearchExecutionEngine.class);
 
+  /** Admission cost of a join or a correlated subquery, which hold their inputs on the node. */
+  private static final int JOIN_COST = 4;
+
+  /** Admission cost of window functions, which hold their partitions on the node. */
+  private static final int WINDOW_COST = 2;
+
   private final OpenSearchClient client;
 
   private final ExecutionProtector executionProtector;
@@ -87,27 +101,55 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
       ExecutionContext context,
       ResponseListener<QueryResponse> listener) {
     PhysicalPlan plan = executionProtector.protect(physicalPlan);
+    // The v2 engine doesn't run joins, so its plans all weigh the same
+    QueryAdmissionController.getInstance()
+        .submit(1, () -> executePlan(plan, physicalPlan, context, listener), listener::onFailure);
+  }
+
+  private void executePlan(
+      PhysicalPlan plan,
+      PhysicalPlan physicalPlan,
+      ExecutionContext context,
+      ResponseListener<QueryResponse> listener) {
     client.schedule(
         () -> {
+          // Memory held by the operators is accounted per query and released when it ends
+          QueryMemoryAccountant accountant = QueryMemoryAccountant.open();
           try {
             List<ExprValue> result = new ArrayList<>();
+            ChunkedResponseListener chunkedListener = asChunkedListener(listener);
 
             context.getSplit().ifPresent(plan::add);
             plan.open();
 
             Integer querySizeLimit = context.getQuerySizeLimit();
-            while (plan.hasNext() && (querySizeLimit == null || result.size() < querySizeLimit)) {
+            int rowCount = 0;
+            while (plan.hasNext() && (querySizeLimit == null || rowCount < querySizeLimit)) {
               result.add(plan.next());
+              rowCount++;
+              if (chunkedListener != null && result.size() >= chunkedListener.getChunkSize()) {
+                chunkedListener.onChunk(physicalPlan.schema(), result);
+                result = new ArrayList<>();
+              }
             }
 
-            QueryResponse response =
-                new QueryResponse(
-                    physicalPlan.schema(), result, planSerializer.convertToCursor(plan));
-            listener.onResponse(response);
+            if (chunkedListener != null) {
+              if (!result.isEmpty()) {
+                chunkedListener.onChunk(physicalPlan.schema(), result);
+              }
+              chunkedListener.onComplete(
+                  physicalPlan.schema(), planSerializer.convertToCursor(plan));
+            } else {
+              QueryResponse response =
+                  new QueryResponse(
+                      physicalPlan.schema(), result, planSerializer.convertToCursor(plan));
+              listener.onResponse(response);
+            }
           } catch (Exception e) {
             listener.onFailure(e);
           } finally {
             plan.close();
+            accountant.close();
           }
         });
   }
@@ -200,61 +242,127 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
   @Override
   public void execute(
       RelNode rel, CalcitePlanContext context, ResponseListener<QueryResponse> listener) {
-    client.schedule(
-        () ->
-            AccessController.doPrivileged(
-                (PrivilegedAction<Void>)
-                    () -> {
-                      try (PreparedStatement statement = OpenSearchRelRunners.run(context, rel)) {
-                        ResultSet result = statement.executeQuery();
-                        buildResultSet(
-                            result, rel.getRowType(), context.sysLimit.querySizeLimit(), listener);
-                      } catch (SQLException e) {
-                        throw new RuntimeException(e);
-                      }
-                      return null;
-                    }));
+    QueryAdmissionController.getInstance()
+        .submit(
+            estimateCost(rel),
+            () ->
+                client.schedule(
+                    () ->
+                        AccessController.doPrivileged(
+                            (PrivilegedAction<Void>)
+                                () -> {
+                                  try (QueryMemoryAccountant accountant =
+                                          QueryMemoryAccountant.open();
+                                      PreparedStatement statement =
+                                          OpenSearchRelRunners.run(context, rel)) {
+                                    ResultSet result = statement.executeQuery();
+                                    buildResultSet(
+                                        result,
+                                        rel.getRowType(),
+                                        context.sysLimit.querySizeLimit(),
+                                        listener);
+                                  } catch (SQLException e) {
+                                    throw new RuntimeException(e);
+                                  }
+                                  return null;
+                                })),
+            // A query which waited can still fall back once planning returned
+            context.getFailureHandler() != null
+                ? context.getFailureHandler()
+                : listener::onFailure);
+  }
+
+  /**
+   * Estimate the cost of a plan for admission control. Scans, filters, sorts and aggregations are
+   * mostly pushed down to OpenSearch, while joins, correlated subqueries and window functions run
+   * on the node and hold their inputs in memory.
+   *
+   * @param rel logical plan
+   * @return cost, 1 for a plan which runs on the node as a plain pipeline
+   */
+  static int estimateCost(RelNode rel) {
+    int[] cost = {1};
+    new RelVisitor() {
+      @Override
+      public void visit(RelNode node, int ordinal, RelNode parent) {
+        if (node instanceof Join || node instanceof Correlate) {
+          cost[0] += JOIN_COST;
+        } else if (node instanceof Window
+            || (node instanceof Project project
+                && RexOver.containsOver(project.getProjects(), null))) {
+          cost[0] += WINDOW_COST;
+        } else if (node instanceof SetOp) {
+          cost[0]++;
+        }
+        super.visit(node, ordinal, parent);
+      }
+    }.go(rel);
+    return cost[0];
   }
 
+  /**
+   * Convert rows of the JDBC {@link ResultSet} to {@link ColumnarRows}. If the listener is a {@link
+   * ChunkedResponseListener}, rows are handed over chunk by chunk as they are pulled from the
+   * enumerable pipeline, so the converted rows of the whole result are never held at once. The
+   * columns of a chunk are reused for the next one.
+   */
   private void buildResultSet(
       ResultSet resultSet,
       RelDataType rowTypes,
       Integer querySizeLimit,
       ResponseListener<QueryResponse> listener)
       throws SQLException {
-    // Get the ResultSet metadata to know about columns
     ResultSetMetaData metaData = resultSet.getMetaData();
-    int columnCount = metaData.getColumnCount();
     List<RelDataType> fieldTypes =
         rowTypes.getFieldList().stream().map(RelDataTypeField::getType).toList();
-    List<ExprValue> values = new ArrayList<>();
+    JdbcColumnarReader reader = new JdbcColumnarReader(metaData, fieldTypes);
+    ColumnarRows rows = reader.getRows();
+    ChunkedResponseListener chunkedListener = asChunkedListener(listener);
+    Schema schema = null;
+    int rowCount = 0;
     // Iterate through the ResultSet
-    while (resultSet.next() && (querySizeLimit == null || values.size() < querySizeLimit)) {
-      Map<String, ExprValue> row = new LinkedHashMap<String, ExprValue>();
-      // Loop through each column
-      for (int i = 1; i <= columnCount; i++) {
-        String columnName = metaData.getColumnName(i);
-        int sqlType = metaData.getColumnType(i);
-        RelDataType fieldType = fieldTypes.get(i - 1);
-        ExprValue exprValue =
-            JdbcOpenSearchDataTypeConvertor.getExprValueFromSqlType(
-                resultSet, i, sqlType, fieldType, columnName);
-        row.put(columnName, exprValue);
+    while ((querySizeLimit == null || rowCount < querySizeLimit) && resultSet.next()) {
+      reader.readRow(resultSet);
+      rowCount++;
+      if (chunkedListener != null && rows.size() >= chunkedListener.getChunkSize()) {
+        if (schema == null) {
+          schema = buildSchema(fieldTypes, rows);
+        }
+        chunkedListener.onChunk(schema, rows);
+        rows.clear();
       }
-      values.add(ExprTupleValue.fromExprValueMap(row));
     }
 
-    List<Column> columns = new ArrayList<>(metaData.getColumnCount());
-    for (int i = 1; i <= columnCount; ++i) {
-      String columnName = metaData.getColumnName(i);
-      RelDataType fieldType = fieldTypes.get(i - 1);
+    if (schema == null) {
+      schema = buildSchema(fieldTypes, rows);
+    }
+    if (chunkedListener != null) {
+      if (!rows.isEmpty()) {
+        chunkedListener.onChunk(schema, rows);
+      }
+      chunkedListener.onComplete(schema, null);
+    } else {
+      QueryResponse response = new QueryResponse(schema, rows, null);
+      listener.onResponse(response);
+    }
+  }
+
+  /**
+   * Build the result schema. The first row, if any, is used to decide the type of columns which
+   * are typed ANY in the plan.
+   */
+  private Schema buildSchema(List<RelDataType> fieldTypes, ColumnarRows rows) {
+    List<String> columnNames = rows.getColumnNames();
+    List<Column> columns = new ArrayList<>(columnNames.size());
+    for (int i = 0; i < columnNames.size(); ++i) {
+      RelDataType fieldType = fieldTypes.get(i);
       // TODO: Correct this after fixing issue github.com/opensearch-project/sql/issues/3751
       //  The element type of struct and array is currently set to ANY.
       //  We set them using the runtime type as a workaround.
       ExprType exprType;
       if (fieldType.getSqlTypeName() == SqlTypeName.ANY) {
-        if (!values.isEmpty()) {
-          exprType = values.getFirst().tupleValue().get(columnName).type();
+        if (!rows.isEmpty()) {
+          exprType = rows.getValue(0, i).type();
         } else {
           // Using UNDEFINED instead of UNKNOWN to avoid throwing exception
           exprType = ExprCoreType.UNDEFINED;
@@ -262,11 +370,14 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
       } else {
         exprType = OpenSearchTypeFactory.convertRelDataTypeToExprType(fieldType);
       }
-      columns.add(new Column(columnName, null, exprType));
+      columns.add(new Column(columnNames.get(i), null, exprType));
     }
-    Schema schema = new Schema(columns);
-    QueryResponse response = new QueryResponse(schema, values, null);
-    listener.onResponse(response);
+    return new Schema(columns);
+  }
+
+  private static ChunkedResponseListener asChunkedListener(
+      ResponseListener<QueryResponse> listener) {
+    return listener instanceof ChunkedResponseListener chunkedListener ? chunkedListener : null;
   }
 
   /** Registers opensearch-dependent functions */
@@ -21,7 +21,7 @@ public class OpenSearchQueryManager implements QueryManager {
 
   private final NodeClient nodeClient;
 
-  private static final String SQL_WORKER_THREAD_POOL_NAME = "sql-worker";
+  static final String SQL_WORKER_THREAD_POOL_NAME = "sql-worker";
 
   @Override
   public QueryId submit(AbstractPlan queryPlan) {
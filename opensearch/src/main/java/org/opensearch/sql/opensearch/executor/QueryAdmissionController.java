@@ -0,0 +1,336 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.ThreadContext;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Node level admission control of the queries executed on the worker thread pool.
+ *
+ * <p>Each query is weighted by its estimated cost, and the queries running on the node may weigh at
+ * most the capacity in total. A quarter of the capacity, at least 1, is reserved for the cheap
+ * queries of cost 1, so the heavy queries can't take all the workers even on a small node. Queries
+ * which don't fit wait in a queue of their user and don't hold a worker meanwhile. The queues are
+ * served round robin, so the queries of a user don't wait behind the backlog of another one, and a
+ * cheap query is admitted ahead of a heavy one which doesn't fit yet. A query which has been passed
+ * over too many times stops the admission of the others, except cheap ones within the reserved
+ * capacity, until enough of the running ones finish, so it can't starve.
+ */
+public class QueryAdmissionController {
+
+  /** Same with the queue size of the worker thread pool. */
+  private static final int DEFAULT_MAX_QUEUED = 1000;
+
+  /** Times a waiting query may be passed over before it holds back the queries behind it. */
+  private static final int MAX_SKIPS = 16;
+
+  /** Transient header of the authenticated user, set by the security plugin. */
+  private static final String USER_INFO_TRANSIENT = "_opendistro_security_user_info";
+
+  /** Queue of the queries without an authenticated user. */
+  private static final String DEFAULT_TENANT = "";
+
+  private static final QueryAdmissionController INSTANCE =
+      new QueryAdmissionController(1, DEFAULT_MAX_QUEUED);
+
+  private final int maxQueued;
+
+  /** Thread pool the waiting queries are dispatched to, null until the plugin configures it. */
+  private volatile ThreadPool threadPool;
+
+  private volatile int capacity;
+
+  /** Share of the capacity the heavy queries may use, the rest is reserved for cheap ones. */
+  private volatile int heavyCapacity;
+
+  private int runningCost = 0;
+
+  private int heavyRunningCost = 0;
+
+  private int queuedCount = 0;
+
+  private final Map<String, Deque<Pending>> queues = new HashMap<>();
+
+  /** Users with waiting queries, in the order their queues are served. */
+  private final Deque<String> tenants = new ArrayDeque<>();
+
+  private final LongAdder admittedCount = new LongAdder();
+
+  private final LongAdder queuedTotalCount = new LongAdder();
+
+  private final LongAdder queueTimeNanos = new LongAdder();
+
+  @VisibleForTesting
+  QueryAdmissionController(int capacity, int maxQueued) {
+    this.capacity = capacity;
+    this.heavyCapacity = heavyCapacityOf(capacity);
+    this.maxQueued = maxQueued;
+  }
+
+  public static QueryAdmissionController getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Enable admission control on the worker thread pool.
+   *
+   * @param threadPool thread pool of the node
+   * @param capacity total cost of the queries which may run at once
+   */
+  public void configure(ThreadPool threadPool, int capacity) {
+    this.capacity = Math.max(1, capacity);
+    this.heavyCapacity = heavyCapacityOf(this.capacity);
+    this.threadPool = threadPool;
+  }
+
+  /**
+   * Run a query once the node has capacity for it. The query runs on the calling thread if it is
+   * admitted right away, otherwise on a worker thread later on.
+   *
+   * @param cost estimated cost of the query, capped at the share of the heavy queries
+   * @param task query execution, which returns when the query is done
+   * @param onFailure called if the query can't be queued, or if it fails on a worker thread after
+   *     having waited. A failure on the calling thread is thrown to the caller instead.
+   */
+  public void submit(int cost, Runnable task, Consumer<Exception> onFailure) {
+    ThreadPool pool = threadPool;
+    if (pool == null) {
+      task.run();
+      return;
+    }
+    String userInfo = pool.getThreadContext().getTransient(USER_INFO_TRANSIENT);
+    submit(tenantOf(userInfo), cost, pool.getThreadContext().preserveContext(task), onFailure);
+  }
+
+  @VisibleForTesting
+  void submit(String tenant, int cost, Runnable task, Consumer<Exception> onFailure) {
+    Pending pending =
+        new Pending(
+            Math.max(1, Math.min(cost, heavyCapacity)),
+            cost > 1,
+            withCurrentContext(task),
+            onFailure);
+    List<Pending> admitted;
+    synchronized (this) {
+      if (queuedCount >= maxQueued) {
+        admitted = null;
+      } else {
+        enqueue(tenant, pending);
+        admitted = admitWaiting();
+        pending.queued = !admitted.contains(pending);
+      }
+    }
+    if (admitted == null) {
+      onFailure.accept(
+          new OpenSearchRejectedExecutionException(
+              String.format("too many queries waiting for admission, limit [%d]", maxQueued)));
+      return;
+    }
+    // Hand the others over before running this one, which holds the calling thread
+    admitted.stream().filter(query -> query != pending).forEach(this::dispatch);
+    if (!pending.queued) {
+      run(pending);
+    }
+  }
+
+  /** Total cost of the running queries. */
+  public synchronized int getRunningCost() {
+    return runningCost;
+  }
+
+  /** Number of queries waiting for admission. */
+  public synchronized int getQueuedCount() {
+    return queuedCount;
+  }
+
+  /** Number of queries admitted since the node started. */
+  public long getAdmittedCount() {
+    return admittedCount.sum();
+  }
+
+  /** Number of queries which had to wait for admission since the node started. */
+  public long getQueuedTotalCount() {
+    return queuedTotalCount.sum();
+  }
+
+  /** Total time the admitted queries waited for admission, in milliseconds. */
+  public long getQueueTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(queueTimeNanos.sum());
+  }
+
+  /** Name of the user in the user info of the security plugin, which starts with the name. */
+  @VisibleForTesting
+  static String tenantOf(String userInfo) {
+    if (userInfo == null || userInfo.isEmpty()) {
+      return DEFAULT_TENANT;
+    }
+    int end = userInfo.indexOf('|');
+    return end < 0 ? userInfo : userInfo.substring(0, end);
+  }
+
+  private void enqueue(String tenant, Pending pending) {
+    queues.computeIfAbsent(tenant, t -> new ArrayDeque<>()).addLast(pending);
+    if (!tenants.contains(tenant)) {
+      tenants.addLast(tenant);
+    }
+    queuedCount++;
+  }
+
+  /** Take the waiting queries which fit in the capacity, serving the users round robin. */
+  private List<Pending> admitWaiting() {
+    List<Pending> admitted = new ArrayList<>();
+    List<Pending> passedOver = new ArrayList<>();
+    Pending starving = findStarving();
+    int misses = 0;
+    while (!tenants.isEmpty() && misses < tenants.size()) {
+      String tenant = tenants.pollFirst();
+      Deque<Pending> queue = queues.get(tenant);
+      Pending head = queue.peekFirst();
+      if (!fits(head, starving)) {
+        if (head != starving && !passedOver.contains(head)) {
+          passedOver.add(head);
+        }
+        tenants.addLast(tenant);
+        misses++;
+        continue;
+      }
+      if (head == starving) {
+        starving = null;
+      }
+      queue.pollFirst();
+      queuedCount--;
+      runningCost += head.cost;
+      if (head.heavy) {
+        heavyRunningCost += head.cost;
+      }
+      admitted.add(head);
+      if (queue.isEmpty()) {
+        queues.remove(tenant);
+      } else {
+        tenants.addLast(tenant);
+      }
+      misses = 0;
+    }
+    if (!admitted.isEmpty()) {
+      passedOver.forEach(query -> query.skips++);
+    }
+    return admitted;
+  }
+
+  /** First waiting query which has been passed over too many times, if any. */
+  private Pending findStarving() {
+    for (String tenant : tenants) {
+      Pending head = queues.get(tenant).peekFirst();
+      if (head.skips >= MAX_SKIPS) {
+        return head;
+      }
+    }
+    return null;
+  }
+
+  private boolean fits(Pending query, Pending starving) {
+    if (starving != null && query != starving) {
+      // Let the running queries drain until the starving one fits, cheap queries may still use
+      // the reserved capacity, which the starving one doesn't need
+      int cheapRunningCost = runningCost - heavyRunningCost;
+      return !query.heavy && cheapRunningCost + query.cost <= capacity - heavyCapacity;
+    }
+    return runningCost + query.cost <= capacity
+        && (!query.heavy || heavyRunningCost + query.cost <= heavyCapacity);
+  }
+
+  private static int heavyCapacityOf(int capacity) {
+    return Math.max(1, capacity - Math.max(1, capacity / 4));
+  }
+
+  private void run(Pending query) {
+    admittedCount.increment();
+    if (query.queued) {
+      queuedTotalCount.increment();
+      queueTimeNanos.add(System.nanoTime() - query.submitTime);
+    }
+    try {
+      query.task.run();
+    } finally {
+      release(query);
+    }
+  }
+
+  private void release(Pending query) {
+    List<Pending> admitted;
+    synchronized (this) {
+      runningCost -= query.cost;
+      if (query.heavy) {
+        heavyRunningCost -= query.cost;
+      }
+      admitted = admitWaiting();
+    }
+    admitted.forEach(this::dispatch);
+  }
+
+  private void dispatch(Pending query) {
+    try {
+      threadPool
+          .executor(OpenSearchQueryManager.SQL_WORKER_THREAD_POOL_NAME)
+          .execute(() -> runWaited(query));
+    } catch (OpenSearchRejectedExecutionException e) {
+      release(query);
+      query.onFailure.accept(e);
+    }
+  }
+
+  /** Run a query which waited, there is no caller to throw its failure to anymore. */
+  private void runWaited(Pending query) {
+    try {
+      run(query);
+    } catch (Exception e) {
+      query.onFailure.accept(e);
+    } catch (VirtualMachineError e) {
+      throw e;
+    } catch (Throwable t) {
+      // Calcite may throw AssertionError during query execution
+      query.onFailure.accept(new IllegalStateException(t.getMessage(), t));
+    }
+  }
+
+  private static Runnable withCurrentContext(final Runnable task) {
+    final Map<String, String> currentContext = ThreadContext.getImmutableContext();
+    return () -> {
+      ThreadContext.putAll(currentContext);
+      task.run();
+    };
+  }
+
+  /** Query waiting for admission. */
+  private static class Pending {
+    private final int cost;
+    private final boolean heavy;
+    private final Runnable task;
+    private final Consumer<Exception> onFailure;
+    private final long submitTime = System.nanoTime();
+    private int skips = 0;
+    private boolean queued = false;
+
+    Pending(int cost, boolean heavy, Runnable task, Consumer<Exception> onFailure) {
+      this.cost = cost;
+      this.heavy = heavy;
+      this.task = task;
+      this.onFailure = onFailure;
+    }
+  }
+}
@@ -137,7 +137,11 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   /** Decorate with {@link ResourceMonitorPlan}. */
   @Override
   public PhysicalPlan visitSort(SortOperator node, Object context) {
-    return doProtect(new SortOperator(visitInput(node.getInput(), context), node.getSortList()));
+    return doProtect(
+        new SortOperator(
+            visitInput(node.getInput(), context),
+            node.getSortList(),
+            resourceMonitor.getMemoryBudget()));
   }
 
   /** Decorate with {@link ResourceMonitorPlan}. */
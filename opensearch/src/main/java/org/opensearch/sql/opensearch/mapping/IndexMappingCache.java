@@ -0,0 +1,201 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.mapping;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.core.index.Index;
+import org.opensearch.sql.common.utils.ResizableCache;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+
+/**
+ * Node level cache of parsed index mappings, so that a query on an index pattern doesn't parse the
+ * mappings of all the matching indices, merge and flatten them again while they haven't changed.
+ *
+ * <p>The mappings are still fetched for every query, which keeps the index permissions and the
+ * field level security of the user in force: a parsed mapping is only reused for the same mapping
+ * source, and the mappings returned to users with field level security differ from the full ones.
+ * Caching the fetched mappings by mapping version instead would skip the security checks of the
+ * get mappings action and serve the mappings seen by one user to another. Mappings of deleted
+ * indices and of indices whose mapping version changed are dropped by {@link
+ * #clusterChanged(ClusterChangedEvent)} rather than waiting for eviction. The cache is bounded by
+ * the number of fields it holds.
+ */
+public class IndexMappingCache extends ResizableCache<IndexMappingCache.MappingKey, IndexMapping> {
+
+  /** Default maximum number of cached fields, see plugins.query.mapping_cache.max_fields. */
+  public static final int DEFAULT_MAXIMUM_FIELDS = 1_000_000;
+
+  private static final String FAILURE_MESSAGE = "Failed to parse index mapping";
+
+  private static final IndexMappingCache INSTANCE = new IndexMappingCache(DEFAULT_MAXIMUM_FIELDS);
+
+  /** Merged field types of the indices of a pattern, by the parsed mappings of the indices. */
+  private final ResizableCache<Map<String, IndexMapping>, Map<String, OpenSearchDataType>>
+      mergedTypes;
+
+  /** Flattened field types by merged field types, compared by identity. */
+  private final ResizableCache<Map<String, OpenSearchDataType>, Map<String, ExprType>>
+      flattenedTypes;
+
+  /** Create a cache of parsed mappings bounded by the number of fields they hold. */
+  @VisibleForTesting
+  IndexMappingCache(int maximumFields) {
+    super(
+        maximumFields,
+        maximumWeight ->
+            CacheBuilder.newBuilder()
+                .maximumWeight(maximumWeight)
+                .<MappingKey, IndexMapping>weigher(
+                    (key, mapping) -> countFields(mapping.getFieldMappings()))
+                .recordStats()
+                .build(),
+        FAILURE_MESSAGE);
+    this.mergedTypes =
+        new ResizableCache<>(
+            maximumFields,
+            maximumWeight ->
+                CacheBuilder.newBuilder()
+                    .maximumWeight(maximumWeight)
+                    .<Map<String, IndexMapping>, Map<String, OpenSearchDataType>>weigher(
+                        (key, fieldTypes) -> countFields(fieldTypes))
+                    .build(),
+            FAILURE_MESSAGE);
+    this.flattenedTypes =
+        new ResizableCache<>(
+            maximumFields,
+            maximumWeight ->
+                CacheBuilder.newBuilder()
+                    .weakKeys()
+                    .maximumWeight(maximumWeight)
+                    .<Map<String, OpenSearchDataType>, Map<String, ExprType>>weigher(
+                        (key, fieldTypes) -> fieldTypes.size())
+                    .build(),
+            FAILURE_MESSAGE);
+  }
+
+  public static IndexMappingCache getInstance() {
+    return INSTANCE;
+  }
+
+  /** Change the capacity of the parsed mappings and of the field types derived from them. */
+  @Override
+  public synchronized boolean resize(long maximumFields) {
+    if (!super.resize(maximumFields)) {
+      return false;
+    }
+    mergedTypes.resize(maximumFields);
+    flattenedTypes.resize(maximumFields);
+    return true;
+  }
+
+  @Override
+  public synchronized void invalidateAll() {
+    super.invalidateAll();
+    mergedTypes.invalidateAll();
+    flattenedTypes.invalidateAll();
+  }
+
+  /**
+   * Return the parsed mapping of an index, parsing it only if the same mapping isn't cached.
+   *
+   * @param indexName index name
+   * @param metadata mapping of the index
+   * @return parsed mapping, which must not be modified
+   */
+  public IndexMapping getOrParse(String indexName, MappingMetadata metadata) {
+    CompressedXContent source = metadata.source();
+    if (!isEnabled() || source == null) {
+      return new IndexMapping(metadata);
+    }
+    return get(new MappingKey(indexName, source), () -> new IndexMapping(metadata));
+  }
+
+  /**
+   * Return the merged field types of the mappings of the indices matching a pattern.
+   *
+   * @param indexMappings parsed mappings by index name
+   * @param merger merges the field types if they aren't cached
+   * @return merged field types, which must not be modified
+   */
+  public Map<String, OpenSearchDataType> getOrMerge(
+      Map<String, IndexMapping> indexMappings, Supplier<Map<String, OpenSearchDataType>> merger) {
+    if (!isEnabled()) {
+      return merger.get();
+    }
+    return mergedTypes.get(indexMappings, () -> Collections.unmodifiableMap(merger.get()));
+  }
+
+  /**
+   * Return the flattened field types of merged field types.
+   *
+   * @param fieldTypes merged field types returned by {@link #getOrMerge}
+   * @param flattener flattens the field types if they aren't cached
+   * @return flattened field types, which must not be modified
+   */
+  public Map<String, ExprType> getOrFlatten(
+      Map<String, OpenSearchDataType> fieldTypes, Supplier<Map<String, ExprType>> flattener) {
+    if (!isEnabled()) {
+      return flattener.get();
+    }
+    return flattenedTypes.get(fieldTypes, () -> Collections.unmodifiableMap(flattener.get()));
+  }
+
+  /**
+   * Drop the mappings of the indices which were deleted or whose mapping changed.
+   *
+   * @param event cluster state change
+   */
+  public void clusterChanged(ClusterChangedEvent event) {
+    if (!event.metadataChanged() || size() == 0) {
+      return;
+    }
+    for (Index index : event.indicesDeleted()) {
+      invalidate(index.getName());
+    }
+    for (MappingKey key : asMap().keySet()) {
+      IndexMetadata current = event.state().metadata().index(key.indexName());
+      IndexMetadata previous = event.previousState().metadata().index(key.indexName());
+      if (current == null
+          || previous == null
+          || current.getMappingVersion() != previous.getMappingVersion()) {
+        invalidate(key.indexName());
+      }
+    }
+  }
+
+  private void invalidate(String indexName) {
+    if (asMap().keySet().removeIf(key -> key.indexName().equals(indexName))) {
+      // Merged field types refer to the dropped mapping through their key
+      mergedTypes.asMap().keySet().removeIf(key -> key.containsKey(indexName));
+    }
+  }
+
+  /** Number of fields in a field type tree, nested ones included. */
+  private static int countFields(Map<String, OpenSearchDataType> fieldTypes) {
+    int count = fieldTypes.size();
+    for (OpenSearchDataType type : fieldTypes.values()) {
+      count += countFields(type.getProperties());
+    }
+    return count;
+  }
+
+  /**
+   * Key of a parsed mapping.
+   *
+   * @param indexName index name
+   * @param source mapping source, compared by its compressed bytes
+   */
+  record MappingKey(String indexName, CompressedXContent source) {}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.monitor;
+
+import lombok.RequiredArgsConstructor;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.sql.monitor.MemoryBreaker;
+
+/**
+ * {@link MemoryBreaker} on the circuit breaker registered by the plugin. The breaker is a child of
+ * the parent breaker of the node, so a reservation is also rejected when the node as a whole is
+ * short of memory.
+ */
+@RequiredArgsConstructor
+public class OpenSearchMemoryBreaker implements MemoryBreaker {
+
+  /** Name of the circuit breaker registered by the plugin. */
+  public static final String BREAKER_NAME = "sql_query";
+
+  private final CircuitBreaker circuitBreaker;
+
+  @Override
+  public boolean tryReserve(long bytes, String label) {
+    try {
+      circuitBreaker.addEstimateBytesAndMaybeBreak(bytes, label);
+      return true;
+    } catch (CircuitBreakingException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public void release(long bytes) {
+    circuitBreaker.addWithoutBreaking(-bytes);
+  }
+}
@@ -63,6 +63,11 @@ public class OpenSearchMemoryHealthy {
     }
   }
 
+  /** Memory left below the limit, calculated based on the current heap memory usage. */
+  public long freeMemory(long limitBytes) {
+    return Math.max(0, limitBytes - memoryUsage.usage());
+  }
+
   static class RandomFail {
     public boolean shouldFail() {
       return ThreadLocalRandom.current().nextBoolean();
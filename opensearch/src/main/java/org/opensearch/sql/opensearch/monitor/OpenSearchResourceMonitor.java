@@ -21,6 +21,9 @@ import org.opensearch.sql.monitor.ResourceMonitor;
  */
 @Log4j2
 public class OpenSearchResourceMonitor extends ResourceMonitor {
+  /** Smallest memory budget, to not spill tiny runs when the heap is nearly full. */
+  private static final long MIN_MEMORY_BUDGET = 16 * 1024 * 1024;
+
   private final Settings settings;
   private final Retry retry;
   private final OpenSearchMemoryHealthy memoryMonitor;
@@ -60,4 +63,17 @@ public class OpenSearchResourceMonitor extends ResourceMonitor {
       return false;
     }
   }
+
+  /**
+   * Half of the memory left below the query memory limit, so the buffered rows leave room for the
+   * operators below them before the memory check fails the query.
+   */
+  @Override
+  public long getMemoryBudget() {
+    ByteSizeValue limit = settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT);
+    if (limit == null) {
+      return Long.MAX_VALUE;
+    }
+    return Math.max(MIN_MEMORY_BUDGET, memoryMonitor.freeMemory(limit.getBytes()) / 2);
+  }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.sql.opensearch.planner.physical;
 
 import java.util.function.Predicate;
+import org.apache.calcite.adapter.enumerable.EnumerableSort;
 import org.apache.calcite.plan.RelOptRuleCall;
 import org.apache.calcite.plan.RelRule;
 import org.apache.calcite.rel.core.Sort;
@@ -29,6 +30,11 @@ public class OpenSearchSortIndexScanRule extends RelRule<OpenSearchSortIndexScan
     }
 
     var collations = sort.collation.getFieldCollations();
+    if (sort instanceof EnumerableSort && !scan.isSortedAsCompared(collations)) {
+      // A physical sort is mostly required by an operator relying on the order of its input, like
+      // a merge join, so keep sorting in memory unless OpenSearch sorts the same way.
+      return;
+    }
     AbstractCalciteIndexScan newScan = scan.pushDownSort(collations);
     if (newScan != null) {
       call.transformTo(newScan);
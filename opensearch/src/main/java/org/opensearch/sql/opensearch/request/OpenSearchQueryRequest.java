@@ -11,7 +11,9 @@ import static org.opensearch.search.sort.SortOrder.ASC;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
@@ -28,6 +30,10 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchModule;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.sort.FieldSortBuilder;
@@ -75,6 +81,18 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
 
   private SearchResponse searchResponse = null;
 
+  /**
+   * Whether the buckets of the composite aggregation are fetched page by page, following the after
+   * key of the previous page, instead of in a single response.
+   */
+  @EqualsAndHashCode.Exclude private boolean compositeAggregationPaging = false;
+
+  /**
+   * Source of the next composite aggregation page. It's a copy of the source builder since the
+   * aggregation builders of the latter are shared with other requests of the same plan.
+   */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private SearchSourceBuilder compositePageSource;
+
   /** Constructor of OpenSearchQueryRequest. */
   public OpenSearchQueryRequest(
       String indexName, int size, OpenSearchExprValueFactory factory, List<String> includes) {
@@ -105,6 +123,17 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
     this.includes = includes;
   }
 
+  /** Constructor of OpenSearchQueryRequest paging the buckets of its composite aggregation. */
+  public OpenSearchQueryRequest(
+      IndexName indexName,
+      SearchSourceBuilder sourceBuilder,
+      OpenSearchExprValueFactory factory,
+      List<String> includes,
+      boolean compositeAggregationPaging) {
+    this(indexName, sourceBuilder, factory, includes);
+    this.compositeAggregationPaging = compositeAggregationPaging;
+  }
+
   /** Constructor of OpenSearchQueryRequest with PIT support. */
   public OpenSearchQueryRequest(
       IndexName indexName,
@@ -138,16 +167,7 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
    */
   public OpenSearchQueryRequest(StreamInput in, OpenSearchStorageEngine engine) throws IOException {
     // Deserialize the SearchSourceBuilder from the string representation
-    String sourceBuilderString = in.readString();
-
-    NamedXContentRegistry xContentRegistry =
-        new NamedXContentRegistry(
-            new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents());
-    XContentParser parser =
-        XContentType.JSON
-            .xContent()
-            .createParser(xContentRegistry, IGNORE_DEPRECATIONS, sourceBuilderString);
-    this.sourceBuilder = SearchSourceBuilder.fromXContent(parser);
+    this.sourceBuilder = parseSourceBuilder(in.readString());
 
     cursorKeepAlive = in.readTimeValue();
     pitId = in.readString();
@@ -163,7 +183,7 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
     OpenSearchIndex index = (OpenSearchIndex) engine.getTable(null, indexName.toString());
     exprValueFactory =
         new OpenSearchExprValueFactory(
-            index.getFieldOpenSearchTypes(), index.isFieldTypeTolerance());
+            new HashMap<>(index.getFieldOpenSearchTypes()), index.isFieldTypeTolerance());
   }
 
   @Override
@@ -179,12 +199,15 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
         // get the value before set searchDone = true
         boolean isCountAggRequest = isCountAggRequest();
         searchDone = true;
-        return new OpenSearchResponse(
+        SearchSourceBuilder source =
+            compositePageSource != null ? compositePageSource : sourceBuilder;
+        SearchResponse response =
             searchAction.apply(
-                new SearchRequest().indices(indexName.getIndexNames()).source(sourceBuilder)),
-            exprValueFactory,
-            includes,
-            isCountAggRequest);
+                new SearchRequest().indices(indexName.getIndexNames()).source(source));
+        if (compositeAggregationPaging) {
+          prepareNextCompositePage(response.getAggregations());
+        }
+        return new OpenSearchResponse(response, exprValueFactory, includes, isCountAggRequest);
       }
     } else {
       // Search with PIT instead of scroll API
@@ -192,6 +215,53 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
     }
   }
 
+  /**
+   * Prepare the request of the next composite aggregation page if the current page is full, the
+   * search is done otherwise.
+   */
+  private void prepareNextCompositePage(Aggregations aggregations) {
+    CompositeAggregationBuilder composite = compositeAggregation(sourceBuilder);
+    if (composite == null || aggregations == null) {
+      return;
+    }
+    if (!(aggregations.get(composite.getName()) instanceof CompositeAggregation page)) {
+      return;
+    }
+    Map<String, Object> afterKey = page.afterKey();
+    if (afterKey == null || page.getBuckets().size() < composite.size()) {
+      return;
+    }
+    if (compositePageSource == null) {
+      try {
+        compositePageSource = parseSourceBuilder(sourceBuilder.toString());
+      } catch (IOException e) {
+        throw new IllegalStateException("failed to copy the composite aggregation request", e);
+      }
+    }
+    compositeAggregation(compositePageSource).aggregateAfter(afterKey);
+    searchDone = false;
+  }
+
+  /** The composite aggregation of the source if it's the only aggregation, null otherwise. */
+  private static CompositeAggregationBuilder compositeAggregation(SearchSourceBuilder source) {
+    if (source.aggregations() == null
+        || source.aggregations().getAggregatorFactories().size() != 1) {
+      return null;
+    }
+    AggregationBuilder aggregation =
+        source.aggregations().getAggregatorFactories().iterator().next();
+    return aggregation instanceof CompositeAggregationBuilder composite ? composite : null;
+  }
+
+  private static SearchSourceBuilder parseSourceBuilder(String source) throws IOException {
+    NamedXContentRegistry xContentRegistry =
+        new NamedXContentRegistry(
+            new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents());
+    XContentParser parser =
+        XContentType.JSON.xContent().createParser(xContentRegistry, IGNORE_DEPRECATIONS, source);
+    return SearchSourceBuilder.fromXContent(parser);
+  }
+
   public OpenSearchResponse searchWithPIT(Function<SearchRequest, SearchResponse> searchAction) {
     OpenSearchResponse openSearchResponse;
     if (searchDone) {
@@ -272,7 +342,7 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
     if (this.pitId != null) {
       return !needClean;
     }
-    return false;
+    return compositeAggregationPaging && !searchDone;
   }
 
   @Override
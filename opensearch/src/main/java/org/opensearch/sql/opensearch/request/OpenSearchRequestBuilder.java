@@ -32,6 +32,7 @@ import org.opensearch.index.query.NestedQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
@@ -71,6 +72,9 @@ public class OpenSearchRequestBuilder {
 
   private int startFrom = 0;
 
+  /** Size of the composite aggregation pages, or 0 if the composite aggregation isn't paged. */
+  private int compositePageSize = 0;
+
   @ToString.Exclude private final Settings settings;
 
   public static class PushDownUnSupportedException extends RuntimeException {
@@ -112,11 +116,27 @@ public class OpenSearchRequestBuilder {
      * 2. If mapping is empty. It means no data in the index. PIT search relies on `_id` fields to do sort, thus it will fail if using PIT search in this case.
      */
     if (sourceBuilder.size() == 0 || isMappingEmpty) {
-      return new OpenSearchQueryRequest(indexName, sourceBuilder, exprValueFactory, List.of());
+      return new OpenSearchQueryRequest(
+          indexName, sourceBuilder, exprValueFactory, List.of(), isCompositeAggregationPaged());
     }
     return buildRequestWithPit(indexName, cursorKeepAlive, client);
   }
 
+  /**
+   * The composite aggregation is paged unless its size was reduced below the page size by a pushed
+   * down limit, in which case the first page holds all the buckets needed.
+   */
+  private boolean isCompositeAggregationPaged() {
+    if (compositePageSize <= 0
+        || sourceBuilder.aggregations() == null
+        || sourceBuilder.aggregations().getAggregatorFactories().size() != 1) {
+      return false;
+    }
+    return sourceBuilder.aggregations().getAggregatorFactories().iterator().next()
+            instanceof CompositeAggregationBuilder composite
+        && composite.size() >= compositePageSize;
+  }
+
   private OpenSearchRequest buildRequestWithPit(
       OpenSearchRequest.IndexName indexName, TimeValue cursorKeepAlive, OpenSearchClient client) {
     int size = requestedTotalSize;
@@ -179,6 +199,16 @@ public class OpenSearchRequestBuilder {
     }
   }
 
+  /**
+   * Page the buckets of the composite aggregation by its after key instead of returning only the
+   * first page.
+   *
+   * @param pageSize number of buckets of each page
+   */
+  public void pushDownCompositePaging(int pageSize) {
+    this.compositePageSize = pageSize;
+  }
+
   /**
    * Push down aggregation to DSL request.
    *
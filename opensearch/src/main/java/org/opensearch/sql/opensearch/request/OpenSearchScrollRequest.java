@@ -6,6 +6,7 @@
 package org.opensearch.sql.opensearch.request;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -186,6 +187,6 @@ public class OpenSearchScrollRequest implements OpenSearchRequest {
     OpenSearchIndex index = (OpenSearchIndex) engine.getTable(null, indexName.toString());
     exprValueFactory =
         new OpenSearchExprValueFactory(
-            index.getFieldOpenSearchTypes(), index.isFieldTypeTolerance());
+            new HashMap<>(index.getFieldOpenSearchTypes()), index.isFieldTypeTolerance());
   }
 }
@@ -50,12 +50,14 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import lombok.Getter;
 import org.apache.calcite.DataContext.Variable;
@@ -72,6 +74,7 @@ import org.apache.calcite.runtime.Hook;
 import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.sql.SqlOperator;
 import org.apache.calcite.sql.SqlSyntax;
+import org.apache.calcite.sql.fun.SqlLibraryOperators;
 import org.apache.calcite.sql.fun.SqlStdOperatorTable;
 import org.apache.calcite.sql.type.ArraySqlType;
 import org.apache.calcite.sql.type.SqlTypeFamily;
@@ -94,6 +97,7 @@ import org.opensearch.sql.data.model.ExprIpValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.parse.RegexLiteralExtractor;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.storage.script.CalciteScriptEngine.UnsupportedScriptException;
@@ -193,6 +197,28 @@ public class PredicateAnalyzer {
       RelDataType rowType,
       RelOptCluster cluster)
       throws ExpressionNotAnalyzableException {
+    return analyzeExpression(expression, schema, fieldTypes, rowType, cluster, field -> false);
+  }
+
+  /**
+   * Analyzes the expression and returns a {@link QueryExpression}.
+   *
+   * @param expression expression to analyze
+   * @param schema current schema of scan operator
+   * @param fieldTypes mapping of OpenSearch field name to ExprType, nested fields are flattened
+   * @param losslessKeywords tests whether a keyword field or subfield indexes every value as it is,
+   *     which is required to prefilter a regex script by a wildcard query on the field
+   * @return search query which can be used to query OS cluster
+   * @throws ExpressionNotAnalyzableException when expression can't processed by this analyzer
+   */
+  public static QueryExpression analyzeExpression(
+      RexNode expression,
+      List<String> schema,
+      Map<String, ExprType> fieldTypes,
+      RelDataType rowType,
+      RelOptCluster cluster,
+      Predicate<String> losslessKeywords)
+      throws ExpressionNotAnalyzableException {
     requireNonNull(expression, "expression");
     return analyzeExpression(
         expression,
@@ -200,7 +226,7 @@ public class PredicateAnalyzer {
         fieldTypes,
         rowType,
         cluster,
-        new Visitor(schema, fieldTypes, rowType, cluster));
+        new Visitor(schema, fieldTypes, rowType, cluster, losslessKeywords));
   }
 
   /** For test only, passing a customer Visitor */
@@ -236,17 +262,28 @@ public class PredicateAnalyzer {
     Map<String, ExprType> fieldTypes;
     RelDataType rowType;
     RelOptCluster cluster;
+    Predicate<String> losslessKeywords;
 
     Visitor(
         List<String> schema,
         Map<String, ExprType> fieldTypes,
         RelDataType rowType,
         RelOptCluster cluster) {
+      this(schema, fieldTypes, rowType, cluster, field -> false);
+    }
+
+    Visitor(
+        List<String> schema,
+        Map<String, ExprType> fieldTypes,
+        RelDataType rowType,
+        RelOptCluster cluster,
+        Predicate<String> losslessKeywords) {
       super(true);
       this.schema = schema;
       this.fieldTypes = fieldTypes;
       this.rowType = rowType;
       this.cluster = cluster;
+      this.losslessKeywords = losslessKeywords;
     }
 
     @Override
@@ -370,6 +407,8 @@ public class PredicateAnalyzer {
           String functionName = call.getOperator().getName().toLowerCase(Locale.ROOT);
           if (functionName.equalsIgnoreCase(UserDefinedFunctionUtils.IP_FUNCTION_NAME)) {
             return visitIpFunction(call);
+          } else if (call.getOperator() == SqlLibraryOperators.REGEXP_CONTAINS) {
+            return regexpContains(call);
           } else if (SINGLE_FIELD_RELEVANCE_FUNCTION_SET.contains(functionName)
               || MULTI_FIELDS_RELEVANCE_FUNCTION_SET.contains(functionName)) {
             return visitRelevanceFunc(call);
@@ -686,6 +725,52 @@ public class PredicateAnalyzer {
       return QueryExpression.create(pair.getKey()).like(pair.getValue());
     }
 
+    /**
+     * A regex can't run as an index query, so it is pushed down as a script. The longest literal
+     * which every match contains is pushed down along with it as a wildcard query on the keyword
+     * field, so that the script only runs on the documents containing that literal. The keyword
+     * field must index every value as it is, otherwise values longer than ignore_above or changed
+     * by a normalizer would be filtered out before the script sees them.
+     */
+    private QueryExpression regexpContains(RexCall call) {
+      checkState(call.getOperands().size() == 2);
+      final Expression a = call.getOperands().get(0).accept(this);
+      final Expression b = call.getOperands().get(1).accept(this);
+      if (!(a instanceof NamedFieldExpression field)
+          || !(b instanceof LiteralExpression pattern)
+          || field.isMetaField()
+          || field.getReferenceForTermQuery() == null
+          || !losslessKeywords.test(field.getReferenceForTermQuery())) {
+        String message = format(Locale.ROOT, "Unsupported regex call: [%s]", call);
+        throw new PredicateAnalyzerException(message);
+      }
+      List<String> literals = RegexLiteralExtractor.getRequiredLiterals(pattern.stringValue());
+      if (literals.isEmpty()) {
+        String message = format(Locale.ROOT, "No literal to prefilter regex call: [%s]", call);
+        throw new PredicateAnalyzerException(message);
+      }
+      String literal = literals.stream().max(Comparator.comparingInt(String::length)).get();
+      QueryBuilder prefilter =
+          wildcardQuery(field.getReferenceForTermQuery(), "*" + escapeWildcard(literal) + "*")
+              .caseInsensitive(true);
+      try {
+        return new PrefilteredScriptQueryExpression(call, rowType, fieldTypes, cluster, prefilter);
+      } catch (UnsupportedScriptException e) {
+        throw new PredicateAnalyzerException(e);
+      }
+    }
+
+    private static String escapeWildcard(String text) {
+      StringBuilder escaped = new StringBuilder(text.length());
+      for (char c : text.toCharArray()) {
+        if (c == '*' || c == '?' || c == '\\') {
+          escaped.append('\\');
+        }
+        escaped.append(c);
+      }
+      return escaped.toString();
+    }
+
     private static QueryExpression constructQueryExpressionForSearch(
         RexCall call, SwapResult pair) {
       if (isSearchWithComplementedPoints(call)) {
@@ -1504,6 +1589,29 @@ public class PredicateAnalyzer {
     }
   }
 
+  /**
+   * Script query which only runs on the documents matching a prefilter query. It can't be negated,
+   * since the documents without the field would then match.
+   */
+  public static class PrefilteredScriptQueryExpression extends ScriptQueryExpression {
+    private final QueryBuilder prefilter;
+
+    public PrefilteredScriptQueryExpression(
+        RexNode rexNode,
+        RelDataType rowType,
+        Map<String, ExprType> fieldTypes,
+        RelOptCluster cluster,
+        QueryBuilder prefilter) {
+      super(rexNode, rowType, fieldTypes, cluster);
+      this.prefilter = prefilter;
+    }
+
+    @Override
+    public QueryBuilder builder() {
+      return boolQuery().filter(prefilter).filter(super.builder());
+    }
+  }
+
   /**
    * By default, range queries on date/time need use the format of the source to parse the literal.
    * So we need to specify that the literal has "date_time" format
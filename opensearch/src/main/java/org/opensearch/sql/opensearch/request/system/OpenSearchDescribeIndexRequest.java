@@ -23,6 +23,7 @@ import org.opensearch.sql.lang.LangSpec;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.util.MergeRules.MergeRuleHelper;
 
@@ -99,9 +100,15 @@ public class OpenSearchDescribeIndexRequest implements OpenSearchSystemRequest {
    */
   // TODO possible collision if two indices have fields with the same name and different mappings
   public Map<String, OpenSearchDataType> getFieldTypes() {
-    Map<String, OpenSearchDataType> fieldTypes = new HashMap<>();
     Map<String, IndexMapping> indexMappings =
         client.getIndexMappings(getLocalIndexNames(indexName.getIndexNames()));
+    return IndexMappingCache.getInstance()
+        .getOrMerge(indexMappings, () -> mergeFieldTypes(indexMappings));
+  }
+
+  private static Map<String, OpenSearchDataType> mergeFieldTypes(
+      Map<String, IndexMapping> indexMappings) {
+    Map<String, OpenSearchDataType> fieldTypes = new HashMap<>();
     if (indexMappings.size() <= 1) {
       for (IndexMapping indexMapping : indexMappings.values()) {
         fieldTypes.putAll(indexMapping.getFieldMappings());
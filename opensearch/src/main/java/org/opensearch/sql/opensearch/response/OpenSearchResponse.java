@@ -32,6 +32,7 @@ import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.opensearch.data.utils.SourceProjection;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 
 /** OpenSearch search response. */
@@ -48,6 +49,9 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
   /** List of requested include fields. */
   private final List<String> includes;
 
+  /** Fields of the hit sources to decode, derived from the includes. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final SourceProjection sourceProjection;
+
   private final boolean isCountAgg;
 
   /** OpenSearchExprValueFactory used to build ExprValue from search result. */
@@ -71,6 +75,7 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     this.aggregations = searchResponse.getAggregations();
     this.exprValueFactory = exprValueFactory;
     this.includes = includes;
+    this.sourceProjection = SourceProjection.of(includes);
     this.isCountAgg = isCountAgg;
   }
 
@@ -84,6 +89,7 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     this.aggregations = null;
     this.exprValueFactory = exprValueFactory;
     this.includes = includes;
+    this.sourceProjection = SourceProjection.of(includes);
     this.isCountAgg = isCountAgg;
   }
 
@@ -147,7 +153,8 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
         exprValueFactory
             .construct(
                 hit.getSourceAsString(),
-                !(hit.getInnerHits() == null || hit.getInnerHits().isEmpty()))
+                !(hit.getInnerHits() == null || hit.getInnerHits().isEmpty()),
+                sourceProjection)
             .tupleValue());
   }
 
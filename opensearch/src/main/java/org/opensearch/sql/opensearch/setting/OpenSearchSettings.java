@@ -27,9 +27,14 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.SecureSetting;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.sql.calcite.utils.CompiledPlanCache;
 import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
+import org.opensearch.sql.opensearch.storage.script.CompiledScriptCache;
+import org.opensearch.sql.planner.physical.spill.SpillableHashJoin;
 
 /** Setting implementation on OpenSearch. */
 @Log4j2
@@ -144,6 +149,14 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> PPL_RESPONSE_CHUNK_SIZE_SETTING =
+      Setting.intSetting(
+          Key.PPL_RESPONSE_CHUNK_SIZE.getKeyValue(),
+          1000,
+          1,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> CALCITE_ENGINE_ENABLED_SETTING =
       Setting.boolSetting(
           Key.CALCITE_ENGINE_ENABLED.getKeyValue(),
@@ -179,6 +192,50 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<Integer> CALCITE_PLAN_CACHE_SIZE_SETTING =
+      Setting.intSetting(
+          Key.CALCITE_PLAN_CACHE_SIZE.getKeyValue(),
+          CompiledPlanCache.DEFAULT_MAXIMUM_SIZE,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<Integer> CALCITE_SCRIPT_CACHE_SIZE_SETTING =
+      Setting.intSetting(
+          Key.CALCITE_SCRIPT_CACHE_SIZE.getKeyValue(),
+          CompiledScriptCache.DEFAULT_MAXIMUM_SIZE,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<Boolean> CALCITE_SCRIPT_COMPACT_FORMAT_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.CALCITE_SCRIPT_COMPACT_FORMAT_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> CALCITE_SCAN_PREFETCH_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.CALCITE_SCAN_PREFETCH_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> CALCITE_COMPOSITE_PAGING_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.CALCITE_COMPOSITE_PAGING_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> CALCITE_JOIN_RUNTIME_FILTER_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.CALCITE_JOIN_RUNTIME_FILTER_ENABLED.getKeyValue(),
+          true,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> QUERY_MEMORY_LIMIT_SETTING =
       Setting.memorySizeSetting(
           Key.QUERY_MEMORY_LIMIT.getKeyValue(),
@@ -186,6 +243,17 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<ByteSizeValue> QUERY_MEMORY_BREAKER_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          "plugins.query.memory_breaker.limit", "40%", Setting.Property.NodeScope);
+
+  public static final Setting<ByteSizeValue> CALCITE_JOIN_MEMORY_BUDGET_SETTING =
+      Setting.memorySizeSetting(
+          "plugins.calcite.join.memory_budget",
+          SpillableHashJoin.DEFAULT_MEMORY_BUDGET_PERCENT + "%",
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<Integer> QUERY_SIZE_LIMIT_SETTING =
       Setting.intSetting(
           Key.QUERY_SIZE_LIMIT.getKeyValue(),
@@ -336,6 +404,14 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<Integer> MAPPING_CACHE_MAX_FIELDS_SETTING =
+      Setting.intSetting(
+          Key.MAPPING_CACHE_MAX_FIELDS.getKeyValue(),
+          IndexMappingCache.DEFAULT_MAXIMUM_FIELDS,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   /** Construct OpenSearchSetting. The OpenSearchSetting must be singleton. */
   @SuppressWarnings("unchecked")
   public OpenSearchSettings(ClusterSettings clusterSettings) {
@@ -424,6 +500,12 @@ public class OpenSearchSettings extends Settings {
         Key.PPL_JOIN_SUBSEARCH_MAXOUT,
         PPL_JOIN_SUBSEARCH_MAXOUT_SETTING,
         new Updater(Key.PPL_JOIN_SUBSEARCH_MAXOUT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.PPL_RESPONSE_CHUNK_SIZE,
+        PPL_RESPONSE_CHUNK_SIZE_SETTING,
+        new Updater(Key.PPL_RESPONSE_CHUNK_SIZE));
     register(
         settingBuilder,
         clusterSettings,
@@ -454,6 +536,42 @@ public class OpenSearchSettings extends Settings {
         Key.CALCITE_SUPPORT_ALL_JOIN_TYPES,
         CALCITE_SUPPORT_ALL_JOIN_TYPES_SETTING,
         new Updater(Key.CALCITE_SUPPORT_ALL_JOIN_TYPES));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.CALCITE_PLAN_CACHE_SIZE,
+        CALCITE_PLAN_CACHE_SIZE_SETTING,
+        new Updater(Key.CALCITE_PLAN_CACHE_SIZE));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.CALCITE_SCRIPT_CACHE_SIZE,
+        CALCITE_SCRIPT_CACHE_SIZE_SETTING,
+        new Updater(Key.CALCITE_SCRIPT_CACHE_SIZE));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.CALCITE_SCRIPT_COMPACT_FORMAT_ENABLED,
+        CALCITE_SCRIPT_COMPACT_FORMAT_ENABLED_SETTING,
+        new Updater(Key.CALCITE_SCRIPT_COMPACT_FORMAT_ENABLED));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.CALCITE_SCAN_PREFETCH_ENABLED,
+        CALCITE_SCAN_PREFETCH_ENABLED_SETTING,
+        new Updater(Key.CALCITE_SCAN_PREFETCH_ENABLED));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.CALCITE_COMPOSITE_PAGING_ENABLED,
+        CALCITE_COMPOSITE_PAGING_ENABLED_SETTING,
+        new Updater(Key.CALCITE_COMPOSITE_PAGING_ENABLED));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.CALCITE_JOIN_RUNTIME_FILTER_ENABLED,
+        CALCITE_JOIN_RUNTIME_FILTER_ENABLED_SETTING,
+        new Updater(Key.CALCITE_JOIN_RUNTIME_FILTER_ENABLED));
     register(
         settingBuilder,
         clusterSettings,
@@ -582,6 +700,12 @@ public class OpenSearchSettings extends Settings {
         Key.FIELD_TYPE_TOLERANCE,
         FIELD_TYPE_TOLERANCE_SETTING,
         new Updater(Key.FIELD_TYPE_TOLERANCE));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.MAPPING_CACHE_MAX_FIELDS,
+        MAPPING_CACHE_MAX_FIELDS_SETTING,
+        new Updater(Key.MAPPING_CACHE_MAX_FIELDS));
     defaultSettings = settingBuilder.build();
   }
 
@@ -644,6 +768,12 @@ public class OpenSearchSettings extends Settings {
         .add(CALCITE_PUSHDOWN_ENABLED_SETTING)
         .add(CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR_SETTING)
         .add(CALCITE_SUPPORT_ALL_JOIN_TYPES_SETTING)
+        .add(CALCITE_PLAN_CACHE_SIZE_SETTING)
+        .add(CALCITE_SCRIPT_CACHE_SIZE_SETTING)
+        .add(CALCITE_SCRIPT_COMPACT_FORMAT_ENABLED_SETTING)
+        .add(CALCITE_SCAN_PREFETCH_ENABLED_SETTING)
+        .add(CALCITE_COMPOSITE_PAGING_ENABLED_SETTING)
+        .add(CALCITE_JOIN_RUNTIME_FILTER_ENABLED_SETTING)
         .add(DEFAULT_PATTERN_METHOD_SETTING)
         .add(DEFAULT_PATTERN_MODE_SETTING)
         .add(DEFAULT_PATTERN_MAX_SAMPLE_COUNT_SETTING)
@@ -653,6 +783,7 @@ public class OpenSearchSettings extends Settings {
         .add(PPL_VALUES_MAX_LIMIT_SETTING)
         .add(PPL_SUBSEARCH_MAXOUT_SETTING)
         .add(PPL_JOIN_SUBSEARCH_MAXOUT_SETTING)
+        .add(PPL_RESPONSE_CHUNK_SIZE_SETTING)
         .add(QUERY_MEMORY_LIMIT_SETTING)
         .add(QUERY_SIZE_LIMIT_SETTING)
         .add(QUERY_BUCKET_SIZE_SETTING)
@@ -673,6 +804,8 @@ public class OpenSearchSettings extends Settings {
         .add(SESSION_INACTIVITY_TIMEOUT_MILLIS_SETTING)
         .add(STREAMING_JOB_HOUSEKEEPER_INTERVAL_SETTING)
         .add(FIELD_TYPE_TOLERANCE_SETTING)
+        .add(MAPPING_CACHE_MAX_FIELDS_SETTING)
+        .add(CALCITE_JOIN_MEMORY_BUDGET_SETTING)
         .build();
   }
 
@@ -681,6 +814,7 @@ public class OpenSearchSettings extends Settings {
     return new ImmutableList.Builder<Setting<?>>()
         .add(DATASOURCE_MASTER_SECRET_KEY)
         .add(DATASOURCE_CONFIG)
+        .add(QUERY_MEMORY_BREAKER_LIMIT_SETTING)
         .build();
   }
 
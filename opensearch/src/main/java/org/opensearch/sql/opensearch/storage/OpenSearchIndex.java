@@ -7,9 +7,12 @@ package org.opensearch.sql.opensearch.storage;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.Getter;
@@ -24,8 +27,11 @@ import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryHealthy;
 import org.opensearch.sql.opensearch.monitor.OpenSearchResourceMonitor;
 import org.opensearch.sql.opensearch.planner.physical.ADOperator;
@@ -36,6 +42,7 @@ import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.request.system.OpenSearchDescribeIndexRequest;
 import org.opensearch.sql.opensearch.storage.scan.CalciteLogicalIndexScan;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexEnumerator;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanBuilder;
 import org.opensearch.sql.planner.DefaultImplementor;
@@ -87,6 +94,9 @@ public class OpenSearchIndex extends AbstractOpenSearchTable {
   /** The cached mapping of alias type field to its original path. */
   private Map<String, String> aliasMapping = null;
 
+  /** The cached keyword fields and keyword subfields which index every value as it is. */
+  private Set<String> cachedLosslessKeywords = null;
+
   /** The cached max result window setting of index. */
   private Integer cachedMaxResultWindow = null;
 
@@ -138,12 +148,17 @@ public class OpenSearchIndex extends AbstractOpenSearchTable {
           new OpenSearchDescribeIndexRequest(client, indexName).getFieldTypes();
     }
     if (cachedFieldTypes == null) {
+      Map<String, OpenSearchDataType> fieldTypes = cachedFieldOpenSearchTypes;
       cachedFieldTypes =
-          OpenSearchDataType.traverseAndFlatten(cachedFieldOpenSearchTypes).entrySet().stream()
-              .collect(
-                  LinkedHashMap::new,
-                  (map, item) -> map.put(item.getKey(), item.getValue().getExprType()),
-                  Map::putAll);
+          IndexMappingCache.getInstance()
+              .getOrFlatten(
+                  fieldTypes,
+                  () ->
+                      OpenSearchDataType.traverseAndFlatten(fieldTypes).entrySet().stream()
+                          .collect(
+                              LinkedHashMap::new,
+                              (map, item) -> map.put(item.getKey(), item.getValue().getExprType()),
+                              Map::putAll));
     }
     return cachedFieldTypes;
   }
@@ -187,6 +202,32 @@ public class OpenSearchIndex extends AbstractOpenSearchTable {
     return cachedFieldOpenSearchTypes;
   }
 
+  /**
+   * Whether the field is a keyword field, or the keyword subfield of a text field, whose mapping
+   * has neither ignore_above nor normalizer. See {@link OpenSearchDataType#isLosslessKeyword()}.
+   *
+   * @param fieldName flattened field name, e.g. {@code name.keyword} for a subfield
+   * @return true if term level queries on the field match every value as it is.
+   */
+  public boolean isLosslessKeyword(String fieldName) {
+    if (cachedLosslessKeywords == null) {
+      Set<String> keywords = new HashSet<>();
+      OpenSearchDataType.traverseAndFlatten(getFieldOpenSearchTypes())
+          .forEach(
+              (name, type) -> {
+                if (type.isLosslessKeyword()) {
+                  keywords.add(name);
+                } else if (type instanceof OpenSearchTextType textType) {
+                  textType.getFields().entrySet().stream()
+                      .filter(field -> field.getValue().isLosslessKeyword())
+                      .forEach(field -> keywords.add(name + "." + field.getKey()));
+                }
+              });
+      cachedLosslessKeywords = keywords;
+    }
+    return cachedLosslessKeywords.contains(fieldName);
+  }
+
   /** Get the max result window setting of the table. */
   public Integer getMaxResultWindow() {
     if (cachedMaxResultWindow == null) {
@@ -275,6 +316,23 @@ public class OpenSearchIndex extends AbstractOpenSearchTable {
     return new OpenSearchResourceMonitor(getSettings(), new OpenSearchMemoryHealthy(settings));
   }
 
+  /**
+   * Create the executor which prefetches the next batch of a scan while the current one is
+   * consumed.
+   *
+   * @return executor, or null if prefetch is disabled or not supported by the client
+   */
+  public Executor createScanPrefetchExecutor() {
+    Boolean enabled = settings.getSettingValue(Settings.Key.CALCITE_SCAN_PREFETCH_ENABLED);
+    if (!Boolean.TRUE.equals(enabled) || !(client instanceof OpenSearchNodeClient)) {
+      return null;
+    }
+    return client
+        .getNodeClient()
+        .threadPool()
+        .executor(OpenSearchIndexEnumerator.PREFETCH_THREAD_POOL_NAME);
+  }
+
   public OpenSearchRequest buildRequest(OpenSearchRequestBuilder requestBuilder) {
     final TimeValue cursorKeepAlive = settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE);
     return requestBuilder.build(
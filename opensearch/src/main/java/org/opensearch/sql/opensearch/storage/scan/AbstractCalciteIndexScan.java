@@ -11,6 +11,7 @@ import static org.opensearch.sql.common.setting.Settings.Key.CALCITE_PUSHDOWN_RO
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 import lombok.Getter;
 import org.apache.calcite.adapter.enumerable.EnumerableMergeJoin;
@@ -42,7 +43,9 @@ import org.opensearch.search.sort.ScoreSortBuilder;
 import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.search.sort.SortOrder;
+import org.opensearch.sql.calcite.utils.OpenSearchTypeFactory;
 import org.opensearch.sql.common.setting.Settings.Key;
+import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
@@ -60,6 +63,16 @@ import org.opensearch.sql.opensearch.storage.scan.context.PushDownType;
 @Getter
 public abstract class AbstractCalciteIndexScan extends TableScan {
   private static final Logger LOG = LogManager.getLogger(AbstractCalciteIndexScan.class);
+
+  /** Types whose values OpenSearch sorts in the same order as Calcite compares them. */
+  private static final Set<ExprType> SORTED_AS_COMPARED_TYPES =
+      Set.of(
+          ExprCoreType.BYTE,
+          ExprCoreType.SHORT,
+          ExprCoreType.INTEGER,
+          ExprCoreType.LONG,
+          ExprCoreType.BOOLEAN);
+
   public final OpenSearchIndex osIndex;
   // The schema of this scan operator, it's initialized with the row type of the table, but may be
   // changed by push down operations.
@@ -375,6 +388,53 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
     return null;
   }
 
+  /**
+   * Check if OpenSearch returns the rows sorted by the fields of the collations in the same order
+   * as Calcite compares their values, which operators relying on the order of their input, like
+   * {@link EnumerableMergeJoin}, require. Otherwise, a merge join would skip the rows which are out
+   * of its order. Keyword values may be normalized or missing if they are longer than ignore_above,
+   * and are sorted by their UTF-8 bytes rather than their UTF-16 chars, text fields are sorted by
+   * such a keyword subfield, and floating point fields are sorted by their doc values, which may
+   * lose the precision of the values in the source. So only integral and boolean fields qualify.
+   * The buckets of a pushed down aggregation are sorted by their keys the same way, so only
+   * integral and boolean group keys qualify.
+   *
+   * @param collations collations of the sort to push down
+   * @return true if the sorted rows are ordered as Calcite expects
+   */
+  public boolean isSortedAsCompared(List<RelFieldCollation> collations) {
+    for (RelFieldCollation collation : collations) {
+      if (!isSortedAsCompared(collation.getFieldIndex())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isSortedAsCompared(int fieldIndex) {
+    if (pushDownContext.isAggregatePushed()) {
+      // A group key may be a span or a renamed field, so check the type of its values instead
+      RelDataType keyType = getRowType().getFieldList().get(fieldIndex).getType();
+      return SORTED_AS_COMPARED_TYPES.contains(
+          OpenSearchTypeFactory.convertSqlTypeNameToExprType(keyType.getSqlTypeName()));
+    }
+    String fieldName = getRowType().getFieldNames().get(fieldIndex);
+    ExprType fieldType = osIndex.getFieldTypes().get(fieldName);
+    if (fieldType == null || isInNestedObject(fieldName)) {
+      return false;
+    }
+    return SORTED_AS_COMPARED_TYPES.contains(fieldType.getOriginalExprType());
+  }
+
+  protected boolean isInNestedObject(String fieldName) {
+    for (int dot = fieldName.lastIndexOf('.'); dot > 0; dot = fieldName.lastIndexOf('.', dot - 1)) {
+      if (osIndex.getFieldTypes().get(fieldName.substring(0, dot)) == ExprCoreType.ARRAY) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * CalciteOpenSearchIndexScan doesn't allow push-down anymore (except Sort under some strict
    * condition) after Aggregate push-down.
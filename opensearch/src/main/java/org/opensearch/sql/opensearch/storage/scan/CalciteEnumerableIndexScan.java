@@ -5,7 +5,16 @@
 
 package org.opensearch.sql.opensearch.storage.scan;
 
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.matchNoneQuery;
+import static org.opensearch.index.query.QueryBuilders.rangeQuery;
+import static org.opensearch.index.query.QueryBuilders.termsQuery;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import org.apache.calcite.adapter.enumerable.EnumerableRel;
 import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
 import org.apache.calcite.adapter.enumerable.PhysType;
@@ -21,24 +30,47 @@ import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.plan.RelOptRule;
 import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.hint.RelHint;
 import org.apache.calcite.rel.rules.CoreRules;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.sql.calcite.plan.OpenSearchRules;
+import org.opensearch.sql.calcite.plan.RuntimeFilterable;
+import org.opensearch.sql.calcite.plan.RuntimeJoinFilter;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.calcite.plan.Scannable;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
 import org.opensearch.sql.opensearch.storage.scan.context.PushDownContext;
+import org.opensearch.sql.opensearch.storage.scan.context.PushDownOperation;
+import org.opensearch.sql.opensearch.storage.scan.context.PushDownType;
 import org.opensearch.sql.opensearch.util.OpenSearchRelOptUtil;
 
 /** The physical relational operator representing a scan of an OpenSearchIndex type. */
 public class CalciteEnumerableIndexScan extends AbstractCalciteIndexScan
-    implements Scannable, EnumerableRel {
+    implements Scannable, EnumerableRel, RuntimeFilterable {
   private static final Logger LOG = LogManager.getLogger(CalciteEnumerableIndexScan.class);
 
+  /**
+   * Push down operations which still return the same rows for the matching keys when the scan is
+   * narrowed by a runtime join filter. Filtering the input of an aggregation, a collapse or a limit
+   * would change their output instead.
+   */
+  private static final Set<PushDownType> RUNTIME_FILTER_COMPATIBLE_PUSH_DOWNS =
+      EnumSet.of(PushDownType.FILTER, PushDownType.SCRIPT, PushDownType.PROJECT, PushDownType.SORT);
+
+  /** Filters by the keys of the build side of a hash join, applied when the scan starts. */
+  private final List<RuntimeFieldFilter> runtimeFilters;
+
   /**
    * Creates an CalciteOpenSearchIndexScan.
    *
@@ -54,7 +86,20 @@ public class CalciteEnumerableIndexScan extends AbstractCalciteIndexScan
       OpenSearchIndex osIndex,
       RelDataType schema,
       PushDownContext pushDownContext) {
+    this(cluster, traitSet, hints, table, osIndex, schema, pushDownContext, List.of());
+  }
+
+  private CalciteEnumerableIndexScan(
+      RelOptCluster cluster,
+      RelTraitSet traitSet,
+      List<RelHint> hints,
+      RelOptTable table,
+      OpenSearchIndex osIndex,
+      RelDataType schema,
+      PushDownContext pushDownContext,
+      List<RuntimeFieldFilter> runtimeFilters) {
     super(cluster, traitSet, hints, table, osIndex, schema, pushDownContext);
+    this.runtimeFilters = runtimeFilters;
   }
 
   @Override
@@ -113,17 +158,86 @@ public class CalciteEnumerableIndexScan extends AbstractCalciteIndexScan
       @Override
       public Enumerator<Object> enumerator() {
         OpenSearchRequestBuilder requestBuilder = getOrCreateRequestBuilder();
+        applyRuntimeFilters(requestBuilder.getSourceBuilder());
         return new OpenSearchIndexEnumerator(
             osIndex.getClient(),
             getFieldPath(),
             requestBuilder.getMaxResponseSize(),
             requestBuilder.getMaxResultWindow(),
             osIndex.buildRequest(requestBuilder),
-            osIndex.createOpenSearchResourceMonitor());
+            osIndex.createOpenSearchResourceMonitor(),
+            osIndex.createScanPrefetchExecutor());
       }
     };
   }
 
+  /**
+   * Filter the query of the request by the runtime filters whose keys were collected. The pushed
+   * down query is shared with the push down context, which replays it into the request of the next
+   * enumeration, so it is wrapped by a new bool query instead of being modified.
+   */
+  private void applyRuntimeFilters(SearchSourceBuilder sourceBuilder) {
+    List<QueryBuilder> queries =
+        runtimeFilters.stream().map(RuntimeFieldFilter::toQuery).flatMap(Optional::stream).toList();
+    if (queries.isEmpty()) {
+      return;
+    }
+    BoolQueryBuilder query = boolQuery();
+    if (sourceBuilder.query() != null) {
+      query.must(sourceBuilder.query());
+    }
+    queries.forEach(query::filter);
+    sourceBuilder.query(query);
+  }
+
+  @Override
+  public @Nullable RelNode withRuntimeFilter(int fieldIndex, RuntimeJoinFilter filter) {
+    if (!osIndex.getSettings().getSettingValue(Settings.Key.CALCITE_JOIN_RUNTIME_FILTER_ENABLED)
+        || !pushDownContext.stream()
+        .map(PushDownOperation::type)
+        .allMatch(RUNTIME_FILTER_COMPATIBLE_PUSH_DOWNS::contains)) {
+      return null;
+    }
+    String fieldName = getRowType().getFieldNames().get(fieldIndex);
+    ExprType fieldType = osIndex.getFieldTypes().get(fieldName);
+    if (fieldType == null || isInNestedObject(fieldName)) {
+      // Computed fields, metadata fields and fields of nested objects can't be filtered by a terms
+      // query on their own
+      return null;
+    }
+    ExprType originalExprType = fieldType.getOriginalExprType();
+    boolean numeric = ExprCoreType.numberTypes().contains(originalExprType);
+    if (!numeric
+        && !originalExprType.legacyTypeName().equals("KEYWORD")
+        && !originalExprType.legacyTypeName().equals("TEXT")) {
+      return null;
+    }
+    // For text, use its subfield if exists.
+    String field =
+        OpenSearchTextType.toKeywordSubField(
+            originalExprType.getOriginalPath().orElse(fieldName), fieldType);
+    if (field == null || (!numeric && !osIndex.isLosslessKeyword(field))) {
+      // A terms query on a keyword field with ignore_above or normalizer would drop the rows whose
+      // value isn't indexed as it is
+      return null;
+    }
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Filter the scan of {} by the join keys of field {}", osIndex, field);
+    }
+    List<RuntimeFieldFilter> filters = new ArrayList<>(runtimeFilters);
+    filters.add(new RuntimeFieldFilter(field, numeric, filter));
+    // A cloned context, so that the request builder isn't shared with the scan it replaces
+    return new CalciteEnumerableIndexScan(
+        getCluster(),
+        getTraitSet(),
+        getHints(),
+        getTable(),
+        osIndex,
+        schema,
+        pushDownContext.clone(),
+        filters);
+  }
+
   private List<String> getFieldPath() {
     return getRowType().getFieldNames().stream()
         .map(f -> osIndex.getAliasMapping().getOrDefault(f, f))
@@ -153,4 +267,29 @@ public class CalciteEnumerableIndexScan extends AbstractCalciteIndexScan
       return this.pushDownContext.getRequestBuilder();
     }
   }
+
+  /**
+   * Runtime join filter on a field of the index.
+   *
+   * @param field field to filter by, the keyword subfield for a text field
+   * @param numeric whether the field is numeric, so that a range of keys can be filtered by
+   * @param filter keys of the build side of the join
+   */
+  private record RuntimeFieldFilter(String field, boolean numeric, RuntimeJoinFilter filter) {
+
+    /** Query which keeps the rows whose field is among the keys, if they were all collected. */
+    Optional<QueryBuilder> toQuery() {
+      if (!filter.isComplete()) {
+        return Optional.empty();
+      }
+      Set<Object> values = filter.getValues();
+      if (values != null) {
+        return Optional.of(values.isEmpty() ? matchNoneQuery() : termsQuery(field, values));
+      }
+      if (numeric && filter.getMin() != null) {
+        return Optional.of(rangeQuery(field).gte(filter.getMin()).lte(filter.getMax()));
+      }
+      return Optional.empty();
+    }
+  }
 }
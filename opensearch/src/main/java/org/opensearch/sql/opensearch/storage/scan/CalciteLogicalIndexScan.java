@@ -140,7 +140,12 @@ public class CalciteLogicalIndexScan extends AbstractCalciteIndexScan {
               .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
       QueryExpression queryExpression =
           PredicateAnalyzer.analyzeExpression(
-              filter.getCondition(), schema, fieldTypes, rowType, getCluster());
+              filter.getCondition(),
+              schema,
+              fieldTypes,
+              rowType,
+              getCluster(),
+              osIndex::isLosslessKeyword);
       // TODO: handle the case where condition contains a score function
       newScan.pushDownContext.add(
           queryExpression.getScriptCount() > 0 ? PushDownType.SCRIPT : PushDownType.FILTER,
@@ -355,11 +360,15 @@ public class CalciteLogicalIndexScan extends AbstractCalciteIndexScan {
                           OpenSearchDataType.of(
                               OpenSearchTypeFactory.convertRelDataTypeToExprType(
                                   field.getType()))));
+      boolean compositePaging =
+          Boolean.TRUE.equals(
+              osIndex.getSettings().getSettingValue(Settings.Key.CALCITE_COMPOSITE_PAGING_ENABLED));
       AggPushDownAction action =
           new AggPushDownAction(
               aggregationBuilder,
               extendedTypeMapping,
-              outputFields.subList(0, aggregate.getGroupSet().cardinality()));
+              outputFields.subList(0, aggregate.getGroupSet().cardinality()),
+              compositePaging ? bucketSize : 0);
       newScan.pushDownContext.add(PushDownType.AGGREGATION, aggregate, action);
       return newScan;
     } catch (Exception e) {
@@ -387,7 +396,10 @@ public class CalciteLogicalIndexScan extends AbstractCalciteIndexScan {
                 ? aggAction -> aggAction.pushDownLimitIntoBucketSize(limit + offset)
                 : aggAction -> {};
         newScan.pushDownContext.add(PushDownType.LIMIT, new LimitDigest(limit, offset), action);
-        return offset > 0 ? sort.copy(sort.getTraitSet(), List.of(newScan)) : newScan;
+        // Paged composite buckets aren't capped by the bucket size, so keep the limit on top
+        boolean paged =
+            !updated && pushDownContext.getAggPushDownAction().getCompositePageSize() > 0;
+        return offset > 0 || paged ? sort.copy(sort.getTraitSet(), List.of(newScan)) : newScan;
       } else {
         CalciteLogicalIndexScan newScan = this.copyWithNewSchema(getRowType());
         newScan.pushDownContext.add(
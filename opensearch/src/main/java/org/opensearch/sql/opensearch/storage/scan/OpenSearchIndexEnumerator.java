@@ -8,11 +8,16 @@ package org.opensearch.sql.opensearch.storage.scan;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.apache.calcite.linq4j.Enumerator;
 import org.opensearch.sql.data.model.ExprValue;
-import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.utils.RefPathAccessor;
 import org.opensearch.sql.exception.NonFallbackCalciteException;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
@@ -25,13 +30,23 @@ import org.opensearch.sql.opensearch.response.OpenSearchResponse;
  * <p>Analogous to LINQ's System.Collections.Enumerator. Unlike LINQ, if the underlying collection
  * has been modified it is only optional that an implementation of the Enumerator interface detects
  * it and throws a {@link java.util.ConcurrentModificationException}.
+ *
+ * <p>If a prefetch executor is given, the next batch is requested on it as soon as the current one
+ * arrives, so the search round trip overlaps with the consumption of the current batch. At most one
+ * batch is prefetched, and only while the {@link ResourceMonitor} reports healthy. The request is
+ * only touched by one thread at a time: the consuming thread waits for the prefetch before it uses
+ * the request again.
  */
 public class OpenSearchIndexEnumerator implements Enumerator<Object> {
 
+  /** Name of the thread pool which prefetches the next batch of index scans. */
+  public static final String PREFETCH_THREAD_POOL_NAME = "sql-prefetch";
+
   /** OpenSearch client. */
   private final OpenSearchClient client;
 
-  private final List<String> fields;
+  /** Accessors of the fields to return, parsed once for all rows. */
+  private final RefPathAccessor[] accessors;
 
   /** Search request. */
   @EqualsAndHashCode.Include @ToString.Include private OpenSearchRequest request;
@@ -59,6 +74,12 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
   /** flag to indicate whether fetch more than one batch */
   private boolean fetchOnce = false;
 
+  /** Executor to prefetch the next batch on, or null to fetch each batch when it's needed. */
+  private final Executor prefetchExecutor;
+
+  /** Next batch being fetched in background. */
+  private CompletableFuture<OpenSearchResponse> nextBatch;
+
   public OpenSearchIndexEnumerator(
       OpenSearchClient client,
       List<String> fields,
@@ -66,12 +87,24 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
       int maxResultWindow,
       OpenSearchRequest request,
       ResourceMonitor monitor) {
+    this(client, fields, maxResponseSize, maxResultWindow, request, monitor, null);
+  }
+
+  public OpenSearchIndexEnumerator(
+      OpenSearchClient client,
+      List<String> fields,
+      int maxResponseSize,
+      int maxResultWindow,
+      OpenSearchRequest request,
+      ResourceMonitor monitor,
+      Executor prefetchExecutor) {
     this.client = client;
-    this.fields = fields;
+    this.accessors = fields.stream().map(RefPathAccessor::of).toArray(RefPathAccessor[]::new);
     this.request = request;
     this.maxResponseSize = maxResponseSize;
     this.maxResultWindow = maxResultWindow;
     this.monitor = monitor;
+    this.prefetchExecutor = prefetchExecutor;
     this.queryCount = 0;
     this.current = null;
     if (!this.monitor.isHealthy()) {
@@ -80,10 +113,13 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
   }
 
   private void fetchNextBatch() {
-    OpenSearchResponse response = client.search(request);
-    if (response.isAggregationResponse()
-        || response.isCountResponse()
-        || response.getHitsSize() < maxResultWindow) {
+    OpenSearchResponse response = nextBatch != null ? awaitNextBatch() : client.search(request);
+    // a paged composite aggregation has another batch until its last page
+    boolean aggregationPaged = response.isAggregationResponse() && request.hasAnotherBatch();
+    if (!aggregationPaged
+        && (response.isAggregationResponse()
+            || response.isCountResponse()
+            || response.getHitsSize() < maxResultWindow)) {
       // no need to fetch next batch if it's for an aggregation
       // or the length of response hits is less than max result window size.
       fetchOnce = true;
@@ -93,6 +129,48 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
     } else if (iterator == null) {
       iterator = Collections.emptyIterator();
     }
+    if (!fetchOnce && queryCount + response.getHitsSize() < maxResponseSize) {
+      prefetchNextBatch();
+    }
+  }
+
+  private void prefetchNextBatch() {
+    if (prefetchExecutor == null || !monitor.isHealthy()) {
+      return;
+    }
+    try {
+      nextBatch = CompletableFuture.supplyAsync(() -> client.search(request), prefetchExecutor);
+    } catch (RejectedExecutionException e) {
+      // The prefetch pool is saturated, fetch the next batch when it's needed instead.
+      nextBatch = null;
+    }
+  }
+
+  private OpenSearchResponse awaitNextBatch() {
+    CompletableFuture<OpenSearchResponse> batch = nextBatch;
+    nextBatch = null;
+    try {
+      return batch.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /** Wait for the prefetch in flight, if any, and drop its result before reusing the request. */
+  private void discardNextBatch() {
+    if (nextBatch == null) {
+      return;
+    }
+    try {
+      nextBatch.join();
+    } catch (CompletionException | CancellationException e) {
+      // The batch is not needed anymore, neither is its failure.
+    } finally {
+      nextBatch = null;
+    }
   }
 
   @Override
@@ -100,14 +178,14 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
     /* In Calcite enumerable operators, row of single column will be optimized to a scalar value.
      * See {@link PhysTypeImpl}
      */
-    if (fields.size() == 1) {
-      return resolveForCalcite(current, fields.getFirst());
+    if (accessors.length == 1) {
+      return accessors[0].resolve(current).valueForCalcite();
     }
-    return fields.stream().map(field -> resolveForCalcite(current, field)).toArray();
-  }
-
-  private Object resolveForCalcite(ExprValue value, String rawPath) {
-    return ExprValueUtils.resolveRefPaths(value, List.of(rawPath.split("\\."))).valueForCalcite();
+    Object[] row = new Object[accessors.length];
+    for (int i = 0; i < accessors.length; i++) {
+      row[i] = accessors[i].resolve(current).valueForCalcite();
+    }
+    return row;
   }
 
   @Override
@@ -135,6 +213,7 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
 
   @Override
   public void reset() {
+    discardNextBatch();
     OpenSearchResponse response = client.search(request);
     if (!response.isEmpty()) {
       iterator = response.iterator();
@@ -146,6 +225,7 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
 
   @Override
   public void close() {
+    discardNextBatch();
     iterator = Collections.emptyIterator();
     if (request != null) {
       client.forceCleanup(request);
@@ -49,16 +49,27 @@ public class AggPushDownAction implements OSRequestBuilderAction {
   private final long scriptCount;
   // Record the output field names of all buckets as the sequence of buckets
   private List<String> bucketNames;
+  // Page size of the composite aggregation buckets, 0 if only the first page is fetched
+  private final int compositePageSize;
 
   public AggPushDownAction(
       Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder,
       Map<String, OpenSearchDataType> extendedTypeMapping,
       List<String> bucketNames) {
+    this(aggregationBuilder, extendedTypeMapping, bucketNames, 0);
+  }
+
+  public AggPushDownAction(
+      Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder,
+      Map<String, OpenSearchDataType> extendedTypeMapping,
+      List<String> bucketNames,
+      int compositePageSize) {
     this.aggregationBuilder = aggregationBuilder;
     this.extendedTypeMapping = extendedTypeMapping;
     this.scriptCount =
         aggregationBuilder.getLeft().stream().filter(this::isScriptAggBuilder).count();
     this.bucketNames = bucketNames;
+    this.compositePageSize = compositePageSize;
   }
 
   private boolean isScriptAggBuilder(AggregationBuilder aggBuilder) {
@@ -70,6 +81,9 @@ public class AggPushDownAction implements OSRequestBuilderAction {
   public void apply(OpenSearchRequestBuilder requestBuilder) {
     requestBuilder.pushDownAggregation(aggregationBuilder);
     requestBuilder.pushTypeMapping(extendedTypeMapping);
+    if (compositePageSize > 0) {
+      requestBuilder.pushDownCompositePaging(compositePageSize);
+    }
   }
 
   private BucketAggregationParser convertTo(OpenSearchAggregationResponseParser parser) {
@@ -37,10 +37,12 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.lang.reflect.Type;
 import java.time.chrono.ChronoZonedDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
 import org.apache.calcite.adapter.enumerable.EnumUtils;
@@ -86,6 +88,7 @@ import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
+import org.opensearch.sql.opensearch.storage.script.CompiledScriptCache.CompiledScript;
 import org.opensearch.sql.opensearch.storage.script.aggregation.CalciteAggregationScriptFactory;
 import org.opensearch.sql.opensearch.storage.script.filter.CalciteFilterScriptFactory;
 import org.opensearch.sql.opensearch.storage.serde.RelJsonSerializer;
@@ -125,6 +128,22 @@ public class CalciteScriptEngine implements ScriptEngine {
   @Override
   public <T> T compile(
       String scriptName, String scriptCode, ScriptContext<T> context, Map<String, String> options) {
+    if (CONTEXTS.containsKey(context)) {
+      CompiledScript script =
+          CompiledScriptCache.getInstance()
+              .getOrCompile(scriptCode, () -> compileScript(scriptCode));
+      return context.factoryClazz.cast(
+          CONTEXTS.get(context).apply(script.function(), script.type()));
+    }
+    throw new IllegalStateException(
+        String.format(
+            "Script context is currently not supported: "
+                + "all supported contexts [%s], given context [%s] ",
+            CONTEXTS, context));
+  }
+
+  /** Deserialize the expression of the script, translate it to Java and compile it. */
+  private CompiledScript compileScript(String scriptCode) {
     Map<String, Object> objectMap = relJsonSerializer.deserialize(scriptCode);
     RexNode rexNode = (RexNode) objectMap.get(RelJsonSerializer.EXPR);
     RelDataType rowType = (RelDataType) objectMap.get(RelJsonSerializer.ROW_TYPE);
@@ -139,15 +158,7 @@ public class CalciteScriptEngine implements ScriptEngine {
 
     Function1<DataContext, Object[]> function =
         new RexExecutable(code, "generated Rex code").getFunction();
-
-    if (CONTEXTS.containsKey(context)) {
-      return context.factoryClazz.cast(CONTEXTS.get(context).apply(function, rexNode.getType()));
-    }
-    throw new IllegalStateException(
-        String.format(
-            "Script context is currently not supported: "
-                + "all supported contexts [%s], given context [%s] ",
-            CONTEXTS, context));
+    return new CompiledScript(function, rexNode.getType());
   }
 
   @Override
@@ -229,6 +240,18 @@ public class CalciteScriptEngine implements ScriptEngine {
     private final SourceLookup sourceLookup;
     private final Map<String, Object> params;
 
+    /**
+     * Values of the current document already read by the script, by field name. A field may be
+     * referenced several times in a script while each doc value read advances the doc values again
+     * and each source read walks the parsed source, so they're read once per document.
+     */
+    private final Map<String, Object> docValueCache = new HashMap<>();
+
+    private final Map<String, Object> sourceCache = new HashMap<>();
+
+    private final Function<String, Object> docValueReader = this::readDocValue;
+    private final Function<String, Object> sourceReader = this::readSource;
+
     public ScriptDataContext(
         Map<String, ScriptDocValues<?>> docProvider,
         SourceLookup sourceLookup,
@@ -259,6 +282,25 @@ public class CalciteScriptEngine implements ScriptEngine {
       if (Variable.UTC_TIMESTAMP.camelName.equals(name))
         return params.get(Variable.UTC_TIMESTAMP.camelName);
 
+      return cached(docValueCache, name, docValueReader);
+    }
+
+    /**
+     * Get the value of a field without doc values from the source of the current document. The
+     * source is parsed once per document by the {@link SourceLookup}, so all the source fields of
+     * a script share a single parse.
+     */
+    public Object getFromSource(String name) {
+      return cached(sourceCache, name, sourceReader);
+    }
+
+    /** Drop the values cached for the previous document, called when moving to a new document. */
+    public void clearCache() {
+      docValueCache.clear();
+      sourceCache.clear();
+    }
+
+    private Object readDocValue(String name) {
       ScriptDocValues<?> docValue = this.docProvider.get(name);
       if (docValue == null || docValue.isEmpty()) {
         return null; // No way to differentiate null and missing from doc value
@@ -274,9 +316,19 @@ public class CalciteScriptEngine implements ScriptEngine {
       return value;
     }
 
-    public Object getFromSource(String name) {
+    private Object readSource(String name) {
       return this.sourceLookup.get(name);
     }
+
+    private static Object cached(
+        Map<String, Object> cache, String name, Function<String, Object> reader) {
+      Object value = cache.get(name);
+      if (value == null && !cache.containsKey(name)) {
+        value = reader.apply(name);
+        cache.put(name, value);
+      }
+      return value;
+    }
   }
 
   /**
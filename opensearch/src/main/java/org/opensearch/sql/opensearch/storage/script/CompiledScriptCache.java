@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.Callable;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.rel.type.RelDataType;
+import org.opensearch.sql.common.utils.ResizableCache;
+
+/**
+ * Node level cache of scripts compiled by {@link CalciteScriptEngine}, keyed by the script code.
+ * The same pushed down script is compiled for every shard and every repetition of a query, while
+ * deserializing the expression, translating it to Java and compiling it with Janino only depends
+ * on the code. The compiled function is stateless, so it's shared by all scripts of the code.
+ */
+public class CompiledScriptCache
+    extends ResizableCache<String, CompiledScriptCache.CompiledScript> {
+
+  /** Default maximum number of compiled scripts, see plugins.calcite.script_cache.size. */
+  public static final int DEFAULT_MAXIMUM_SIZE = 500;
+
+  private static final CompiledScriptCache INSTANCE = new CompiledScriptCache(DEFAULT_MAXIMUM_SIZE);
+
+  @VisibleForTesting
+  CompiledScriptCache(int maximumSize) {
+    super(maximumSize, "Failed to compile script");
+  }
+
+  public static CompiledScriptCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Return the compiled script of the code, compiling it only if it's not cached.
+   *
+   * @param scriptCode script code
+   * @param compiler compiles the script if it's not cached
+   * @return compiled script
+   */
+  public CompiledScript getOrCompile(String scriptCode, Callable<CompiledScript> compiler) {
+    return get(scriptCode, compiler);
+  }
+
+  /**
+   * Compiled script.
+   *
+   * @param function generated function which evaluates the expression
+   * @param type type of the expression
+   */
+  public record CompiledScript(Function1<DataContext, Object[]> function, RelDataType type) {}
+}
@@ -19,7 +19,6 @@ import org.apache.calcite.rel.type.RelDataType;
 import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.search.lookup.SearchLookup;
-import org.opensearch.search.lookup.SourceLookup;
 import org.opensearch.sql.calcite.utils.OpenSearchTypeFactory;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprCoreType;
@@ -33,9 +32,8 @@ class CalciteAggregationScript extends AggregationScript {
   /** Calcite Script. */
   private final CalciteScript calciteScript;
 
-  private final SourceLookup sourceLookup;
-
-  private final RelDataType type;
+  /** Type of the script result, resolved once instead of for every document. */
+  private final ExprType exprType;
 
   public CalciteAggregationScript(
       Function1<DataContext, Object[]> function,
@@ -44,15 +42,21 @@ class CalciteAggregationScript extends AggregationScript {
       LeafReaderContext context,
       Map<String, Object> params) {
     super(params, lookup, context);
-    this.calciteScript = new CalciteScript(function, params);
-    this.sourceLookup = lookup.getLeafSearchLookup(context).source();
-    this.type = type;
+    this.calciteScript =
+        new CalciteScript(
+            function, params, this.getDoc(), lookup.getLeafSearchLookup(context).source());
+    this.exprType = OpenSearchTypeFactory.convertRelDataTypeToExprType(type);
+  }
+
+  @Override
+  public void setDocument(int docid) {
+    super.setDocument(docid);
+    calciteScript.clearCache();
   }
 
   @Override
   public Object execute() {
-    Object value = calciteScript.execute(this.getDoc(), this.sourceLookup)[0];
-    ExprType exprType = OpenSearchTypeFactory.convertRelDataTypeToExprType(type);
+    Object value = calciteScript.evaluate();
     // See logic in {@link ExpressionAggregationScript::execute}
     return switch ((ExprCoreType) exprType) {
       case TIME ->
@@ -16,8 +16,12 @@ import org.opensearch.search.lookup.SourceLookup;
 import org.opensearch.sql.opensearch.storage.script.CalciteScriptEngine.ScriptDataContext;
 
 /**
- * Calcite script executor that executes the generated code on each document and determine if the
- * document is supposed to be filtered out or not.
+ * Calcite script executor that executes the generated code on each document of a leaf.
+ *
+ * <p>The doc and source lookups of a leaf are advanced to the current document by OpenSearch, so
+ * the {@link ScriptDataContext} reading from them and the privileged action evaluating the code are
+ * created once per leaf instead of once per document. Values read by the code are cached by the
+ * data context until {@link #clearCache()} is called for the next document.
  */
 @EqualsAndHashCode(callSuper = false)
 public class CalciteScript {
@@ -27,22 +31,59 @@ public class CalciteScript {
 
   private final Map<String, Object> params;
 
-  /** Expression constructor. */
-  public CalciteScript(Function1<DataContext, Object[]> function, Map<String, Object> params) {
+  /** Data context of the leaf, which always reads the current document. */
+  @EqualsAndHashCode.Exclude private final ScriptDataContext dataContext;
+
+  @EqualsAndHashCode.Exclude private final PrivilegedAction<Object[]> action;
+
+  /**
+   * Expression constructor.
+   *
+   * @param function generated code to execute
+   * @param params script parameters
+   * @param docProvider doc look up of the leaf
+   * @param sourceLookup source look up of the leaf
+   */
+  public CalciteScript(
+      Function1<DataContext, Object[]> function,
+      Map<String, Object> params,
+      Map<String, ScriptDocValues<?>> docProvider,
+      SourceLookup sourceLookup) {
     this.function = function;
     this.params = params;
+    this.dataContext = new ScriptDataContext(docProvider, sourceLookup, params);
+    this.action = () -> function.apply(dataContext);
+  }
+
+  /** Drop the field values cached for the previous doc, called when moving to a new doc. */
+  public void clearCache() {
+    dataContext.clearCache();
+  }
+
+  /**
+   * Evaluate on the current doc.
+   *
+   * @return values of the generated expressions
+   */
+  public Object[] execute() {
+    return AccessController.doPrivileged(action);
+  }
+
+  /**
+   * Evaluate the single expression of the script on the current doc.
+   *
+   * @return value of the expression
+   */
+  public Object evaluate() {
+    return execute()[0];
   }
 
   /**
-   * Evaluate on the doc generate by the doc provider.
+   * Evaluate the single predicate of the script on the current doc.
    *
-   * @param docProvider doc look up
-   * @param sourceLookup source look up
-   * @return expr value
+   * @return true if the doc matches, null is treated as false
    */
-  public Object[] execute(Map<String, ScriptDocValues<?>> docProvider, SourceLookup sourceLookup) {
-    return AccessController.doPrivileged(
-        (PrivilegedAction<Object[]>)
-            () -> function.apply(new ScriptDataContext(docProvider, sourceLookup, params)));
+  public boolean test() {
+    return evaluate() instanceof Boolean matched && matched;
   }
 }
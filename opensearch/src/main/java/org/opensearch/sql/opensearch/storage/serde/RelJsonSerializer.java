@@ -10,12 +10,20 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.ObjectStreamConstants;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 import lombok.Getter;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.rel.externalize.RelJson;
@@ -29,6 +37,7 @@ import org.apache.calcite.sql.util.SqlOperatorTables;
 import org.apache.calcite.util.JsonBuilder;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.calcite.CalcitePlanContext;
+import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.function.PPLBuiltinOperators;
 import org.opensearch.sql.opensearch.util.OpenSearchRelOptUtil;
@@ -40,6 +49,8 @@ import org.opensearch.sql.opensearch.util.OpenSearchRelOptUtil;
  * <li>Uses Calcite's RelJson class to convert RexNode and RelDataType to/from JSON string
  * <li>Manages required OpenSearch field mapping information Note: OpenSearch ExprType subclasses
  *     implement {@link java.io.Serializable} and are handled through standard Java serialization.
+ * <li>Encodes them by Java serialization, or into a compact versioned binary format once enabled,
+ *     see {@link #FORMAT_VERSION}
  */
 @Getter
 public class RelJsonSerializer {
@@ -49,6 +60,26 @@ public class RelJsonSerializer {
   public static final String EXPR = "expr";
   public static final String FIELD_TYPES = "fieldTypes";
   public static final String ROW_TYPE = "rowType";
+
+  /**
+   * Version of the binary script format. The encoded bytes start with {@link #FORMAT_MAGIC} and
+   * this version, followed by the deflated body: the expression and row type JSON as length
+   * prefixed UTF-8, the core field types by name and the other field types as one Java serialized
+   * map. Scripts encoded by Java serialization of the whole envelope are still decoded, so plans
+   * pushed down by nodes of an older version keep working in a mixed cluster.
+   */
+  public static final byte FORMAT_VERSION = 1;
+
+  /** First byte of the binary script format, distinct from the Java serialization stream magic. */
+  static final byte FORMAT_MAGIC = 'R';
+
+  /**
+   * Whether scripts are encoded in the binary script format, kept in sync with
+   * plugins.calcite.script.compact_format.enabled. Scripts are run by the data nodes, which can't
+   * decode this format before they are upgraded, so the Java serialization format is written until
+   * it's enabled.
+   */
+  private static volatile boolean compactFormat = false;
   private static final ObjectMapper mapper = new ObjectMapper();
   private static final TypeReference<LinkedHashMap<String, Object>> TYPE_REF =
       new TypeReference<>() {};
@@ -68,6 +99,10 @@ public class RelJsonSerializer {
     this.cluster = cluster;
   }
 
+  public static void setCompactFormat(boolean compactFormat) {
+    RelJsonSerializer.compactFormat = compactFormat;
+  }
+
   /**
    * Serializes Calcite expressions and field types into a map object string.
    *
@@ -96,18 +131,14 @@ public class RelJsonSerializer {
       String rexNodeJson = jsonBuilder.toJsonString(relJson.toJson(remappedRexInfo.getKey()));
       Object rowTypeJsonObj = relJson.toJson(remappedRexInfo.getValue());
       String rowTypeJson = jsonBuilder.toJsonString(rowTypeJsonObj);
-      // Construct envelope of serializable objects
-      Map<String, Object> envelope =
-          Map.of(EXPR, rexNodeJson, FIELD_TYPES, filteredFieldTypes, ROW_TYPE, rowTypeJson);
-
-      // Write bytes of all serializable contents
-      ByteArrayOutputStream output = new ByteArrayOutputStream();
-      ObjectOutputStream objectOutput = new ObjectOutputStream(output);
-      objectOutput.writeObject(envelope);
-      objectOutput.flush();
-      return CalcitePlanContext.skipEncoding.get()
-          ? rexNodeJson
-          : Base64.getEncoder().encodeToString(output.toByteArray());
+      if (CalcitePlanContext.skipEncoding.get()) {
+        return rexNodeJson;
+      }
+      byte[] bytes =
+          compactFormat
+              ? encode(rexNodeJson, rowTypeJson, filteredFieldTypes)
+              : encodeJavaSerialized(rexNodeJson, rowTypeJson, filteredFieldTypes);
+      return Base64.getEncoder().encodeToString(bytes);
     } catch (Exception e) {
       throw new IllegalStateException(
           "Failed to serialize RexNode: " + remappedRexInfo.getKey(), e);
@@ -125,9 +156,7 @@ public class RelJsonSerializer {
     Map<String, Object> objectMap = null;
     try {
       // Recover Map object from bytes
-      ByteArrayInputStream input = new ByteArrayInputStream(Base64.getDecoder().decode(struct));
-      ObjectInputStream objectInput = new ObjectInputStream(input);
-      objectMap = (Map<String, Object>) objectInput.readObject();
+      objectMap = decode(Base64.getDecoder().decode(struct));
 
       // PPL Expr types are all serializable
       Map<String, ExprType> fieldTypes = (Map<String, ExprType>) objectMap.get(FIELD_TYPES);
@@ -150,4 +179,112 @@ public class RelJsonSerializer {
           "Failed to deserialize RexNode and its required structure: " + objectMap.get(EXPR), e);
     }
   }
+
+  /** Encode the envelope of expression, row type and field types in the binary script format. */
+  private static byte[] encode(
+      String exprJson, String rowTypeJson, Map<String, ExprType> fieldTypes) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    output.write(FORMAT_MAGIC);
+    output.write(FORMAT_VERSION);
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try (DataOutputStream body =
+        new DataOutputStream(new DeflaterOutputStream(output, deflater))) {
+      writeString(body, exprJson);
+      writeString(body, rowTypeJson);
+      // Core types are encoded by name, only OpenSearch data types need Java serialization
+      Map<String, ExprCoreType> coreTypes = new HashMap<>();
+      Map<String, ExprType> serializedTypes = new HashMap<>();
+      fieldTypes.forEach(
+          (name, type) -> {
+            if (type instanceof ExprCoreType coreType) {
+              coreTypes.put(name, coreType);
+            } else {
+              serializedTypes.put(name, type);
+            }
+          });
+      body.writeInt(coreTypes.size());
+      for (Map.Entry<String, ExprCoreType> entry : coreTypes.entrySet()) {
+        writeString(body, entry.getKey());
+        writeString(body, entry.getValue().name());
+      }
+      body.writeBoolean(!serializedTypes.isEmpty());
+      if (!serializedTypes.isEmpty()) {
+        ObjectOutputStream objectOutput = new ObjectOutputStream(body);
+        objectOutput.writeObject(serializedTypes);
+        objectOutput.flush();
+      }
+    } finally {
+      deflater.end();
+    }
+    return output.toByteArray();
+  }
+
+  /** Encode the envelope by Java serialization, which nodes of all versions decode. */
+  private static byte[] encodeJavaSerialized(
+      String exprJson, String rowTypeJson, Map<String, ExprType> fieldTypes) throws IOException {
+    Map<String, Object> envelope =
+        Map.of(EXPR, exprJson, FIELD_TYPES, fieldTypes, ROW_TYPE, rowTypeJson);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+      objectOutput.writeObject(envelope);
+    }
+    return output.toByteArray();
+  }
+
+  /**
+   * Decode the envelope of expression JSON, row type JSON and field types from bytes of either the
+   * binary script format or the legacy Java serialization format.
+   */
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> decode(byte[] bytes)
+      throws IOException, ClassNotFoundException {
+    if (isJavaSerialized(bytes)) {
+      try (ObjectInputStream objectInput =
+          new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+        return (Map<String, Object>) objectInput.readObject();
+      }
+    }
+    if (bytes.length < 2 || bytes[0] != FORMAT_MAGIC) {
+      throw new IOException("Unknown script format");
+    }
+    if (bytes[1] != FORMAT_VERSION) {
+      throw new IOException("Unsupported script format version " + bytes[1]);
+    }
+    try (DataInputStream body =
+        new DataInputStream(
+            new InflaterInputStream(new ByteArrayInputStream(bytes, 2, bytes.length - 2)))) {
+      String exprJson = readString(body);
+      String rowTypeJson = readString(body);
+      Map<String, ExprType> fieldTypes = new HashMap<>();
+      int size = body.readInt();
+      for (int i = 0; i < size; i++) {
+        String fieldName = readString(body);
+        fieldTypes.put(fieldName, ExprCoreType.valueOf(readString(body)));
+      }
+      if (body.readBoolean()) {
+        ObjectInputStream objectInput = new ObjectInputStream(body);
+        fieldTypes.putAll((Map<String, ExprType>) objectInput.readObject());
+      }
+      return Map.of(EXPR, exprJson, FIELD_TYPES, fieldTypes, ROW_TYPE, rowTypeJson);
+    }
+  }
+
+  private static boolean isJavaSerialized(byte[] bytes) {
+    return bytes.length >= 2
+        && bytes[0] == (byte) (ObjectStreamConstants.STREAM_MAGIC >>> 8)
+        && bytes[1] == (byte) ObjectStreamConstants.STREAM_MAGIC;
+  }
+
+  /** Write a string as length prefixed UTF-8, which unlike writeUTF isn't limited to 64KB. */
+  private static void writeString(DataOutputStream output, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  private static String readString(DataInputStream input) throws IOException {
+    byte[] bytes = new byte[input.readInt()];
+    input.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.util;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.opensearch.sql.calcite.type.ExprJavaType;
+import org.opensearch.sql.executor.ColumnarRows;
+import org.opensearch.sql.executor.ColumnarRows.BooleanVector;
+import org.opensearch.sql.executor.ColumnarRows.ColumnVector;
+import org.opensearch.sql.executor.ColumnarRows.DoubleVector;
+import org.opensearch.sql.executor.ColumnarRows.FloatVector;
+import org.opensearch.sql.executor.ColumnarRows.IntVector;
+import org.opensearch.sql.executor.ColumnarRows.LongVector;
+import org.opensearch.sql.executor.ColumnarRows.StringVector;
+import org.opensearch.sql.executor.ColumnarRows.ValueVector;
+
+/**
+ * Reads rows of a JDBC {@link ResultSet} into {@link ColumnarRows}. Column names and types are
+ * resolved from the {@link ResultSetMetaData} once when the reader is created, and primitive
+ * columns are read with the primitive getters of the result set, so reading a row doesn't look up
+ * metadata or box values. Columns without a primitive representation are converted by {@link
+ * JdbcOpenSearchDataTypeConvertor}, which produces the same values for the other columns.
+ */
+public class JdbcColumnarReader {
+
+  @Getter private final ColumnarRows rows;
+
+  private final List<CellReader> readers;
+
+  public JdbcColumnarReader(ResultSetMetaData metaData, List<RelDataType> fieldTypes)
+      throws SQLException {
+    int columnCount = metaData.getColumnCount();
+    List<String> columnNames = new ArrayList<>(columnCount);
+    List<ColumnVector> vectors = new ArrayList<>(columnCount);
+    this.readers = new ArrayList<>(columnCount);
+    for (int i = 1; i <= columnCount; i++) {
+      String columnName = metaData.getColumnName(i);
+      columnNames.add(columnName);
+      readers.add(
+          newReader(i, metaData.getColumnType(i), fieldTypes.get(i - 1), columnName, vectors));
+    }
+    this.rows = new ColumnarRows(columnNames, vectors);
+  }
+
+  /** Append the current row of the result set to the rows. */
+  public void readRow(ResultSet resultSet) throws SQLException {
+    for (CellReader reader : readers) {
+      reader.read(resultSet);
+    }
+    rows.endRow();
+  }
+
+  /**
+   * Create the reader of a column and add the vector it appends to. The primitive readers must stay
+   * consistent with {@link JdbcOpenSearchDataTypeConvertor#getExprValueFromSqlType}.
+   */
+  private static CellReader newReader(
+      int i, int sqlType, RelDataType fieldType, String columnName, List<ColumnVector> vectors) {
+    if (fieldType instanceof ExprJavaType || fieldType.getSqlTypeName() == SqlTypeName.GEOMETRY) {
+      return newValueReader(i, sqlType, fieldType, columnName, vectors);
+    }
+    switch (sqlType) {
+      case Types.VARCHAR:
+      case Types.CHAR:
+      case Types.LONGVARCHAR:
+        {
+          StringVector vector = new StringVector();
+          vectors.add(vector);
+          return resultSet -> vector.append(resultSet.getString(i));
+        }
+      case Types.INTEGER:
+        {
+          IntVector vector = new IntVector();
+          vectors.add(vector);
+          return resultSet -> {
+            int value = resultSet.getInt(i);
+            if (resultSet.wasNull()) {
+              vector.appendNull();
+            } else {
+              vector.append(value);
+            }
+          };
+        }
+      case Types.BIGINT:
+        {
+          LongVector vector = new LongVector();
+          vectors.add(vector);
+          return resultSet -> {
+            long value = resultSet.getLong(i);
+            if (resultSet.wasNull()) {
+              vector.appendNull();
+            } else {
+              vector.append(value);
+            }
+          };
+        }
+      case Types.FLOAT:
+      case Types.REAL:
+        {
+          FloatVector vector = new FloatVector();
+          vectors.add(vector);
+          return resultSet -> {
+            float value = resultSet.getFloat(i);
+            if (resultSet.wasNull()) {
+              vector.appendNull();
+            } else {
+              vector.append(value);
+            }
+          };
+        }
+      case Types.DECIMAL:
+      case Types.NUMERIC:
+      case Types.DOUBLE:
+        {
+          DoubleVector vector = new DoubleVector();
+          vectors.add(vector);
+          return resultSet -> {
+            double value = resultSet.getDouble(i);
+            if (resultSet.wasNull()) {
+              vector.appendNull();
+            } else {
+              vector.append(value);
+            }
+          };
+        }
+      case Types.BOOLEAN:
+        {
+          BooleanVector vector = new BooleanVector();
+          vectors.add(vector);
+          return resultSet -> {
+            boolean value = resultSet.getBoolean(i);
+            if (resultSet.wasNull()) {
+              vector.appendNull();
+            } else {
+              vector.append(value);
+            }
+          };
+        }
+      default:
+        return newValueReader(i, sqlType, fieldType, columnName, vectors);
+    }
+  }
+
+  private static CellReader newValueReader(
+      int i, int sqlType, RelDataType fieldType, String columnName, List<ColumnVector> vectors) {
+    ValueVector vector = new ValueVector();
+    vectors.add(vector);
+    return resultSet ->
+        vector.append(
+            JdbcOpenSearchDataTypeConvertor.getExprValueFromSqlType(
+                resultSet, i, sqlType, fieldType, columnName));
+  }
+
+  @FunctionalInterface
+  private interface CellReader {
+    void read(ResultSet resultSet) throws SQLException;
+  }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.util.MergeRules;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
@@ -25,7 +26,9 @@ public class DeepMergeRule implements MergeRule {
   public void mergeInto(
       String key, OpenSearchDataType source, Map<String, OpenSearchDataType> target) {
     OpenSearchDataType existing = target.get(key);
-    MergeRuleHelper.merge(existing.getProperties(), source.getProperties());
-    target.put(key, existing);
+    // Merge into a copy, the existing type may belong to a cached index mapping
+    Map<String, OpenSearchDataType> properties = new LinkedHashMap<>(existing.getProperties());
+    MergeRuleHelper.merge(properties, source.getProperties());
+    target.put(key, existing.cloneWithProperties(properties));
   }
 }
@@ -308,7 +308,7 @@ class OpenSearchNodeClientTest {
             new SearchHits(
                 new SearchHit[] {searchHit}, new TotalHits(1L, TotalHits.Relation.EQUAL_TO), 1.0F));
     when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleValue);
+    when(factory.construct(any(), anyBoolean(), any())).thenReturn(exprTupleValue);
 
     // Mock second scroll request followed
     SearchResponse scrollResponse = mock(SearchResponse.class);
@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.data.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SourceProjectionTest {
+
+  @Test
+  void projectAllWithoutIncludes() {
+    assertSame(SourceProjection.ALL, SourceProjection.of(List.of()));
+    assertSame(SourceProjection.ALL, SourceProjection.of(null));
+    assertSame(SourceProjection.ALL, SourceProjection.of(List.of("name", "log.*")));
+    assertTrue(SourceProjection.ALL.includes("any"));
+  }
+
+  @Test
+  void projectIncludesAndTheirParents() {
+    SourceProjection projection = SourceProjection.of(List.of("name", "log.file.path"));
+
+    assertFalse(projection.isAll());
+    assertTrue(projection.includes("name"));
+    assertTrue(projection.includes("log.file.path"));
+    assertFalse(projection.includes("log"));
+    assertTrue(projection.isParentOfIncluded("log"));
+    assertTrue(projection.isParentOfIncluded("log.file"));
+    assertFalse(projection.isParentOfIncluded("log.file.path"));
+    assertFalse(projection.includes("message"));
+    assertFalse(projection.isParentOfIncluded("message"));
+  }
+}
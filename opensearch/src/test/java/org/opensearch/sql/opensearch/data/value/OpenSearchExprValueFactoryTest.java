@@ -62,6 +62,7 @@ import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDateType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.utils.OpenSearchJsonContent;
+import org.opensearch.sql.opensearch.data.utils.SourceProjection;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory.JsonPath;
 
 class OpenSearchExprValueFactoryTest {
@@ -948,6 +949,55 @@ class OpenSearchExprValueFactoryTest {
     assertEquals("invalid json: {\"invalid_json:1}.", exception.getMessage());
   }
 
+  @Test
+  public void constructOnlyProjectedFields() {
+    Map<String, ExprValue> tuple =
+        exprValueFactory
+            .construct(
+                "{\"intV\":1,\"stringV\":\"a\",\"structV\":{\"id\":2,\"state\":\"WA\"},"
+                    + "\"nestedV\":[{\"count\":3}],\"geoV\":{\"lat\":1,\"lon\":2}}",
+                false,
+                SourceProjection.of(List.of("intV", "structV.state")))
+            .tupleValue();
+
+    assertEquals(
+        Map.of(
+            "intV",
+            integerValue(1),
+            "structV",
+            ExprValueUtils.tupleValue(Map.of("state", stringValue("WA")))),
+        tuple);
+  }
+
+  @Test
+  public void constructWholeProjectedStruct() {
+    Map<String, ExprValue> tuple =
+        exprValueFactory
+            .construct(
+                "{\"intV\":1,\"structV\":{\"id\":2,\"state\":\"WA\"}}",
+                false,
+                SourceProjection.of(List.of("structV")))
+            .tupleValue();
+
+    assertEquals(
+        Map.of(
+            "structV",
+            ExprValueUtils.tupleValue(Map.of("id", integerValue(2), "state", stringValue("WA")))),
+        tuple);
+  }
+
+  @Test
+  public void constructWithDottedKeyInSource() {
+    assertEquals(
+        Map.of("structV", ExprValueUtils.tupleValue(Map.of("id", integerValue(2)))),
+        exprValueFactory
+            .construct(
+                "{\"intV\":1,\"structV.id\":2}",
+                false,
+                SourceProjection.of(List.of("structV.id")))
+            .tupleValue());
+  }
+
   @Test
   public void noTypeFoundForMapping() {
     assertEquals(nullValue(), tupleValue("{\"not_exist\":[]}").get("not_exist"));
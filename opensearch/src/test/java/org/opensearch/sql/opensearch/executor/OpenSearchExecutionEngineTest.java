@@ -40,9 +40,11 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ChunkedResponseListener;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
@@ -141,6 +143,54 @@ class OpenSearchExecutionEngineTest {
     assertEquals(expected, actual);
   }
 
+  @Test
+  void execute_with_chunked_listener() {
+    List<ExprValue> expected =
+        Arrays.asList(
+            tupleValue(of("name", "John", "age", 20)),
+            tupleValue(of("name", "Allen", "age", 30)),
+            tupleValue(of("name", "Smith", "age", 40)));
+    FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
+    when(protector.protect(plan)).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    List<List<ExprValue>> chunks = new ArrayList<>();
+    AtomicReference<ExecutionEngine.Schema> completed = new AtomicReference<>();
+    executor.execute(
+        plan,
+        new ChunkedResponseListener() {
+          @Override
+          public int getChunkSize() {
+            return 2;
+          }
+
+          @Override
+          public void onChunk(ExecutionEngine.Schema schema, List<ExprValue> rows) {
+            chunks.add(new ArrayList<>(rows));
+          }
+
+          @Override
+          public void onComplete(ExecutionEngine.Schema schema, Cursor cursor) {
+            completed.set(schema);
+          }
+
+          @Override
+          public void onResponse(QueryResponse response) {
+            fail("Chunked listener should not receive the complete response");
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertEquals(List.of(expected.subList(0, 2), expected.subList(2, 3)), chunks);
+    assertEquals(schema, completed.get());
+    assertTrue(plan.hasClosed);
+  }
+
   @Test
   void execute_with_failure() {
     PhysicalPlan plan = mock(PhysicalPlan.class);
@@ -0,0 +1,242 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.threadpool.ThreadPool;
+
+@ExtendWith(MockitoExtension.class)
+class QueryAdmissionControllerTest {
+
+  @Mock private ThreadPool threadPool;
+
+  @Mock private ExecutorService executor;
+
+  /** Queries handed over to the worker pool, which run when the test says so. */
+  private final List<Runnable> dispatched = new ArrayList<>();
+
+  private final List<String> executed = new ArrayList<>();
+
+  private final List<Exception> failures = new ArrayList<>();
+
+  private final Consumer<Exception> onFailure = failures::add;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(threadPool.executor(anyString())).thenReturn(executor);
+    lenient()
+        .doAnswer(invocation -> dispatched.add(invocation.getArgument(0)))
+        .when(executor)
+        .execute(any());
+  }
+
+  @Test
+  void runOnCallingThreadWithinCapacity() {
+    QueryAdmissionController controller = controller(2);
+    controller.submit("alice", 1, record("q1"), onFailure);
+
+    assertEquals(List.of("q1"), executed);
+    assertEquals(0, controller.getRunningCost());
+    assertEquals(1, controller.getAdmittedCount());
+    assertEquals(0, controller.getQueuedTotalCount());
+  }
+
+  @Test
+  void queueUntilCapacityIsReleased() {
+    QueryAdmissionController controller = controller(1);
+    controller.submit(
+        "alice",
+        1,
+        () -> {
+          controller.submit("alice", 1, record("q2"), onFailure);
+          assertEquals(1, controller.getQueuedCount());
+          executed.add("q1");
+        },
+        onFailure);
+
+    assertEquals(List.of("q1"), executed);
+    assertEquals(1, dispatched.size());
+    assertEquals(1, controller.getRunningCost());
+    runDispatched();
+    assertEquals(List.of("q1", "q2"), executed);
+    assertEquals(0, controller.getRunningCost());
+    assertEquals(1, controller.getQueuedTotalCount());
+  }
+
+  @Test
+  void admitCheapQueryAheadOfHeavyOne() {
+    QueryAdmissionController controller = controller(4);
+    controller.submit(
+        "alice",
+        2,
+        () -> {
+          controller.submit("alice", 4, record("heavy"), onFailure);
+          controller.submit("bob", 1, record("cheap"), onFailure);
+          // The cheap query fits next to the running one, the heavy one doesn't
+          assertEquals(List.of("cheap"), executed);
+          assertEquals(1, controller.getQueuedCount());
+        },
+        onFailure);
+
+    runDispatched();
+    assertEquals(List.of("cheap", "heavy"), executed);
+  }
+
+  @Test
+  void reserveCapacityForCheapQueries() {
+    QueryAdmissionController controller = controller(5);
+    controller.submit(
+        "alice",
+        10,
+        () -> {
+          // A heavy query takes at most the capacity not reserved for cheap ones
+          assertEquals(4, controller.getRunningCost());
+          controller.submit("bob", 2, record("heavy"), onFailure);
+          controller.submit("carol", 1, record("cheap"), onFailure);
+          assertEquals(List.of("cheap"), executed);
+          assertEquals(1, controller.getQueuedCount());
+        },
+        onFailure);
+
+    runDispatched();
+    assertEquals(List.of("cheap", "heavy"), executed);
+  }
+
+  @Test
+  void serveUsersRoundRobin() {
+    QueryAdmissionController controller = controller(1);
+    controller.submit(
+        "alice",
+        1,
+        () -> {
+          controller.submit("alice", 1, record("alice-1"), onFailure);
+          controller.submit("alice", 1, record("alice-2"), onFailure);
+          controller.submit("alice", 1, record("alice-3"), onFailure);
+          controller.submit("bob", 1, record("bob-1"), onFailure);
+        },
+        onFailure);
+
+    runDispatched();
+    assertEquals(List.of("alice-1", "bob-1", "alice-2", "alice-3"), executed);
+  }
+
+  @Test
+  void heavyQueryIsNotStarvedByCheapOnes() {
+    QueryAdmissionController controller = controller(4);
+    controller.submit(
+        "alice",
+        1,
+        () ->
+            controller.submit(
+                "carol",
+                1,
+                () -> {
+                  controller.submit("dave", 3, record("heavy"), onFailure);
+                  for (int i = 0; i < 40; i++) {
+                    controller.submit("bob", 1, record("cheap"), onFailure);
+                    runDispatched();
+                  }
+                },
+                onFailure),
+        onFailure);
+
+    runDispatched();
+    int heavy = executed.indexOf("heavy");
+    assertTrue(heavy > 0 && heavy < executed.size() - 1, executed.toString());
+    assertEquals(41, executed.size());
+  }
+
+  @Test
+  void rejectWhenTooManyQueriesWait() {
+    QueryAdmissionController controller = new QueryAdmissionController(1, 1);
+    controller.configure(threadPool, 1);
+    controller.submit(
+        "alice",
+        1,
+        () -> {
+          controller.submit("alice", 1, record("q2"), onFailure);
+          controller.submit("bob", 1, record("q3"), onFailure);
+        },
+        onFailure);
+
+    assertEquals(1, failures.size());
+    assertInstanceOf(OpenSearchRejectedExecutionException.class, failures.get(0));
+    runDispatched();
+    assertEquals(List.of("q2"), executed);
+  }
+
+  @Test
+  void reportFailureOfQueryWhichWaited() {
+    QueryAdmissionController controller = controller(1);
+    IllegalStateException exception = new IllegalStateException("failed");
+    controller.submit(
+        "alice",
+        1,
+        () ->
+            controller.submit(
+                "alice",
+                1,
+                () -> {
+                  throw exception;
+                },
+                onFailure),
+        onFailure);
+
+    runDispatched();
+    assertEquals(1, failures.size());
+    assertSame(exception, failures.get(0));
+    assertEquals(0, controller.getRunningCost());
+  }
+
+  @Test
+  void runDirectlyWhenNotConfigured() {
+    QueryAdmissionController controller = new QueryAdmissionController(1, 1);
+    controller.submit(100, record("q1"), onFailure);
+
+    assertEquals(List.of("q1"), executed);
+  }
+
+  @Test
+  void tenantIsUserName() {
+    assertEquals("", QueryAdmissionController.tenantOf(null));
+    assertEquals("alice", QueryAdmissionController.tenantOf("alice|backend|all_access|"));
+    assertEquals("bob", QueryAdmissionController.tenantOf("bob"));
+  }
+
+  private QueryAdmissionController controller(int capacity) {
+    QueryAdmissionController controller = new QueryAdmissionController(capacity, 1000);
+    controller.configure(threadPool, capacity);
+    return controller;
+  }
+
+  private Runnable record(String name) {
+    return () -> executed.add(name);
+  }
+
+  private void runDispatched() {
+    while (!dispatched.isEmpty()) {
+      dispatched.remove(0).run();
+    }
+  }
+}
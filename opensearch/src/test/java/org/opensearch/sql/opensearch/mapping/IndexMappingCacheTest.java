@@ -0,0 +1,183 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.core.index.Index;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+
+class IndexMappingCacheTest {
+
+  private final IndexMappingCache cache = new IndexMappingCache(1000);
+
+  @Test
+  void reuseMappingWithSameSource() {
+    IndexMapping first = cache.getOrParse("logs", mapping("keyword"));
+    IndexMapping second = cache.getOrParse("logs", mapping("keyword"));
+
+    assertSame(first, second);
+    assertEquals(1, cache.stats().hitCount());
+    assertEquals(1, cache.stats().missCount());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void parseMappingWithDifferentSource() {
+    IndexMapping full = cache.getOrParse("logs", mapping("keyword"));
+    IndexMapping changed = cache.getOrParse("logs", mapping("text"));
+    IndexMapping other = cache.getOrParse("metrics", mapping("keyword"));
+
+    assertNotSame(full, changed);
+    assertNotSame(full, other);
+    assertEquals(3, cache.size());
+  }
+
+  @Test
+  void reuseMergedAndFlattenedTypes() {
+    Map<String, IndexMapping> indexMappings =
+        Map.of(
+            "logs-1", cache.getOrParse("logs-1", mapping("keyword")),
+            "logs-2", cache.getOrParse("logs-2", mapping("keyword")));
+    Map<String, OpenSearchDataType> merged =
+        cache.getOrMerge(indexMappings, () -> new HashMap<>(Map.of("name", keyword())));
+
+    assertSame(merged, cache.getOrMerge(Map.copyOf(indexMappings), this::fail));
+    assertThrows(UnsupportedOperationException.class, () -> merged.remove("name"));
+
+    Map<String, ExprType> flattened =
+        cache.getOrFlatten(merged, () -> Map.of("name", ExprCoreType.STRING));
+    assertSame(flattened, cache.getOrFlatten(merged, this::fail));
+  }
+
+  @Test
+  void bypassCacheWhenDisabled() {
+    cache.resize(0);
+
+    assertFalse(cache.isEnabled());
+    assertNotSame(
+        cache.getOrParse("logs", mapping("keyword")), cache.getOrParse("logs", mapping("keyword")));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void keepStatsAcrossResize() {
+    cache.getOrParse("logs", mapping("keyword"));
+    cache.getOrParse("logs", mapping("keyword"));
+    cache.resize(2000);
+
+    assertEquals(0, cache.size());
+    assertEquals(1, cache.stats().hitCount());
+    assertEquals(1, cache.stats().missCount());
+    assertEquals(2000, cache.getCapacity());
+  }
+
+  @Test
+  void evictMappingsBeyondMaximumFields() {
+    IndexMappingCache small = new IndexMappingCache(2);
+    small.getOrParse("logs-1", mapping("keyword"));
+    small.getOrParse("logs-2", mapping("keyword"));
+    small.getOrParse("logs-3", mapping("keyword"));
+
+    assertEquals(2, small.size());
+    assertEquals(1, small.stats().evictionCount());
+  }
+
+  @Test
+  void dropMappingsOfDeletedIndex() {
+    IndexMapping logs = cache.getOrParse("logs", mapping("keyword"));
+    IndexMapping metrics = cache.getOrParse("metrics", mapping("keyword"));
+    cache.getOrMerge(Map.of("logs", logs), () -> Map.of("name", keyword()));
+
+    ClusterChangedEvent event = event(Map.of("metrics", 1L), Map.of("logs", 1L, "metrics", 1L));
+    when(event.indicesDeleted()).thenReturn(List.of(new Index("logs", "uuid")));
+    cache.clusterChanged(event);
+
+    assertEquals(1, cache.size());
+    assertSame(metrics, cache.getOrParse("metrics", mapping("keyword")));
+    assertNotSame(logs, cache.getOrParse("logs", mapping("keyword")));
+    assertThrows(
+        IllegalStateException.class,
+        () -> cache.getOrMerge(Map.of("logs", logs), this::fail));
+  }
+
+  @Test
+  void dropMappingsOfChangedIndex() {
+    IndexMapping logs = cache.getOrParse("logs", mapping("keyword"));
+    IndexMapping metrics = cache.getOrParse("metrics", mapping("keyword"));
+
+    cache.clusterChanged(
+        event(Map.of("logs", 2L, "metrics", 1L), Map.of("logs", 1L, "metrics", 1L)));
+
+    assertNotSame(logs, cache.getOrParse("logs", mapping("keyword")));
+    assertSame(metrics, cache.getOrParse("metrics", mapping("keyword")));
+  }
+
+  @Test
+  void ignoreClusterChangeWithoutMetadataChange() {
+    IndexMapping logs = cache.getOrParse("logs", mapping("keyword"));
+    ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+    when(event.metadataChanged()).thenReturn(false);
+
+    cache.clusterChanged(event);
+
+    assertSame(logs, cache.getOrParse("logs", mapping("keyword")));
+  }
+
+  private <T> T fail() {
+    throw new IllegalStateException("Cached value expected");
+  }
+
+  private static MappingMetadata mapping(String type) {
+    return new MappingMetadata("_doc", Map.of("properties", Map.of("name", Map.of("type", type))));
+  }
+
+  private static OpenSearchDataType keyword() {
+    return OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword);
+  }
+
+  /** Cluster change event with the mapping version of each index before and after it. */
+  private static ClusterChangedEvent event(
+      Map<String, Long> currentVersions, Map<String, Long> previousVersions) {
+    ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+    when(event.metadataChanged()).thenReturn(true);
+    ClusterState current = state(currentVersions);
+    ClusterState previous = state(previousVersions);
+    when(event.state()).thenReturn(current);
+    when(event.previousState()).thenReturn(previous);
+    return event;
+  }
+
+  private static ClusterState state(Map<String, Long> mappingVersions) {
+    Metadata metadata = mock(Metadata.class);
+    mappingVersions.forEach(
+        (name, version) -> {
+          IndexMetadata index = mock(IndexMetadata.class);
+          when(index.getMappingVersion()).thenReturn(version);
+          when(metadata.index(name)).thenReturn(index);
+        });
+    ClusterState state = mock(ClusterState.class);
+    when(state.metadata()).thenReturn(metadata);
+    return state;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchMemoryBreakerTest {
+
+  @Mock private CircuitBreaker circuitBreaker;
+
+  @Test
+  void reserve() {
+    OpenSearchMemoryBreaker breaker = new OpenSearchMemoryBreaker(circuitBreaker);
+
+    assertTrue(breaker.tryReserve(10L, "sort buffer"));
+    verify(circuitBreaker).addEstimateBytesAndMaybeBreak(10L, "sort buffer");
+  }
+
+  @Test
+  void rejectWhenBreakerTrips() {
+    doThrow(new CircuitBreakingException("tripped", CircuitBreaker.Durability.TRANSIENT))
+        .when(circuitBreaker)
+        .addEstimateBytesAndMaybeBreak(10L, "sort buffer");
+    OpenSearchMemoryBreaker breaker = new OpenSearchMemoryBreaker(circuitBreaker);
+
+    assertFalse(breaker.tryReserve(10L, "sort buffer"));
+  }
+
+  @Test
+  void release() {
+    new OpenSearchMemoryBreaker(circuitBreaker).release(10L);
+
+    verify(circuitBreaker).addWithoutBreaking(-10L);
+  }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.monitor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -76,4 +77,22 @@ class OpenSearchResourceMonitorTest {
     assertTrue(resourceMonitor.isHealthy());
     verify(memoryMonitor, times(2)).isMemoryHealthy(anyLong());
   }
+
+  @Test
+  void memoryBudgetIsHalfOfFreeMemory() {
+    when(memoryMonitor.freeMemory(10L)).thenReturn(100L * 1024 * 1024);
+
+    OpenSearchResourceMonitor resourceMonitor =
+        new OpenSearchResourceMonitor(settings, memoryMonitor);
+    assertEquals(50L * 1024 * 1024, resourceMonitor.getMemoryBudget());
+  }
+
+  @Test
+  void memoryBudgetHasFloor() {
+    when(memoryMonitor.freeMemory(10L)).thenReturn(0L);
+
+    OpenSearchResourceMonitor resourceMonitor =
+        new OpenSearchResourceMonitor(settings, memoryMonitor);
+    assertEquals(16L * 1024 * 1024, resourceMonitor.getMemoryBudget());
+  }
 }
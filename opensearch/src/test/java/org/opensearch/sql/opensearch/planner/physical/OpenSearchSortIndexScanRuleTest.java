@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.planner.physical;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableSort;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.volcano.VolcanoPlanner;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rel.type.RelDataTypeSystem;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.sql.type.SqlTypeFactoryImpl;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.scan.AbstractCalciteIndexScan;
+import org.opensearch.sql.opensearch.storage.scan.CalciteEnumerableIndexScan;
+import org.opensearch.sql.opensearch.storage.scan.context.PushDownContext;
+
+@ExtendWith(MockitoExtension.class)
+public class OpenSearchSortIndexScanRuleTest {
+  static final RelDataTypeFactory typeFactory = new SqlTypeFactoryImpl(RelDataTypeSystem.DEFAULT);
+
+  private final RelOptCluster cluster =
+      RelOptCluster.create(new VolcanoPlanner(), new RexBuilder(typeFactory));
+
+  private final RelDataType schema =
+      typeFactory.builder().add("name", SqlTypeName.VARCHAR).add("age", SqlTypeName.BIGINT).build();
+
+  private final OpenSearchSortIndexScanRule rule =
+      OpenSearchSortIndexScanRule.Config.DEFAULT.toRule();
+
+  @Mock private RelOptTable table;
+  @Mock private OpenSearchIndex osIndex;
+  @Mock private RelOptRuleCall call;
+
+  private CalciteEnumerableIndexScan scan;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(osIndex.getFieldTypes()).thenReturn(Map.of("name", STRING, "age", LONG));
+    scan =
+        new CalciteEnumerableIndexScan(
+            cluster,
+            cluster.traitSetOf(EnumerableConvention.INSTANCE),
+            List.of(),
+            table,
+            osIndex,
+            schema,
+            new PushDownContext(osIndex));
+    when(call.rel(1)).thenReturn(scan);
+  }
+
+  @Test
+  void pushEnumerableSortOnLongField() {
+    when(call.rel(0)).thenReturn(EnumerableSort.create(scan, RelCollations.of(1), null, null));
+
+    rule.onMatch(call);
+
+    verify(call).transformTo(argThat(AbstractCalciteIndexScan.class::isInstance));
+  }
+
+  @Test
+  void keepEnumerableSortOnKeywordField() {
+    // e.g. the sort below a merge join, which would skip rows sorted by UTF-8 bytes
+    when(call.rel(0)).thenReturn(EnumerableSort.create(scan, RelCollations.of(0), null, null));
+
+    rule.onMatch(call);
+
+    verify(call, never()).transformTo(any());
+  }
+
+  @Test
+  void keepEnumerableSortIfAnyFieldIsNotSortedAsCompared() {
+    EnumerableSort sort =
+        EnumerableSort.create(
+            scan,
+            RelCollations.of(new RelFieldCollation(1), new RelFieldCollation(0)),
+            null,
+            null);
+    when(call.rel(0)).thenReturn(sort);
+
+    rule.onMatch(call);
+
+    verify(call, never()).transformTo(any());
+  }
+}
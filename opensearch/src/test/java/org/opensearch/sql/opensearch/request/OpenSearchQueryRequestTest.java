@@ -11,7 +11,9 @@ import static org.opensearch.sql.opensearch.request.OpenSearchRequest.DEFAULT_QU
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.SneakyThrows;
@@ -30,6 +32,11 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
@@ -305,6 +312,56 @@ public class OpenSearchQueryRequestTest {
     assertTrue(request.hasAnotherBatch());
   }
 
+  @Test
+  void search_composite_aggregation_pages() {
+    CompositeAggregationBuilder composite =
+        AggregationBuilders.composite(
+                "composite_buckets", List.of(new TermsValuesSourceBuilder("name").field("name")))
+            .size(2);
+    SearchSourceBuilder source = new SearchSourceBuilder().size(0).aggregation(composite);
+    OpenSearchQueryRequest request =
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"), source, factory, List.of(), true);
+    SearchResponse firstPage = compositePage(Map.of("name", "b"), 2);
+    SearchResponse lastPage = compositePage(null, 1);
+    List<SearchSourceBuilder> sources = new ArrayList<>();
+    Function<SearchRequest, SearchResponse> pagedSearch =
+        searchRequest -> {
+          sources.add(searchRequest.source());
+          return sources.size() == 1 ? firstPage : lastPage;
+        };
+
+    assertTrue(request.hasAnotherBatch());
+    request.search(pagedSearch, scrollAction);
+    assertTrue(request.hasAnotherBatch());
+    request.search(pagedSearch, scrollAction);
+    assertFalse(request.hasAnotherBatch());
+    assertTrue(request.search(pagedSearch, scrollAction).isEmpty());
+
+    assertEquals(2, sources.size());
+    assertSame(source, sources.get(0));
+    assertTrue(sources.get(1).toString().contains("\"after\":{\"name\":\"b\"}"));
+    // the source builder shared with other requests of the plan isn't changed
+    assertFalse(source.toString().contains("\"after\""));
+  }
+
+  @Test
+  void search_composite_aggregation_without_paging() {
+    CompositeAggregationBuilder composite =
+        AggregationBuilders.composite(
+                "composite_buckets", List.of(new TermsValuesSourceBuilder("name").field("name")))
+            .size(2);
+    SearchSourceBuilder source = new SearchSourceBuilder().size(0).aggregation(composite);
+    OpenSearchQueryRequest request =
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"), source, factory, List.of());
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+
+    request.search(searchAction, scrollAction);
+    assertFalse(request.hasAnotherBatch());
+    verify(searchAction, times(1)).apply(any());
+  }
+
   @Test
   void search_withoutContext() {
     OpenSearchQueryRequest request =
@@ -459,6 +516,22 @@ public class OpenSearchQueryRequestTest {
     assertNotNull(request);
   }
 
+  private SearchResponse compositePage(Map<String, Object> afterKey, int bucketCount) {
+    CompositeAggregation page = mock(CompositeAggregation.class);
+    when(page.getName()).thenReturn("composite_buckets");
+    when(page.afterKey()).thenReturn(afterKey);
+    if (afterKey != null) {
+      List<CompositeAggregation.Bucket> buckets = new ArrayList<>();
+      for (int i = 0; i < bucketCount; i++) {
+        buckets.add(mock(CompositeAggregation.Bucket.class));
+      }
+      doReturn(buckets).when(page).getBuckets();
+    }
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getAggregations()).thenReturn(new Aggregations(List.of(page)));
+    return response;
+  }
+
   private void assertSearchRequest(SearchRequest expected, OpenSearchQueryRequest request) {
     Function<SearchRequest, SearchResponse> querySearch =
         searchRequest -> {
@@ -24,6 +24,7 @@ import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.runtime.Hook;
+import org.apache.calcite.sql.fun.SqlLibraryOperators;
 import org.apache.calcite.sql.fun.SqlStdOperatorTable;
 import org.apache.calcite.sql.type.SqlTypeName;
 import org.apache.calcite.util.Holder;
@@ -627,6 +628,88 @@ public class PredicateAnalyzerTest {
         .contains("\"lang\" : \"opensearch_compounded_script\""));
   }
 
+  @Test
+  void regexpContains_keywordField_generatesPrefilteredScript()
+      throws ExpressionNotAnalyzableException {
+    RexNode call =
+        builder.makeCall(
+            SqlLibraryOperators.REGEXP_CONTAINS, field2, builder.makeLiteral("error code \\d+"));
+    Hook.CURRENT_TIME.addThread((Consumer<Holder<Long>>) h -> h.set(0L));
+    QueryBuilder result =
+        PredicateAnalyzer.analyzeExpression(
+                call, schema, fieldTypes, rowType(), cluster, "b.keyword"::equals)
+            .builder();
+
+    assertInstanceOf(BoolQueryBuilder.class, result);
+    List<QueryBuilder> filters = ((BoolQueryBuilder) result).filter();
+    assertEquals(2, filters.size());
+    assertEquals(
+        """
+            {
+              "wildcard" : {
+                "b.keyword" : {
+                  "wildcard" : "*error code *",
+                  "case_insensitive" : true,
+                  "boost" : 1.0
+                }
+              }
+            }""",
+        filters.get(0).toString());
+    assertInstanceOf(ScriptQueryBuilder.class, filters.get(1));
+  }
+
+  @Test
+  void regexpContains_lossyKeywordField_scriptPushDown() throws ExpressionNotAnalyzableException {
+    // The keyword subfield has ignore_above or normalizer, so the wildcard query could filter out
+    // values which the regex matches
+    RexNode call =
+        builder.makeCall(
+            SqlLibraryOperators.REGEXP_CONTAINS, field2, builder.makeLiteral("error code \\d+"));
+    Hook.CURRENT_TIME.addThread((Consumer<Holder<Long>>) h -> h.set(0L));
+    QueryBuilder result =
+        PredicateAnalyzer.analyzeExpression(
+                call, schema, fieldTypes, rowType(), cluster, field -> false)
+            .builder();
+
+    assertInstanceOf(ScriptQueryBuilder.class, result);
+  }
+
+  @Test
+  void regexpContains_withoutLiteral_scriptPushDown() throws ExpressionNotAnalyzableException {
+    RexNode call =
+        builder.makeCall(
+            SqlLibraryOperators.REGEXP_CONTAINS, field2, builder.makeLiteral("(a|b)\\d+"));
+    Hook.CURRENT_TIME.addThread((Consumer<Holder<Long>>) h -> h.set(0L));
+    QueryBuilder result = PredicateAnalyzer.analyze(call, schema, fieldTypes, rowType(), cluster);
+
+    assertInstanceOf(ScriptQueryBuilder.class, result);
+  }
+
+  @Test
+  void notRegexpContains_scriptPushDown() throws ExpressionNotAnalyzableException {
+    RexNode call =
+        builder.makeCall(
+            SqlStdOperatorTable.NOT,
+            builder.makeCall(
+                SqlLibraryOperators.REGEXP_CONTAINS, field2, builder.makeLiteral("error")));
+    Hook.CURRENT_TIME.addThread((Consumer<Holder<Long>>) h -> h.set(0L));
+    QueryBuilder result = PredicateAnalyzer.analyze(call, schema, fieldTypes, rowType(), cluster);
+
+    // Documents without the field mustn't match, so the prefilter isn't negated
+    assertInstanceOf(ScriptQueryBuilder.class, result);
+  }
+
+  private RelDataType rowType() {
+    return builder
+        .getTypeFactory()
+        .builder()
+        .kind(StructKind.FULLY_QUALIFIED)
+        .add("a", builder.getTypeFactory().createSqlType(SqlTypeName.BIGINT))
+        .add("b", builder.getTypeFactory().createSqlType(SqlTypeName.VARCHAR))
+        .add("c", builder.getTypeFactory().createSqlType(SqlTypeName.VARCHAR))
+        .build();
+  }
+
   @Test
   void andOrNot_generatesCompoundQuery() throws ExpressionNotAnalyzableException {
     RexNode call1 = builder.makeCall(SqlStdOperatorTable.EQUALS, field1, numericLiteral);
@@ -113,7 +113,7 @@ class OpenSearchResponseTest {
     when(searchHit2.getSourceAsString()).thenReturn("{\"id1\", 2}");
     when(searchHit1.getInnerHits()).thenReturn(null);
     when(searchHit2.getInnerHits()).thenReturn(null);
-    when(factory.construct(any(), anyBoolean()))
+    when(factory.construct(any(), anyBoolean(), any()))
         .thenReturn(exprTupleValue1)
         .thenReturn(exprTupleValue2);
 
@@ -153,7 +153,7 @@ class OpenSearchResponseTest {
     when(searchHit1.getScore()).thenReturn(3.75F);
     when(searchHit1.getSeqNo()).thenReturn(123456L);
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleHit);
+    when(factory.construct(any(), anyBoolean(), any())).thenReturn(exprTupleHit);
 
     ExprTupleValue exprTupleResponse =
         ExprTupleValue.fromExprValueMap(
@@ -193,7 +193,7 @@ class OpenSearchResponseTest {
 
     when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleHit);
+    when(factory.construct(any(), anyBoolean(), any())).thenReturn(exprTupleHit);
 
     List includes = List.of("id1");
     ExprTupleValue exprTupleResponse =
@@ -228,7 +228,7 @@ class OpenSearchResponseTest {
     when(searchHit1.getScore()).thenReturn(Float.NaN);
     when(searchHit1.getSeqNo()).thenReturn(123456L);
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleHit);
+    when(factory.construct(any(), anyBoolean(), any())).thenReturn(exprTupleHit);
 
     List includes = List.of("id1", "_index", "_id", "_sort", "_score", "_maxscore");
     ExprTupleValue exprTupleResponse =
@@ -261,7 +261,7 @@ class OpenSearchResponseTest {
                 new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleValue1);
+    when(factory.construct(any(), anyBoolean(), any())).thenReturn(exprTupleValue1);
 
     for (ExprValue hit : new OpenSearchResponse(searchResponse, factory, List.of("id1"))) {
       assertEquals(exprTupleValue1, hit);
@@ -327,7 +327,7 @@ class OpenSearchResponseTest {
                 1.0F));
 
     when(searchHit1.getHighlightFields()).thenReturn(highlightMap);
-    when(factory.construct(any(), anyBoolean())).thenReturn(resultTuple);
+    when(factory.construct(any(), anyBoolean(), any())).thenReturn(resultTuple);
 
     for (ExprValue resultHit : new OpenSearchResponse(searchResponse, factory, includes)) {
       var expected =
@@ -159,6 +159,30 @@ class OpenSearchIndexTest {
     }
   }
 
+  @Test
+  void isLosslessKeyword() {
+    Map<String, Object> keyword = Map.of("type", "keyword");
+    Map<String, Object> lossyKeyword = Map.of("type", "keyword", "ignore_above", 256);
+    when(mapping.getFieldMappings())
+        .thenReturn(
+            OpenSearchDataType.parseMapping(
+                Map.of(
+                    "name", keyword,
+                    "code", Map.of("type", "keyword", "normalizer", "lowercase"),
+                    "title", Map.of("type", "text", "fields", Map.of("keyword", keyword)),
+                    "address", Map.of("type", "text", "fields", Map.of("keyword", lossyKeyword)),
+                    "employer", Map.of("properties", Map.of("id", keyword)))));
+    when(client.getIndexMappings("test")).thenReturn(ImmutableMap.of("test", mapping));
+
+    assertTrue(index.isLosslessKeyword("name"));
+    assertTrue(index.isLosslessKeyword("title.keyword"));
+    assertTrue(index.isLosslessKeyword("employer.id"));
+    assertFalse(index.isLosslessKeyword("code"));
+    assertFalse(index.isLosslessKeyword("title"));
+    assertFalse(index.isLosslessKeyword("address.keyword"));
+    assertFalse(index.isLosslessKeyword("unknown"));
+  }
+
   @Test
   void checkCacheUsedForFieldMappings() {
     when(mapping.getFieldMappings())
@@ -0,0 +1,241 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rel.type.RelDataTypeSystem;
+import org.apache.calcite.sql.type.SqlTypeFactoryImpl;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.sql.calcite.plan.RuntimeJoinFilter;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.common.setting.Settings.Key;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType.MappingType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
+import org.opensearch.sql.opensearch.monitor.OpenSearchResourceMonitor;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.scan.context.AggPushDownAction;
+import org.opensearch.sql.opensearch.storage.scan.context.OSRequestBuilderAction;
+import org.opensearch.sql.opensearch.storage.scan.context.PushDownContext;
+import org.opensearch.sql.opensearch.storage.scan.context.PushDownType;
+
+@ExtendWith(MockitoExtension.class)
+public class CalciteEnumerableIndexScanTest {
+  static final RelDataTypeFactory typeFactory = new SqlTypeFactoryImpl(RelDataTypeSystem.DEFAULT);
+
+  private final RelDataType schema =
+      typeFactory
+          .builder()
+          .add("name", SqlTypeName.VARCHAR)
+          .add("age", SqlTypeName.BIGINT)
+          .add("title", SqlTypeName.VARCHAR)
+          .add("balance", SqlTypeName.DOUBLE)
+          .add("projects.id", SqlTypeName.BIGINT)
+          .build();
+
+  /** Row type of a pushed down aggregation, by a long, a keyword and a span of a double field. */
+  private final RelDataType aggSchema =
+      typeFactory
+          .builder()
+          .add("count()", SqlTypeName.BIGINT)
+          .add("age", SqlTypeName.BIGINT)
+          .add("name", SqlTypeName.VARCHAR)
+          .add("span(balance,100)", SqlTypeName.DOUBLE)
+          .build();
+
+  @Mock private RelOptCluster cluster;
+  @Mock private RelOptTable table;
+  @Mock private OpenSearchIndex osIndex;
+  @Mock private Settings settings;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(osIndex.getSettings()).thenReturn(settings);
+    lenient()
+        .when(settings.getSettingValue(Key.CALCITE_JOIN_RUNTIME_FILTER_ENABLED))
+        .thenReturn(true);
+    lenient()
+        .when(osIndex.getFieldTypes())
+        .thenReturn(
+            Map.of(
+                "name", STRING,
+                "age", LONG,
+                "title",
+                    OpenSearchTextType.of(
+                        Map.of("keyword", OpenSearchDataType.of(MappingType.Keyword))),
+                "balance", DOUBLE,
+                "projects", ARRAY,
+                "projects.id", LONG));
+    lenient()
+        .when(osIndex.createRequestBuilder())
+        .thenAnswer(invocation -> new OpenSearchRequestBuilder(null, 10000, settings));
+  }
+
+  @Test
+  void withRuntimeFilterOnNumericField() {
+    assertNotNull(createScan().withRuntimeFilter(1, new RuntimeJoinFilter()));
+  }
+
+  @Test
+  void withRuntimeFilterOnLosslessKeywordField() {
+    when(osIndex.isLosslessKeyword("name")).thenReturn(true);
+    when(osIndex.isLosslessKeyword("title.keyword")).thenReturn(true);
+
+    assertNotNull(createScan().withRuntimeFilter(0, new RuntimeJoinFilter()));
+    assertNotNull(createScan().withRuntimeFilter(2, new RuntimeJoinFilter()));
+  }
+
+  @Test
+  void noRuntimeFilterOnLossyKeywordField() {
+    // e.g. the keyword subfield of dynamic mappings, which has ignore_above 256
+    when(osIndex.isLosslessKeyword("name")).thenReturn(false);
+    when(osIndex.isLosslessKeyword("title.keyword")).thenReturn(false);
+
+    assertNull(createScan().withRuntimeFilter(0, new RuntimeJoinFilter()));
+    assertNull(createScan().withRuntimeFilter(2, new RuntimeJoinFilter()));
+  }
+
+  @Test
+  void noRuntimeFilterIfDisabled() {
+    when(settings.getSettingValue(Key.CALCITE_JOIN_RUNTIME_FILTER_ENABLED)).thenReturn(false);
+
+    assertNull(createScan().withRuntimeFilter(1, new RuntimeJoinFilter()));
+  }
+
+  @Test
+  void runtimeFilterKeepsPushedDownQueryOnEveryEnumeration() {
+    BoolQueryBuilder pushed = boolQuery().filter(termQuery("age", 30));
+    CalciteEnumerableIndexScan scan = createScan();
+    scan.getPushDownContext()
+        .add(
+            PushDownType.FILTER,
+            "age = 30",
+            (OSRequestBuilderAction) requestBuilder -> requestBuilder.pushDownFilter(pushed));
+    RuntimeJoinFilter filter = new RuntimeJoinFilter();
+    RelNode filtered = scan.withRuntimeFilter(1, filter);
+    try (Enumerator<Long> keys =
+        filter.collect(Linq4j.asEnumerable(List.of(1L, 2L)), key -> key).enumerator()) {
+      while (keys.moveNext()) {
+        keys.current();
+      }
+    }
+    when(osIndex.getAliasMapping()).thenReturn(Map.of());
+    when(osIndex.buildRequest(any())).thenReturn(mock(OpenSearchRequest.class));
+    OpenSearchResourceMonitor monitor = mock(OpenSearchResourceMonitor.class);
+    when(monitor.isHealthy()).thenReturn(true);
+    when(osIndex.createOpenSearchResourceMonitor()).thenReturn(monitor);
+
+    // Enumerated twice, e.g. as the input of a nested loop join
+    ((CalciteEnumerableIndexScan) filtered).scan().enumerator();
+    ((CalciteEnumerableIndexScan) filtered).scan().enumerator();
+
+    ArgumentCaptor<OpenSearchRequestBuilder> requests =
+        ArgumentCaptor.forClass(OpenSearchRequestBuilder.class);
+    verify(osIndex, times(2)).buildRequest(requests.capture());
+    for (OpenSearchRequestBuilder request : requests.getAllValues()) {
+      BoolQueryBuilder query =
+          assertInstanceOf(BoolQueryBuilder.class, request.getSourceBuilder().query());
+      assertEquals(List.of(pushed), query.must());
+      assertEquals(1, query.filter().size());
+      assertInstanceOf(TermsQueryBuilder.class, query.filter().get(0));
+    }
+    assertEquals(List.<QueryBuilder>of(termQuery("age", 30)), pushed.filter());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "name, false",
+    "age, true",
+    "title, false",
+    "balance, false",
+    "projects.id, false"
+  })
+  void isSortedAsCompared(String field, boolean sortedAsCompared) {
+    CalciteEnumerableIndexScan scan = createScan();
+    int index = schema.getFieldNames().indexOf(field);
+
+    assertEquals(sortedAsCompared, scan.isSortedAsCompared(List.of(new RelFieldCollation(index))));
+  }
+
+  @ParameterizedTest
+  @CsvSource({"age, true", "name, false", "'span(balance,100)', false"})
+  void isSortedAsComparedByAggregationGroup(String group, boolean sortedAsCompared) {
+    CalciteEnumerableIndexScan scan = createScan(aggSchema);
+    scan.getPushDownContext()
+        .add(
+            PushDownType.AGGREGATION,
+            "aggregation",
+            new AggPushDownAction(Pair.of(List.of(), null), null, List.of()));
+    int index = aggSchema.getFieldNames().indexOf(group);
+
+    assertEquals(sortedAsCompared, scan.isSortedAsCompared(List.of(new RelFieldCollation(index))));
+  }
+
+  @Test
+  void isSortedAsComparedOnlyIfAllFieldsAre() {
+    CalciteEnumerableIndexScan scan = createScan();
+
+    assertFalse(
+        scan.isSortedAsCompared(List.of(new RelFieldCollation(1), new RelFieldCollation(0))));
+  }
+
+  private CalciteEnumerableIndexScan createScan() {
+    return createScan(schema);
+  }
+
+  private CalciteEnumerableIndexScan createScan(RelDataType rowType) {
+    return new CalciteEnumerableIndexScan(
+        cluster,
+        RelTraitSet.createEmpty(),
+        List.of(),
+        table,
+        osIndex,
+        rowType,
+        new PushDownContext(osIndex));
+  }
+}
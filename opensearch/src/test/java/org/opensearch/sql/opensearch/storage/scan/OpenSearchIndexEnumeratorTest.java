@@ -0,0 +1,213 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.monitor.ResourceMonitor;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+class OpenSearchIndexEnumeratorTest {
+
+  private static final int MAX_RESULT_WINDOW = 2;
+
+  private final OpenSearchClient client = mock(OpenSearchClient.class);
+
+  private final OpenSearchRequest request = mock(OpenSearchRequest.class);
+
+  private final ResourceMonitor monitor = mock(ResourceMonitor.class);
+
+  /** Executor which runs tasks only when asked to. */
+  private final List<Runnable> tasks = new ArrayList<>();
+
+  private final Executor executor = tasks::add;
+
+  @BeforeEach
+  void setUp() {
+    when(monitor.isHealthy()).thenReturn(true);
+  }
+
+  @Test
+  void fetchBatchesSynchronouslyWithoutExecutor() {
+    OpenSearchResponse first = response("a", "b");
+    OpenSearchResponse second = response("c");
+    when(client.search(request)).thenReturn(first, second);
+    OpenSearchIndexEnumerator enumerator = enumerator(null, 100);
+
+    assertEquals(List.of("a", "b", "c"), consume(enumerator));
+    verify(client, times(2)).search(request);
+  }
+
+  @Test
+  void prefetchNextBatchWhileConsumingCurrentOne() {
+    OpenSearchResponse first = response("a", "b");
+    OpenSearchResponse second = response("c");
+    when(client.search(request)).thenReturn(first, second);
+    OpenSearchIndexEnumerator enumerator = enumerator(executor, 100);
+
+    assertTrue(enumerator.moveNext());
+    assertEquals("a", enumerator.current());
+    assertEquals(1, tasks.size());
+    verify(client, times(1)).search(request);
+
+    runTasks();
+    verify(client, times(2)).search(request);
+    assertEquals(List.of("b", "c"), consume(enumerator));
+    // The last batch is smaller than the result window, so nothing more is prefetched.
+    assertTrue(tasks.isEmpty());
+    verify(client, times(2)).search(request);
+  }
+
+  @Test
+  void skipPrefetchWhenCurrentBatchReachesResponseSize() {
+    OpenSearchResponse first = response("a", "b");
+    when(client.search(request)).thenReturn(first);
+    OpenSearchIndexEnumerator enumerator = enumerator(executor, 2);
+
+    assertEquals(List.of("a", "b"), consume(enumerator));
+    assertTrue(tasks.isEmpty());
+  }
+
+  @Test
+  void skipPrefetchWhenUnhealthy() {
+    OpenSearchResponse first = response("a", "b");
+    OpenSearchResponse second = response("c");
+    when(client.search(request)).thenReturn(first, second);
+    // Healthy when the enumerator is created and checks the first row, but not for the prefetch.
+    when(monitor.isHealthy()).thenReturn(true, true, false);
+    OpenSearchIndexEnumerator enumerator = enumerator(executor, 100);
+
+    assertTrue(enumerator.moveNext());
+    assertTrue(tasks.isEmpty());
+  }
+
+  @Test
+  void fetchSynchronouslyWhenPrefetchRejected() {
+    OpenSearchResponse first = response("a", "b");
+    OpenSearchResponse second = response("c");
+    when(client.search(request)).thenReturn(first, second);
+    Executor rejecting =
+        task -> {
+          throw new RejectedExecutionException("queue is full");
+        };
+    OpenSearchIndexEnumerator enumerator = enumerator(rejecting, 100);
+
+    assertEquals(List.of("a", "b", "c"), consume(enumerator));
+    verify(client, times(2)).search(request);
+  }
+
+  @Test
+  void propagatePrefetchFailure() {
+    OpenSearchResponse first = response("a", "b");
+    when(client.search(request))
+        .thenReturn(first)
+        .thenThrow(new IllegalStateException("search failed"));
+    OpenSearchIndexEnumerator enumerator = enumerator(executor, 100);
+
+    assertTrue(enumerator.moveNext());
+    runTasks();
+    assertTrue(enumerator.moveNext());
+    IllegalStateException e = assertThrows(IllegalStateException.class, enumerator::moveNext);
+    assertEquals("search failed", e.getMessage());
+  }
+
+  @Test
+  void fetchAggregationPagesUntilLastOne() {
+    OpenSearchResponse first = aggregationResponse("a", "b");
+    OpenSearchResponse second = aggregationResponse("c");
+    when(client.search(request)).thenReturn(first, second);
+    when(request.hasAnotherBatch()).thenReturn(true, false);
+    OpenSearchIndexEnumerator enumerator = enumerator(null, 100);
+
+    assertEquals(List.of("a", "b", "c"), consume(enumerator));
+    verify(client, times(2)).search(request);
+  }
+
+  @Test
+  void fetchAggregationOnceWithoutAnotherPage() {
+    OpenSearchResponse first = aggregationResponse("a", "b");
+    when(client.search(request)).thenReturn(first);
+    OpenSearchIndexEnumerator enumerator = enumerator(null, 100);
+
+    assertEquals(List.of("a", "b"), consume(enumerator));
+    verify(client, times(1)).search(request);
+  }
+
+  @Test
+  void closeWaitsForPrefetchBeforeCleanup() {
+    OpenSearchResponse first = response("a", "b");
+    OpenSearchResponse second = response("c");
+    when(client.search(request)).thenReturn(first, second);
+    OpenSearchIndexEnumerator enumerator = enumerator(Runnable::run, 100);
+
+    assertTrue(enumerator.moveNext());
+    verify(client, times(2)).search(request);
+    enumerator.close();
+    verify(client).forceCleanup(request);
+    verify(client, times(2)).search(request);
+  }
+
+  private OpenSearchIndexEnumerator enumerator(Executor prefetchExecutor, int maxResponseSize) {
+    return new OpenSearchIndexEnumerator(
+        client,
+        List.of("name"),
+        maxResponseSize,
+        MAX_RESULT_WINDOW,
+        request,
+        monitor,
+        prefetchExecutor);
+  }
+
+  private void runTasks() {
+    List<Runnable> pending = new ArrayList<>(tasks);
+    tasks.clear();
+    pending.forEach(Runnable::run);
+  }
+
+  private List<Object> consume(OpenSearchIndexEnumerator enumerator) {
+    List<Object> names = new ArrayList<>();
+    while (enumerator.moveNext()) {
+      names.add(enumerator.current());
+      runTasks();
+    }
+    return names;
+  }
+
+  private static OpenSearchResponse response(String... names) {
+    List<ExprValue> hits =
+        Arrays.stream(names).map(name -> tupleValue(Map.of("name", name))).toList();
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.getHitsSize()).thenReturn(hits.size());
+    when(response.isEmpty()).thenReturn(hits.isEmpty());
+    when(response.iterator()).thenAnswer(invocation -> hits.iterator());
+    return response;
+  }
+
+  private static OpenSearchResponse aggregationResponse(String... names) {
+    OpenSearchResponse response = response(names);
+    when(response.getHitsSize()).thenReturn(0);
+    when(response.isAggregationResponse()).thenReturn(true);
+    return response;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.calcite.rel.type.RelDataType;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.opensearch.storage.script.CompiledScriptCache.CompiledScript;
+
+class CompiledScriptCacheTest {
+
+  @Test
+  void reuseCompiledScriptForSameCode() {
+    CompiledScriptCache cache = new CompiledScriptCache(10);
+    AtomicInteger compilations = new AtomicInteger();
+
+    CompiledScript first = cache.getOrCompile("code", () -> compile(compilations));
+    CompiledScript second = cache.getOrCompile("code", () -> compile(compilations));
+    CompiledScript other = cache.getOrCompile("other code", () -> compile(compilations));
+
+    assertSame(first, second);
+    assertNotSame(first, other);
+    assertEquals(2, compilations.get());
+    assertEquals(1, cache.stats().hitCount());
+    assertEquals(2, cache.stats().missCount());
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  void evictWhenExceedMaximumSize() {
+    CompiledScriptCache cache = new CompiledScriptCache(1);
+    cache.getOrCompile("code1", () -> compile(new AtomicInteger()));
+    cache.getOrCompile("code2", () -> compile(new AtomicInteger()));
+
+    assertEquals(1, cache.size());
+    assertEquals(1, cache.stats().evictionCount());
+  }
+
+  @Test
+  void compileEveryTimeWhenDisabled() {
+    CompiledScriptCache cache = new CompiledScriptCache(10);
+    cache.getOrCompile("code", () -> compile(new AtomicInteger()));
+    cache.resize(0);
+    AtomicInteger compilations = new AtomicInteger();
+
+    cache.getOrCompile("code", () -> compile(compilations));
+    cache.getOrCompile("code", () -> compile(compilations));
+
+    assertEquals(2, compilations.get());
+    assertEquals(0, cache.size());
+    assertEquals(1, cache.stats().missCount());
+  }
+
+  @Test
+  void propagateCompilationFailure() {
+    CompiledScriptCache cache = new CompiledScriptCache(10);
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            cache.getOrCompile(
+                "code",
+                () -> {
+                  throw new IllegalArgumentException("bad script");
+                }));
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            cache.getOrCompile(
+                "code",
+                () -> {
+                  throw new Exception("checked");
+                }));
+  }
+
+  private static CompiledScript compile(AtomicInteger compilations) {
+    compilations.incrementAndGet();
+    return new CompiledScript(dataContext -> new Object[0], mock(RelDataType.class));
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.function.Function1;
+import org.junit.jupiter.api.Test;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.search.lookup.SourceLookup;
+import org.opensearch.sql.opensearch.storage.script.CalciteScriptEngine.ScriptDataContext;
+
+class CalciteScriptTest {
+
+  private final Map<String, ScriptDocValues<?>> docProvider = new HashMap<>();
+
+  private final SourceLookup sourceLookup = mock(SourceLookup.class);
+
+  @Test
+  void reuseDataContextForEveryDocument() {
+    List<DataContext> contexts = new ArrayList<>();
+    CalciteScript script =
+        script(
+            root -> {
+              contexts.add(root);
+              return new Object[] {root.get("age")};
+            });
+
+    docProvider.put("age", docValue(30L));
+    assertEquals(30L, script.evaluate());
+    docProvider.put("age", docValue(40L));
+    script.clearCache();
+    assertEquals(40L, script.evaluate());
+
+    assertEquals(2, contexts.size());
+    assertSame(contexts.get(0), contexts.get(1));
+  }
+
+  @Test
+  void readFieldOncePerDocument() {
+    ScriptDocValues<?> age = docValue(30L);
+    docProvider.put("age", age);
+    when(sourceLookup.get("message")).thenReturn("hello");
+    CalciteScript script =
+        script(
+            root -> {
+              ScriptDataContext context = (ScriptDataContext) root;
+              return new Object[] {
+                List.of(
+                    root.get("age"),
+                    root.get("age"),
+                    context.getFromSource("message"),
+                    context.getFromSource("message"))
+              };
+            });
+
+    assertEquals(List.of(30L, 30L, "hello", "hello"), script.evaluate());
+    verify(age, times(1)).get(0);
+    verify(sourceLookup, times(1)).get("message");
+
+    script.clearCache();
+    script.evaluate();
+    verify(age, times(2)).get(0);
+    verify(sourceLookup, times(2)).get("message");
+  }
+
+  @Test
+  void cacheMissingField() {
+    CalciteScript script = script(root -> new Object[] {root.get("missing")});
+
+    assertNull(script.evaluate());
+    docProvider.put("missing", docValue(1L));
+    assertNull(script.evaluate());
+  }
+
+  @Test
+  void testPredicate() {
+    assertTrue(script(root -> new Object[] {true}).test());
+    assertFalse(script(root -> new Object[] {false}).test());
+    assertFalse(script(root -> new Object[] {null}).test());
+  }
+
+  private CalciteScript script(Function1<DataContext, Object[]> function) {
+    return new CalciteScript(function, Map.of(), docProvider, sourceLookup);
+  }
+
+  private static ScriptDocValues<?> docValue(Object value) {
+    ScriptDocValues<?> docValue = mock(ScriptDocValues.class);
+    when(docValue.isEmpty()).thenReturn(false);
+    when(docValue.get(0)).thenAnswer(invocation -> value);
+    return docValue;
+  }
+}
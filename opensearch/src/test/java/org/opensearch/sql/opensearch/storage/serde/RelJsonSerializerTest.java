@@ -8,15 +8,22 @@ package org.opensearch.sql.opensearch.storage.serde;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamConstants;
+import java.util.Base64;
 import java.util.Map;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.volcano.VolcanoPlanner;
+import org.apache.calcite.rel.externalize.RelJson;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.StructKind;
 import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.sql.fun.SqlLibraryOperators;
 import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.JsonBuilder;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -100,6 +107,83 @@ public class RelJsonSerializerTest {
     assertEquals(fieldTypesWithUDT, objects.get(RelJsonSerializer.FIELD_TYPES));
   }
 
+  @Test
+  void testSerializeInVersionedBinaryFormat() {
+    RexNode rexUpper =
+        PPLFuncImpTable.INSTANCE.resolve(
+            rexBuilder,
+            BuiltinFunctionName.UPPER,
+            rexBuilder.makeInputRef(rowType.getFieldList().get(0).getType(), 0));
+
+    byte[] bytes;
+    RelJsonSerializer.setCompactFormat(true);
+    try {
+      bytes = Base64.getDecoder().decode(serializer.serialize(rexUpper, rowType, fieldTypes));
+    } finally {
+      RelJsonSerializer.setCompactFormat(false);
+    }
+
+    assertEquals(RelJsonSerializer.FORMAT_MAGIC, bytes[0]);
+    assertEquals(RelJsonSerializer.FORMAT_VERSION, bytes[1]);
+    Map<String, Object> objects = serializer.deserialize(Base64.getEncoder().encodeToString(bytes));
+    assertEquals(rexUpper, objects.get(RelJsonSerializer.EXPR));
+    assertEquals(rowType, objects.get(RelJsonSerializer.ROW_TYPE));
+    assertEquals(fieldTypes, objects.get(RelJsonSerializer.FIELD_TYPES));
+  }
+
+  @Test
+  void testSerializeInJavaSerializationFormatByDefault() {
+    RexNode rexUpper =
+        PPLFuncImpTable.INSTANCE.resolve(
+            rexBuilder,
+            BuiltinFunctionName.UPPER,
+            rexBuilder.makeInputRef(rowType.getFieldList().get(0).getType(), 0));
+
+    byte[] bytes = Base64.getDecoder().decode(serializer.serialize(rexUpper, rowType, fieldTypes));
+
+    assertEquals((byte) (ObjectStreamConstants.STREAM_MAGIC >>> 8), bytes[0]);
+    assertEquals((byte) ObjectStreamConstants.STREAM_MAGIC, bytes[1]);
+  }
+
+  @Test
+  void testDeserializeLegacyJavaSerializedScript() throws IOException {
+    RexNode rexUpper =
+        PPLFuncImpTable.INSTANCE.resolve(
+            rexBuilder,
+            BuiltinFunctionName.UPPER,
+            rexBuilder.makeInputRef(rowType.getFieldList().get(0).getType(), 0));
+    JsonBuilder jsonBuilder = new JsonBuilder();
+    RelJson relJson = ExtendedRelJson.create(jsonBuilder);
+    Map<String, Object> envelope =
+        Map.of(
+            RelJsonSerializer.EXPR,
+            jsonBuilder.toJsonString(relJson.toJson(rexUpper)),
+            RelJsonSerializer.FIELD_TYPES,
+            fieldTypes,
+            RelJsonSerializer.ROW_TYPE,
+            jsonBuilder.toJsonString(relJson.toJson(rowType)));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+      objectOutput.writeObject(envelope);
+    }
+
+    Map<String, Object> objects =
+        serializer.deserialize(Base64.getEncoder().encodeToString(output.toByteArray()));
+
+    assertEquals(rexUpper, objects.get(RelJsonSerializer.EXPR));
+    assertEquals(rowType, objects.get(RelJsonSerializer.ROW_TYPE));
+    assertEquals(fieldTypes, objects.get(RelJsonSerializer.FIELD_TYPES));
+  }
+
+  @Test
+  void testDeserializeUnsupportedFormatVersion() {
+    byte[] bytes = {RelJsonSerializer.FORMAT_MAGIC, RelJsonSerializer.FORMAT_VERSION + 1};
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> serializer.deserialize(Base64.getEncoder().encodeToString(bytes)));
+  }
+
   @Test
   void testSerializeUnsupportedRexNode() {
     RexNode illegalRex = rexBuilder.makeRangeReference(rowType, 0, true);
@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.executor.ColumnarRows;
+
+class JdbcColumnarReaderTest {
+
+  private final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+
+  private final ResultSet resultSet = mock(ResultSet.class);
+
+  private List<RelDataType> fieldTypes;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    when(metaData.getColumnCount()).thenReturn(4);
+    when(metaData.getColumnName(1)).thenReturn("name");
+    when(metaData.getColumnType(1)).thenReturn(Types.VARCHAR);
+    when(metaData.getColumnName(2)).thenReturn("age");
+    when(metaData.getColumnType(2)).thenReturn(Types.INTEGER);
+    when(metaData.getColumnName(3)).thenReturn("balance");
+    when(metaData.getColumnType(3)).thenReturn(Types.DOUBLE);
+    when(metaData.getColumnName(4)).thenReturn("birthday");
+    when(metaData.getColumnType(4)).thenReturn(Types.DATE);
+    fieldTypes =
+        List.of(
+            fieldType(SqlTypeName.VARCHAR),
+            fieldType(SqlTypeName.INTEGER),
+            fieldType(SqlTypeName.DOUBLE),
+            fieldType(SqlTypeName.DATE));
+  }
+
+  @Test
+  void readRows() throws SQLException {
+    when(resultSet.getString(1)).thenReturn("John", "Allen");
+    when(resultSet.getInt(2)).thenReturn(20, 0);
+    when(resultSet.getDouble(3)).thenReturn(1.5, 2.5);
+    when(resultSet.wasNull()).thenReturn(false, false, true, false);
+    when(resultSet.getObject(4)).thenReturn("2020-01-01", null);
+    when(resultSet.getString(4)).thenReturn("2020-01-01");
+
+    JdbcColumnarReader reader = new JdbcColumnarReader(metaData, fieldTypes);
+    reader.readRow(resultSet);
+    reader.readRow(resultSet);
+
+    ColumnarRows rows = reader.getRows();
+    assertEquals(List.of("name", "age", "balance", "birthday"), rows.getColumnNames());
+    assertEquals(2, rows.size());
+    assertArrayEquals(
+        new Object[] {"John", 20, 1.5, new ExprDateValue("2020-01-01").value()},
+        rows.rowValues(0));
+    assertArrayEquals(new Object[] {"Allen", null, 2.5, null}, rows.rowValues(1));
+    assertEquals(integerValue(20), rows.getValue(0, 1));
+    assertEquals(ExprNullValue.of(), rows.getValue(1, 3));
+  }
+
+  @Test
+  void resolveMetadataOnce() throws SQLException {
+    when(resultSet.getString(1)).thenReturn("John");
+    when(resultSet.getObject(4)).thenReturn(null);
+
+    JdbcColumnarReader reader = new JdbcColumnarReader(metaData, fieldTypes);
+    for (int i = 0; i < 10; i++) {
+      reader.readRow(resultSet);
+    }
+
+    assertEquals(10, reader.getRows().size());
+    verify(metaData, times(1)).getColumnName(1);
+    verify(metaData, times(1)).getColumnType(1);
+  }
+
+  private static RelDataType fieldType(SqlTypeName typeName) {
+    RelDataType fieldType = mock(RelDataType.class);
+    when(fieldType.getSqlTypeName()).thenReturn(typeName);
+    return fieldType;
+  }
+}
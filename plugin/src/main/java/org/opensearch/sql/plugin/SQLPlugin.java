@@ -5,7 +5,6 @@
 
 package org.opensearch.sql.plugin;
 
-import static java.util.Collections.singletonList;
 import static org.opensearch.sql.datasource.model.DataSourceMetadata.defaultOpenSearchDataSourceMetadata;
 import static org.opensearch.sql.spark.data.constants.SparkConstants.SPARK_REQUEST_BUFFER_INDEX_NAME;
 
@@ -36,15 +35,18 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.indices.SystemIndexDescriptor;
+import org.opensearch.indices.breaker.BreakerSettings;
 import org.opensearch.jobscheduler.spi.JobSchedulerExtension;
 import org.opensearch.jobscheduler.spi.ScheduledJobParser;
 import org.opensearch.jobscheduler.spi.ScheduledJobRunner;
 import org.opensearch.plugins.ActionPlugin;
+import org.opensearch.plugins.CircuitBreakerPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.ScriptPlugin;
 import org.opensearch.plugins.SystemIndexPlugin;
@@ -54,6 +56,9 @@ import org.opensearch.rest.RestHandler;
 import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
 import org.opensearch.script.ScriptService;
+import org.opensearch.sql.calcite.utils.CompiledPlanCache;
+import org.opensearch.sql.common.setting.Settings.Key;
+import org.opensearch.sql.common.utils.ResizableCache;
 import org.opensearch.sql.datasource.DataSourceService;
 import org.opensearch.sql.datasources.auth.DataSourceUserAuthorizationHelper;
 import org.opensearch.sql.datasources.auth.DataSourceUserAuthorizationHelperImpl;
@@ -86,13 +91,22 @@ import org.opensearch.sql.directquery.transport.model.ReadDirectQueryResourcesAc
 import org.opensearch.sql.directquery.transport.model.WriteDirectQueryResourcesActionResponse;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
+import org.opensearch.sql.legacy.metrics.GaugeMetric;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.plugin.RestSqlAction;
 import org.opensearch.sql.legacy.plugin.RestSqlStatsAction;
+import org.opensearch.sql.monitor.QueryMemoryAccountant;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
+import org.opensearch.sql.opensearch.executor.QueryAdmissionController;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
+import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryBreaker;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.OpenSearchDataSourceFactory;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexEnumerator;
+import org.opensearch.sql.opensearch.storage.script.CompiledScriptCache;
 import org.opensearch.sql.opensearch.storage.script.CompoundedScriptEngine;
+import org.opensearch.sql.opensearch.storage.serde.RelJsonSerializer;
+import org.opensearch.sql.planner.physical.spill.SpillableHashJoin;
 import org.opensearch.sql.plugin.config.OpenSearchPluginModule;
 import org.opensearch.sql.plugin.rest.RestPPLQueryAction;
 import org.opensearch.sql.plugin.rest.RestPPLStatsAction;
@@ -125,7 +139,11 @@ import org.opensearch.transport.client.node.NodeClient;
 import org.opensearch.watcher.ResourceWatcherService;
 
 public class SQLPlugin extends Plugin
-    implements ActionPlugin, ScriptPlugin, SystemIndexPlugin, JobSchedulerExtension {
+    implements ActionPlugin,
+        ScriptPlugin,
+        SystemIndexPlugin,
+        JobSchedulerExtension,
+        CircuitBreakerPlugin {
 
   private static final Logger LOGGER = LogManager.getLogger(SQLPlugin.class);
 
@@ -160,6 +178,7 @@ public class SQLPlugin extends Plugin
     Objects.requireNonNull(pluginSettings, "Cluster settings is required");
 
     Metrics.getInstance().registerDefaultMetrics();
+    registerQueryEngineMetrics();
 
     return Arrays.asList(
         new RestPPLQueryAction(),
@@ -249,6 +268,14 @@ public class SQLPlugin extends Plugin
     LocalClusterState.state().setClusterService(clusterService);
     LocalClusterState.state().setPluginSettings((OpenSearchSettings) pluginSettings);
     LocalClusterState.state().setClient(client);
+    configureCompiledPlanCache();
+    configureCompiledScriptCache();
+    configureScriptFormat();
+    configureIndexMappingCache();
+    configureJoinMemoryBudget();
+    // Queries may weigh as much in total as there are workers
+    int workers = OpenSearchExecutors.allocatedProcessors(clusterService.getSettings());
+    QueryAdmissionController.getInstance().configure(threadPool, workers);
     ModulesBuilder modules = new ModulesBuilder();
     modules.add(new OpenSearchPluginModule());
     modules.add(
@@ -315,15 +342,38 @@ public class SQLPlugin extends Plugin
 
   @Override
   public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
-    return singletonList(
+    return List.of(
         new FixedExecutorBuilder(
             settings,
             AsyncRestExecutor.SQL_WORKER_THREAD_POOL_NAME,
             OpenSearchExecutors.allocatedProcessors(settings),
             1000,
+            null),
+        // Separate from the worker pool, since workers block on the batches prefetched here.
+        new FixedExecutorBuilder(
+            settings,
+            OpenSearchIndexEnumerator.PREFETCH_THREAD_POOL_NAME,
+            OpenSearchExecutors.allocatedProcessors(settings),
+            1000,
             null));
   }
 
+  /** Circuit breaker which the memory held by the running queries is accounted in. */
+  @Override
+  public BreakerSettings getCircuitBreaker(Settings settings) {
+    return new BreakerSettings(
+        OpenSearchMemoryBreaker.BREAKER_NAME,
+        OpenSearchSettings.QUERY_MEMORY_BREAKER_LIMIT_SETTING.get(settings).getBytes(),
+        1.0,
+        CircuitBreaker.Type.MEMORY,
+        CircuitBreaker.Durability.TRANSIENT);
+  }
+
+  @Override
+  public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+    QueryMemoryAccountant.setNodeBreaker(new OpenSearchMemoryBreaker(circuitBreaker));
+  }
+
   @Override
   public List<Setting<?>> getSettings() {
     return new ImmutableList.Builder<Setting<?>>()
@@ -337,6 +387,99 @@ public class SQLPlugin extends Plugin
     return new CompoundedScriptEngine();
   }
 
+  /** Keep the node level compiled plan cache in sync with its dynamic setting. */
+  private void configureCompiledPlanCache() {
+    CompiledPlanCache.getInstance()
+        .resize(pluginSettings.getSettingValue(Key.CALCITE_PLAN_CACHE_SIZE));
+    clusterService
+        .getClusterSettings()
+        .addSettingsUpdateConsumer(
+            OpenSearchSettings.CALCITE_PLAN_CACHE_SIZE_SETTING,
+            CompiledPlanCache.getInstance()::resize);
+  }
+
+  private void configureCompiledScriptCache() {
+    CompiledScriptCache.getInstance()
+        .resize(pluginSettings.getSettingValue(Key.CALCITE_SCRIPT_CACHE_SIZE));
+    clusterService
+        .getClusterSettings()
+        .addSettingsUpdateConsumer(
+            OpenSearchSettings.CALCITE_SCRIPT_CACHE_SIZE_SETTING,
+            CompiledScriptCache.getInstance()::resize);
+  }
+
+  /** Keep the encoding of pushed down scripts in sync with its dynamic setting. */
+  private void configureScriptFormat() {
+    RelJsonSerializer.setCompactFormat(
+        pluginSettings.getSettingValue(Key.CALCITE_SCRIPT_COMPACT_FORMAT_ENABLED));
+    clusterService
+        .getClusterSettings()
+        .addSettingsUpdateConsumer(
+            OpenSearchSettings.CALCITE_SCRIPT_COMPACT_FORMAT_ENABLED_SETTING,
+            RelJsonSerializer::setCompactFormat);
+  }
+
+  /** Keep the node level index mapping cache in sync with its setting and the cluster state. */
+  private void configureIndexMappingCache() {
+    IndexMappingCache.getInstance()
+        .resize(pluginSettings.getSettingValue(Key.MAPPING_CACHE_MAX_FIELDS));
+    clusterService
+        .getClusterSettings()
+        .addSettingsUpdateConsumer(
+            OpenSearchSettings.MAPPING_CACHE_MAX_FIELDS_SETTING,
+            IndexMappingCache.getInstance()::resize);
+    clusterService.addListener(IndexMappingCache.getInstance()::clusterChanged);
+  }
+
+  /** Keep the memory budget of the spillable hash joins in sync with its dynamic setting. */
+  private void configureJoinMemoryBudget() {
+    SpillableHashJoin.setMemoryBudget(
+        OpenSearchSettings.CALCITE_JOIN_MEMORY_BUDGET_SETTING
+            .get(clusterService.getSettings())
+            .getBytes());
+    clusterService
+        .getClusterSettings()
+        .addSettingsUpdateConsumer(
+            OpenSearchSettings.CALCITE_JOIN_MEMORY_BUDGET_SETTING,
+            budget -> SpillableHashJoin.setMemoryBudget(budget.getBytes()));
+  }
+
+  /** Register gauges of node level query engine components to the stats endpoints. */
+  private void registerQueryEngineMetrics() {
+    registerCacheMetrics("calcite_plan_cache", CompiledPlanCache.getInstance());
+    registerCacheMetrics("calcite_script_cache", CompiledScriptCache.getInstance());
+    registerCacheMetrics("index_mapping_cache", IndexMappingCache.getInstance());
+
+    QueryAdmissionController admission = QueryAdmissionController.getInstance();
+    Metrics.getInstance()
+        .registerMetric(
+            new GaugeMetric<>("query_admission_running_cost", admission::getRunningCost));
+    Metrics.getInstance()
+        .registerMetric(new GaugeMetric<>("query_admission_queued", admission::getQueuedCount));
+    Metrics.getInstance()
+        .registerMetric(
+            new GaugeMetric<>("query_admission_admitted_count", admission::getAdmittedCount));
+    Metrics.getInstance()
+        .registerMetric(
+            new GaugeMetric<>(
+                "query_admission_queued_total_count", admission::getQueuedTotalCount));
+    Metrics.getInstance()
+        .registerMetric(
+            new GaugeMetric<>("query_admission_queue_time_millis", admission::getQueueTimeMillis));
+  }
+
+  /** Register the hit, miss and eviction counts and the size of a cache as gauges. */
+  private static void registerCacheMetrics(String prefix, ResizableCache<?, ?> cache) {
+    Metrics.getInstance()
+        .registerMetric(new GaugeMetric<>(prefix + "_hit_count", () -> cache.stats().hitCount()));
+    Metrics.getInstance()
+        .registerMetric(new GaugeMetric<>(prefix + "_miss_count", () -> cache.stats().missCount()));
+    Metrics.getInstance()
+        .registerMetric(
+            new GaugeMetric<>(prefix + "_eviction_count", () -> cache.stats().evictionCount()));
+    Metrics.getInstance().registerMetric(new GaugeMetric<>(prefix + "_size", cache::size));
+  }
+
   private DataSourceServiceImpl createDataSourceService() {
     String masterKey =
         OpenSearchSettings.DATASOURCE_MASTER_SECRET_KEY.get(clusterService.getSettings());
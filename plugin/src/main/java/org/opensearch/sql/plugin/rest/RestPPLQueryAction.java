@@ -17,6 +17,7 @@ import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.OpenSearchException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.IndexNotFoundException;
@@ -86,47 +87,57 @@ public class RestPPLQueryAction extends BaseRestHandler {
     TransportPPLQueryRequest transportPPLQueryRequest =
         new TransportPPLQueryRequest(PPLQueryRequestFactory.getPPLRequest(request));
 
-    return channel ->
-        nodeClient.execute(
-            PPLQueryAction.INSTANCE,
-            transportPPLQueryRequest,
-            new ActionListener<>() {
-              @Override
-              public void onResponse(TransportPPLQueryResponse response) {
+    return channel -> {
+      // the query result may be encoded right into the output of the channel while it's produced,
+      // bytesOutput() resets the output, so it's only called once
+      BytesStreamOutput output = channel.bytesOutput();
+      transportPPLQueryRequest.responseOutput(output);
+      nodeClient.execute(
+          PPLQueryAction.INSTANCE,
+          transportPPLQueryRequest,
+          new ActionListener<>() {
+            @Override
+            public void onResponse(TransportPPLQueryResponse response) {
+              if (response.isStreamed()) {
+                channel.sendResponse(
+                    new BytesRestResponse(OK, response.getContentType(), output.bytes()));
+              } else {
                 sendResponse(channel, OK, response.getContentType(), response.getResult());
               }
+            }
 
-              @Override
-              public void onFailure(Exception e) {
-                if (transportPPLQueryRequest.isExplainRequest()) {
-                  LOG.error("Error happened during explain", e);
-                  if (isClientError(e)) {
-                    reportError(channel, e, BAD_REQUEST);
-                  } else {
-                    reportError(channel, e, INTERNAL_SERVER_ERROR);
-                  }
-                } else if (e instanceof OpenSearchException) {
+            @Override
+            public void onFailure(Exception e) {
+              if (transportPPLQueryRequest.isExplainRequest()) {
+                LOG.error("Error happened during explain", e);
+                if (isClientError(e)) {
+                  reportError(channel, e, BAD_REQUEST);
+                } else {
+                  reportError(channel, e, INTERNAL_SERVER_ERROR);
+                }
+              } else if (e instanceof OpenSearchException) {
+                Metrics.getInstance()
+                    .getNumericalMetric(MetricName.PPL_FAILED_REQ_COUNT_CUS)
+                    .increment();
+                OpenSearchException exception = (OpenSearchException) e;
+                reportError(channel, exception, exception.status());
+              } else {
+                LOG.error("Error happened during query handling", e);
+                if (isClientError(e)) {
                   Metrics.getInstance()
                       .getNumericalMetric(MetricName.PPL_FAILED_REQ_COUNT_CUS)
                       .increment();
-                  OpenSearchException exception = (OpenSearchException) e;
-                  reportError(channel, exception, exception.status());
+                  reportError(channel, e, BAD_REQUEST);
                 } else {
-                  LOG.error("Error happened during query handling", e);
-                  if (isClientError(e)) {
-                    Metrics.getInstance()
-                        .getNumericalMetric(MetricName.PPL_FAILED_REQ_COUNT_CUS)
-                        .increment();
-                    reportError(channel, e, BAD_REQUEST);
-                  } else {
-                    Metrics.getInstance()
-                        .getNumericalMetric(MetricName.PPL_FAILED_REQ_COUNT_SYS)
-                        .increment();
-                    reportError(channel, e, INTERNAL_SERVER_ERROR);
-                  }
+                  Metrics.getInstance()
+                      .getNumericalMetric(MetricName.PPL_FAILED_REQ_COUNT_SYS)
+                      .increment();
+                  reportError(channel, e, INTERNAL_SERVER_ERROR);
                 }
               }
-            });
+            }
+          });
+    };
   }
 
   private void sendResponse(
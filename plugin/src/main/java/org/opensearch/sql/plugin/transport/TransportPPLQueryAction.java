@@ -10,6 +10,10 @@ import static org.opensearch.sql.executor.ExecutionEngine.ExplainResponse.normal
 import static org.opensearch.sql.lang.PPLLangSpec.PPL_SPEC;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -25,9 +29,12 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.common.utils.QueryContext;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.datasource.DataSourceService;
 import org.opensearch.sql.datasources.service.DataSourceServiceImpl;
+import org.opensearch.sql.executor.ChunkedResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.opensearch.security.SecurityAccess;
@@ -117,7 +124,7 @@ public class TransportPPLQueryAction
     } else {
       pplService.execute(
           transformedRequest,
-          createListener(transformedRequest, listener),
+          createListener(transformedRequest, transportRequest.responseOutput(), listener),
           createExplainResponseListener(transformedRequest, listener));
     }
   }
@@ -164,7 +171,9 @@ public class TransportPPLQueryAction
   }
 
   private ResponseListener<ExecutionEngine.QueryResponse> createListener(
-      PPLQueryRequest pplRequest, ActionListener<TransportPPLQueryResponse> listener) {
+      PPLQueryRequest pplRequest,
+      OutputStream responseOutput,
+      ActionListener<TransportPPLQueryResponse> listener) {
     Format format = format(pplRequest);
     ResponseFormatter<QueryResult> formatter;
     if (format.equals(Format.CSV)) {
@@ -174,7 +183,10 @@ public class TransportPPLQueryAction
     } else if (format.equals(Format.VIZ)) {
       formatter = new VisualizationResponseFormatter(pplRequest.style());
     } else {
-      formatter = new SimpleJsonResponseFormatter(JsonResponseFormatter.Style.PRETTY);
+      return createChunkedJsonListener(
+          new SimpleJsonResponseFormatter(JsonResponseFormatter.Style.PRETTY),
+          responseOutput,
+          listener);
     }
 
     return new ResponseListener<ExecutionEngine.QueryResponse>() {
@@ -194,6 +206,59 @@ public class TransportPPLQueryAction
     };
   }
 
+  /**
+   * JSON rows are encoded as soon as a chunk is produced, so the execution engine doesn't hold the
+   * {@link ExprValue}s of the whole result until formatting. The rows are written to the output of
+   * the REST channel if the request has one, and to the response otherwise. Other formats still
+   * receive the complete result.
+   */
+  private ResponseListener<ExecutionEngine.QueryResponse> createChunkedJsonListener(
+      SimpleJsonResponseFormatter formatter,
+      OutputStream responseOutput,
+      ActionListener<TransportPPLQueryResponse> listener) {
+    ByteArrayOutputStream buffer = responseOutput == null ? new ByteArrayOutputStream() : null;
+    SimpleJsonResponseFormatter.ChunkedWriter writer =
+        formatter.chunkedWriter(PPL_SPEC, responseOutput == null ? buffer : responseOutput);
+    int chunkSize =
+        injector.getInstance(Settings.class).getSettingValue(Settings.Key.PPL_RESPONSE_CHUNK_SIZE);
+    return new ChunkedResponseListener() {
+      @Override
+      public int getChunkSize() {
+        return chunkSize;
+      }
+
+      @Override
+      public void onChunk(ExecutionEngine.Schema schema, List<ExprValue> rows) {
+        writer.write(schema, rows);
+      }
+
+      @Override
+      public void onComplete(ExecutionEngine.Schema schema, Cursor cursor) {
+        writer.finish(schema);
+        if (buffer == null) {
+          listener.onResponse(TransportPPLQueryResponse.streamed());
+        } else {
+          listener.onResponse(
+              new TransportPPLQueryResponse(buffer.toString(StandardCharsets.UTF_8)));
+        }
+      }
+
+      @Override
+      public void onResponse(ExecutionEngine.QueryResponse response) {
+        String responseContent =
+            formatter.format(
+                new QueryResult(
+                    response.getSchema(), response.getResults(), response.getCursor(), PPL_SPEC));
+        listener.onResponse(new TransportPPLQueryResponse(responseContent));
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        listener.onFailure(e);
+      }
+    };
+  }
+
   private Format format(PPLQueryRequest pplRequest) {
     String format = pplRequest.getFormat();
     Optional<Format> optionalFormat = Format.of(format);
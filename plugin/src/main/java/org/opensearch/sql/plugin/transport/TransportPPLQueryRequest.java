@@ -8,6 +8,7 @@ package org.opensearch.sql.plugin.transport;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Locale;
 import java.util.Optional;
 import lombok.Getter;
@@ -45,6 +46,15 @@ public class TransportPPLQueryRequest extends ActionRequest {
   @Accessors(fluent = true)
   private JsonResponseFormatter.Style style = JsonResponseFormatter.Style.COMPACT;
 
+  /**
+   * Output of the REST channel which a JSON query result is written to chunk by chunk. It's only
+   * set on the node which received the REST request, and isn't serialized.
+   */
+  @Setter
+  @Getter
+  @Accessors(fluent = true)
+  private OutputStream responseOutput;
+
   /** Constructor of TransportPPLQueryRequest from PPLQueryRequest. */
   public TransportPPLQueryRequest(PPLQueryRequest pplQueryRequest) {
     pplQuery = pplQueryRequest.getRequest();
@@ -20,20 +20,36 @@ public class TransportPPLQueryResponse extends ActionResponse {
   @Getter private final String result;
   @Getter private final String contentType;
 
+  /** Whether the result was written to the response output of the request instead. */
+  @Getter private final boolean streamed;
+
   public TransportPPLQueryResponse(String result) {
-    this.result = result;
-    this.contentType = "application/json; charset=UTF-8";
+    this(result, "application/json; charset=UTF-8");
   }
 
   public TransportPPLQueryResponse(String result, String contentType) {
+    this(result, contentType, false);
+  }
+
+  private TransportPPLQueryResponse(String result, String contentType, boolean streamed) {
     this.result = result;
     this.contentType = contentType;
+    this.streamed = streamed;
   }
 
   public TransportPPLQueryResponse(StreamInput in) throws IOException {
     super(in);
     result = in.readString();
     contentType = in.readString();
+    streamed = false;
+  }
+
+  /**
+   * Create a response of a JSON result which was written to {@link
+   * TransportPPLQueryRequest#responseOutput()}.
+   */
+  public static TransportPPLQueryResponse streamed() {
+    return new TransportPPLQueryResponse("", "application/json; charset=UTF-8", true);
   }
 
   @Override
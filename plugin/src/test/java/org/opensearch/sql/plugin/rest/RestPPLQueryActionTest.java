@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.plugin.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.sql.plugin.transport.PPLQueryAction;
+import org.opensearch.sql.plugin.transport.TransportPPLQueryRequest;
+import org.opensearch.sql.plugin.transport.TransportPPLQueryResponse;
+import org.opensearch.transport.client.node.NodeClient;
+
+@ExtendWith(MockitoExtension.class)
+public class RestPPLQueryActionTest {
+
+  private static final String RESULT = "{\"schema\":[],\"datarows\":[],\"total\":0,\"size\":0}";
+
+  @Mock private RestRequest request;
+
+  @Mock private RestChannel channel;
+
+  @Mock private NodeClient nodeClient;
+
+  /** Output of the channel, which is reset whenever it's requested like the channels of nodes. */
+  private final BytesStreamOutput channelOutput = new BytesStreamOutput();
+
+  @BeforeEach
+  public void setUp() {
+    when(request.method()).thenReturn(RestRequest.Method.POST);
+    when(request.content()).thenReturn(new BytesArray("{\"query\": \"source=test\"}"));
+    when(request.params()).thenReturn(Map.of());
+    when(request.path()).thenReturn(RestPPLQueryAction.QUERY_API_ENDPOINT);
+    when(request.rawPath()).thenReturn(RestPPLQueryAction.QUERY_API_ENDPOINT);
+    when(channel.bytesOutput())
+        .thenAnswer(
+            invocation -> {
+              channelOutput.reset();
+              return channelOutput;
+            });
+  }
+
+  @Test
+  public void sendStreamedResultWrittenToChannelOutput() throws Exception {
+    doAnswer(
+            invocation -> {
+              TransportPPLQueryRequest transportRequest = invocation.getArgument(1);
+              transportRequest.responseOutput().write(RESULT.getBytes(StandardCharsets.UTF_8));
+              ActionListener<TransportPPLQueryResponse> listener = invocation.getArgument(2);
+              listener.onResponse(TransportPPLQueryResponse.streamed());
+              return null;
+            })
+        .when(nodeClient)
+        .execute(eq(PPLQueryAction.INSTANCE), any(), any());
+
+    new RestPPLQueryAction().prepareRequest(request, nodeClient).accept(channel);
+
+    ArgumentCaptor<RestResponse> response = ArgumentCaptor.forClass(RestResponse.class);
+    verify(channel).sendResponse(response.capture());
+    assertEquals(RestStatus.OK, response.getValue().status());
+    assertEquals("application/json; charset=UTF-8", response.getValue().contentType());
+    assertEquals(RESULT, response.getValue().content().utf8ToString());
+  }
+
+  @Test
+  public void sendResultOfResponse() throws Exception {
+    doAnswer(
+            invocation -> {
+              ActionListener<TransportPPLQueryResponse> listener = invocation.getArgument(2);
+              listener.onResponse(new TransportPPLQueryResponse(RESULT));
+              return null;
+            })
+        .when(nodeClient)
+        .execute(eq(PPLQueryAction.INSTANCE), any(), any());
+
+    new RestPPLQueryAction().prepareRequest(request, nodeClient).accept(channel);
+
+    ArgumentCaptor<RestResponse> response = ArgumentCaptor.forClass(RestResponse.class);
+    verify(channel).sendResponse(response.capture());
+    assertEquals(RestStatus.OK, response.getValue().status());
+    assertEquals(RESULT, response.getValue().content().utf8ToString());
+  }
+}
@@ -10,9 +10,11 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.stream.IntStream;
 import lombok.Getter;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.executor.ColumnarRows;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.Schema.Column;
 import org.opensearch.sql.executor.pagination.Cursor;
@@ -82,6 +84,10 @@ public class QueryResult implements Iterable<Object[]> {
 
   @Override
   public Iterator<Object[]> iterator() {
+    if (exprValues instanceof ColumnarRows columnarRows) {
+      // Read raw values from the columns without materializing a tuple per row.
+      return IntStream.range(0, columnarRows.size()).mapToObj(columnarRows::rowValues).iterator();
+    }
     // Any chance to avoid copy for json response generation?
     return exprValues.stream()
         .map(ExprValueUtils::getTupleValue)
@@ -50,6 +50,11 @@ public class ErrorFormatter {
         (PrivilegedAction<String>) () -> PRETTY_PRINT_GSON.toJson(jsonObject));
   }
 
+  /** Gson used by {@link #prettyJsonify} and {@link #compactJsonify}. */
+  static Gson gson(boolean pretty) {
+    return pretty ? PRETTY_PRINT_GSON : GSON;
+  }
+
   @RequiredArgsConstructor
   @Getter
   public static class JsonError {
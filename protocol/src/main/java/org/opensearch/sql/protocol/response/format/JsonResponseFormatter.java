@@ -11,6 +11,7 @@ import static org.opensearch.sql.protocol.response.format.ErrorFormatter.prettyF
 import static org.opensearch.sql.protocol.response.format.ErrorFormatter.prettyJsonify;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
+import com.google.gson.Gson;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import lombok.RequiredArgsConstructor;
@@ -57,6 +58,11 @@ public abstract class JsonResponseFormatter<R> implements ResponseFormatter<R> {
    */
   protected abstract Object buildJsonObject(R response);
 
+  /** Gson of the same style as {@link #jsonify(Object)}, for formatters writing incrementally. */
+  protected Gson gson() {
+    return ErrorFormatter.gson(style == PRETTY);
+  }
+
   protected String jsonify(Object jsonObject) {
     return AccessController.doPrivileged(
         (PrivilegedAction<String>)
@@ -5,11 +5,26 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.List;
+import java.util.Map;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Singular;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.lang.LangSpec;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /**
@@ -50,6 +65,19 @@ public class SimpleJsonResponseFormatter extends JsonResponseFormatter<QueryResu
     return json.build();
   }
 
+  /**
+   * Create a writer which encodes the response chunk by chunk in UTF-8 to the given output. Each
+   * chunk is flushed to the output once written, so neither its rows nor its text are kept, and the
+   * output is the same as formatting all rows at once by {@link #format(Object)}.
+   *
+   * @param langSpec language spec of the column type names
+   * @param out output the response is written to
+   * @return chunked writer
+   */
+  public ChunkedWriter chunkedWriter(LangSpec langSpec, OutputStream out) {
+    return new ChunkedWriter(gson(), langSpec, new OutputStreamWriter(out, StandardCharsets.UTF_8));
+  }
+
   private Object[][] fetchDataRows(QueryResult response) {
     Object[][] rows = new Object[response.size()][];
     int i = 0;
@@ -59,6 +87,86 @@ public class SimpleJsonResponseFormatter extends JsonResponseFormatter<QueryResu
     return rows;
   }
 
+  /** Writer of {@link JsonResponse} fields in order, with data rows written chunk by chunk. */
+  @RequiredArgsConstructor
+  public static class ChunkedWriter {
+    private final Gson gson;
+    private final LangSpec langSpec;
+    private final Writer out;
+    private JsonWriter writer;
+    private long total = 0;
+
+    /**
+     * Append the rows of a chunk to data rows.
+     *
+     * @param schema result schema
+     * @param rows rows of the chunk
+     */
+    public void write(ExecutionEngine.Schema schema, List<ExprValue> rows) {
+      doPrivileged(
+          () -> {
+            QueryResult chunk = new QueryResult(schema, rows, Cursor.None, langSpec);
+            begin(chunk);
+            for (Object[] values : chunk) {
+              gson.toJson(values, Object[].class, writer);
+            }
+            total += chunk.size();
+            writer.flush();
+          });
+    }
+
+    /**
+     * Close data rows and complete the response.
+     *
+     * @param schema result schema
+     */
+    public void finish(ExecutionEngine.Schema schema) {
+      doPrivileged(
+          () -> {
+            begin(new QueryResult(schema, List.of(), Cursor.None, langSpec));
+            writer.endArray();
+            writer.name("total").value(total);
+            writer.name("size").value(total);
+            writer.endObject();
+            writer.flush();
+          });
+    }
+
+    private void begin(QueryResult response) throws IOException {
+      if (writer != null) {
+        return;
+      }
+      writer = gson.newJsonWriter(out);
+      writer.beginObject();
+      writer.name("schema");
+      writer.beginArray();
+      for (Map.Entry<String, String> column : response.columnNameTypes().entrySet()) {
+        gson.toJson(new Column(column.getKey(), column.getValue()), Column.class, writer);
+      }
+      writer.endArray();
+      writer.name("datarows");
+      writer.beginArray();
+    }
+
+    private void doPrivileged(JsonWriteAction action) {
+      AccessController.doPrivileged(
+          (PrivilegedAction<Void>)
+              () -> {
+                try {
+                  action.run();
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+                return null;
+              });
+    }
+
+    @FunctionalInterface
+    private interface JsonWriteAction {
+      void run() throws IOException;
+    }
+  }
+
   /** org.json requires these inner data classes be public (and static) */
   @Builder
   @Getter
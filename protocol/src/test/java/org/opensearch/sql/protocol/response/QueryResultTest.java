@@ -7,6 +7,7 @@ package org.opensearch.sql.protocol.response;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -16,7 +17,10 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.opensearch.sql.executor.ColumnarRows;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.pagination.Cursor;
 
@@ -106,4 +110,24 @@ class QueryResultTest {
       i++;
     }
   }
+
+  @Test
+  void iterateColumnarRows() {
+    ColumnarRows.StringVector names = new ColumnarRows.StringVector();
+    ColumnarRows.IntVector ages = new ColumnarRows.IntVector();
+    ColumnarRows rows = new ColumnarRows(List.of("name", "age"), List.of(names, ages));
+    names.append("John");
+    ages.append(20);
+    rows.endRow();
+    names.append("Allen");
+    ages.appendNull();
+    rows.endRow();
+    QueryResult response = new QueryResult(schema, rows, Cursor.None);
+
+    assertEquals(2, response.size());
+    Iterator<Object[]> iterator = response.iterator();
+    assertArrayEquals(new Object[] {"John", 20}, iterator.next());
+    assertArrayEquals(new Object[] {"Allen", null}, iterator.next());
+    assertFalse(iterator.hasNext());
+  }
 }
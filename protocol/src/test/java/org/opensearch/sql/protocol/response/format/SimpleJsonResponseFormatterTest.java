@@ -6,6 +6,7 @@
 package org.opensearch.sql.protocol.response.format;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
@@ -16,11 +17,18 @@ import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.lang.LangSpec;
 import org.opensearch.sql.protocol.response.QueryResult;
+import org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style;
 
 class SimpleJsonResponseFormatterTest {
 
@@ -46,6 +54,39 @@ class SimpleJsonResponseFormatterTest {
         formatter.format(response));
   }
 
+  @Test
+  void formatResponseInChunks() {
+    List<ExprValue> rows =
+        Arrays.asList(
+            tupleValue(ImmutableMap.of("firstname", "John", "age", 20)),
+            tupleValue(ImmutableMap.of("firstname", "Smith", "age", 30)),
+            tupleValue(ImmutableMap.of("firstname", "Allen", "age", 40)));
+    for (Style style : Style.values()) {
+      SimpleJsonResponseFormatter formatter = new SimpleJsonResponseFormatter(style);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      SimpleJsonResponseFormatter.ChunkedWriter writer =
+          formatter.chunkedWriter(LangSpec.SQL_SPEC, out);
+      writer.write(schema, rows.subList(0, 2));
+      int firstChunkSize = out.size();
+      assertTrue(firstChunkSize > 0);
+      writer.write(schema, rows.subList(2, 3));
+      assertTrue(out.size() > firstChunkSize);
+      writer.finish(schema);
+      assertEquals(
+          formatter.format(new QueryResult(schema, rows)), out.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  void formatEmptyResponseInChunks() {
+    SimpleJsonResponseFormatter formatter = new SimpleJsonResponseFormatter(PRETTY);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    formatter.chunkedWriter(LangSpec.SQL_SPEC, out).finish(schema);
+    assertEquals(
+        formatter.format(new QueryResult(schema, Collections.emptyList())),
+        out.toString(StandardCharsets.UTF_8));
+  }
+
   @Test
   void formatResponsePretty() {
     QueryResult response =